@@ -0,0 +1,317 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.LocalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+/**
+ * Explanation of an {@link AwsFrame}.
+ *
+ * <p>The plan is known for {@link PlannedValve}, {@link QueryValve} and
+ * {@link ScanValve}, also when they are decorated by retries, hedges
+ * or deadlines, which are seen through with
+ * {@link BoundedValve#unwrapped(Valve)}. Other valves are explained as
+ * a scan, with upper bounds. The size of the table is taken from the cached
+ * {@code DescribeTable}, which doesn't consume read capacity. The
+ * sample, if requested, is one request with {@code Select=COUNT}, which
+ * does.
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = { "credentials", "name", "conditions", "valve" })
+final class AwsExplain {
+
+    /**
+     * Maximum size of a page, in bytes.
+     */
+    private static final double PAGE = 1024.0 * 1024.0;
+
+    /**
+     * Size of item, which a read capacity unit covers, in bytes.
+     */
+    private static final double UNIT = 4096.0;
+
+    /**
+     * AWS credentials.
+     */
+    private final transient Credentials credentials;
+
+    /**
+     * Table name.
+     */
+    private final transient String name;
+
+    /**
+     * Conditions.
+     */
+    private final transient Conditions conditions;
+
+    /**
+     * Valve of the frame, under its decorators.
+     */
+    private final transient Valve valve;
+
+    /**
+     * Maximum number of items to iterate.
+     */
+    private final transient int max;
+
+    /**
+     * Ctor.
+     * @param creds Credentials
+     * @param label Table name
+     * @param conds Conditions
+     * @param vlv Valve of the frame
+     * @param limit Maximum number of items to iterate
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    AwsExplain(final Credentials creds, final String label,
+        final Conditions conds, final Valve vlv, final int limit) {
+        this.credentials = creds;
+        this.name = label;
+        this.conditions = conds;
+        this.valve = BoundedValve.unwrapped(vlv);
+        this.max = limit;
+    }
+
+    /**
+     * Explain it.
+     * @param sample How many items to sample, zero for no sample
+     * @return Explanation
+     * @throws IOException If fails
+     */
+    Explain explain(final int sample) throws IOException {
+        final Plan plan = this.plan();
+        final BoundedValve used = this.used(plan);
+        final int limit;
+        final boolean consistent;
+        if (used instanceof QueryValve) {
+            limit = ((QueryValve) used).limit();
+            consistent = ((QueryValve) used).consistent();
+        } else {
+            limit = ((ScanValve) used).limit();
+            consistent = false;
+        }
+        final long[] stats = this.stats(plan.index());
+        final Collection<String> filters =
+            plan.filter(this.conditions).keySet();
+        final boolean known = used == this.valve
+            || this.valve instanceof PlannedValve;
+        long items = stats[0];
+        if (filters.isEmpty() || !plan.isScan()) {
+            items = Math.min(items, this.max);
+        }
+        boolean bound = !known || !plan.isScan()
+            || !filters.isEmpty() && this.max < stats[0];
+        if (sample > 0) {
+            final long scanned = this.sample(plan, sample, consistent);
+            if (scanned >= 0L) {
+                items = scanned;
+                if (filters.isEmpty()) {
+                    items = Math.min(items, this.max);
+                }
+                bound = false;
+            }
+        }
+        final double bytes = (double) items * stats[1]
+            / Math.max(stats[0], 1L);
+        final long pages = Math.max(
+            1L,
+            Math.max(
+                (long) Math.ceil((double) items / limit),
+                (long) Math.ceil(bytes / AwsExplain.PAGE)
+            )
+        );
+        double units = Math.max(pages, Math.ceil(bytes / AwsExplain.UNIT));
+        if (!consistent) {
+            units /= 2.0;
+        }
+        return new Explain(
+            this.valve.getClass().getSimpleName(), plan, filters,
+            items, pages, units, bound
+        );
+    }
+
+    /**
+     * The valve, which reads the items.
+     * @param plan The plan
+     * @return Query or scan valve, a scan if the valve is not known
+     */
+    private BoundedValve used(final Plan plan) {
+        final BoundedValve used;
+        if (this.valve instanceof PlannedValve) {
+            used = plan.valve(this.conditions);
+        } else if (this.valve instanceof QueryValve
+            || this.valve instanceof ScanValve) {
+            used = (BoundedValve) this.valve;
+        } else {
+            used = new ScanValve();
+        }
+        return used;
+    }
+
+    /**
+     * The plan of the valve.
+     * @return Plan
+     * @throws IOException If fails
+     */
+    private Plan plan() throws IOException {
+        Plan plan = Plan.SCAN;
+        if (this.valve instanceof PlannedValve) {
+            plan = ((PlannedValve) this.valve).plan(
+                this.credentials, this.name, this.conditions
+            );
+        } else if (this.valve instanceof QueryValve) {
+            final String index = ((QueryValve) this.valve).index();
+            for (final Plan path
+                : PlannedValve.paths(this.credentials, this.name)) {
+                if (path.index().equals(index)) {
+                    plan = path.narrow(this.conditions);
+                    break;
+                }
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Number of items and their size in bytes, in the table or the index.
+     * @param index Index name, empty for the table
+     * @return Number of items and their size
+     * @throws IOException If fails
+     */
+    private long[] stats(final String index) throws IOException {
+        final TableDescription desc = PlannedValve.describe(
+            this.credentials, this.name
+        );
+        Long count = desc.itemCount();
+        Long size = desc.tableSizeBytes();
+        for (final LocalSecondaryIndexDescription lsi
+            : desc.localSecondaryIndexes()) {
+            if (lsi.indexName().equals(index)) {
+                count = lsi.itemCount();
+                size = lsi.indexSizeBytes();
+            }
+        }
+        for (final GlobalSecondaryIndexDescription gsi
+            : desc.globalSecondaryIndexes()) {
+            if (gsi.indexName().equals(index)) {
+                count = gsi.itemCount();
+                size = gsi.indexSizeBytes();
+            }
+        }
+        return new long[] {
+            AwsExplain.orZero(count), AwsExplain.orZero(size),
+        };
+    }
+
+    /**
+     * Count items, which the plan reads, with one request.
+     * @param plan The plan
+     * @param sample Maximum number of items to read
+     * @param consistent Read consistently
+     * @return Number of items, or -1 if there are more than the sample
+     * @throws IOException If fails
+     */
+    private long sample(final Plan plan, final int sample,
+        final boolean consistent) throws IOException {
+        final DynamoDbClient aws = this.credentials.aws();
+        try {
+            final Integer scanned;
+            final Map<String, AttributeValue> last;
+            final ConsumedCapacity capacity;
+            if (plan.isScan()) {
+                ScanRequest.Builder bld = ScanRequest.builder()
+                    .tableName(this.name)
+                    .select(Select.COUNT)
+                    .limit(sample)
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+                if (!this.conditions.isEmpty()) {
+                    bld = bld.scanFilter(this.conditions);
+                }
+                final ScanResponse rsp = aws.scan(bld.build());
+                scanned = rsp.scannedCount();
+                last = rsp.lastEvaluatedKey();
+                capacity = rsp.consumedCapacity();
+            } else {
+                QueryRequest.Builder bld = QueryRequest.builder()
+                    .tableName(this.name)
+                    .keyConditions(plan.conditions(this.conditions))
+                    .select(Select.COUNT)
+                    .limit(sample)
+                    .consistentRead(consistent)
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+                if (!plan.index().isEmpty()) {
+                    bld = bld.indexName(plan.index());
+                }
+                final Conditions filter = plan.filter(this.conditions);
+                if (!filter.isEmpty()) {
+                    bld = bld.queryFilter(filter);
+                }
+                final QueryResponse rsp = aws.query(bld.build());
+                scanned = rsp.scannedCount();
+                last = rsp.lastEvaluatedKey();
+                capacity = rsp.consumedCapacity();
+            }
+            Logger.info(
+                this, "#sample(): %d item(s) sampled in '%s', %s",
+                scanned, this.name,
+                new PrintableConsumedCapacity(capacity).print()
+            );
+            final long items;
+            if (last.isEmpty()) {
+                items = AwsExplain.orZero(scanned);
+            } else {
+                items = -1L;
+            }
+            return items;
+        } catch (final SdkClientException ex) {
+            throw new IOException(
+                String.format("Failed to sample \"%s\"", this.name),
+                ex
+            );
+        } finally {
+            aws.close();
+        }
+    }
+
+    /**
+     * Zero if NULL.
+     * @param num The number or NULL
+     * @return The number
+     */
+    private static long orZero(final Number num) {
+        final long value;
+        if (num == null) {
+            value = 0L;
+        } else {
+            value = num.longValue();
+        }
+        return value;
+    }
+}
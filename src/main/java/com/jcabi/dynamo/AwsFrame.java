@@ -8,9 +8,12 @@ import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import java.io.IOException;
 import java.util.AbstractCollection;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import lombok.ToString;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
 
@@ -24,6 +27,11 @@ import software.amazon.awssdk.services.dynamodb.model.Condition;
 @ToString
 final class AwsFrame extends AbstractCollection<Item> implements Frame {
 
+    /**
+     * How many purge batches may run in parallel.
+     */
+    private static final int PURGERS = 4;
+
     /**
      * AWS credentials.
      */
@@ -49,6 +57,11 @@ final class AwsFrame extends AbstractCollection<Item> implements Frame {
      */
     private final transient Valve valve;
 
+    /**
+     * Maximum number of items to iterate.
+     */
+    private final transient int max;
+
     /**
      * Public ctor.
      * @param creds Credentials
@@ -57,7 +70,7 @@ final class AwsFrame extends AbstractCollection<Item> implements Frame {
      */
     AwsFrame(final Credentials creds, final AwsTable table,
         final String label) {
-        this(creds, table, label, new Conditions(), new ScanValve());
+        this(creds, table, label, new Conditions(), new PlannedValve());
     }
 
     /**
@@ -71,12 +84,29 @@ final class AwsFrame extends AbstractCollection<Item> implements Frame {
      */
     AwsFrame(final Credentials creds, final AwsTable table,
         final String label, final Conditions conds, final Valve vlv) {
+        this(creds, table, label, conds, vlv, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param table Table
+     * @param label Table name
+     * @param conds Conditions
+     * @param vlv Valve
+     * @param limit Maximum number of items to iterate
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    AwsFrame(final Credentials creds, final AwsTable table,
+        final String label, final Conditions conds, final Valve vlv,
+        final int limit) {
         super();
         this.credentials = creds;
         this.tbl = table;
         this.name = label;
         this.conditions = conds;
         this.valve = vlv;
+        this.max = limit;
     }
 
     @Override
@@ -91,7 +121,8 @@ final class AwsFrame extends AbstractCollection<Item> implements Frame {
                 && Objects.equals(this.tbl, other.tbl)
                 && Objects.equals(this.name, other.name)
                 && Objects.equals(this.conditions, other.conditions)
-                && Objects.equals(this.valve, other.valve);
+                && Objects.equals(this.valve, other.valve)
+                && this.max == other.max;
         } else {
             equal = false;
         }
@@ -101,7 +132,8 @@ final class AwsFrame extends AbstractCollection<Item> implements Frame {
     @Override
     public int hashCode() {
         return Objects.hash(
-            this.credentials, this.tbl, this.name, this.conditions, this.valve
+            this.credentials, this.tbl, this.name, this.conditions,
+            this.valve, this.max
         );
     }
 
@@ -119,18 +151,56 @@ final class AwsFrame extends AbstractCollection<Item> implements Frame {
                 this.name,
                 this.conditions,
                 this.tbl.keys(),
-                this.valve
+                this.valve,
+                null,
+                this.max
             );
         } catch (final IOException ex) {
             throw new IllegalStateException(ex);
         }
     }
 
+    /**
+     * Remove all items of the frame.
+     *
+     * <p>Items are deleted in batches of 25, through
+     * {@code BatchWriteItem}, a few batches in parallel. Batches can't
+     * carry conditions, so items, which are already deleted by somebody
+     * else, are skipped silently.
+     */
+    @Override
+    public void clear() {
+        this.purge(null);
+    }
+
+    /**
+     * Remove all items of the frame, which are also in the given collection.
+     *
+     * <p>Items are deleted in batches of 25, through
+     * {@code BatchWriteItem}, a few batches in parallel. Batches can't
+     * carry conditions, so items, which are already deleted by somebody
+     * else, are skipped silently.
+     *
+     * @param items Items to remove
+     * @return TRUE if anything was removed
+     */
+    @Override
+    public boolean removeAll(final Collection<?> items) {
+        return this.purge(items);
+    }
+
+    @Override
+    public void forEachParallel(final Consumer<Item> action,
+        final int concurrency) {
+        new Fanout(concurrency).forEach(this, action);
+    }
+
     @Override
     public int size() {
         try {
-            return this.valve.count(
-                this.credentials, this.name, this.conditions
+            return Math.min(
+                this.valve.count(this.credentials, this.name, this.conditions),
+                this.max
             );
         } catch (final IOException ex) {
             throw new IllegalStateException(
@@ -152,7 +222,8 @@ final class AwsFrame extends AbstractCollection<Item> implements Frame {
             this.tbl,
             this.name,
             this.conditions.with(attr, condition),
-            this.valve
+            this.valve,
+            this.max
         );
     }
 
@@ -163,7 +234,8 @@ final class AwsFrame extends AbstractCollection<Item> implements Frame {
             this.tbl,
             this.name,
             this.conditions.with(conds),
-            this.valve
+            this.valve,
+            this.max
         );
     }
 
@@ -174,13 +246,109 @@ final class AwsFrame extends AbstractCollection<Item> implements Frame {
             this.tbl,
             this.name,
             this.conditions,
-            vlv
+            vlv,
+            this.max
         );
     }
 
+    @Override
+    public Frame wrap(final UnaryOperator<Valve> wrapper) {
+        return new AwsFrame(
+            this.credentials,
+            this.tbl,
+            this.name,
+            this.conditions,
+            wrapper.apply(this.valve),
+            this.max
+        );
+    }
+
+    @Override
+    public Frame limit(final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException(
+                String.format("Limit can't be negative: %d", limit)
+            );
+        }
+        return new AwsFrame(
+            this.credentials,
+            this.tbl,
+            this.name,
+            this.conditions,
+            this.valve,
+            Math.min(this.max, limit)
+        );
+    }
+
+    @Override
+    public Dosage page() {
+        try {
+            return AwsIterator.first(
+                this.valve, this.credentials, this.name,
+                this.conditions, this.tbl.keys(), this.max
+            );
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't fetch a page from \"%s\"", this.name),
+                ex
+            );
+        }
+    }
+
+    @Override
+    public Explain explain(final int sample) {
+        try {
+            return new AwsExplain(
+                this.credentials, this.name, this.conditions,
+                this.valve, this.max
+            ).explain(sample);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't explain a frame of \"%s\"", this.name),
+                ex
+            );
+        }
+    }
+
     @Override
     public Table table() {
         return this.tbl;
     }
 
+    /**
+     * Remove items in batches.
+     * @param items Items to remove or NULL if all of them have to go
+     * @return TRUE if anything was removed
+     */
+    private boolean purge(final Collection<?> items) {
+        boolean modified = false;
+        try (AwsPurge purge = new AwsPurge(
+            this.credentials, this.name, AwsFrame.PURGERS
+        )) {
+            final Iterator<Item> iterator = new AwsIterator(
+                this.credentials,
+                this,
+                this.name,
+                this.conditions,
+                this.tbl.keys(),
+                this.valve,
+                purge,
+                this.max
+            );
+            while (iterator.hasNext()) {
+                final Item item = iterator.next();
+                if (items == null || items.contains(item)) {
+                    iterator.remove();
+                    modified = true;
+                }
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't purge items from \"%s\"", this.name),
+                ex
+            );
+        }
+        return modified;
+    }
+
 }
@@ -216,11 +216,77 @@ final class AwsItem implements Item {
         }
     }
 
+    @Override
+    public Map<String, AttributeValue> update(
+        final UpdateExpression expression) throws IOException {
+        final DynamoDbClient aws = this.credentials.aws();
+        try {
+            final UpdateItemResponse result = aws.updateItem(
+                expression.request(
+                    this.name, this.attributes.only(this.keys)
+                ).toBuilder()
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                    .build()
+            );
+            Logger.info(
+                this, "#update('%s'): updated item in DynamoDB, %s",
+                expression.attributes(),
+                new PrintableConsumedCapacity(
+                    result.consumedCapacity()
+                ).print()
+            );
+            return result.attributes();
+        } catch (final SdkClientException ex) {
+            throw new IOException(
+                String.format(
+                    "Failed to update %s in \"%s\" with %s",
+                    expression.attributes(), this.name, this.keys
+                ),
+                ex
+            );
+        } finally {
+            aws.close();
+        }
+    }
+
+    @Override
+    public Map<String, AttributeValue> loaded() {
+        return this.attributes;
+    }
+
     @Override
     public Frame frame() {
         return this.frm;
     }
 
+    /**
+     * Get name of the table.
+     * @return Table name
+     */
+    String table() {
+        return this.name;
+    }
+
+    /**
+     * Get primary key of the item.
+     * @return Attributes of the key
+     */
+    Attributes primary() {
+        return this.attributes.only(this.keys);
+    }
+
+    /**
+     * Make a copy of this item, with these attributes loaded.
+     * @param attrs All attributes of the item
+     * @return New item
+     */
+    AwsItem reloaded(final Map<String, AttributeValue> attrs) {
+        return new AwsItem(
+            this.credentials, this.frm, this.name,
+            new Attributes(attrs), this.keys
+        );
+    }
+
     /**
      * Makes a GetItemRequest for a given attribute.
      * @param attr Attribute name
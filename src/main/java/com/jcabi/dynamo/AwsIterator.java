@@ -4,31 +4,37 @@
  */
 package com.jcabi.dynamo;
 
-import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.immutable.Array;
 import com.jcabi.log.Logger;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantLock;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
-import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
 
 /**
  * Iterator of items in AWS SDK.
  *
- * <p>The class is mutable and thread-safe.
+ * <p>The class is mutable and NOT thread-safe, it is expected to be
+ * consumed by one thread only. Wrap it into {@link SyncIterator} if it
+ * has to be shared between threads.
+ *
+ * <p>Items are never copied out of the current page on
+ * {@link #remove()}, the iterator only remembers that the item at the
+ * current position is gone. By default, every call to {@link #remove()}
+ * deletes the item immediately, with a single {@code DeleteItem}. When an
+ * {@link AwsPurge} is provided, keys are handed over to it instead and
+ * deleted in batches.
+ *
+ * <p>When a maximum is given, the iterator stops after that many items
+ * and doesn't fetch the next page. If the valve is a {@link BoundedValve},
+ * it also gets the maximum, to not ask DynamoDB for more items than
+ * needed.
  *
  * @since 0.1
  */
@@ -36,7 +42,10 @@ import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
 @ToString
 @EqualsAndHashCode
     (
-        of = { "credentials", "conditions", "frame", "name", "keys", "valve" }
+        of = {
+            "credentials", "conditions", "frame", "name", "keys", "valve",
+            "max"
+        }
     )
 final class AwsIterator implements Iterator<Item> {
 
@@ -71,20 +80,35 @@ final class AwsIterator implements Iterator<Item> {
     private final transient Valve valve;
 
     /**
-     * Last scan result (mutable).
+     * Last scan result (mutable), NULL until the first fetch.
+     */
+    private transient Dosage dosage;
+
+    /**
+     * Purge to send removed keys to, or NULL to delete them one by one.
+     */
+    private final transient AwsPurge purge;
+
+    /**
+     * Maximum number of items to iterate.
      */
-    private final transient AtomicReference<Dosage> dosage;
+    private final transient int max;
 
     /**
-     * Lock for thread safety.
+     * How many items are returned by {@link #next()} already (mutable).
      */
-    private final transient ReentrantLock lock;
+    private transient int taken;
 
     /**
      * Position inside the scan result, last seen, starts with -1 (mutable).
      */
     private transient int position;
 
+    /**
+     * The item at the current position is removed already (mutable).
+     */
+    private transient boolean removed;
+
     /**
      * Public ctor.
      * @param creds Credentials
@@ -98,103 +122,134 @@ final class AwsIterator implements Iterator<Item> {
     AwsIterator(final Credentials creds, final AwsFrame frm,
         final String label, final Conditions conds,
         final Collection<String> primary, final Valve vlv) {
+        this(creds, frm, label, conds, primary, vlv, null);
+    }
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param frm Frame object
+     * @param label Table name
+     * @param conds Conditions
+     * @param primary Primary keys of the table
+     * @param vlv Valve with items
+     * @param prg Purge to send removed keys to, or NULL
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    AwsIterator(final Credentials creds, final AwsFrame frm,
+        final String label, final Conditions conds,
+        final Collection<String> primary, final Valve vlv,
+        final AwsPurge prg) {
+        this(creds, frm, label, conds, primary, vlv, prg, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param frm Frame object
+     * @param label Table name
+     * @param conds Conditions
+     * @param primary Primary keys of the table
+     * @param vlv Valve with items
+     * @param prg Purge to send removed keys to, or NULL
+     * @param limit Maximum number of items to iterate
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    AwsIterator(final Credentials creds, final AwsFrame frm,
+        final String label, final Conditions conds,
+        final Collection<String> primary, final Valve vlv,
+        final AwsPurge prg, final int limit) {
         this.credentials = creds;
         this.frame = frm;
         this.name = label;
         this.conditions = conds;
         this.keys = primary;
         this.valve = vlv;
-        this.lock = new ReentrantLock();
-        this.dosage = new AtomicReference<>();
+        this.purge = prg;
+        this.max = limit;
         this.position = -1;
     }
 
     @Override
     public boolean hasNext() {
-        this.lock.lock();
-        try {
-            if (this.dosage.get() == null) {
+        final boolean more;
+        if (this.taken >= this.max) {
+            more = false;
+        } else {
+            if (this.dosage == null) {
                 try {
-                    this.dosage.set(
-                        this.valve.fetch(
-                            this.credentials,
-                            this.name,
-                            this.conditions,
-                            this.keys
-                        )
+                    this.dosage = AwsIterator.first(
+                        this.valve, this.credentials, this.name,
+                        this.conditions, this.keys, this.max
                     );
                 } catch (final IOException ex) {
                     throw new IllegalStateException(ex);
                 }
                 this.position = -1;
             }
-            if (this.dosage.get().hasNext()
-                && this.position + 1 >= this.dosage.get().items().size()) {
-                this.dosage.set(this.dosage.get().next());
+            if (this.dosage.hasNext()
+                && this.position + 1 >= this.dosage.items().size()) {
+                this.dosage = this.dosage.next();
                 this.position = -1;
             }
-            return this.dosage.get().items().size() - this.position > 1;
-        } finally {
-            this.lock.unlock();
+            more = this.dosage.items().size() - this.position > 1;
         }
+        return more;
     }
 
     @Override
     public Item next() {
-        this.lock.lock();
-        try {
-            if (!this.hasNext()) {
-                throw new NoSuchElementException(
-                    String.format(
-                        "No more items in the frame, position=%d",
-                        this.position
-                    )
-                );
-            }
-            ++this.position;
-            return new AwsItem(
-                this.credentials,
-                this.frame,
-                this.name,
-                new Attributes(this.dosage.get().items().get(this.position)),
-                new Array<>(this.keys)
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                String.format(
+                    "No more items in the frame, position=%d",
+                    this.position
+                )
             );
-        } finally {
-            this.lock.unlock();
         }
+        ++this.position;
+        ++this.taken;
+        this.removed = false;
+        return new AwsItem(
+            this.credentials,
+            this.frame,
+            this.name,
+            new Attributes(this.dosage.items().get(this.position)),
+            new Array<>(this.keys)
+        );
     }
 
     @Override
     public void remove() {
-        this.lock.lock();
-        try {
-            final Dosage prev = this.dosage.get();
-            if (prev == null) {
-                throw new IllegalStateException(
-                    "You can't call remove() until you call next()"
-                );
-            }
+        if (this.dosage == null || this.position < 0) {
+            throw new IllegalStateException(
+                "You can't call remove() until you call next()"
+            );
+        }
+        if (this.removed) {
+            throw new IllegalStateException(
+                String.format(
+                    "Item #%d is already removed, call next() first",
+                    this.position
+                )
+            );
+        }
+        final Attributes key = new Attributes(
+            this.dosage.items().get(this.position)
+        ).only(this.keys);
+        if (this.purge == null) {
             final DynamoDbClient aws = this.credentials.aws();
             try {
-                final List<Map<String, AttributeValue>> items =
-                    new ArrayList<>(prev.items());
-                final Map<String, AttributeValue> item =
-                    items.remove(this.position);
                 aws.deleteItem(
                     DeleteItemRequest.builder()
                         .tableName(this.name)
-                        .key(new Attributes(item).only(this.keys))
+                        .key(key)
                         .returnConsumedCapacity(
                             ReturnConsumedCapacity.TOTAL
                         )
-                        .expected(
-                            new Attributes(item)
-                                .only(this.keys).asKeys()
-                        )
+                        .expected(key.asKeys())
                         .build()
                 );
-                this.dosage.set(new AwsIterator.Fixed(prev, items));
-                --this.position;
                 Logger.info(
                     this,
                     "#remove(): item #%d removed from DynamoDB",
@@ -203,51 +258,35 @@ final class AwsIterator implements Iterator<Item> {
             } finally {
                 aws.close();
             }
-        } finally {
-            this.lock.unlock();
+        } else {
+            this.purge.add(key);
         }
+        this.removed = true;
     }
 
     /**
-     * Dosage with fixed list of items.
-     *
-     * @since 0.1
-     */
-    @Immutable
-    private static final class Fixed implements Dosage {
-        /**
-         * List of items.
-         */
-        private final transient Array<Map<String, AttributeValue>> list;
-
-        /**
-         * Previous dosage.
-         */
-        private final transient Dosage prev;
-
-        /**
-         * Ctor.
-         * @param dsg Dosage
-         * @param items Items
-         */
-        Fixed(final Dosage dsg, final List<Map<String, AttributeValue>> items) {
-            this.prev = dsg;
-            this.list = new Array<>(items);
-        }
-
-        @Override
-        public List<Map<String, AttributeValue>> items() {
-            return Collections.unmodifiableList(this.list);
-        }
-
-        @Override
-        public Dosage next() {
-            return this.prev.next();
-        }
-
-        @Override
-        public boolean hasNext() {
-            return this.prev.hasNext();
+     * Fetch the first dosage, through a {@link BoundedValve} if possible.
+     * @param valve The valve
+     * @param creds Credentials
+     * @param label Table name
+     * @param conds Conditions
+     * @param primary Primary keys of the table
+     * @param max Maximum number of items to fetch
+     * @return Dosage
+     * @throws IOException If fails
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    static Dosage first(final Valve valve, final Credentials creds,
+        final String label, final Conditions conds,
+        final Collection<String> primary, final int max) throws IOException {
+        final Dosage first;
+        if (valve instanceof BoundedValve) {
+            first = ((BoundedValve) valve).fetch(
+                creds, label, conds, primary, max
+            );
+        } else {
+            first = valve.fetch(creds, label, conds, primary);
         }
+        return first;
     }
 }
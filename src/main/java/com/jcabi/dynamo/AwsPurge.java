@@ -0,0 +1,249 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.ToString;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Bulk purge of items, through {@code BatchWriteItem}.
+ *
+ * <p>Keys of removed items are buffered and sent to DynamoDB in batches
+ * of {@link #BATCH} delete requests, which is the maximum a single
+ * {@code BatchWriteItem} call accepts. Batches are submitted to one
+ * pool of threads, shared by all purges, and no more than the given
+ * number of batches of one purge are in flight at the same time; when
+ * they are, {@link #add(Map)} waits. Unprocessed items returned by
+ * DynamoDB are retried with an exponential back-off. Call
+ * {@link #close()} to send the last batch and wait for all of them to
+ * finish.
+ *
+ * <p>{@code BatchWriteItem} can't carry conditions, so, unlike a single
+ * {@code DeleteItem} of {@link AwsIterator#remove()}, a purge doesn't
+ * check that the item still exists. Deleting an absent item does
+ * nothing in DynamoDB, so an item, which somebody else deleted in the
+ * meantime, is silently skipped.
+ *
+ * <p>The class is mutable and NOT thread-safe.
+ *
+ * @since 0.23
+ */
+@ToString(of = { "name", "buffer" })
+final class AwsPurge implements Closeable {
+
+    /**
+     * Maximum number of delete requests in one batch.
+     */
+    static final int BATCH = 25;
+
+    /**
+     * Threads of all purges.
+     */
+    private static final ExecutorService THREADS =
+        Executors.newCachedThreadPool(
+            runnable -> {
+                final Thread thread = new Thread(runnable, "purge");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+
+    /**
+     * How many times to retry unprocessed items.
+     */
+    private static final int ATTEMPTS = 8;
+
+    /**
+     * AWS credentials.
+     */
+    private final transient Credentials credentials;
+
+    /**
+     * Table name.
+     */
+    private final transient String name;
+
+    /**
+     * Keys waiting to be sent.
+     */
+    private final transient List<WriteRequest> buffer;
+
+    /**
+     * Batches in flight.
+     */
+    private final transient Collection<Future<Integer>> batches;
+
+    /**
+     * Permits of batches in flight.
+     */
+    private final transient Semaphore slots;
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param table Table name
+     * @param threads How many batches may run in parallel
+     */
+    AwsPurge(final Credentials creds, final String table, final int threads) {
+        this.credentials = creds;
+        this.name = table;
+        this.buffer = new ArrayList<>(AwsPurge.BATCH);
+        this.batches = new ArrayList<>(0);
+        this.slots = new Semaphore(threads);
+    }
+
+    /**
+     * Schedule deletion of an item with this key.
+     * @param key Primary key of the item
+     */
+    public void add(final Map<String, AttributeValue> key) {
+        this.buffer.add(
+            WriteRequest.builder()
+                .deleteRequest(DeleteRequest.builder().key(key).build())
+                .build()
+        );
+        if (this.buffer.size() == AwsPurge.BATCH) {
+            this.flush();
+        }
+    }
+
+    /**
+     * Send all buffered keys, wait for all batches and stop.
+     * @throws IOException If any of the batches fails
+     */
+    @Override
+    public void close() throws IOException {
+        this.flush();
+        try {
+            int total = 0;
+            for (final Future<Integer> batch : this.batches) {
+                total += batch.get();
+            }
+            Logger.info(
+                this, "#close(): %d item(s) purged from '%s' in %d batch(es)",
+                total, this.name, this.batches.size()
+            );
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        } catch (final ExecutionException ex) {
+            throw new IOException(
+                String.format("Failed to purge items from \"%s\"", this.name),
+                ex.getCause()
+            );
+        }
+    }
+
+    /**
+     * Submit the buffered keys as one batch.
+     */
+    private void flush() {
+        if (!this.buffer.isEmpty()) {
+            final List<WriteRequest> requests = new ArrayList<>(this.buffer);
+            this.buffer.clear();
+            try {
+                this.slots.acquire();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            this.batches.add(
+                AwsPurge.THREADS.submit(
+                    () -> {
+                        try {
+                            return this.write(requests);
+                        } finally {
+                            this.slots.release();
+                        }
+                    }
+                )
+            );
+        }
+    }
+
+    /**
+     * Write one batch, retrying unprocessed items.
+     * @param requests Delete requests
+     * @return How many items were deleted
+     * @throws IOException If fails
+     * @throws InterruptedException If interrupted while backing off
+     */
+    private int write(final List<WriteRequest> requests)
+        throws IOException, InterruptedException {
+        final DynamoDbClient aws = this.credentials.aws();
+        try {
+            Map<String, List<WriteRequest>> items =
+                Collections.singletonMap(this.name, requests);
+            int attempt = 0;
+            while (!items.isEmpty()) {
+                if (attempt > 0) {
+                    TimeUnit.MILLISECONDS.sleep(50L << attempt);
+                }
+                final BatchWriteItemResponse result = aws.batchWriteItem(
+                    BatchWriteItemRequest.builder()
+                        .requestItems(items)
+                        .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                        .build()
+                );
+                double units = 0.0d;
+                for (final ConsumedCapacity cap : result.consumedCapacity()) {
+                    units += cap.capacityUnits();
+                }
+                items = result.unprocessedItems();
+                final int left = items.values().stream()
+                    .mapToInt(List::size).sum();
+                Logger.info(
+                    this,
+                    // @checkstyle LineLength (1 line)
+                    "#write(): %d item(s) sent to '%s', %d unprocessed, %.2f units",
+                    requests.size(), this.name, left, units
+                );
+                ++attempt;
+                if (attempt == AwsPurge.ATTEMPTS && left > 0) {
+                    throw new IOException(
+                        String.format(
+                            // @checkstyle LineLength (1 line)
+                            "Failed to delete %d item(s) from \"%s\" in %d attempts",
+                            left, this.name, attempt
+                        )
+                    );
+                }
+            }
+            return requests.size();
+        } catch (final SdkClientException ex) {
+            throw new IOException(
+                String.format(
+                    "Failed to delete %d item(s) from \"%s\"",
+                    requests.size(), this.name
+                ),
+                ex
+            );
+        } finally {
+            aws.close();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.Get;
+import software.amazon.awssdk.services.dynamodb.model.ItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * Consistent snapshot of a few items, through {@code TransactGetItems}.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = "credentials")
+final class AwsSnapshot {
+
+    /**
+     * Maximum number of items in one {@code TransactGetItems} call.
+     */
+    static final int MAX = 100;
+
+    /**
+     * AWS credentials.
+     */
+    private final transient Credentials credentials;
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     */
+    AwsSnapshot(final Credentials creds) {
+        this.credentials = creds;
+    }
+
+    /**
+     * Read all attributes of these items, in one call.
+     * @param items Items to read
+     * @return Fully loaded items, in the same order
+     * @throws IOException If fails
+     */
+    public List<Item> read(final Collection<? extends Item> items)
+        throws IOException {
+        if (items.size() > AwsSnapshot.MAX) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Can't read %d items together, %d is the maximum",
+                    items.size(), AwsSnapshot.MAX
+                )
+            );
+        }
+        final List<AwsTarget> targets = new ArrayList<>(items.size());
+        final List<Attributes> keys = new ArrayList<>(items.size());
+        final Collection<TransactGetItem> gets = new ArrayList<>(items.size());
+        for (final Item item : items) {
+            final AwsTarget target = new AwsTarget(this.credentials, item);
+            final Attributes key = target.primary();
+            targets.add(target);
+            keys.add(key);
+            gets.add(
+                TransactGetItem.builder().get(
+                    Get.builder()
+                        .tableName(target.table())
+                        .key(key)
+                        .build()
+                ).build()
+            );
+        }
+        final List<Item> loaded = new ArrayList<>(targets.size());
+        if (!targets.isEmpty()) {
+            final List<ItemResponse> responses = this.fetch(gets);
+            for (int idx = 0; idx < targets.size(); ++idx) {
+                final AwsTarget target = targets.get(idx);
+                final ItemResponse response = responses.get(idx);
+                if (!response.hasItem()) {
+                    throw new NoSuchElementException(
+                        String.format(
+                            "Item %s not found in \"%s\"",
+                            keys.get(idx), target.table()
+                        )
+                    );
+                }
+                loaded.add(target.reloaded(response.item()));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Send all gets to DynamoDB.
+     * @param gets Get operations
+     * @return Responses, one per operation
+     * @throws IOException If fails
+     */
+    private List<ItemResponse> fetch(final Collection<TransactGetItem> gets)
+        throws IOException {
+        final DynamoDbClient aws = this.credentials.aws();
+        try {
+            final TransactGetItemsResponse result = aws.transactGetItems(
+                TransactGetItemsRequest.builder()
+                    .transactItems(gets)
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                    .build()
+            );
+            double units = 0.0d;
+            for (final ConsumedCapacity cap : result.consumedCapacity()) {
+                units += cap.capacityUnits();
+            }
+            Logger.info(
+                this, "#fetch(): %d item(s) read together, %.2f units",
+                gets.size(), units
+            );
+            return result.responses();
+        } catch (final TransactionCanceledException ex) {
+            throw new CanceledTransactionException(
+                String.format(
+                    "Reading of %d item(s) together canceled", gets.size()
+                ),
+                ex.cancellationReasons(),
+                ex
+            );
+        } catch (final SdkClientException ex) {
+            throw new IOException(
+                String.format(
+                    "Failed to read %d item(s) together", gets.size()
+                ),
+                ex
+            );
+        } finally {
+            aws.close();
+        }
+    }
+}
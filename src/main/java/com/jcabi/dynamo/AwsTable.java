@@ -12,12 +12,14 @@ import com.jcabi.log.Logger;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
@@ -67,22 +69,30 @@ final class AwsTable implements Table {
     @Override
     public Item put(final Map<String, AttributeValue> attributes)
         throws IOException {
+        return this.put(attributes, new Conditions());
+    }
+
+    @Override
+    public Item put(final Map<String, AttributeValue> attributes,
+        final Map<String, Condition> conditions) throws IOException {
+        final PutItemRequest.Builder req = PutItemRequest.builder()
+            .tableName(this.self)
+            .item(attributes)
+            .returnValues(ReturnValue.NONE)
+            .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+        if (!conditions.isEmpty()) {
+            final Expressions expr = new Expressions();
+            req.conditionExpression(expr.condition(conditions))
+                .expressionAttributeNames(expr.names())
+                .expressionAttributeValues(expr.values());
+        }
         final DynamoDbClient aws = this.credentials.aws();
         try {
             Logger.info(
                 this, "#put('%[text]s'): created item in '%s', %s",
                 attributes, this.self,
                 new PrintableConsumedCapacity(
-                    aws.putItem(
-                        PutItemRequest.builder()
-                            .tableName(this.self)
-                            .item(attributes)
-                            .returnValues(ReturnValue.NONE)
-                            .returnConsumedCapacity(
-                                ReturnConsumedCapacity.TOTAL
-                            )
-                            .build()
-                    ).consumedCapacity()
+                    aws.putItem(req.build()).consumedCapacity()
                 ).print()
             );
             return new AwsItem(
@@ -105,6 +115,13 @@ final class AwsTable implements Table {
         }
     }
 
+    @Override
+    public List<Item> putAll(
+        final Collection<? extends Map<String, AttributeValue>> items,
+        final int concurrency) throws IOException {
+        return new Fanout(concurrency).putAll(this, items);
+    }
+
     @Override
     public Region region() {
         return this.reg;
@@ -0,0 +1,117 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.immutable.Array;
+import java.io.IOException;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Table and primary key of an item, in DynamoDB.
+ *
+ * <p>The item may be an {@link AwsItem} or any decorator of it, like
+ * the ones from {@code version}, {@code hedge} or {@code buffer}
+ * packages. A decorated item is found through its frame: the name of
+ * the table comes from {@link Frame#table()}, names of the keys from
+ * {@code DescribeTable}, which is cached, and their values from the
+ * item itself, where they are always loaded already.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "credentials", "item" })
+final class AwsTarget {
+
+    /**
+     * AWS credentials.
+     */
+    private final transient Credentials credentials;
+
+    /**
+     * The item.
+     */
+    private final transient Item item;
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param itm The item
+     */
+    AwsTarget(final Credentials creds, final Item itm) {
+        this.credentials = creds;
+        this.item = itm;
+    }
+
+    /**
+     * Name of the table.
+     * @return Table name
+     */
+    String table() {
+        final String name;
+        if (this.item instanceof AwsItem) {
+            name = ((AwsItem) this.item).table();
+        } else {
+            name = this.item.frame().table().name();
+        }
+        return name;
+    }
+
+    /**
+     * Primary key of the item.
+     * @return Key attributes
+     * @throws IOException If fails
+     */
+    Attributes primary() throws IOException {
+        Attributes key;
+        if (this.item instanceof AwsItem) {
+            key = ((AwsItem) this.item).primary();
+        } else {
+            key = new Attributes();
+            for (final String name : this.origin().keys()) {
+                key = key.with(name, this.item.get(name));
+            }
+        }
+        return key;
+    }
+
+    /**
+     * The same item, with these attributes loaded.
+     * @param attrs All attributes of the item
+     * @return Item from DynamoDB
+     * @throws IOException If fails
+     */
+    Item reloaded(final Map<String, AttributeValue> attrs)
+        throws IOException {
+        final Item loaded;
+        if (this.item instanceof AwsItem) {
+            loaded = ((AwsItem) this.item).reloaded(attrs);
+        } else {
+            final AwsTable table = this.origin();
+            loaded = new AwsItem(
+                this.credentials, table.frame(), table.name(),
+                new Attributes(attrs), new Array<>(table.keys())
+            );
+        }
+        return loaded;
+    }
+
+    /**
+     * Table of the item, in DynamoDB.
+     * @return Table
+     */
+    private AwsTable origin() {
+        return new AwsTable(
+            this.credentials, new Region.Simple(this.credentials),
+            this.table()
+        );
+    }
+}
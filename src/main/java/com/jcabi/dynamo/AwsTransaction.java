@@ -0,0 +1,233 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.immutable.Array;
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.ConditionCheck;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+
+/**
+ * Transaction in Dynamo, through AWS SDK.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "credentials", "ops", "tkn" })
+final class AwsTransaction implements Transaction {
+
+    /**
+     * AWS credentials.
+     */
+    private final transient Credentials credentials;
+
+    /**
+     * Operations collected so far.
+     */
+    private final transient Array<TransactWriteItem> ops;
+
+    /**
+     * Idempotency token.
+     */
+    private final transient String tkn;
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     */
+    AwsTransaction(final Credentials creds) {
+        this(creds, new Array<>(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * Public ctor.
+     * @param creds Credentials
+     * @param operations Operations
+     * @param token Idempotency token
+     */
+    AwsTransaction(final Credentials creds,
+        final Array<TransactWriteItem> operations, final String token) {
+        this.credentials = creds;
+        this.ops = operations;
+        this.tkn = token;
+    }
+
+    @Override
+    public Transaction put(final Table table,
+        final Map<String, AttributeValue> attributes) {
+        return this.with(
+            TransactWriteItem.builder().put(
+                Put.builder()
+                    .tableName(table.name())
+                    .item(attributes)
+                    .build()
+            ).build()
+        );
+    }
+
+    @Override
+    public Transaction update(final Item item,
+        final Map<String, AttributeValueUpdate> attrs) {
+        final AwsTarget target = new AwsTarget(this.credentials, item);
+        final Attributes key = AwsTransaction.primary(target);
+        final Expressions expr = new Expressions();
+        final String update = expr.update(attrs);
+        return this.with(
+            TransactWriteItem.builder().update(
+                Update.builder()
+                    .tableName(target.table())
+                    .key(key)
+                    .updateExpression(update)
+                    .conditionExpression(expr.exist(key.keySet()))
+                    .expressionAttributeNames(expr.names())
+                    .expressionAttributeValues(expr.values())
+                    .build()
+            ).build()
+        );
+    }
+
+    @Override
+    public Transaction delete(final Item item) {
+        final AwsTarget target = new AwsTarget(this.credentials, item);
+        final Attributes key = AwsTransaction.primary(target);
+        final Expressions expr = new Expressions();
+        return this.with(
+            TransactWriteItem.builder().delete(
+                Delete.builder()
+                    .tableName(target.table())
+                    .key(key)
+                    .conditionExpression(expr.exist(key.keySet()))
+                    .expressionAttributeNames(expr.names())
+                    .build()
+            ).build()
+        );
+    }
+
+    @Override
+    public Transaction check(final Item item,
+        final Map<String, Condition> conditions) {
+        final AwsTarget target = new AwsTarget(this.credentials, item);
+        final Expressions expr = new Expressions();
+        final String condition = expr.condition(conditions);
+        return this.with(
+            TransactWriteItem.builder().conditionCheck(
+                ConditionCheck.builder()
+                    .tableName(target.table())
+                    .key(AwsTransaction.primary(target))
+                    .conditionExpression(condition)
+                    .expressionAttributeNames(expr.names())
+                    .expressionAttributeValues(expr.values())
+                    .build()
+            ).build()
+        );
+    }
+
+    @Override
+    public String token() {
+        return this.tkn;
+    }
+
+    @Override
+    public void commit() throws IOException {
+        if (this.ops.isEmpty()) {
+            Logger.info(
+                this, "#commit(): nothing to commit in '%s'", this.tkn
+            );
+        } else {
+            this.send();
+        }
+    }
+
+    /**
+     * Send all operations to DynamoDB.
+     * @throws IOException If fails
+     */
+    private void send() throws IOException {
+        final DynamoDbClient aws = this.credentials.aws();
+        try {
+            final TransactWriteItemsResponse result = aws.transactWriteItems(
+                TransactWriteItemsRequest.builder()
+                    .transactItems(this.ops)
+                    .clientRequestToken(this.tkn)
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                    .build()
+            );
+            double units = 0.0d;
+            for (final ConsumedCapacity cap : result.consumedCapacity()) {
+                units += cap.capacityUnits();
+            }
+            Logger.info(
+                this,
+                "#send(): %d operation(s) committed as '%s', %.2f units",
+                this.ops.size(), this.tkn, units
+            );
+        } catch (final TransactionCanceledException ex) {
+            throw new CanceledTransactionException(
+                String.format(
+                    "Transaction '%s' of %d operation(s) canceled",
+                    this.tkn, this.ops.size()
+                ),
+                ex.cancellationReasons(),
+                ex
+            );
+        } catch (final SdkClientException ex) {
+            throw new IOException(
+                String.format(
+                    "Failed to commit transaction '%s' of %d operation(s)",
+                    this.tkn, this.ops.size()
+                ),
+                ex
+            );
+        } finally {
+            aws.close();
+        }
+    }
+
+    /**
+     * Make a new transaction with one more operation.
+     * @param operation The operation
+     * @return New transaction
+     */
+    private Transaction with(final TransactWriteItem operation) {
+        return new AwsTransaction(
+            this.credentials, this.ops.with(operation), this.tkn
+        );
+    }
+
+    /**
+     * Primary key of the target.
+     * @param target The target
+     * @return Key attributes
+     */
+    private static Attributes primary(final AwsTarget target) {
+        try {
+            return target.primary();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Valve, which can stop after the given number of items.
+ *
+ * <p>It is used by {@link Frame#limit(int)}, to make the {@code Limit}
+ * of every request no bigger than the number of items still needed.
+ * Decorators of valves implement it too and pass the bound to their
+ * origins, when they are bounded, with
+ * {@link #bounded(Valve, Credentials, String, Map, Collection, int)},
+ * so a decorated valve keeps shrinking its pages. They also expose the
+ * valve they decorate, through {@link #origin()}, so the frame may
+ * see through them with {@link #unwrapped(Valve)}, for example to
+ * explain itself.
+ *
+ * @since 0.23
+ */
+@Immutable
+public interface BoundedValve extends Valve {
+
+    /**
+     * Fetch the first dosage, with no more than this number of items
+     * in it and in all dosages after it.
+     * @param credentials Credentials to AWS
+     * @param table Table name
+     * @param conditions Conditions
+     * @param keys Keys of the table
+     * @param max Maximum number of items in all dosages
+     * @return Dosage
+     * @throws IOException In case of DynamoDB failure
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    Dosage fetch(Credentials credentials, String table,
+        Map<String, Condition> conditions, Collection<String> keys, int max)
+        throws IOException;
+
+    /**
+     * The valve, which this one decorates.
+     * @return Original valve, or this one if it decorates nothing
+     */
+    Valve origin();
+
+    /**
+     * Fetch from the valve, bounded if it is a {@link BoundedValve}.
+     *
+     * <p>Decorators of valves use it to pass the bound to their origins.
+     *
+     * @param valve The valve
+     * @param credentials Credentials to AWS
+     * @param table Table name
+     * @param conditions Conditions
+     * @param keys Keys of the table
+     * @param max Maximum number of items in all dosages
+     * @return Dosage
+     * @throws IOException In case of DynamoDB failure
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    static Dosage bounded(final Valve valve, final Credentials credentials,
+        final String table, final Map<String, Condition> conditions,
+        final Collection<String> keys, final int max) throws IOException {
+        final Dosage first;
+        if (valve instanceof BoundedValve) {
+            first = ((BoundedValve) valve).fetch(
+                credentials, table, conditions, keys, max
+            );
+        } else {
+            first = valve.fetch(credentials, table, conditions, keys);
+        }
+        return first;
+    }
+
+    /**
+     * The valve under all decorators.
+     * @param valve The valve, maybe decorated
+     * @return The innermost valve
+     */
+    static Valve unwrapped(final Valve valve) {
+        Valve inner = valve;
+        while (inner instanceof BoundedValve
+            && ((BoundedValve) inner).origin() != inner) {
+            inner = ((BoundedValve) inner).origin();
+        }
+        return inner;
+    }
+}
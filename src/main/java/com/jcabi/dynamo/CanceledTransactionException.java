@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+
+/**
+ * Transaction canceled by DynamoDB.
+ *
+ * <p>Reasons are listed in the same order as operations were added to
+ * the {@link Transaction}, or items were given to
+ * {@link Region#readTogether(java.util.Collection)}. Operations that
+ * didn't cause the cancellation have the reason with code {@code "None"}.
+ *
+ * @since 0.23
+ */
+public final class CanceledTransactionException extends IOException {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 0x7a4b6f82e1c3d9a5L;
+
+    /**
+     * Reasons, one per operation.
+     */
+    private final transient List<CancellationReason> list;
+
+    /**
+     * Public ctor.
+     * @param msg Message
+     * @param reasons Reasons, one per operation
+     * @param cause Cause
+     */
+    public CanceledTransactionException(final String msg,
+        final List<CancellationReason> reasons, final Throwable cause) {
+        super(msg, cause);
+        this.list = new ArrayList<>(reasons);
+    }
+
+    /**
+     * Reasons of cancellation, one per operation.
+     * @return Reasons
+     */
+    public List<CancellationReason> reasons() {
+        return Collections.unmodifiableList(this.list);
+    }
+
+    /**
+     * Reason of cancellation of the given operation.
+     * @param index Position of the operation in the transaction
+     * @return Code of the reason, like {@code "ConditionalCheckFailed"}
+     */
+    public String code(final int index) {
+        return this.list.get(index).code();
+    }
+}
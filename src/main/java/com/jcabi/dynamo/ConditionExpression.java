@@ -0,0 +1,544 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.immutable.ArrayMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Condition expression of DynamoDB, evaluated locally.
+ *
+ * <p>It understands comparisons ({@code =}, {@code <>}, {@code <},
+ * {@code <=}, {@code >}, {@code >=}), {@code BETWEEN}, {@code IN},
+ * functions {@code attribute_exists}, {@code attribute_not_exists},
+ * {@code begins_with} and {@code contains}, combined with {@code AND},
+ * {@code OR}, {@code NOT} and parentheses. Operands are top-level
+ * attributes, by name or by {@code #placeholder}, and values, by
+ * {@code :placeholder}. Nested paths, {@code size()} and
+ * {@code attribute_type()} are not supported and are rejected with
+ * {@link IllegalArgumentException}. For example:
+ *
+ * <pre> new ConditionExpression(
+ *   "#s = :open AND attribute_not_exists(owner)",
+ *   Collections.singletonMap("#s", "status"),
+ *   Collections.singletonMap(":open", AttributeValue.builder()...)
+ * ).matches(item);</pre>
+ *
+ * <p>Every comparison is evaluated exactly as {@link Conditions#matches(Map)}
+ * evaluates the same comparison operator. This is useful for mocks.
+ * Key condition expressions, which are comparisons joined with
+ * {@code AND}, may be turned into {@link Conditions} by
+ * {@link #conditions()}.
+ *
+ * @see <a href="https://docs.aws.amazon.com/amazondynamodb/latest/developerguide/Expressions.OperatorsAndFunctions.html">Condition expressions</a>
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = { "expr", "names", "values" })
+public final class ConditionExpression {
+
+    /**
+     * Tokens of an expression.
+     */
+    private static final Pattern TOKEN = Pattern.compile(
+        "\\s*(<>|<=|>=|[=<>(),]|[#:]?[\\p{L}\\p{N}_.\\-\\[\\]]+)"
+    );
+
+    /**
+     * The expression.
+     */
+    private final transient String expr;
+
+    /**
+     * Placeholders of attribute names.
+     */
+    private final transient ArrayMap<String, String> names;
+
+    /**
+     * Placeholders of values.
+     */
+    private final transient ArrayMap<String, AttributeValue> values;
+
+    /**
+     * Public ctor.
+     * @param text The expression
+     * @param nms Placeholders of attribute names
+     * @param vals Placeholders of values
+     */
+    public ConditionExpression(final String text,
+        final Map<String, String> nms, final Map<String, AttributeValue> vals) {
+        this.expr = text;
+        this.names = new ArrayMap<>(nms);
+        this.values = new ArrayMap<>(vals);
+    }
+
+    /**
+     * Do attributes of this item meet the expression?
+     * @param item Attributes of the item, empty if the item is absent
+     * @return TRUE if the expression is met
+     */
+    public boolean matches(final Map<String, AttributeValue> item) {
+        final ConditionExpression.Parser parser =
+            new ConditionExpression.Parser(this, item);
+        final boolean matches = parser.disjunction();
+        parser.end();
+        return matches;
+    }
+
+    /**
+     * Conditions of the expression, which must be made only of
+     * comparisons of attributes with values, {@code BETWEEN} and
+     * {@code begins_with}, joined with {@code AND}, as key condition
+     * expressions are.
+     * @return Conditions, by attribute names
+     */
+    public Conditions conditions() {
+        return new ConditionExpression.Parser(
+            this, Collections.emptyMap()
+        ).comparisons();
+    }
+
+    /**
+     * Split the expression into tokens.
+     * @return Tokens
+     */
+    private List<String> tokens() {
+        final List<String> tokens = new ArrayList<>(0);
+        final Matcher matcher = ConditionExpression.TOKEN.matcher(this.expr);
+        int pos = 0;
+        while (pos < this.expr.length()) {
+            if (!matcher.find(pos) || matcher.start() != pos) {
+                if (this.expr.substring(pos).trim().isEmpty()) {
+                    break;
+                }
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Invalid syntax at %d in \"%s\"", pos, this.expr
+                    )
+                );
+            }
+            tokens.add(matcher.group(1));
+            pos = matcher.end();
+        }
+        return tokens;
+    }
+
+    /**
+     * Value of the operand.
+     * @param token The operand
+     * @param item Attributes of the item
+     * @return Value, NULL if it is an absent attribute
+     */
+    private AttributeValue operand(final String token,
+        final Map<String, AttributeValue> item) {
+        final AttributeValue value;
+        if (token.charAt(0) == ':') {
+            value = this.values.get(token);
+            if (value == null) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Value %s is not defined in \"%s\"", token, this.expr
+                    )
+                );
+            }
+        } else {
+            value = item.get(this.attribute(token));
+        }
+        return value;
+    }
+
+    /**
+     * Name of the attribute.
+     * @param token Name or its placeholder
+     * @return Name
+     */
+    private String attribute(final String token) {
+        final String name;
+        if (token.charAt(0) == '#') {
+            name = this.names.get(token);
+            if (name == null) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Name %s is not defined in \"%s\"", token, this.expr
+                    )
+                );
+            }
+        } else if (token.matches("\\p{L}[\\p{L}\\p{N}_]*")) {
+            name = token;
+        } else {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Only top-level attributes are supported, not %s in \"%s\"",
+                    token, this.expr
+                )
+            );
+        }
+        return name;
+    }
+
+    /**
+     * Does the value meet the condition?
+     * @param value The value, NULL if absent
+     * @param opr Comparison operator
+     * @param args Arguments of the operator
+     * @return TRUE if it meets
+     */
+    private static boolean test(final AttributeValue value,
+        final ComparisonOperator opr, final AttributeValue... args) {
+        final Map<String, AttributeValue> item;
+        if (value == null) {
+            item = Collections.emptyMap();
+        } else {
+            item = Collections.singletonMap("v", value);
+        }
+        return new Conditions().with(
+            "v", ConditionExpression.condition(opr, args)
+        ).matches(item);
+    }
+
+    /**
+     * Make a condition.
+     * @param opr Comparison operator
+     * @param args Arguments of the operator
+     * @return Condition
+     */
+    private static Condition condition(final ComparisonOperator opr,
+        final AttributeValue... args) {
+        return Condition.builder()
+            .comparisonOperator(opr)
+            .attributeValueList(args)
+            .build();
+    }
+
+    /**
+     * Recursive-descent parser, which evaluates the expression as it
+     * reads it.
+     *
+     * @since 0.23
+     */
+    private static final class Parser {
+
+        /**
+         * The expression.
+         */
+        private final transient ConditionExpression owner;
+
+        /**
+         * Attributes of the item.
+         */
+        private final transient Map<String, AttributeValue> item;
+
+        /**
+         * Tokens.
+         */
+        private final transient List<String> tokens;
+
+        /**
+         * Position of the next token.
+         */
+        private transient int pos;
+
+        /**
+         * Ctor.
+         * @param expr The expression
+         * @param attrs Attributes of the item
+         */
+        Parser(final ConditionExpression expr,
+            final Map<String, AttributeValue> attrs) {
+            this.owner = expr;
+            this.item = attrs;
+            this.tokens = expr.tokens();
+        }
+
+        /**
+         * Read conditions joined with {@code OR}.
+         * @return Value
+         */
+        boolean disjunction() {
+            boolean result = this.conjunction();
+            while (this.next("OR")) {
+                result = this.conjunction() || result;
+            }
+            return result;
+        }
+
+        /**
+         * Read comparisons joined with {@code AND}, without evaluating
+         * them, up to the end.
+         * @return Conditions
+         */
+        Conditions comparisons() {
+            Conditions conds = new Conditions();
+            do {
+                final String token = this.take();
+                final String attr;
+                final Condition cond;
+                if ("begins_with".equalsIgnoreCase(token)) {
+                    this.expect("(");
+                    attr = this.owner.attribute(this.take());
+                    this.expect(",");
+                    cond = ConditionExpression.condition(
+                        ComparisonOperator.BEGINS_WITH, this.value()
+                    );
+                    this.expect(")");
+                } else if (this.next("BETWEEN")) {
+                    attr = this.owner.attribute(token);
+                    final AttributeValue low = this.value();
+                    this.expect("AND");
+                    cond = ConditionExpression.condition(
+                        ComparisonOperator.BETWEEN, low, this.value()
+                    );
+                } else {
+                    attr = this.owner.attribute(token);
+                    final ComparisonOperator opr = this.operator(this.take());
+                    cond = ConditionExpression.condition(opr, this.value());
+                }
+                conds = conds.with(attr, cond);
+            } while (this.next("AND"));
+            this.end();
+            return conds;
+        }
+
+        /**
+         * Make sure all tokens are read.
+         */
+        void end() {
+            if (this.pos < this.tokens.size()) {
+                throw this.error();
+            }
+        }
+
+        /**
+         * Read conditions joined with {@code AND}.
+         * @return Value
+         */
+        private boolean conjunction() {
+            boolean result = this.negation();
+            while (this.next("AND")) {
+                result = this.negation() && result;
+            }
+            return result;
+        }
+
+        /**
+         * Read a condition, maybe with {@code NOT}.
+         * @return Value
+         */
+        private boolean negation() {
+            final boolean result;
+            if (this.next("NOT")) {
+                result = !this.negation();
+            } else {
+                result = this.primary();
+            }
+            return result;
+        }
+
+        /**
+         * Read a condition in parentheses, a function or a comparison.
+         * @return Value
+         * @checkstyle CyclomaticComplexityCheck (60 lines)
+         */
+        @SuppressWarnings("PMD.CyclomaticComplexity")
+        private boolean primary() {
+            final boolean result;
+            final String token = this.take();
+            final String lower = token.toLowerCase(Locale.ENGLISH);
+            if ("(".equals(token)) {
+                result = this.disjunction();
+                this.expect(")");
+            } else if ("attribute_exists".equals(lower)) {
+                result = this.function().get(0) != null;
+            } else if ("attribute_not_exists".equals(lower)) {
+                result = this.function().get(0) == null;
+            } else if ("begins_with".equals(lower)) {
+                final List<AttributeValue> args = this.function();
+                result = args.get(1) != null && ConditionExpression.test(
+                    args.get(0), ComparisonOperator.BEGINS_WITH, args.get(1)
+                );
+            } else if ("contains".equals(lower)) {
+                final List<AttributeValue> args = this.function();
+                result = args.get(1) != null && ConditionExpression.test(
+                    args.get(0), ComparisonOperator.CONTAINS, args.get(1)
+                );
+            } else if (this.next("BETWEEN")) {
+                final AttributeValue low = this.operand(this.take());
+                this.expect("AND");
+                final AttributeValue high = this.operand(this.take());
+                result = low != null && high != null
+                    && ConditionExpression.test(
+                        this.operand(token), ComparisonOperator.BETWEEN,
+                        low, high
+                    );
+            } else if (this.next("IN")) {
+                this.expect("(");
+                final List<AttributeValue> args = new ArrayList<>(1);
+                do {
+                    final AttributeValue arg = this.operand(this.take());
+                    if (arg != null) {
+                        args.add(arg);
+                    }
+                } while (this.next(","));
+                this.expect(")");
+                result = ConditionExpression.test(
+                    this.operand(token), ComparisonOperator.IN,
+                    args.toArray(new AttributeValue[0])
+                );
+            } else {
+                result = this.comparison(token);
+            }
+            return result;
+        }
+
+        /**
+         * Read a comparison, after its left operand.
+         * @param left Left operand
+         * @return Value
+         */
+        private boolean comparison(final String left) {
+            final ComparisonOperator cmp = this.operator(this.take());
+            final AttributeValue right = this.operand(this.take());
+            return right != null && ConditionExpression.test(
+                this.operand(left), cmp, right
+            );
+        }
+
+        /**
+         * Comparison operator.
+         * @param opr Operator, like {@code "<="}
+         * @return Comparison operator
+         */
+        private ComparisonOperator operator(final String opr) {
+            final ComparisonOperator cmp;
+            switch (opr) {
+                case "=":
+                    cmp = ComparisonOperator.EQ;
+                    break;
+                case "<>":
+                    cmp = ComparisonOperator.NE;
+                    break;
+                case "<":
+                    cmp = ComparisonOperator.LT;
+                    break;
+                case "<=":
+                    cmp = ComparisonOperator.LE;
+                    break;
+                case ">":
+                    cmp = ComparisonOperator.GT;
+                    break;
+                case ">=":
+                    cmp = ComparisonOperator.GE;
+                    break;
+                default:
+                    throw this.error();
+            }
+            return cmp;
+        }
+
+        /**
+         * Read a value, by its placeholder.
+         * @return Value
+         */
+        private AttributeValue value() {
+            final String token = this.take();
+            if (token.charAt(0) != ':') {
+                throw this.error();
+            }
+            return this.operand(token);
+        }
+
+        /**
+         * Read arguments of a function, in parentheses.
+         * @return Values of arguments, NULL for absent attributes
+         */
+        private List<AttributeValue> function() {
+            this.expect("(");
+            final List<AttributeValue> args = new ArrayList<>(2);
+            do {
+                args.add(this.operand(this.take()));
+            } while (this.next(","));
+            this.expect(")");
+            return args;
+        }
+
+        /**
+         * Value of the operand.
+         * @param token The operand
+         * @return Value, NULL if it is an absent attribute
+         */
+        private AttributeValue operand(final String token) {
+            return this.owner.operand(token, this.item);
+        }
+
+        /**
+         * Take the next token.
+         * @return Token
+         */
+        private String take() {
+            if (this.pos >= this.tokens.size()) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Unexpected end of \"%s\"", this.owner.expr
+                    )
+                );
+            }
+            final String token = this.tokens.get(this.pos);
+            ++this.pos;
+            return token;
+        }
+
+        /**
+         * Take the next token, if it is this keyword.
+         * @param keyword The keyword
+         * @return TRUE if taken
+         */
+        private boolean next(final String keyword) {
+            final boolean found = this.pos < this.tokens.size()
+                && keyword.equalsIgnoreCase(this.tokens.get(this.pos));
+            if (found) {
+                ++this.pos;
+            }
+            return found;
+        }
+
+        /**
+         * Take the next token, which must be this one.
+         * @param keyword The token
+         */
+        private void expect(final String keyword) {
+            if (!this.next(keyword)) {
+                throw this.error();
+            }
+        }
+
+        /**
+         * Syntax error at the current position.
+         * @return Exception
+         */
+        private IllegalArgumentException error() {
+            return new IllegalArgumentException(
+                String.format(
+                    "Invalid syntax at token #%d in \"%s\"",
+                    this.pos, this.owner.expr
+                )
+            );
+        }
+    }
+}
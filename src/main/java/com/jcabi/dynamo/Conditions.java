@@ -8,8 +8,10 @@ import com.google.common.base.Joiner;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.immutable.ArrayMap;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -164,6 +166,27 @@ public final class Conditions implements Map<String, Condition> {
         return new Conditions(this.conds.with(map));
     }
 
+    /**
+     * Do attributes of this item meet all conditions?
+     *
+     * <p>Conditions are evaluated locally, the way DynamoDB would
+     * evaluate them. This is useful for mocks and caches.
+     *
+     * @param item Attributes of the item, empty if the item is absent
+     * @return TRUE if all conditions are met
+     * @since 0.23
+     */
+    public boolean matches(final Map<String, AttributeValue> item) {
+        boolean matches = true;
+        for (final Map.Entry<String, Condition> cond : this.conds.entrySet()) {
+            if (!Conditions.matches(cond.getValue(), item.get(cond.getKey()))) {
+                matches = false;
+                break;
+            }
+        }
+        return matches;
+    }
+
     @Override
     public String toString() {
         final Collection<String> terms =
@@ -249,6 +272,139 @@ public final class Conditions implements Map<String, Condition> {
         );
     }
 
+    /**
+     * Does the value meet the condition?
+     * @param cond The condition
+     * @param value The value or NULL if it's absent
+     * @return TRUE if it meets
+     * @checkstyle CyclomaticComplexityCheck (60 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static boolean matches(final Condition cond,
+        final AttributeValue value) {
+        final List<AttributeValue> args = cond.attributeValueList();
+        final boolean matches;
+        switch (cond.comparisonOperator()) {
+            case NULL:
+                matches = value == null;
+                break;
+            case NOT_NULL:
+                matches = value != null;
+                break;
+            case EQ:
+                matches = value != null
+                    && Conditions.compare(value, args.get(0)) == 0;
+                break;
+            case NE:
+                matches = value == null
+                    || Conditions.compare(value, args.get(0)) != 0;
+                break;
+            case LT:
+                matches = value != null
+                    && Conditions.compare(value, args.get(0)) < 0;
+                break;
+            case LE:
+                matches = value != null
+                    && Conditions.compare(value, args.get(0)) <= 0;
+                break;
+            case GT:
+                matches = value != null
+                    && Conditions.compare(value, args.get(0)) > 0;
+                break;
+            case GE:
+                matches = value != null
+                    && Conditions.compare(value, args.get(0)) >= 0;
+                break;
+            case BETWEEN:
+                matches = value != null
+                    && Conditions.compare(value, args.get(0)) >= 0
+                    && Conditions.compare(value, args.get(1)) <= 0;
+                break;
+            case BEGINS_WITH:
+                matches = value != null && Conditions.text(value)
+                    .startsWith(Conditions.text(args.get(0)));
+                break;
+            case CONTAINS:
+                matches = Conditions.contains(value, args.get(0));
+                break;
+            case NOT_CONTAINS:
+                matches = !Conditions.contains(value, args.get(0));
+                break;
+            case IN:
+                matches = value != null && args.stream().anyMatch(
+                    arg -> Conditions.compare(value, arg) == 0
+                );
+                break;
+            default:
+                throw new UnsupportedOperationException(
+                    String.format(
+                        "Comparison operator %s is not supported",
+                        cond.comparisonOperatorAsString()
+                    )
+                );
+        }
+        return matches;
+    }
+
+    /**
+     * Compare two scalar values, numerically if both are numbers.
+     * @param left Left value
+     * @param right Right value
+     * @return Result of comparison
+     */
+    private static int compare(final AttributeValue left,
+        final AttributeValue right) {
+        final int result;
+        if (left.n() != null && right.n() != null) {
+            result = new BigDecimal(left.n()).compareTo(
+                new BigDecimal(right.n())
+            );
+        } else {
+            result = Conditions.text(left).compareTo(Conditions.text(right));
+        }
+        return result;
+    }
+
+    /**
+     * Does the value contain the element?
+     * @param value The value or NULL
+     * @param element The element
+     * @return TRUE if it contains
+     */
+    private static boolean contains(final AttributeValue value,
+        final AttributeValue element) {
+        final boolean contains;
+        if (value == null) {
+            contains = false;
+        } else if (value.hasSs()) {
+            contains = value.ss().contains(Conditions.text(element));
+        } else if (value.hasNs()) {
+            contains = value.ns().contains(Conditions.text(element));
+        } else if (value.hasL()) {
+            contains = value.l().contains(element);
+        } else {
+            contains = Conditions.text(value)
+                .contains(Conditions.text(element));
+        }
+        return contains;
+    }
+
+    /**
+     * Text of a scalar value.
+     * @param value The value
+     * @return Text
+     */
+    private static String text(final AttributeValue value) {
+        String text = value.s();
+        if (text == null) {
+            text = value.n();
+        }
+        if (text == null) {
+            text = String.valueOf(value);
+        }
+        return text;
+    }
+
     /**
      * Convert map to ArrayMap.
      * @param map Map of them
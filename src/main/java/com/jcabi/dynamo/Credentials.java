@@ -12,11 +12,14 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
 
 /**
  * Amazon DynamoDB credentials.
  *
  * <p>It is recommended to use {@link Credentials.Simple} in most cases.
+ * Give them a {@link Transport} to tune the HTTP connections
+ * of the clients they build.
  *
  * @since 0.1
  */
@@ -49,7 +52,7 @@ public interface Credentials {
      */
     @Immutable
     @Loggable(Loggable.DEBUG)
-    @EqualsAndHashCode(of = { "key", "secret", "region" })
+    @EqualsAndHashCode(of = { "key", "secret", "region", "transport" })
     final class Simple implements Credentials {
         /**
          * AWS key.
@@ -66,6 +69,11 @@ public interface Credentials {
          */
         private final transient String region;
 
+        /**
+         * HTTP transport or NULL for SDK defaults.
+         */
+        private final transient Transport transport;
+
         /**
          * Public ctor, with "us-east-1" region.
          * @param akey AWS key
@@ -82,9 +90,23 @@ public interface Credentials {
          * @param reg Region
          */
         public Simple(final String akey, final String scrt, final String reg) {
+            this(akey, scrt, reg, null);
+        }
+
+        /**
+         * Public ctor.
+         * @param akey AWS key
+         * @param scrt Secret
+         * @param reg Region
+         * @param trans HTTP transport
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        public Simple(final String akey, final String scrt, final String reg,
+            final Transport trans) {
             this.key = akey;
             this.secret = scrt;
             this.region = reg;
+            this.transport = trans;
         }
 
         @Override
@@ -94,7 +116,7 @@ public interface Credentials {
 
         @Override
         public DynamoDbClient aws() {
-            return DynamoDbClient.builder()
+            return Credentials.Simple.configured(this.transport)
                 .region(Region.of(this.region))
                 .credentialsProvider(
                     StaticCredentialsProvider.create(
@@ -103,6 +125,20 @@ public interface Credentials {
                 )
                 .build();
         }
+
+        /**
+         * Builder of a client, with this transport.
+         * @param trans HTTP transport or NULL for SDK defaults
+         * @return Builder
+         */
+        private static DynamoDbClientBuilder configured(
+            final Transport trans) {
+            final DynamoDbClientBuilder builder = DynamoDbClient.builder();
+            if (trans != null) {
+                trans.configure(builder);
+            }
+            return builder;
+        }
     }
 
     /**
@@ -113,13 +149,18 @@ public interface Credentials {
      */
     @Immutable
     @Loggable(Loggable.DEBUG)
-    @EqualsAndHashCode(of = "region")
+    @EqualsAndHashCode(of = { "region", "transport" })
     final class Assumed implements Credentials {
         /**
          * Region name.
          */
         private final transient String region;
 
+        /**
+         * HTTP transport or NULL for SDK defaults.
+         */
+        private final transient Transport transport;
+
         /**
          * Public ctor.
          */
@@ -132,7 +173,17 @@ public interface Credentials {
          * @param reg Region
          */
         public Assumed(final String reg) {
+            this(reg, null);
+        }
+
+        /**
+         * Public ctor.
+         * @param reg Region
+         * @param trans HTTP transport
+         */
+        public Assumed(final String reg, final Transport trans) {
             this.region = reg;
+            this.transport = trans;
         }
 
         @Override
@@ -142,7 +193,7 @@ public interface Credentials {
 
         @Override
         public DynamoDbClient aws() {
-            return DynamoDbClient.builder()
+            return Credentials.Simple.configured(this.transport)
                 .region(Region.of(this.region))
                 .build();
         }
@@ -151,6 +202,8 @@ public interface Credentials {
     /**
      * With explicitly specified endpoint.
      *
+     * <p>The transport of the original credentials is used.
+     *
      * @since 0.1
      */
     @Immutable
@@ -193,7 +246,7 @@ public interface Credentials {
 
         @Override
         public DynamoDbClient aws() {
-            return DynamoDbClient.builder()
+            return Credentials.Simple.configured(this.origin.transport)
                 .endpointOverride(URI.create(this.endpoint))
                 .region(Region.US_EAST_1)
                 .credentialsProvider(
@@ -0,0 +1,204 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Position in a frame, where the next page of items starts.
+ *
+ * <p>It is the {@code LastEvaluatedKey} of a page, which DynamoDB
+ * expects as {@code ExclusiveStartKey} of the next request. Every
+ * {@link Dosage} has one, and {@link QueryValve} and {@link ScanValve}
+ * can start from it. Its token is an opaque URL-safe string, which can
+ * be sent to a client and turned back into a cursor later, for example:
+ *
+ * <pre>Dosage page = table.frame()
+ *   .where("hash", "123")
+ *   .through(new QueryValve().withLimit(20).withCursor(new Cursor(token)))
+ *   .page();
+ * String next = page.cursor().token();</pre>
+ *
+ * <p>Empty cursor means the beginning of the frame, when a valve starts
+ * from it, and the end of the frame, when a dosage returns it.
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = "key")
+public final class Cursor {
+
+    /**
+     * Empty cursor.
+     */
+    public static final Cursor EMPTY = new Cursor(new Attributes());
+
+    /**
+     * The key, where the next page starts (exclusively).
+     */
+    private final transient Attributes key;
+
+    /**
+     * Public ctor.
+     * @param token Token, previously made by {@link #token()}
+     */
+    public Cursor(final String token) {
+        this(Cursor.decode(token));
+    }
+
+    /**
+     * Public ctor.
+     * @param start The key, where the next page starts (exclusively)
+     */
+    public Cursor(final Map<String, AttributeValue> start) {
+        this.key = new Attributes(start);
+    }
+
+    /**
+     * The key, to be used as {@code ExclusiveStartKey}.
+     * @return The key, empty if the cursor is empty
+     */
+    public Map<String, AttributeValue> key() {
+        return this.key;
+    }
+
+    /**
+     * Is it empty?
+     * @return TRUE if there is no key
+     */
+    public boolean isEmpty() {
+        return this.key.isEmpty();
+    }
+
+    /**
+     * Opaque token, which can be turned back into the cursor.
+     * @return URL-safe token, empty string if the cursor is empty
+     */
+    public String token() {
+        final String token;
+        if (this.key.isEmpty()) {
+            token = "";
+        } else {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(this.key.size());
+                for (final Map.Entry<String, AttributeValue> entry
+                    : this.key.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    Cursor.write(out, entry.getKey(), entry.getValue());
+                }
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            token = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                bytes.toByteArray()
+            );
+        }
+        return token;
+    }
+
+    /**
+     * Write one key attribute.
+     * @param out Where to write
+     * @param name Name of the attribute
+     * @param value The value
+     * @throws IOException If fails
+     */
+    private static void write(final DataOutputStream out, final String name,
+        final AttributeValue value) throws IOException {
+        if (value.s() != null) {
+            out.writeByte('S');
+            out.writeUTF(value.s());
+        } else if (value.n() != null) {
+            out.writeByte('N');
+            out.writeUTF(value.n());
+        } else if (value.b() != null) {
+            final byte[] data = value.b().asByteArray();
+            out.writeByte('B');
+            out.writeInt(data.length);
+            out.write(data);
+        } else {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Key attribute \"%s\" is not a string, number or binary",
+                    name
+                )
+            );
+        }
+    }
+
+    /**
+     * Decode the token.
+     * @param token The token
+     * @return The key
+     */
+    private static Attributes decode(final String token) {
+        Attributes attrs = new Attributes();
+        if (!token.isEmpty()) {
+            try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(Base64.getUrlDecoder().decode(token))
+            )) {
+                final int total = in.readInt();
+                for (int idx = 0; idx < total; ++idx) {
+                    attrs = attrs.with(in.readUTF(), Cursor.read(in));
+                }
+            } catch (final IOException | IllegalArgumentException ex) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid cursor token \"%s\"", token),
+                    ex
+                );
+            }
+        }
+        return attrs;
+    }
+
+    /**
+     * Read one key attribute.
+     * @param in Where to read from
+     * @return The value
+     * @throws IOException If fails
+     */
+    private static AttributeValue read(final DataInputStream in)
+        throws IOException {
+        final byte type = in.readByte();
+        final AttributeValue value;
+        if (type == 'S') {
+            value = AttributeValue.builder().s(in.readUTF()).build();
+        } else if (type == 'N') {
+            value = AttributeValue.builder().n(in.readUTF()).build();
+        } else if (type == 'B') {
+            final int length = in.readInt();
+            if (length < 0) {
+                throw new IOException(
+                    String.format("Negative length of binary: %d", length)
+                );
+            }
+            final byte[] data = new byte[length];
+            in.readFully(data);
+            value = AttributeValue.builder()
+                .b(SdkBytes.fromByteArray(data))
+                .build();
+        } else {
+            throw new IOException(
+                String.format("Unknown type of key attribute: %d", type)
+            );
+        }
+        return value;
+    }
+}
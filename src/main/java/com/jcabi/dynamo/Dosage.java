@@ -39,6 +39,13 @@ public interface Dosage {
      */
     Dosage next();
 
+    /**
+     * Position right after this dosage.
+     * @return The cursor, empty if there is nothing after it
+     * @since 0.23
+     */
+    Cursor cursor();
+
     /**
      * Always empty.
      *
@@ -65,6 +72,11 @@ public interface Dosage {
         public boolean hasNext() {
             return false;
         }
+
+        @Override
+        public Cursor cursor() {
+            return Cursor.EMPTY;
+        }
     }
 
 }
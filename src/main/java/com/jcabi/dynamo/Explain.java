@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.immutable.Array;
+import java.util.Collection;
+import java.util.Locale;
+import lombok.EqualsAndHashCode;
+
+/**
+ * What a frame is going to do and what it will cost, made by
+ * {@link Frame#explain(int)}.
+ *
+ * <p>Estimates are based on the size and the number of items of the
+ * table or the index, which DynamoDB updates every few hours, so they
+ * are approximate. When the frame is not sampled, or the sample doesn't
+ * reach the end, the number of items a query reads is not known, and
+ * the estimates of a query are upper bounds: they assume that it reads
+ * all items of the table or the index, up to {@link Frame#limit(int)}.
+ *
+ * @since 0.23
+ */
+@Immutable
+@EqualsAndHashCode
+public final class Explain {
+
+    /**
+     * The valve.
+     */
+    private final transient String vlv;
+
+    /**
+     * The plan.
+     */
+    private final transient Plan pln;
+
+    /**
+     * Names of attributes, which are filtered after reading.
+     */
+    private final transient Array<String> filtered;
+
+    /**
+     * Estimated number of items to read.
+     */
+    private final transient long reads;
+
+    /**
+     * Estimated number of pages to fetch.
+     */
+    private final transient long requests;
+
+    /**
+     * Estimated read capacity units.
+     */
+    private final transient double units;
+
+    /**
+     * Estimates are upper bounds.
+     */
+    private final transient boolean upper;
+
+    /**
+     * Public ctor.
+     * @param valve The valve
+     * @param plan The plan
+     * @param filters Names of attributes, which are filtered after reading
+     * @param items Estimated number of items to read
+     * @param pages Estimated number of pages to fetch
+     * @param capacity Estimated read capacity units
+     * @param bound Estimates are upper bounds
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    public Explain(final String valve, final Plan plan,
+        final Collection<String> filters, final long items, final long pages,
+        final double capacity, final boolean bound) {
+        this.vlv = valve;
+        this.pln = plan;
+        this.filtered = new Array<>(filters);
+        this.reads = items;
+        this.requests = pages;
+        this.units = capacity;
+        this.upper = bound;
+    }
+
+    /**
+     * The valve, which the frame goes through.
+     * @return Description of the valve
+     */
+    public String valve() {
+        return this.vlv;
+    }
+
+    /**
+     * The plan: a query by keys of the table or an index, or a scan.
+     * @return The plan
+     */
+    public Plan plan() {
+        return this.pln;
+    }
+
+    /**
+     * Will the whole table be scanned?
+     * @return TRUE if it is a scan
+     */
+    public boolean isScan() {
+        return this.pln.isScan();
+    }
+
+    /**
+     * Names of attributes, which are filtered after reading.
+     *
+     * <p>Items, which don't match these conditions, are read and paid
+     * for, but are not returned.
+     *
+     * @return Names of attributes
+     */
+    public Collection<String> filters() {
+        return this.filtered;
+    }
+
+    /**
+     * Estimated number of items to read.
+     * @return Number of items
+     */
+    public long items() {
+        return this.reads;
+    }
+
+    /**
+     * Estimated number of pages to fetch.
+     * @return Number of requests to DynamoDB
+     */
+    public long pages() {
+        return this.requests;
+    }
+
+    /**
+     * Estimated read capacity units.
+     * @return Capacity units
+     */
+    public double capacity() {
+        return this.units;
+    }
+
+    /**
+     * Are the estimates upper bounds?
+     * @return TRUE if the frame may cost less
+     */
+    public boolean isUpperBound() {
+        return this.upper;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder(0)
+            .append(this.pln);
+        if (!this.filtered.isEmpty()) {
+            text.append(", filtered by ").append(this.filtered);
+        }
+        text.append(", through ").append(this.vlv).append(": ");
+        if (this.upper) {
+            text.append("up to ");
+        } else {
+            text.append("about ");
+        }
+        text.append(
+            String.format(
+                Locale.ENGLISH, "%d item(s) in %d page(s), %.1f RCU",
+                this.reads, this.requests, this.units
+            )
+        );
+        return text.toString();
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeAction;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Translator of legacy parameters into DynamoDB expressions.
+ *
+ * <p>Operations like {@code TransactWriteItems} don't accept legacy
+ * {@code AttributeUpdates} and {@code Expected} parameters, only
+ * expressions. This class turns maps of {@link AttributeValueUpdate}
+ * and {@link Condition} into update and condition expressions, collecting
+ * placeholders for attribute names and values along the way. Placeholders
+ * are used for all names, so reserved words are never a problem. Actions
+ * of {@link UpdateExpression} are translated here too, one by one, see
+ * {@link #set(String, AttributeValue)} and others.
+ *
+ * <p>The class is mutable and NOT thread-safe.
+ *
+ * @since 0.23
+ */
+@ToString
+final class Expressions {
+
+    /**
+     * Placeholders of attribute names.
+     */
+    private final transient Map<String, String> names;
+
+    /**
+     * Placeholders of attribute values.
+     */
+    private final transient Map<String, AttributeValue> values;
+
+    /**
+     * Parts of clauses of the update expression, by their keywords.
+     */
+    private final transient Map<String, Collection<String>> clauses;
+
+    /**
+     * Public ctor.
+     */
+    Expressions() {
+        this.names = new LinkedHashMap<>(0);
+        this.values = new LinkedHashMap<>(0);
+        this.clauses = new LinkedHashMap<>(4);
+        this.clauses.put("SET", new ArrayList<>(0));
+        this.clauses.put("ADD", new ArrayList<>(0));
+        this.clauses.put("DELETE", new ArrayList<>(0));
+        this.clauses.put("REMOVE", new ArrayList<>(0));
+    }
+
+    /**
+     * Make a placeholder for attribute name.
+     * @param attr Attribute name
+     * @return Placeholder, like {@code #n0}
+     */
+    public String name(final String attr) {
+        String holder = null;
+        for (final Map.Entry<String, String> entry : this.names.entrySet()) {
+            if (entry.getValue().equals(attr)) {
+                holder = entry.getKey();
+                break;
+            }
+        }
+        if (holder == null) {
+            holder = String.format("#n%d", this.names.size());
+            this.names.put(holder, attr);
+        }
+        return holder;
+    }
+
+    /**
+     * Make a placeholder for attribute value.
+     * @param value The value
+     * @return Placeholder, like {@code :v0}
+     */
+    public String value(final AttributeValue value) {
+        final String holder = String.format(":v%d", this.values.size());
+        this.values.put(holder, value);
+        return holder;
+    }
+
+    /**
+     * Translate attribute updates into update expression.
+     * @param attrs Attribute updates
+     * @return Update expression
+     */
+    public String update(final Map<String, AttributeValueUpdate> attrs) {
+        for (final Map.Entry<String, AttributeValueUpdate> entry
+            : attrs.entrySet()) {
+            final AttributeValueUpdate upd = entry.getValue();
+            final AttributeAction action = upd.action();
+            if (action == AttributeAction.ADD) {
+                this.add(entry.getKey(), upd.value());
+            } else if (action == AttributeAction.DELETE) {
+                if (upd.value() == null) {
+                    this.remove(entry.getKey());
+                } else {
+                    this.delete(entry.getKey(), upd.value());
+                }
+            } else {
+                this.set(entry.getKey(), upd.value());
+            }
+        }
+        return this.update();
+    }
+
+    /**
+     * Update expression made of all actions translated so far.
+     * @return Update expression
+     */
+    public String update() {
+        final List<String> parts = new ArrayList<>(this.clauses.size());
+        for (final Map.Entry<String, Collection<String>> clause
+            : this.clauses.entrySet()) {
+            if (!clause.getValue().isEmpty()) {
+                parts.add(
+                    String.format(
+                        "%s %s", clause.getKey(),
+                        String.join(", ", clause.getValue())
+                    )
+                );
+            }
+        }
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Update expression must have at least one action"
+            );
+        }
+        return String.join(" ", parts);
+    }
+
+    /**
+     * Set the attribute.
+     * @param attr Attribute name
+     * @param value New value
+     */
+    public void set(final String attr, final AttributeValue value) {
+        this.clauses.get("SET").add(
+            String.format("%s = %s", this.name(attr), this.value(value))
+        );
+    }
+
+    /**
+     * Set the attribute, only if it doesn't exist yet.
+     * @param attr Attribute name
+     * @param value New value
+     */
+    public void setIfAbsent(final String attr, final AttributeValue value) {
+        this.clauses.get("SET").add(
+            String.format(
+                "%s = if_not_exists(%1$s, %s)",
+                this.name(attr), this.value(value)
+            )
+        );
+    }
+
+    /**
+     * Append to the list, creating it if it doesn't exist.
+     * @param attr Attribute name
+     * @param value List of elements to append
+     */
+    public void append(final String attr, final AttributeValue value) {
+        this.clauses.get("SET").add(
+            String.format(
+                "%s = list_append(if_not_exists(%1$s, %s), %s)",
+                this.name(attr),
+                this.value(
+                    AttributeValue.builder().l(Collections.emptyList()).build()
+                ),
+                this.value(value)
+            )
+        );
+    }
+
+    /**
+     * Add to the number, or to the set.
+     * @param attr Attribute name
+     * @param value Number or set to add
+     */
+    public void add(final String attr, final AttributeValue value) {
+        this.clauses.get("ADD").add(
+            String.format("%s %s", this.name(attr), this.value(value))
+        );
+    }
+
+    /**
+     * Delete elements from the set.
+     * @param attr Attribute name
+     * @param value Set of elements to delete
+     */
+    public void delete(final String attr, final AttributeValue value) {
+        this.clauses.get("DELETE").add(
+            String.format("%s %s", this.name(attr), this.value(value))
+        );
+    }
+
+    /**
+     * Remove the attribute.
+     * @param attr Attribute name
+     */
+    public void remove(final String attr) {
+        this.clauses.get("REMOVE").add(this.name(attr));
+    }
+
+    /**
+     * Translate conditions into condition expression.
+     * @param conds Conditions, all of them must be met
+     * @return Condition expression
+     */
+    public String condition(final Map<String, Condition> conds) {
+        final List<String> parts = new ArrayList<>(conds.size());
+        for (final Map.Entry<String, Condition> entry : conds.entrySet()) {
+            parts.add(this.condition(entry.getKey(), entry.getValue()));
+        }
+        return String.join(" AND ", parts);
+    }
+
+    /**
+     * Condition that requires these attributes to exist.
+     * @param attrs Attribute names
+     * @return Condition expression
+     */
+    public String exist(final Collection<String> attrs) {
+        final List<String> parts = new ArrayList<>(attrs.size());
+        for (final String attr : attrs) {
+            parts.add(String.format("attribute_exists(%s)", this.name(attr)));
+        }
+        return String.join(" AND ", parts);
+    }
+
+    /**
+     * Placeholders of attribute names collected so far.
+     * @return Map of placeholders or NULL if there are none
+     */
+    public Map<String, String> names() {
+        Map<String, String> map = null;
+        if (!this.names.isEmpty()) {
+            map = new LinkedHashMap<>(this.names);
+        }
+        return map;
+    }
+
+    /**
+     * Placeholders of attribute values collected so far.
+     * @return Map of placeholders or NULL if there are none
+     */
+    public Map<String, AttributeValue> values() {
+        Map<String, AttributeValue> map = null;
+        if (!this.values.isEmpty()) {
+            map = new LinkedHashMap<>(this.values);
+        }
+        return map;
+    }
+
+    /**
+     * Translate one condition.
+     * @param attr Attribute name
+     * @param cond The condition
+     * @return Condition expression
+     * @checkstyle CyclomaticComplexityCheck (60 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private String condition(final String attr, final Condition cond) {
+        final String name = this.name(attr);
+        final List<AttributeValue> args = cond.attributeValueList();
+        final ComparisonOperator operator = cond.comparisonOperator();
+        final String expr;
+        switch (operator) {
+            case EQ:
+                expr = String.format("%s = %s", name, this.value(args.get(0)));
+                break;
+            case NE:
+                expr = String.format("%s <> %s", name, this.value(args.get(0)));
+                break;
+            case LT:
+                expr = String.format("%s < %s", name, this.value(args.get(0)));
+                break;
+            case LE:
+                expr = String.format("%s <= %s", name, this.value(args.get(0)));
+                break;
+            case GT:
+                expr = String.format("%s > %s", name, this.value(args.get(0)));
+                break;
+            case GE:
+                expr = String.format("%s >= %s", name, this.value(args.get(0)));
+                break;
+            case NOT_NULL:
+                expr = String.format("attribute_exists(%s)", name);
+                break;
+            case NULL:
+                expr = String.format("attribute_not_exists(%s)", name);
+                break;
+            case CONTAINS:
+                expr = String.format(
+                    "contains(%s, %s)", name, this.value(args.get(0))
+                );
+                break;
+            case NOT_CONTAINS:
+                expr = String.format(
+                    "NOT contains(%s, %s)", name, this.value(args.get(0))
+                );
+                break;
+            case BEGINS_WITH:
+                expr = String.format(
+                    "begins_with(%s, %s)", name, this.value(args.get(0))
+                );
+                break;
+            case BETWEEN:
+                expr = String.format(
+                    "%s BETWEEN %s AND %s", name,
+                    this.value(args.get(0)), this.value(args.get(1))
+                );
+                break;
+            case IN:
+                final List<String> holders = new ArrayList<>(args.size());
+                for (final AttributeValue arg : args) {
+                    holders.add(this.value(arg));
+                }
+                expr = String.format(
+                    "%s IN (%s)", name, String.join(", ", holders)
+                );
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Comparison operator %s is not supported", operator
+                    )
+                );
+        }
+        return expr;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Fan-out of blocking DynamoDB calls.
+ *
+ * <p>All calls in this library are blocking. Instead of rewriting them
+ * in asynchronous style, this class dispatches them to a pool of threads,
+ * keeping at most the given number of them in flight at the same time.
+ * When running on JDK 21 or newer, every call gets its own virtual
+ * thread, which means that thousands of concurrent calls don't need
+ * thousands of platform threads. On older JDKs, a cached pool of daemon
+ * platform threads is used instead. For example:
+ *
+ * <pre> new Fanout(64).each(
+ *   table.frame().iterator(),
+ *   item -&gt; item.put("seen", new AttributeValueUpdate()...)
+ * );</pre>
+ *
+ * <p>Items are taken from the iterator by the calling thread only, so
+ * the iterator doesn't need to be thread-safe.
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = "concurrency")
+public final class Fanout {
+
+    /**
+     * Maximum number of calls in flight.
+     */
+    private final transient int concurrency;
+
+    /**
+     * Public ctor.
+     * @param max Maximum number of calls in flight
+     */
+    public Fanout(final int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException(
+                String.format("Concurrency must be positive: %d", max)
+            );
+        }
+        this.concurrency = max;
+    }
+
+    /**
+     * Run the action for every item.
+     *
+     * <p>The first failure stops the dispatching of new items and is
+     * re-thrown when all running calls are finished. Errors, like
+     * {@link AssertionError}, are re-thrown as they are.
+     *
+     * @param items Items to process
+     * @param action Action to run for each of them
+     * @param <T> Type of items
+     * @throws IOException If any of the actions fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public <T> void each(final Iterator<? extends T> items,
+        final Fanout.Action<? super T> action) throws IOException {
+        final ExecutorService service = Fanout.executor();
+        final Semaphore permits = new Semaphore(this.concurrency);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            while (failure.get() == null && items.hasNext()) {
+                final T item = items.next();
+                permits.acquire();
+                service.execute(
+                    () -> {
+                        try {
+                            action.act(item);
+                        // @checkstyle IllegalCatchCheck (1 line)
+                        } catch (final Throwable ex) {
+                            failure.compareAndSet(null, ex);
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                );
+            }
+            permits.acquire(this.concurrency);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        } finally {
+            service.shutdown();
+        }
+        Fanout.rethrow(failure.get());
+    }
+
+    /**
+     * Convert every item, in parallel.
+     * @param items Items to convert
+     * @param func Function to apply to each of them
+     * @param <T> Type of items
+     * @param <R> Type of results
+     * @return Results, in the same order as items
+     * @throws IOException If any of the functions fails
+     */
+    public <T, R> List<R> map(final Collection<? extends T> items,
+        final Fanout.Func<? super T, ? extends R> func) throws IOException {
+        final List<T> input = new ArrayList<>(items);
+        final Object[] results = new Object[input.size()];
+        this.each(
+            IntStream.range(0, input.size()).iterator(),
+            idx -> {
+                results[idx] = func.apply(input.get(idx));
+            }
+        );
+        @SuppressWarnings("unchecked")
+        final List<R> list = (List<R>) Arrays.asList(results);
+        return list;
+    }
+
+    /**
+     * Run the action for every item of the frame.
+     *
+     * <p>It implements {@link Frame#forEachParallel(Consumer, int)} for
+     * most frames of the library. Failures of the frame are wrapped
+     * into {@link IllegalStateException}, since the action can't
+     * throw checked exceptions.
+     *
+     * @param frame Frame to iterate
+     * @param action Action to run for each item
+     */
+    public void forEach(final Frame frame, final Consumer<Item> action) {
+        try {
+            this.each(frame.iterator(), action::accept);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Put every item into the table, with {@link Table#put(Map)}.
+     *
+     * <p>It implements {@link Table#putAll(Collection, int)} for most
+     * tables of the library.
+     *
+     * @param table Table to put items into
+     * @param items Attributes of the items to save
+     * @return Items just created, in the same order
+     * @throws IOException If any of the puts fails
+     */
+    public List<Item> putAll(final Table table,
+        final Collection<? extends Map<String, AttributeValue>> items)
+        throws IOException {
+        return this.map(items, table::put);
+    }
+
+    /**
+     * Make an executor, with virtual threads if the JDK has them.
+     * @return Executor service
+     */
+    private static ExecutorService executor() {
+        ExecutorService service;
+        try {
+            service = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (final NoSuchMethodException | IllegalAccessException
+            | InvocationTargetException ex) {
+            service = Executors.newCachedThreadPool(
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "fanout");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        }
+        return service;
+    }
+
+    /**
+     * Re-throw the failure, if any.
+     * @param failure The failure or NULL
+     * @throws IOException If it's an I/O failure
+     */
+    private static void rethrow(final Throwable failure) throws IOException {
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure != null) {
+            throw new IOException(failure);
+        }
+    }
+
+    /**
+     * Action to run for each item.
+     *
+     * @param <T> Type of items
+     * @since 0.23
+     */
+    @FunctionalInterface
+    public interface Action<T> {
+        /**
+         * Process one item.
+         * @param item The item
+         * @throws IOException If fails
+         */
+        void act(T item) throws IOException;
+    }
+
+    /**
+     * Function to apply to each item.
+     *
+     * @param <T> Type of items
+     * @param <R> Type of results
+     * @since 0.23
+     */
+    @FunctionalInterface
+    public interface Func<T, R> {
+        /**
+         * Convert one item.
+         * @param item The item
+         * @return Result
+         * @throws IOException If fails
+         */
+        R apply(T item) throws IOException;
+    }
+}
@@ -7,6 +7,8 @@ package com.jcabi.dynamo;
 import com.jcabi.aspects.Immutable;
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
 
 /**
@@ -16,12 +18,22 @@ import software.amazon.awssdk.services.dynamodb.model.Condition;
  * and remove them. {@link Frame} acts as an iterable immutable collection of
  * items. You can't use {@link Frame#remove(Object)} method directly. Instead,
  * find the right item using iterator and than remove it with
- * {@link java.util.Iterator#remove()}.
+ * {@link java.util.Iterator#remove()}. To remove many items at once, use
+ * {@link Frame#clear()} or {@link Frame#removeAll(Collection)}, they
+ * delete items in batches, with {@code BatchWriteItem}.
  *
  * <p>To fetch items from Dynamo DB, {@link Frame} uses
  * {@code Query} operation, with "consistent read" mode turned ON. It fetches
  * twenty items on every request.
  *
+ * <p>Iterators returned by {@link Frame#iterator()} are meant to be used
+ * by a single thread and are not synchronized. Wrap them into
+ * {@link SyncIterator} when they have to be shared between threads.
+ *
+ * <p>To process many items concurrently, use
+ * {@link Frame#forEachParallel(Consumer, int)}. It dispatches blocking
+ * calls made by the action through {@link Fanout}.
+ *
  * <p>Keep in mind that Frame object provides a very limited functionality
  * and is intended to be used in most cases, but not in all of them. When
  * you need something specific, just get an Amazon DynamoDB client from
@@ -82,4 +94,79 @@ public interface Frame extends Collection<Item> {
      */
     Frame through(Valve valve);
 
+    /**
+     * Decorate the valve, which the frame goes through now.
+     *
+     * <p>Unlike {@link #through(Valve)}, it keeps the valve, whichever
+     * it is, including the default one, and only wraps it, for example
+     * into {@link com.jcabi.dynamo.deadline.Deadline#valve(Valve)}.
+     *
+     * @param wrapper Function, which decorates the valve
+     * @return New frame
+     * @since 0.23
+     */
+    Frame wrap(UnaryOperator<Valve> wrapper);
+
+    /**
+     * Frame with no more than this number of items.
+     *
+     * <p>The iterator stops when the limit is reached and never fetches
+     * the next page after that. {@link QueryValve} and {@link ScanValve}
+     * also shrink the {@code Limit} of their requests to the number of
+     * items still needed, so the last page doesn't read more items
+     * than necessary.
+     *
+     * @param max Maximum number of items
+     * @return New frame
+     * @since 0.23
+     */
+    Frame limit(int max);
+
+    /**
+     * Fetch the first page of items, exactly as the valve returns it.
+     *
+     * <p>The page costs one request to DynamoDB. Its
+     * {@link Dosage#cursor()} can be given to
+     * {@link QueryValve#withCursor(Cursor)},
+     * {@link ScanValve#withCursor(Cursor)} or
+     * {@link PlannedValve#withCursor(Cursor)}, whichever the frame goes
+     * through, to fetch the next page later, maybe in another process.
+     *
+     * @return The page
+     * @since 0.23
+     */
+    Dosage page();
+
+    /**
+     * Explain what the frame is going to do and estimate its cost.
+     *
+     * <p>It reports the valve, the index and the split of conditions
+     * into keys and filters, whether the whole table is scanned, and how
+     * many pages and read capacity units it will take to iterate the
+     * frame. The estimates come from the size of the table, which
+     * DynamoDB reports in {@code DescribeTable}, so they don't cost
+     * any read capacity. With a positive sample, one request with
+     * {@code Select=COUNT} and this limit is made, to count the items
+     * exactly when there are not more of them than the sample. Only
+     * this request consumes read capacity.
+     *
+     * @param sample How many items to sample, zero for no sample
+     * @return Explanation
+     * @since 0.23
+     */
+    Explain explain(int sample);
+
+    /**
+     * Run the action for every item, in parallel.
+     *
+     * <p>Items are fetched by the calling thread, while the action is
+     * executed in a {@link Fanout}, with at most {@code concurrency}
+     * actions in flight. The method returns when all of them are finished.
+     *
+     * @param action Action to run for each item
+     * @param concurrency Maximum number of actions in flight
+     * @since 0.23
+     */
+    void forEachParallel(Consumer<Item> action, int concurrency);
+
 }
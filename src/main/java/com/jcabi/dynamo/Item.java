@@ -74,6 +74,31 @@ public interface Item {
     Map<String, AttributeValue> put(Map<String, AttributeValueUpdate> attrs)
         throws IOException;
 
+    /**
+     * Update the item with an update expression, in one call.
+     *
+     * <p>The item must exist and all conditions of the expression must
+     * be met, otherwise DynamoDB rejects the update with
+     * {@code ConditionalCheckFailedException}.
+     *
+     * @param expression The update expression
+     * @return Values returned by DynamoDB, according to
+     *  {@link UpdateExpression#returns()}, empty if nothing is returned
+     * @throws IOException In case of DynamoDB failure
+     * @since 0.23
+     */
+    Map<String, AttributeValue> update(UpdateExpression expression)
+        throws IOException;
+
+    /**
+     * Attributes, which are loaded already and can be read without
+     * calls to DynamoDB.
+     *
+     * @return Loaded attributes, maybe not all of them, maybe none
+     * @since 0.23
+     */
+    Map<String, AttributeValue> loaded();
+
     /**
      * Get back to the frame it is from.
      * @return Frame
@@ -0,0 +1,282 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.immutable.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Access path to the items of a frame, chosen by {@link PlannedValve}.
+ *
+ * <p>It is either a query on the table or on one of its indexes, by
+ * the hash key and maybe the range key, or a scan of the whole table.
+ * All other conditions are applied by DynamoDB as filters.
+ *
+ * @since 0.23
+ */
+@Immutable
+@EqualsAndHashCode
+public final class Plan {
+
+    /**
+     * Scan of the whole table.
+     */
+    public static final Plan SCAN = new Plan(
+        "", "", "", false, Collections.emptyList(), true
+    );
+
+    /**
+     * Operators, which DynamoDB accepts in key conditions on range keys.
+     */
+    private static final Array<ComparisonOperator> RANGE_OPS = new Array<>(
+        ComparisonOperator.EQ, ComparisonOperator.LE, ComparisonOperator.LT,
+        ComparisonOperator.GE, ComparisonOperator.GT,
+        ComparisonOperator.BEGINS_WITH, ComparisonOperator.BETWEEN
+    );
+
+    /**
+     * Name of the index, empty for the table itself.
+     */
+    private final transient String idx;
+
+    /**
+     * Name of the hash key, empty for a scan.
+     */
+    private final transient String hash;
+
+    /**
+     * Name of the range key, empty if there is none.
+     */
+    private final transient String range;
+
+    /**
+     * It is a global secondary index.
+     */
+    private final transient boolean global;
+
+    /**
+     * Attributes, which are projected into the index, besides its keys.
+     */
+    private final transient Array<String> projected;
+
+    /**
+     * All attributes are available through the index.
+     */
+    private final transient boolean complete;
+
+    /**
+     * Ctor.
+     * @param index Name of the index, empty for the table itself
+     * @param hsh Name of the hash key, empty for a scan
+     * @param rng Name of the range key, empty if there is none
+     * @param glb It is a global secondary index
+     * @param attrs Attributes, which are projected into the index
+     * @param all All attributes are available through the index
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    Plan(final String index, final String hsh, final String rng,
+        final boolean glb, final Collection<String> attrs,
+        final boolean all) {
+        this.idx = index;
+        this.hash = hsh;
+        this.range = rng;
+        this.global = glb;
+        this.projected = new Array<>(attrs);
+        this.complete = all;
+    }
+
+    /**
+     * Is it a scan of the whole table?
+     * @return TRUE if it is a scan
+     */
+    public boolean isScan() {
+        return this.hash.isEmpty();
+    }
+
+    /**
+     * Name of the index to query.
+     * @return Name of the index, empty for the table itself
+     */
+    public String index() {
+        return this.idx;
+    }
+
+    /**
+     * Names of the keys, which the query uses.
+     * @return Names of the hash and range keys, empty for a scan
+     */
+    public Collection<String> keys() {
+        final Collection<String> keys;
+        if (this.isScan()) {
+            keys = Collections.emptyList();
+        } else if (this.range.isEmpty()) {
+            keys = Collections.singletonList(this.hash);
+        } else {
+            keys = Arrays.asList(this.hash, this.range);
+        }
+        return keys;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder(0);
+        if (this.isScan()) {
+            text.append("scan of the table");
+        } else {
+            text.append("query by \"").append(this.hash).append('"');
+            if (!this.range.isEmpty()) {
+                text.append(" and \"").append(this.range).append('"');
+            }
+            if (this.idx.isEmpty()) {
+                text.append(" on the table");
+            } else if (this.global) {
+                text.append(" on global index \"")
+                    .append(this.idx).append('"');
+            } else {
+                text.append(" on local index \"")
+                    .append(this.idx).append('"');
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * This access path, narrowed to the given conditions.
+     * @param conditions Conditions of the frame
+     * @return The plan, {@link #SCAN} if the path can't be used
+     */
+    Plan narrow(final Map<String, Condition> conditions) {
+        Plan plan = Plan.SCAN;
+        final Condition cond = conditions.get(this.hash);
+        if (!this.isScan() && cond != null
+            && cond.comparisonOperator() == ComparisonOperator.EQ
+            && cond.attributeValueList().size() == 1
+            && this.covers(conditions.keySet())) {
+            String rng = "";
+            final Condition more = conditions.get(this.range);
+            if (!this.range.isEmpty() && more != null
+                && Plan.RANGE_OPS.contains(more.comparisonOperator())) {
+                rng = this.range;
+            }
+            plan = new Plan(
+                this.idx, this.hash, rng, this.global,
+                this.projected, this.complete
+            );
+        }
+        return plan;
+    }
+
+    /**
+     * Is it a query on a global secondary index?
+     * @return TRUE if it is
+     */
+    boolean isGlobal() {
+        return this.global;
+    }
+
+    /**
+     * Conditions, which are not on its keys.
+     * @param conditions Conditions of the frame
+     * @return Conditions to filter by, after reading
+     */
+    Conditions filter(final Map<String, Condition> conditions) {
+        Conditions filter = new Conditions();
+        for (final Map.Entry<String, Condition> cond
+            : conditions.entrySet()) {
+            if (!this.keys().contains(cond.getKey())) {
+                filter = filter.with(cond.getKey(), cond.getValue());
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * How good is it, the bigger the better.
+     * @return Score
+     */
+    int score() {
+        final int score;
+        if (this.isScan()) {
+            score = 0;
+        } else if (this.range.isEmpty()) {
+            score = 1;
+        } else {
+            score = 2;
+        }
+        return score;
+    }
+
+    /**
+     * The valve, which follows this plan.
+     * @param conditions Conditions of the frame
+     * @return The valve
+     */
+    BoundedValve valve(final Map<String, Condition> conditions) {
+        return this.valve(conditions, Cursor.EMPTY);
+    }
+
+    /**
+     * The valve, which follows this plan, starting after the cursor.
+     * @param conditions Conditions of the frame
+     * @param cursor Cursor of a previous page
+     * @return The valve
+     */
+    BoundedValve valve(final Map<String, Condition> conditions,
+        final Cursor cursor) {
+        final BoundedValve valve;
+        if (this.isScan()) {
+            valve = new ScanValve().withCursor(cursor);
+        } else {
+            valve = new QueryValve()
+                .withIndexName(this.idx)
+                .withConsistentRead(!this.global)
+                .withQueryFilter(this.filter(conditions))
+                .withCursor(cursor);
+        }
+        return valve;
+    }
+
+    /**
+     * Conditions to give to the valve.
+     * @param conditions Conditions of the frame
+     * @return Key conditions for a query, all of them for a scan
+     */
+    Conditions conditions(final Map<String, Condition> conditions) {
+        Conditions conds = new Conditions(conditions);
+        if (!this.isScan()) {
+            conds = new Conditions();
+            for (final String key : this.keys()) {
+                conds = conds.with(key, conditions.get(key));
+            }
+        }
+        return conds;
+    }
+
+    /**
+     * Are all these attributes available through the index?
+     * @param attrs Names of attributes
+     * @return TRUE if all of them are available
+     */
+    private boolean covers(final Collection<String> attrs) {
+        boolean covers = true;
+        if (!this.complete) {
+            for (final String attr : attrs) {
+                if (!attr.equals(this.hash) && !attr.equals(this.range)
+                    && !this.projected.contains(attr)) {
+                    covers = false;
+                    break;
+                }
+            }
+        }
+        return covers;
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Cacheable;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.IndexStatus;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.LocalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+/**
+ * Valve, which picks the cheapest access path for the conditions.
+ *
+ * <p>It knows the keys of the table and of its local and global
+ * secondary indexes, from {@code DescribeTable}, which is cached for
+ * a few minutes. When conditions fix the hash key of the table or of
+ * an index, it queries it, preferring the one whose range key is also
+ * in the conditions, and the table over its indexes. A global index is
+ * used only if all attributes in the conditions are projected into it.
+ * The table is scanned only when nothing else is possible, or when the
+ * table can't be described, for example when the credentials are not
+ * allowed to call {@code DescribeTable}. This is the valve of
+ * {@link Frame}, unless another one is given to
+ * {@link Frame#through(Valve)}. Call {@link #plan(Credentials, String, Map)}
+ * to see what it would do, for example:
+ *
+ * <pre>Plan plan = new PlannedValve().plan(
+ *   credentials, "users", new Conditions().with("email", "jeff@me.com")
+ * );</pre>
+ *
+ * <p>A {@link Cursor} of a page, fetched through this valve, can be
+ * given to {@link #withCursor(Cursor)}, to fetch the next page. The
+ * same conditions lead to the same plan, so the next page is read from
+ * the same table or index, as long as its description in the cache
+ * doesn't change.
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode
+public final class PlannedValve implements BoundedValve {
+
+    /**
+     * Where to start, empty to start from the beginning.
+     */
+    private final transient Cursor start;
+
+    /**
+     * Public ctor.
+     */
+    public PlannedValve() {
+        this(Cursor.EMPTY);
+    }
+
+    /**
+     * Public ctor.
+     * @param cursor Where to start
+     */
+    private PlannedValve(final Cursor cursor) {
+        this.start = cursor;
+    }
+
+    // @checkstyle ParameterNumber (5 lines)
+    @Override
+    public Dosage fetch(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions, final Collection<String> keys)
+        throws IOException {
+        return this.fetch(
+            credentials, table, conditions, keys, Integer.MAX_VALUE
+        );
+    }
+
+    // @checkstyle ParameterNumber (5 lines)
+    @Override
+    public Dosage fetch(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions, final Collection<String> keys,
+        final int max) throws IOException {
+        final Plan plan = this.plan(credentials, table, conditions);
+        Logger.info(this, "#fetch(): %s of '%s'", plan, table);
+        return plan.valve(conditions, this.start).fetch(
+            credentials, table, plan.conditions(conditions), keys, max
+        );
+    }
+
+    @Override
+    public int count(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions) throws IOException {
+        final Plan plan = this.plan(credentials, table, conditions);
+        Logger.info(this, "#count(): %s of '%s'", plan, table);
+        return plan.valve(conditions).count(
+            credentials, table, plan.conditions(conditions)
+        );
+    }
+
+    @Override
+    public Valve origin() {
+        return this;
+    }
+
+    /**
+     * Starting right after this cursor.
+     * @param cursor Cursor of a previous page
+     * @return New planned valve
+     */
+    public PlannedValve withCursor(final Cursor cursor) {
+        return new PlannedValve(cursor);
+    }
+
+    /**
+     * The cheapest access path for these conditions.
+     * @param credentials Credentials
+     * @param table Table name
+     * @param conditions Conditions of the frame
+     * @return The plan, a scan if the table can't be described
+     * @throws IOException If fails
+     */
+    public Plan plan(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions) throws IOException {
+        Plan best = Plan.SCAN;
+        if (PlannedValve.fixed(conditions)) {
+            for (final Plan path : PlannedValve.known(credentials, table)) {
+                final Plan plan = path.narrow(conditions);
+                if (plan.score() > best.score()) {
+                    best = plan;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Is any attribute fixed to one value by the conditions?
+     *
+     * <p>If none of them are, there is nothing to query by, and the table
+     * doesn't have to be described.
+     *
+     * @param conditions Conditions
+     * @return TRUE if some attribute is fixed
+     */
+    private static boolean fixed(final Map<String, Condition> conditions) {
+        boolean fixed = false;
+        for (final Condition cond : conditions.values()) {
+            if (cond.comparisonOperator() == ComparisonOperator.EQ) {
+                fixed = true;
+                break;
+            }
+        }
+        return fixed;
+    }
+
+    /**
+     * All access paths of the table, or none if it can't be described.
+     * @param credentials Credentials
+     * @param table Table name
+     * @return Access paths
+     */
+    private static List<Plan> known(final Credentials credentials,
+        final String table) {
+        List<Plan> paths;
+        try {
+            paths = PlannedValve.paths(credentials, table);
+        } catch (final IOException ex) {
+            Logger.warn(
+                PlannedValve.class,
+                "#known(): can't plan access to '%s', will scan: %[exception]s",
+                table, ex
+            );
+            paths = new LinkedList<>();
+        }
+        return paths;
+    }
+
+    /**
+     * Description of the table, cached for a few minutes.
+     * @param credentials Credentials
+     * @param table Table name
+     * @return Description
+     * @throws IOException If fails to describe the table
+     */
+    @Cacheable(lifetime = 10, unit = TimeUnit.MINUTES)
+    static TableDescription describe(final Credentials credentials,
+        final String table) throws IOException {
+        final DynamoDbClient aws = credentials.aws();
+        try {
+            final TableDescription desc = aws.describeTable(
+                DescribeTableRequest.builder().tableName(table).build()
+            ).table();
+            Logger.info(
+                PlannedValve.class, "#describe(): table %s described", table
+            );
+            return desc;
+        } catch (final SdkException ex) {
+            throw new IOException(
+                String.format("Failed to describe \"%s\"", table),
+                ex
+            );
+        } finally {
+            aws.close();
+        }
+    }
+
+    /**
+     * All access paths of the table: the table itself, then its local
+     * indexes, then its active global indexes.
+     * @param credentials Credentials
+     * @param table Table name
+     * @return Access paths
+     * @throws IOException If fails to describe the table
+     */
+    static List<Plan> paths(final Credentials credentials,
+        final String table) throws IOException {
+        final TableDescription desc = PlannedValve.describe(
+            credentials, table
+        );
+        final List<String> primary = PlannedValve.keys(desc.keySchema());
+        final List<Plan> paths = new LinkedList<>();
+        paths.add(PlannedValve.path("", primary, false, primary, null));
+        for (final LocalSecondaryIndexDescription lsi
+            : desc.localSecondaryIndexes()) {
+            paths.add(
+                PlannedValve.path(
+                    lsi.indexName(), PlannedValve.keys(lsi.keySchema()),
+                    false, primary, null
+                )
+            );
+        }
+        for (final GlobalSecondaryIndexDescription gsi
+            : desc.globalSecondaryIndexes()) {
+            if (gsi.indexStatus() == IndexStatus.ACTIVE) {
+                paths.add(
+                    PlannedValve.path(
+                        gsi.indexName(), PlannedValve.keys(gsi.keySchema()),
+                        true, primary, gsi.projection()
+                    )
+                );
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Make an access path.
+     * @param index Name of the index, empty for the table
+     * @param keys Hash and maybe range keys of it
+     * @param global It is a global index
+     * @param primary Keys of the table
+     * @param projection Projection of a global index, NULL otherwise
+     * @return Access path
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private static Plan path(final String index, final List<String> keys,
+        final boolean global, final Collection<String> primary,
+        final Projection projection) {
+        final Collection<String> attrs = new LinkedList<>(primary);
+        boolean all = true;
+        if (projection != null
+            && projection.projectionType() != ProjectionType.ALL) {
+            all = false;
+            attrs.addAll(projection.nonKeyAttributes());
+        }
+        String range = "";
+        if (keys.size() > 1) {
+            range = keys.get(1);
+        }
+        return new Plan(index, keys.get(0), range, global, attrs, all);
+    }
+
+    /**
+     * Names of keys, the hash key first.
+     * @param schema Key schema
+     * @return Names of keys
+     */
+    private static List<String> keys(final List<KeySchemaElement> schema) {
+        final List<String> keys = new LinkedList<>();
+        for (final KeySchemaElement key : schema) {
+            if (key.keyType() == KeyType.HASH) {
+                keys.add(0, key.attributeName());
+            } else {
+                keys.add(key.attributeName());
+            }
+        }
+        return keys;
+    }
+}
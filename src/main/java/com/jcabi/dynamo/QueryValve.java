@@ -35,8 +35,8 @@ import software.amazon.awssdk.services.dynamodb.model.Select;
 @Immutable
 @ToString
 @Loggable(Loggable.DEBUG)
-@EqualsAndHashCode(of = { "limit", "forward" })
-public final class QueryValve implements Valve {
+@EqualsAndHashCode(of = { "limit", "forward", "start", "filter" })
+public final class QueryValve implements BoundedValve {
 
     /**
      * Limit to use for every query.
@@ -69,13 +69,24 @@ public final class QueryValve implements Valve {
      */
     private final transient boolean consistent;
 
+    /**
+     * Where to start the first query.
+     */
+    private final transient Cursor start;
+
+    /**
+     * Conditions on attributes, which are not keys.
+     */
+    private final transient Conditions filter;
+
     /**
      * Public ctor.
      */
     public QueryValve() {
         this(
             20, true, new ArrayList<>(0),
-            "", Select.SPECIFIC_ATTRIBUTES.toString(), true
+            "", Select.SPECIFIC_ATTRIBUTES.toString(), true, Cursor.EMPTY,
+            new Conditions()
         );
     }
 
@@ -87,17 +98,22 @@ public final class QueryValve implements Valve {
      * @param idx Index name or empty string
      * @param slct Select
      * @param cnst Consistent read
+     * @param first Where to start the first query
+     * @param conds Conditions on attributes, which are not keys
      * @checkstyle ParameterNumber (5 lines)
      */
     private QueryValve(final int lmt, final boolean fwd,
         final Iterable<String> attrs, final String idx,
-        final String slct, final boolean cnst) {
+        final String slct, final boolean cnst, final Cursor first,
+        final Conditions conds) {
         this.limit = lmt;
         this.forward = fwd;
         this.attributes = Iterables.toArray(attrs, String.class);
         this.index = idx;
         this.select = slct;
         this.consistent = cnst;
+        this.start = first;
+        this.filter = conds;
     }
 
     // @checkstyle ParameterNumber (5 lines)
@@ -105,6 +121,16 @@ public final class QueryValve implements Valve {
     public Dosage fetch(final Credentials credentials, final String table,
         final Map<String, Condition> conditions, final Collection<String> keys)
         throws IOException {
+        return this.fetch(
+            credentials, table, conditions, keys, Integer.MAX_VALUE
+        );
+    }
+
+    // @checkstyle ParameterNumber (5 lines)
+    @Override
+    public Dosage fetch(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions, final Collection<String> keys,
+        final int max) throws IOException {
         final DynamoDbClient aws = credentials.aws();
         try {
             final Collection<String> attrs = new HashSet<>(
@@ -118,13 +144,19 @@ public final class QueryValve implements Valve {
                 .consistentRead(this.consistent)
                 .scanIndexForward(this.forward)
                 .select(this.select)
-                .limit(this.limit);
+                .limit(Math.min(this.limit, max));
             if (this.select.equals(Select.SPECIFIC_ATTRIBUTES.toString())) {
                 bld = bld.attributesToGet(attrs);
             }
             if (!this.index.isEmpty()) {
                 bld = bld.indexName(this.index);
             }
+            if (!this.start.isEmpty()) {
+                bld = bld.exclusiveStartKey(this.start.key());
+            }
+            if (!this.filter.isEmpty()) {
+                bld = bld.queryFilter(this.filter);
+            }
             final QueryRequest request = bld.build();
             final QueryResponse result = aws.query(request);
             Logger.info(
@@ -138,7 +170,9 @@ public final class QueryValve implements Valve {
                     result.consumedCapacity()
                 ).print()
             );
-            return new QueryValve.NextDosage(credentials, request, result);
+            return new QueryValve.NextDosage(
+                credentials, request, result, max - result.items().size()
+            );
         } catch (final SdkClientException ex) {
             throw new IOException(
                 String.format(
@@ -167,6 +201,9 @@ public final class QueryValve implements Valve {
             if (!this.index.isEmpty()) {
                 bld = bld.indexName(this.index);
             }
+            if (!this.filter.isEmpty()) {
+                bld = bld.queryFilter(this.filter);
+            }
             final QueryRequest request = bld.build();
             final QueryResponse rslt = aws.query(request);
             Logger.info(
@@ -192,6 +229,11 @@ public final class QueryValve implements Valve {
         }
     }
 
+    @Override
+    public Valve origin() {
+        return this;
+    }
+
     /**
      * With consistent read.
      * @param cnst Consistent read
@@ -204,7 +246,8 @@ public final class QueryValve implements Valve {
         return new QueryValve(
             this.limit, this.forward,
             Arrays.asList(this.attributes),
-            this.index, this.select, cnst
+            this.index, this.select, cnst,
+            this.start, this.filter
         );
     }
 
@@ -220,7 +263,8 @@ public final class QueryValve implements Valve {
         return new QueryValve(
             this.limit, this.forward,
             Arrays.asList(this.attributes),
-            idx, this.select, this.consistent
+            idx, this.select, this.consistent,
+            this.start, this.filter
         );
     }
 
@@ -236,7 +280,8 @@ public final class QueryValve implements Valve {
         return new QueryValve(
             this.limit, this.forward,
             Arrays.asList(this.attributes), this.index,
-            slct.toString(), this.consistent
+            slct.toString(), this.consistent,
+            this.start, this.filter
         );
     }
 
@@ -251,7 +296,8 @@ public final class QueryValve implements Valve {
         return new QueryValve(
             lmt, this.forward,
             Arrays.asList(this.attributes),
-            this.index, this.select, this.consistent
+            this.index, this.select, this.consistent,
+            this.start, this.filter
         );
     }
 
@@ -266,7 +312,8 @@ public final class QueryValve implements Valve {
         return new QueryValve(
             this.limit, fwd,
             Arrays.asList(this.attributes),
-            this.index, this.select, this.consistent
+            this.index, this.select, this.consistent,
+            this.start, this.filter
         );
     }
 
@@ -284,7 +331,8 @@ public final class QueryValve implements Valve {
                 Arrays.asList(this.attributes),
                 Collections.singleton(name)
             ),
-            this.index, this.select, this.consistent
+            this.index, this.select, this.consistent,
+            this.start, this.filter
         );
     }
 
@@ -303,10 +351,118 @@ public final class QueryValve implements Valve {
                 Arrays.asList(names)
             ),
             this.index,
-            this.select, this.consistent
+            this.select, this.consistent,
+            this.start, this.filter
+        );
+    }
+
+    /**
+     * Starting right after this cursor.
+     * @param cursor Cursor of a previous page
+     * @return New query valve
+     * @see QueryRequest#exclusiveStartKey()
+     * @since 0.23
+     */
+    public QueryValve withCursor(final Cursor cursor) {
+        return new QueryValve(
+            this.limit, this.forward,
+            Arrays.asList(this.attributes),
+            this.index, this.select, this.consistent,
+            cursor,
+            this.filter
+        );
+    }
+
+    /**
+     * With these conditions on attributes, which are not keys.
+     *
+     * <p>They are applied by DynamoDB after the items are read, so they
+     * don't make the query cheaper, but make its response smaller.
+     *
+     * @param conds Conditions
+     * @return New query valve
+     * @see QueryRequest#queryFilter()
+     * @since 0.23
+     */
+    public QueryValve withQueryFilter(final Map<String, Condition> conds) {
+        return new QueryValve(
+            this.limit, this.forward,
+            Arrays.asList(this.attributes),
+            this.index, this.select, this.consistent,
+            this.start, new Conditions(conds)
         );
     }
 
+    /**
+     * Is the order of range keys ascending?
+     * @return TRUE if the index is scanned forward
+     * @since 0.23
+     */
+    public boolean forward() {
+        return this.forward;
+    }
+
+    /**
+     * Name of the index to query.
+     * @return Index name, empty for the table
+     * @since 0.23
+     */
+    public String index() {
+        return this.index;
+    }
+
+    /**
+     * Maximum number of items in a page.
+     * @return The limit
+     * @since 0.23
+     */
+    public int limit() {
+        return this.limit;
+    }
+
+    /**
+     * Where the query starts.
+     * @return Cursor of a previous page, empty to start from the beginning
+     * @since 0.23
+     */
+    public Cursor cursor() {
+        return this.start;
+    }
+
+    /**
+     * Conditions on attributes, which are not keys.
+     * @return Conditions of the query filter, empty if there are none
+     * @since 0.23
+     */
+    public Conditions filter() {
+        return this.filter;
+    }
+
+    /**
+     * Names of attributes to pre-fetch, besides the keys.
+     * @return Names of attributes, empty if none are requested
+     * @since 0.23
+     */
+    public Collection<String> attributes() {
+        final Collection<String> attrs;
+        if (this.select.equals(Select.SPECIFIC_ATTRIBUTES.toString())) {
+            attrs = Collections.unmodifiableList(
+                Arrays.asList(this.attributes)
+            );
+        } else {
+            attrs = Collections.emptyList();
+        }
+        return attrs;
+    }
+
+    /**
+     * Is the read consistent?
+     * @return TRUE if it is
+     */
+    boolean consistent() {
+        return this.consistent;
+    }
+
     /**
      * Next dosage.
      *
@@ -314,7 +470,9 @@ public final class QueryValve implements Valve {
      */
     @ToString
     @Loggable(Loggable.DEBUG)
-    @EqualsAndHashCode(of = { "credentials", "request", "result" })
+    @EqualsAndHashCode(
+        of = { "credentials", "request", "result", "remaining" }
+    )
     private final class NextDosage implements Dosage {
         /**
          * AWS client.
@@ -331,17 +489,25 @@ public final class QueryValve implements Valve {
          */
         private final transient QueryResponse result;
 
+        /**
+         * How many more items may be fetched.
+         */
+        private final transient int remaining;
+
         /**
          * Public ctor.
          * @param creds Credentials
          * @param rqst Query request
          * @param rslt Query response
+         * @param left How many more items may be fetched
+         * @checkstyle ParameterNumber (5 lines)
          */
         NextDosage(final Credentials creds, final QueryRequest rqst,
-            final QueryResponse rslt) {
+            final QueryResponse rslt, final int left) {
             this.credentials = creds;
             this.request = rqst;
             this.result = rslt;
+            this.remaining = left;
         }
 
         @Override
@@ -349,9 +515,15 @@ public final class QueryValve implements Valve {
             return this.result.items();
         }
 
+        @Override
+        public Cursor cursor() {
+            return new Cursor(this.result.lastEvaluatedKey());
+        }
+
         @Override
         public boolean hasNext() {
-            return !this.result.lastEvaluatedKey().isEmpty();
+            return !this.result.lastEvaluatedKey().isEmpty()
+                && this.remaining > 0;
         }
 
         @Override
@@ -367,6 +539,7 @@ public final class QueryValve implements Valve {
                     .exclusiveStartKey(
                         this.result.lastEvaluatedKey()
                     )
+                    .limit(Math.min(QueryValve.this.limit, this.remaining))
                     .build();
                 final QueryResponse rslt = aws.query(rqst);
                 Logger.info(
@@ -380,7 +553,10 @@ public final class QueryValve implements Valve {
                         rslt.consumedCapacity()
                     ).print()
                 );
-                return new QueryValve.NextDosage(this.credentials, rqst, rslt);
+                return new QueryValve.NextDosage(
+                    this.credentials, rqst, rslt,
+                    this.remaining - rslt.items().size()
+                );
             } finally {
                 aws.close();
             }
@@ -6,6 +6,9 @@ package com.jcabi.dynamo;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -47,6 +50,33 @@ public interface Region {
      */
     Table table(String name);
 
+    /**
+     * Start a new transaction.
+     *
+     * <p>Operations added to the transaction are committed in one
+     * {@code TransactWriteItems} call, see {@link Transaction}.
+     *
+     * @return Empty transaction
+     * @since 0.23
+     */
+    Transaction transaction();
+
+    /**
+     * Read all attributes of a few items, as a consistent snapshot.
+     *
+     * <p>Items may belong to different tables and are usually obtained
+     * from frames. All of them are read in one {@code TransactGetItems}
+     * call, so either all of them are read as of the same moment, or the
+     * call fails. No more than 100 items may be read together.
+     *
+     * @param items Items to read
+     * @return Fully loaded items, in the same order
+     * @throws IOException In case of DynamoDB failure
+     * @since 0.23
+     */
+    List<Item> readTogether(Collection<? extends Item> items)
+        throws IOException;
+
     /**
      * Simple region, basic implementation.
      *
@@ -79,6 +109,17 @@ public interface Region {
         public Table table(final String name) {
             return new AwsTable(this.credentials, this, name);
         }
+
+        @Override
+        public Transaction transaction() {
+            return new AwsTransaction(this.credentials);
+        }
+
+        @Override
+        public List<Item> readTogether(final Collection<? extends Item> items)
+            throws IOException {
+            return new AwsSnapshot(this.credentials).read(items);
+        }
     }
 
     /**
@@ -135,6 +176,17 @@ public interface Region {
                 new StringBuilder(this.prefix).append(name).toString()
             );
         }
+
+        @Override
+        public Transaction transaction() {
+            return this.origin.transaction();
+        }
+
+        @Override
+        public List<Item> readTogether(final Collection<? extends Item> items)
+            throws IOException {
+            return this.origin.readTogether(items);
+        }
     }
 
 }
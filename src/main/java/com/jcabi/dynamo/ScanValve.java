@@ -35,8 +35,8 @@ import software.amazon.awssdk.services.dynamodb.model.Select;
 @Immutable
 @ToString
 @Loggable(Loggable.DEBUG)
-@EqualsAndHashCode(of = { "limit", "attributes" })
-public final class ScanValve implements Valve {
+@EqualsAndHashCode(of = { "limit", "attributes", "start" })
+public final class ScanValve implements BoundedValve {
 
     /**
      * Limit to use for every query.
@@ -49,21 +49,29 @@ public final class ScanValve implements Valve {
     @Immutable.Array
     private final transient String[] attributes;
 
+    /**
+     * Where to start the first scan.
+     */
+    private final transient Cursor start;
+
     /**
      * Public ctor.
      */
     public ScanValve() {
-        this(100, new ArrayList<>(0));
+        this(100, new ArrayList<>(0), Cursor.EMPTY);
     }
 
     /**
      * Public ctor.
      * @param lmt Limit
      * @param attrs Attributes to pre-load
+     * @param first Where to start the first scan
      */
-    private ScanValve(final int lmt, final Iterable<String> attrs) {
+    private ScanValve(final int lmt, final Iterable<String> attrs,
+        final Cursor first) {
         this.limit = lmt;
         this.attributes = Iterables.toArray(attrs, String.class);
+        this.start = first;
     }
 
     // @checkstyle ParameterNumber (5 lines)
@@ -71,19 +79,32 @@ public final class ScanValve implements Valve {
     public Dosage fetch(final Credentials credentials,
         final String table, final Map<String, Condition> conditions,
         final Collection<String> keys) throws IOException {
+        return this.fetch(
+            credentials, table, conditions, keys, Integer.MAX_VALUE
+        );
+    }
+
+    // @checkstyle ParameterNumber (5 lines)
+    @Override
+    public Dosage fetch(final Credentials credentials,
+        final String table, final Map<String, Condition> conditions,
+        final Collection<String> keys, final int max) throws IOException {
         final DynamoDbClient aws = credentials.aws();
         try {
             final Collection<String> attrs = new HashSet<>(
                 Arrays.asList(this.attributes)
             );
             attrs.addAll(keys);
-            final ScanRequest request = ScanRequest.builder()
+            ScanRequest.Builder bld = ScanRequest.builder()
                 .tableName(table)
                 .attributesToGet(attrs)
                 .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
                 .scanFilter(conditions)
-                .limit(this.limit)
-                .build();
+                .limit(Math.min(this.limit, max));
+            if (!this.start.isEmpty()) {
+                bld = bld.exclusiveStartKey(this.start.key());
+            }
+            final ScanRequest request = bld.build();
             final ScanResponse result = aws.scan(request);
             Logger.info(
                 this,
@@ -96,7 +117,9 @@ public final class ScanValve implements Valve {
                     result.consumedCapacity()
                 ).print()
             );
-            return new ScanValve.NextDosage(credentials, request, result);
+            return new ScanValve.NextDosage(
+                credentials, request, result, max - result.items().size()
+            );
         } catch (final SdkClientException ex) {
             throw new IOException(
                 String.format(
@@ -139,13 +162,18 @@ public final class ScanValve implements Valve {
         }
     }
 
+    @Override
+    public Valve origin() {
+        return this;
+    }
+
     /**
      * With given limit.
      * @param lmt Limit to use
      * @return New query valve
      */
     public ScanValve withLimit(final int lmt) {
-        return new ScanValve(lmt, Arrays.asList(this.attributes));
+        return new ScanValve(lmt, Arrays.asList(this.attributes), this.start);
     }
 
     /**
@@ -159,7 +187,8 @@ public final class ScanValve implements Valve {
             Iterables.concat(
                 Arrays.asList(this.attributes),
                 Collections.singletonList(name)
-            )
+            ),
+            this.start
         );
     }
 
@@ -174,10 +203,41 @@ public final class ScanValve implements Valve {
             Iterables.concat(
                 Arrays.asList(this.attributes),
                 Arrays.asList(names)
-            )
+            ),
+            this.start
+        );
+    }
+
+    /**
+     * Starting right after this cursor.
+     * @param cursor Cursor of a previous page
+     * @return New scan valve
+     * @since 0.23
+     */
+    public ScanValve withCursor(final Cursor cursor) {
+        return new ScanValve(
+            this.limit, Arrays.asList(this.attributes), cursor
         );
     }
 
+    /**
+     * Maximum number of items in a page.
+     * @return The limit
+     * @since 0.23
+     */
+    public int limit() {
+        return this.limit;
+    }
+
+    /**
+     * Where the scan starts.
+     * @return Cursor of a previous page, empty to start from the beginning
+     * @since 0.23
+     */
+    public Cursor cursor() {
+        return this.start;
+    }
+
     /**
      * Next dosage.
      *
@@ -185,7 +245,9 @@ public final class ScanValve implements Valve {
      */
     @ToString
     @Loggable(Loggable.DEBUG)
-    @EqualsAndHashCode(of = { "credentials", "request", "result" })
+    @EqualsAndHashCode(
+        of = { "credentials", "request", "result", "remaining" }
+    )
     private final class NextDosage implements Dosage {
         /**
          * AWS client.
@@ -202,17 +264,25 @@ public final class ScanValve implements Valve {
          */
         private final transient ScanResponse result;
 
+        /**
+         * How many more items may be fetched.
+         */
+        private final transient int remaining;
+
         /**
          * Public ctor.
          * @param creds Credentials
          * @param rqst Scan request
          * @param rslt Scan response
+         * @param left How many more items may be fetched
+         * @checkstyle ParameterNumber (5 lines)
          */
         NextDosage(final Credentials creds, final ScanRequest rqst,
-            final ScanResponse rslt) {
+            final ScanResponse rslt, final int left) {
             this.credentials = creds;
             this.request = rqst;
             this.result = rslt;
+            this.remaining = left;
         }
 
         @Override
@@ -220,9 +290,15 @@ public final class ScanValve implements Valve {
             return this.result.items();
         }
 
+        @Override
+        public Cursor cursor() {
+            return new Cursor(this.result.lastEvaluatedKey());
+        }
+
         @Override
         public boolean hasNext() {
-            return !this.result.lastEvaluatedKey().isEmpty();
+            return !this.result.lastEvaluatedKey().isEmpty()
+                && this.remaining > 0;
         }
 
         @Override
@@ -238,6 +314,7 @@ public final class ScanValve implements Valve {
                     .exclusiveStartKey(
                         this.result.lastEvaluatedKey()
                     )
+                    .limit(Math.min(ScanValve.this.limit, this.remaining))
                     .build();
                 final ScanResponse rslt = aws.scan(rqst);
                 Logger.info(
@@ -250,7 +327,10 @@ public final class ScanValve implements Valve {
                         rslt.consumedCapacity()
                     ).print()
                 );
-                return new ScanValve.NextDosage(this.credentials, rqst, rslt);
+                return new ScanValve.NextDosage(
+                    this.credentials, rqst, rslt,
+                    this.remaining - rslt.items().size()
+                );
             } finally {
                 aws.close();
             }
@@ -0,0 +1,455 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.google.common.primitives.UnsignedBytes;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Valve, which queries many hash keys at once and merges them by
+ * range key.
+ *
+ * <p>It is useful when writes are sharded by a suffix of the hash
+ * key, for example:
+ *
+ * <pre>Frame frame = table.frame()
+ *   .through(
+ *     new ShardedValve(
+ *       new QueryValve().withScanIndexForward(false),
+ *       "user", "time", "jeff-0", "jeff-1", "jeff-2", "jeff-3"
+ *     )
+ *   );</pre>
+ *
+ * <p>The frame then iterates items of all shards, ordered by the range
+ * key in the direction of the query valve. The first pages of all
+ * shards are fetched in parallel. Then a shard gets its next page only
+ * when all its items are merged, so there is no more than one page
+ * per shard in memory. Hash key conditions of the frame, if any,
+ * are replaced by the shards.
+ *
+ * <p>With {@link Frame#limit(int)}, pages of every shard are made
+ * smaller, so all shards together read no more than about the limit
+ * plus one page per shard, instead of the limit per shard.
+ *
+ * <p>Merged dosages don't have a single {@link Cursor}, since every
+ * shard stops at its own position. The cursor of the last merged
+ * dosage is empty, while {@link Dosage#cursor()} of any other one
+ * throws {@link IllegalStateException}. For the same reason, the query
+ * valve can't have a cursor of its own.
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = { "origin", "hash", "range", "shards" })
+public final class ShardedValve implements BoundedValve {
+
+    /**
+     * Valve to query every shard.
+     */
+    private final transient QueryValve origin;
+
+    /**
+     * Name of the hash key.
+     */
+    private final transient String hash;
+
+    /**
+     * Name of the range key to merge by.
+     */
+    private final transient String range;
+
+    /**
+     * Values of the hash key.
+     */
+    @Immutable.Array
+    private final transient String[] shards;
+
+    /**
+     * Public ctor.
+     * @param valve Valve to query every shard
+     * @param hsh Name of the hash key
+     * @param rng Name of the range key to merge by
+     * @param values Values of the hash key
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    public ShardedValve(final QueryValve valve, final String hsh,
+        final String rng, final String... values) {
+        this(valve, hsh, rng, Arrays.asList(values));
+    }
+
+    /**
+     * Public ctor.
+     * @param valve Valve to query every shard
+     * @param hsh Name of the hash key
+     * @param rng Name of the range key to merge by
+     * @param values Values of the hash key
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    public ShardedValve(final QueryValve valve, final String hsh,
+        final String rng, final Collection<String> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException(
+                String.format("At least one value of \"%s\" is required", hsh)
+            );
+        }
+        if (!valve.cursor().isEmpty()) {
+            throw new IllegalArgumentException(
+                "The cursor of the query would start every shard at one key"
+            );
+        }
+        this.origin = valve.withAttributeToGet(rng);
+        this.hash = hsh;
+        this.range = rng;
+        this.shards = values.toArray(new String[0]);
+    }
+
+    // @checkstyle ParameterNumber (5 lines)
+    @Override
+    public Dosage fetch(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions, final Collection<String> keys)
+        throws IOException {
+        return this.fetch(
+            credentials, table, conditions, keys, Integer.MAX_VALUE
+        );
+    }
+
+    // @checkstyle ParameterNumber (5 lines)
+    @Override
+    public Dosage fetch(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions, final Collection<String> keys,
+        final int max) throws IOException {
+        final QueryValve valve;
+        if (max < Integer.MAX_VALUE) {
+            valve = this.origin.withLimit(
+                Math.max(
+                    1,
+                    Math.min(
+                        this.origin.limit(),
+                        (max + this.shards.length - 1) / this.shards.length
+                    )
+                )
+            );
+        } else {
+            valve = this.origin;
+        }
+        final List<Dosage> pages = new Fanout(this.shards.length).map(
+            Arrays.asList(this.shards),
+            shard -> valve.fetch(
+                credentials, table, this.conditions(conditions, shard),
+                keys, max
+            )
+        );
+        return new ShardedValve.Merged(
+            pages, new int[pages.size()],
+            new ShardedValve.Order(this.range, this.origin.forward())
+        ).full();
+    }
+
+    @Override
+    public int count(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions) throws IOException {
+        int total = 0;
+        for (final Integer count : new Fanout(this.shards.length).map(
+            Arrays.asList(this.shards),
+            shard -> this.origin.count(
+                credentials, table, this.conditions(conditions, shard)
+            )
+        )) {
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public Valve origin() {
+        return this;
+    }
+
+    /**
+     * Conditions of one shard.
+     * @param conditions Conditions of the frame
+     * @param shard Value of the hash key
+     * @return Conditions
+     */
+    private Conditions conditions(final Map<String, Condition> conditions,
+        final String shard) {
+        return new Conditions(conditions).with(
+            this.hash, Conditions.equalTo(shard)
+        );
+    }
+
+    /**
+     * Items of all shards, merged up to the point where a shard needs
+     * its next page.
+     *
+     * @since 0.23
+     */
+    @ToString
+    @EqualsAndHashCode(of = { "pages", "batch" })
+    private static final class Merged implements Dosage {
+
+        /**
+         * Current page of every shard.
+         */
+        private final transient List<Dosage> pages;
+
+        /**
+         * Position in every page, after the merged items.
+         */
+        private final transient int[] positions;
+
+        /**
+         * Order of items.
+         */
+        private final transient Comparator<Map<String, AttributeValue>> order;
+
+        /**
+         * Merged items.
+         */
+        private final transient List<Map<String, AttributeValue>> batch;
+
+        /**
+         * Ctor.
+         * @param dosages Current page of every shard
+         * @param start Position in every page, where merging starts
+         * @param cmp Order of items
+         */
+        Merged(final List<Dosage> dosages, final int[] start,
+            final Comparator<Map<String, AttributeValue>> cmp) {
+            this.pages = dosages;
+            this.positions = start.clone();
+            this.order = cmp;
+            this.batch = new ArrayList<>(0);
+            this.merge();
+        }
+
+        @Override
+        public List<Map<String, AttributeValue>> items() {
+            return Collections.unmodifiableList(this.batch);
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean more = false;
+            for (int idx = 0; idx < this.pages.size(); ++idx) {
+                final Dosage page = this.pages.get(idx);
+                if (this.positions[idx] < page.items().size()
+                    || page.hasNext()) {
+                    more = true;
+                    break;
+                }
+            }
+            return more;
+        }
+
+        @Override
+        public Dosage next() {
+            if (!this.hasNext()) {
+                throw new IllegalStateException(
+                    "There are no more items in the shards"
+                );
+            }
+            return this.advance().full();
+        }
+
+        @Override
+        public Cursor cursor() {
+            if (this.hasNext()) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Merged pages of %d shards don't have a single cursor",
+                        this.pages.size()
+                    )
+                );
+            }
+            return Cursor.EMPTY;
+        }
+
+        /**
+         * This one, or the first one after it with any items.
+         * @return Merged dosage
+         */
+        Merged full() {
+            Merged merged = this;
+            while (merged.batch.isEmpty() && merged.hasNext()) {
+                merged = merged.advance();
+            }
+            return merged;
+        }
+
+        /**
+         * Fetch next pages of the shards, which are merged completely.
+         * @return Next merged dosage
+         */
+        private Merged advance() {
+            final List<Integer> stale = new ArrayList<>(this.pages.size());
+            for (int idx = 0; idx < this.pages.size(); ++idx) {
+                if (this.positions[idx] >= this.pages.get(idx).items().size()
+                    && this.pages.get(idx).hasNext()) {
+                    stale.add(idx);
+                }
+            }
+            final List<Dosage> fresh;
+            try {
+                fresh = new Fanout(Math.max(stale.size(), 1)).map(
+                    stale, idx -> this.pages.get(idx).next()
+                );
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            final List<Dosage> next = new ArrayList<>(this.pages);
+            final int[] start = this.positions.clone();
+            for (int pos = 0; pos < stale.size(); ++pos) {
+                next.set(stale.get(pos), fresh.get(pos));
+                start[stale.get(pos)] = 0;
+            }
+            return new ShardedValve.Merged(next, start, this.order);
+        }
+
+        /**
+         * Merge items, until a shard runs out of items in its page and
+         * has a next one.
+         */
+        private void merge() {
+            while (true) {
+                int best = -1;
+                boolean blocked = false;
+                for (int idx = 0; idx < this.pages.size(); ++idx) {
+                    final List<Map<String, AttributeValue>> items =
+                        this.pages.get(idx).items();
+                    if (this.positions[idx] < items.size()) {
+                        if (best < 0 || this.order.compare(
+                            items.get(this.positions[idx]),
+                            this.pages.get(best).items()
+                                .get(this.positions[best])
+                        ) < 0) {
+                            best = idx;
+                        }
+                    } else if (this.pages.get(idx).hasNext()) {
+                        blocked = true;
+                    }
+                }
+                if (blocked || best < 0) {
+                    break;
+                }
+                this.batch.add(
+                    this.pages.get(best).items().get(this.positions[best])
+                );
+                ++this.positions[best];
+            }
+        }
+    }
+
+    /**
+     * Order of items by range key, the way DynamoDB sorts them.
+     *
+     * @since 0.23
+     */
+    @ToString
+    @EqualsAndHashCode
+    private static final class Order
+        implements Comparator<Map<String, AttributeValue>> {
+
+        /**
+         * Name of the range key.
+         */
+        private final transient String range;
+
+        /**
+         * Ascending order.
+         */
+        private final transient boolean forward;
+
+        /**
+         * Ctor.
+         * @param rng Name of the range key
+         * @param fwd Ascending order
+         */
+        Order(final String rng, final boolean fwd) {
+            this.range = rng;
+            this.forward = fwd;
+        }
+
+        @Override
+        public int compare(final Map<String, AttributeValue> left,
+            final Map<String, AttributeValue> right) {
+            final int cmp = Order.compare(this.value(left), this.value(right));
+            final int result;
+            if (this.forward) {
+                result = cmp;
+            } else {
+                result = -cmp;
+            }
+            return result;
+        }
+
+        /**
+         * Range key of the item.
+         * @param item The item
+         * @return Value of the range key
+         */
+        private AttributeValue value(final Map<String, AttributeValue> item) {
+            final AttributeValue value = item.get(this.range);
+            if (value == null) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Item %s has no range key \"%s\"", item, this.range
+                    )
+                );
+            }
+            return value;
+        }
+
+        /**
+         * Compare two values of the range key.
+         * @param left Left value
+         * @param right Right value
+         * @return Comparison result
+         */
+        private static int compare(final AttributeValue left,
+            final AttributeValue right) {
+            final int cmp;
+            if (left.n() != null && right.n() != null) {
+                cmp = new BigDecimal(left.n()).compareTo(
+                    new BigDecimal(right.n())
+                );
+            } else if (left.s() != null && right.s() != null) {
+                cmp = UnsignedBytes.lexicographicalComparator().compare(
+                    left.s().getBytes(StandardCharsets.UTF_8),
+                    right.s().getBytes(StandardCharsets.UTF_8)
+                );
+            } else if (left.b() != null && right.b() != null) {
+                cmp = UnsignedBytes.lexicographicalComparator().compare(
+                    left.b().asByteArray(), right.b().asByteArray()
+                );
+            } else {
+                throw new IllegalStateException(
+                    String.format(
+                        "Range keys %s and %s are not of the same type",
+                        left, right
+                    )
+                );
+            }
+            return cmp;
+        }
+    }
+}
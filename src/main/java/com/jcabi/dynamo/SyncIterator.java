@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import java.util.Iterator;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Thread-safe iterator.
+ *
+ * <p>Iterators returned by {@link Frame#iterator()} are designed for
+ * a single consumer and are not synchronized. When an iterator has to
+ * be shared between threads, wrap it explicitly, for example:
+ *
+ * <pre> Iterator&lt;Item&gt; items = new SyncIterator&lt;&gt;(
+ *   table.frame().iterator()
+ * );</pre>
+ *
+ * <p>The class is mutable and thread-safe.
+ *
+ * @param <T> Type of items
+ * @since 0.23
+ */
+@ToString
+@EqualsAndHashCode(of = "origin")
+public final class SyncIterator<T> implements Iterator<T> {
+
+    /**
+     * Original iterator.
+     */
+    private final transient Iterator<T> origin;
+
+    /**
+     * Lock for thread safety.
+     */
+    private final transient ReentrantLock lock;
+
+    /**
+     * Public ctor.
+     * @param iterator Origin iterator
+     */
+    public SyncIterator(final Iterator<T> iterator) {
+        this.origin = iterator;
+        this.lock = new ReentrantLock();
+    }
+
+    @Override
+    public boolean hasNext() {
+        this.lock.lock();
+        try {
+            return this.origin.hasNext();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public T next() {
+        this.lock.lock();
+        try {
+            return this.origin.next();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove() {
+        this.lock.lock();
+        try {
+            this.origin.remove();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
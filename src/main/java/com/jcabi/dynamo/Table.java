@@ -6,8 +6,11 @@ package com.jcabi.dynamo;
 
 import com.jcabi.aspects.Immutable;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
 
 /**
  * Amazon DynamoDB table abstraction.
@@ -44,6 +47,41 @@ public interface Table {
      */
     Item put(Map<String, AttributeValue> attributes) throws IOException;
 
+    /**
+     * Put new item there, only if the item currently stored under the
+     * same key meets the conditions.
+     *
+     * <p>The conditions are evaluated against the existing item, or
+     * against nothing if there is no such item yet. For example,
+     * {@code ComparisonOperator.NULL} on a key attribute makes sure the
+     * item is created, not replaced. If conditions are not met, DynamoDB
+     * rejects the put with {@code ConditionalCheckFailedException}.
+     *
+     * @param attributes Attributes to save
+     * @param conditions Conditions the existing item must meet
+     * @return Item just created
+     * @throws IOException In case of DynamoDB failure
+     * @see Conditions
+     * @since 0.23
+     */
+    Item put(Map<String, AttributeValue> attributes,
+        Map<String, Condition> conditions) throws IOException;
+
+    /**
+     * Put new items there, in parallel.
+     *
+     * <p>Every item is saved with {@link Table#put(Map)}, through
+     * a {@link Fanout}, with at most {@code concurrency} calls in flight.
+     *
+     * @param items Attributes of the items to save
+     * @param concurrency Maximum number of calls in flight
+     * @return Items just created, in the same order
+     * @throws IOException In case of DynamoDB failure
+     * @since 0.23
+     */
+    List<Item> putAll(Collection<? extends Map<String, AttributeValue>> items,
+        int concurrency) throws IOException;
+
     /**
      * Make a new frame, in order to retrieve items.
      * @return Frame
@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import java.io.IOException;
+import java.util.Map;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Transactional write, through {@code TransactWriteItems}.
+ *
+ * <p>It's an immutable builder of a list of write operations, which are
+ * either all applied or all rejected, in one round-trip. Items may come
+ * from frames, for example:
+ *
+ * <pre> Region region = new Region.Simple(...);
+ * Item account = region.table("accounts").frame()
+ *   .where("id", "alice").iterator().next();
+ * region.transaction()
+ *   .update(account, new AttributeUpdates().with("balance", ...))
+ *   .put(region.table("log"), new Attributes().with("id", "42"))
+ *   .check(account, new Conditions().with("locked", Conditions...))
+ *   .commit();</pre>
+ *
+ * <p>Every transaction has an idempotency token, which is sent with
+ * {@code TransactWriteItems} as {@code ClientRequestToken}. The token
+ * doesn't change when operations are added, so it is safe to commit
+ * the same transaction again after a network failure: DynamoDB will
+ * not apply it twice within ten minutes.
+ *
+ * <p>If DynamoDB cancels the transaction, {@link #commit()} throws
+ * {@link CanceledTransactionException} with a reason for every operation.
+ *
+ * @see <a href="https://docs.aws.amazon.com/amazondynamodb/latest/developerguide/transaction-apis.html">Transactions</a>
+ * @since 0.23
+ */
+@Immutable
+public interface Transaction {
+
+    /**
+     * Put new item (or replace the existing one).
+     * @param table The table
+     * @param attributes Attributes to save
+     * @return New transaction
+     */
+    Transaction put(Table table, Map<String, AttributeValue> attributes);
+
+    /**
+     * Update an existing item.
+     *
+     * <p>The update fails and the transaction is canceled if the item
+     * doesn't exist anymore.
+     *
+     * @param item The item, obtained from a frame or a table
+     * @param attrs Attributes to update
+     * @return New transaction
+     */
+    Transaction update(Item item, Map<String, AttributeValueUpdate> attrs);
+
+    /**
+     * Delete an existing item.
+     * @param item The item, obtained from a frame or a table
+     * @return New transaction
+     */
+    Transaction delete(Item item);
+
+    /**
+     * Check that conditions are met for the item, without changing it.
+     * @param item The item, obtained from a frame or a table
+     * @param conditions Conditions which must be met
+     * @return New transaction
+     */
+    Transaction check(Item item, Map<String, Condition> conditions);
+
+    /**
+     * Idempotency token of the transaction.
+     * @return Token
+     */
+    String token();
+
+    /**
+     * Commit all operations in one call.
+     * @throws IOException In case of DynamoDB failure
+     * @throws CanceledTransactionException If DynamoDB cancels it
+     */
+    void commit() throws IOException;
+
+}
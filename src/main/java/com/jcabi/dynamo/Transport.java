@@ -0,0 +1,439 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache5.Apache5HttpClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+
+/**
+ * HTTP transport of DynamoDB clients.
+ *
+ * <p>Without a transport, every {@link Credentials#aws()} call builds
+ * a client with default SDK settings and its own pool of connections.
+ * With a transport, all clients built by credentials with equal
+ * transports share one HTTP client, which means one pool of keep-alive
+ * connections, sized and tuned here. For example:
+ *
+ * <pre> Credentials creds = new Credentials.Simple(
+ *   key, secret, "us-east-1",
+ *   new Transport()
+ *     .withMaxConnections(256)
+ *     .withConnectionTimeout(500L, TimeUnit.MILLISECONDS)
+ *     .withAttemptTimeout(200L, TimeUnit.MILLISECONDS)
+ * );</pre>
+ *
+ * <p>Apache HTTP client is used by default. Any other HTTP client of
+ * the SDK, like URL-connection or CRT one, may be plugged in through
+ * {@link Transport.Http}, if it's in classpath.
+ *
+ * <p>Clients are shared by transports with equal HTTP settings, while
+ * timeouts of API calls and their attempts don't matter, since they are
+ * set on DynamoDB clients. Makers of HTTP clients are compared with
+ * {@code equals()}, which is identity for lambdas, so keep a maker in
+ * a constant, like {@link #APACHE}, instead of making a new one for every
+ * transport. Shared HTTP clients live as long as the JVM, unless
+ * {@link #close()} is called, which closes the client of this transport
+ * and of all transports with equal HTTP settings.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Transport implements Closeable {
+
+    /**
+     * Apache HTTP client, the default.
+     */
+    public static final Transport.Http APACHE = transport -> {
+        final Apache5HttpClient.Builder builder = Apache5HttpClient.builder()
+            .maxConnections(transport.connections())
+            .tcpKeepAlive(transport.keepAlive());
+        if (!transport.ttl().isZero()) {
+            builder.connectionTimeToLive(transport.ttl());
+        }
+        if (!transport.connectTimeout().isZero()) {
+            builder.connectionTimeout(transport.connectTimeout());
+        }
+        if (!transport.socketTimeout().isZero()) {
+            builder.socketTimeout(transport.socketTimeout());
+        }
+        if (!transport.acquireTimeout().isZero()) {
+            builder.connectionAcquisitionTimeout(transport.acquireTimeout());
+        }
+        return builder.build();
+    };
+
+    /**
+     * HTTP clients, shared by all transports with equal HTTP settings.
+     */
+    private static final Map<Transport, SdkHttpClient> CLIENTS =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Default number of connections in the pool.
+     */
+    private static final int CONNECTIONS = 50;
+
+    /**
+     * Maker of HTTP clients.
+     */
+    private final transient Transport.Http http;
+
+    /**
+     * Maximum number of connections in the pool.
+     */
+    private final transient int max;
+
+    /**
+     * Time to live of a connection, in milliseconds, zero for forever.
+     */
+    private final transient long life;
+
+    /**
+     * Use TCP keep-alive or not.
+     */
+    private final transient boolean alive;
+
+    /**
+     * Connection timeout, in milliseconds, zero for default.
+     */
+    private final transient long connect;
+
+    /**
+     * Socket read timeout, in milliseconds, zero for default.
+     */
+    private final transient long socket;
+
+    /**
+     * Timeout of taking a connection from the pool, in milliseconds.
+     */
+    private final transient long acquire;
+
+    /**
+     * Timeout of an API call with all its retries, in milliseconds.
+     */
+    private final transient long call;
+
+    /**
+     * Timeout of one attempt of an API call, in milliseconds.
+     */
+    private final transient long attempt;
+
+    /**
+     * Public ctor, with Apache HTTP client and default settings.
+     */
+    public Transport() {
+        this(Transport.APACHE);
+    }
+
+    /**
+     * Public ctor, with default settings.
+     * @param client Maker of HTTP clients
+     */
+    public Transport(final Transport.Http client) {
+        this(client, Transport.CONNECTIONS, 0L, false, new long[5]);
+    }
+
+    /**
+     * Private ctor.
+     * @param client Maker of HTTP clients
+     * @param conns Maximum number of connections
+     * @param ttl Time to live of a connection
+     * @param keep Use TCP keep-alive
+     * @param timeouts Connect, socket, acquire, call and attempt timeouts
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Transport(final Transport.Http client, final int conns,
+        final long ttl, final boolean keep, final long[] timeouts) {
+        this.http = client;
+        this.max = conns;
+        this.life = ttl;
+        this.alive = keep;
+        this.connect = timeouts[0];
+        this.socket = timeouts[1];
+        this.acquire = timeouts[2];
+        this.call = timeouts[3];
+        this.attempt = timeouts[4];
+    }
+
+    /**
+     * With this HTTP client.
+     * @param client Maker of HTTP clients
+     * @return New transport
+     */
+    public Transport with(final Transport.Http client) {
+        return new Transport(
+            client, this.max, this.life, this.alive, this.timeouts()
+        );
+    }
+
+    /**
+     * With this maximum number of connections in the pool.
+     * @param conns Maximum number of connections
+     * @return New transport
+     */
+    public Transport withMaxConnections(final int conns) {
+        if (conns < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Number of connections must be positive: %d", conns
+                )
+            );
+        }
+        return new Transport(
+            this.http, conns, this.life, this.alive, this.timeouts()
+        );
+    }
+
+    /**
+     * With this time to live of connections.
+     * @param time Time to live
+     * @param unit Unit of time
+     * @return New transport
+     */
+    public Transport withConnectionTtl(final long time, final TimeUnit unit) {
+        return new Transport(
+            this.http, this.max, unit.toMillis(time), this.alive,
+            this.timeouts()
+        );
+    }
+
+    /**
+     * With TCP keep-alive on or off.
+     * @param keep Use TCP keep-alive
+     * @return New transport
+     */
+    public Transport withTcpKeepAlive(final boolean keep) {
+        return new Transport(
+            this.http, this.max, this.life, keep, this.timeouts()
+        );
+    }
+
+    /**
+     * With this timeout of opening a connection.
+     * @param time Timeout
+     * @param unit Unit of time
+     * @return New transport
+     */
+    public Transport withConnectionTimeout(final long time,
+        final TimeUnit unit) {
+        return this.withTimeout(0, time, unit);
+    }
+
+    /**
+     * With this timeout of reading from a socket.
+     * @param time Timeout
+     * @param unit Unit of time
+     * @return New transport
+     */
+    public Transport withSocketTimeout(final long time, final TimeUnit unit) {
+        return this.withTimeout(1, time, unit);
+    }
+
+    /**
+     * With this timeout of taking a connection from the pool.
+     * @param time Timeout
+     * @param unit Unit of time
+     * @return New transport
+     */
+    public Transport withAcquisitionTimeout(final long time,
+        final TimeUnit unit) {
+        return this.withTimeout(2, time, unit);
+    }
+
+    /**
+     * With this timeout of an API call, including all its retries.
+     * @param time Timeout
+     * @param unit Unit of time
+     * @return New transport
+     */
+    public Transport withCallTimeout(final long time, final TimeUnit unit) {
+        return this.withTimeout(3, time, unit);
+    }
+
+    /**
+     * With this timeout of a single attempt of an API call.
+     *
+     * <p>A slow attempt is abandoned and retried by the SDK, which cuts
+     * the tail latency, as long as there are retries left.
+     *
+     * @param time Timeout
+     * @param unit Unit of time
+     * @return New transport
+     */
+    public Transport withAttemptTimeout(final long time, final TimeUnit unit) {
+        return this.withTimeout(4, time, unit);
+    }
+
+    /**
+     * Maximum number of connections in the pool.
+     * @return Number of connections
+     */
+    public int connections() {
+        return this.max;
+    }
+
+    /**
+     * Time to live of a connection.
+     * @return Time to live, zero for forever
+     */
+    public Duration ttl() {
+        return Duration.ofMillis(this.life);
+    }
+
+    /**
+     * Use TCP keep-alive or not.
+     * @return TRUE if used
+     */
+    public boolean keepAlive() {
+        return this.alive;
+    }
+
+    /**
+     * Timeout of opening a connection.
+     * @return Timeout, zero for default
+     */
+    public Duration connectTimeout() {
+        return Duration.ofMillis(this.connect);
+    }
+
+    /**
+     * Timeout of reading from a socket.
+     * @return Timeout, zero for default
+     */
+    public Duration socketTimeout() {
+        return Duration.ofMillis(this.socket);
+    }
+
+    /**
+     * Timeout of taking a connection from the pool.
+     * @return Timeout, zero for default
+     */
+    public Duration acquireTimeout() {
+        return Duration.ofMillis(this.acquire);
+    }
+
+    /**
+     * Configure the builder of DynamoDB client.
+     * @param builder The builder
+     * @return The same builder
+     */
+    DynamoDbClientBuilder configure(final DynamoDbClientBuilder builder) {
+        final ClientOverrideConfiguration.Builder config =
+            ClientOverrideConfiguration.builder();
+        if (this.call > 0L) {
+            config.apiCallTimeout(Duration.ofMillis(this.call));
+        }
+        if (this.attempt > 0L) {
+            config.apiCallAttemptTimeout(Duration.ofMillis(this.attempt));
+        }
+        builder.httpClient(
+            Transport.CLIENTS.computeIfAbsent(
+                this.pool(), key -> key.http.client(key)
+            )
+        );
+        builder.overrideConfiguration(config.build());
+        return builder;
+    }
+
+    /**
+     * Close the shared HTTP client of these HTTP settings.
+     *
+     * <p>DynamoDB clients, which use it, fail after that, while new ones
+     * get a new HTTP client. Call it when no more calls are expected
+     * through this transport, for example when the application stops.
+     */
+    @Override
+    public void close() {
+        final SdkHttpClient client = Transport.CLIENTS.remove(this.pool());
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * Transport with the same HTTP settings, but without timeouts of
+     * API calls, which is the key of the shared HTTP client.
+     * @return Transport
+     */
+    private Transport pool() {
+        final long[] timeouts = this.timeouts();
+        timeouts[3] = 0L;
+        timeouts[4] = 0L;
+        return new Transport(
+            this.http, this.max, this.life, this.alive, timeouts
+        );
+    }
+
+    /**
+     * With one of the timeouts.
+     * @param idx Index of the timeout
+     * @param time Timeout
+     * @param unit Unit of time
+     * @return New transport
+     */
+    private Transport withTimeout(final int idx, final long time,
+        final TimeUnit unit) {
+        if (time < 0L) {
+            throw new IllegalArgumentException(
+                String.format("Timeout can't be negative: %d", time)
+            );
+        }
+        final long[] timeouts = this.timeouts();
+        timeouts[idx] = unit.toMillis(time);
+        return new Transport(
+            this.http, this.max, this.life, this.alive, timeouts
+        );
+    }
+
+    /**
+     * All timeouts.
+     * @return Connect, socket, acquire, call and attempt timeouts
+     */
+    private long[] timeouts() {
+        return new long[] {
+            this.connect, this.socket, this.acquire, this.call, this.attempt,
+        };
+    }
+
+    /**
+     * Maker of HTTP clients.
+     *
+     * <p>For example, URL-connection client, if it's in classpath:
+     *
+     * <pre> new Transport(
+     *   transport -&gt; UrlConnectionHttpClient.builder()
+     *     .connectionTimeout(transport.connectTimeout())
+     *     .socketTimeout(transport.socketTimeout())
+     *     .build()
+     * );</pre>
+     *
+     * @since 0.23
+     */
+    @Immutable
+    @FunctionalInterface
+    public interface Http {
+        /**
+         * Make HTTP client.
+         * @param transport Settings of the transport
+         * @return HTTP client
+         */
+        SdkHttpClient client(Transport transport);
+    }
+}
@@ -0,0 +1,734 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.immutable.ArrayMap;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeAction;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+/**
+ * Update expression for {@link Item#update(UpdateExpression)}.
+ *
+ * <p>It's an immutable builder of an {@code UpdateItem} call with
+ * {@code UpdateExpression}, {@code ConditionExpression} and
+ * {@code ReturnValues}. Unlike {@link Item#put(Map)}, it can increment
+ * counters, set attributes only if they are absent, append to lists
+ * and remove attributes, without reading the item first. For example:
+ *
+ * <pre> item.update(
+ *   new UpdateExpression()
+ *     .add("hits", 1L)
+ *     .setIfAbsent("created", AttributeValue.builder().n("0").build())
+ *     .where("owner", Conditions.equalTo("jeff"))
+ *     .returning(ReturnValue.NONE)
+ * );</pre>
+ *
+ * <p>Arbitrary condition expressions may be added with
+ * {@link #where(String, Map, Map)}. Placeholders like {@code #n0}
+ * and {@code :v0} are reserved for generated names and values, use
+ * other names in your own expressions.
+ *
+ * <p>By default, new values of updated attributes are returned, exactly
+ * as {@link Item#put(Map)} does.
+ *
+ * @see <a href="https://docs.aws.amazon.com/amazondynamodb/latest/developerguide/Expressions.UpdateExpressions.html">Update Expressions</a>
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode
+    (
+        of = {
+            "actions", "operands", "conds", "raw",
+            "names", "values", "returns"
+        }
+    )
+@SuppressWarnings("PMD.TooManyMethods")
+public final class UpdateExpression {
+
+    /**
+     * Reserved placeholders.
+     */
+    private static final Pattern RESERVED = Pattern.compile("[#:][nv]\\d+");
+
+    /**
+     * Actions, by attribute names.
+     */
+    private final transient ArrayMap<String, UpdateExpression.Action> actions;
+
+    /**
+     * Operands of actions, by attribute names.
+     */
+    private final transient ArrayMap<String, AttributeValue> operands;
+
+    /**
+     * Conditions to be met.
+     */
+    private final transient Conditions conds;
+
+    /**
+     * Arbitrary condition expression, empty if absent.
+     */
+    private final transient String raw;
+
+    /**
+     * Placeholders of names in the arbitrary condition.
+     */
+    private final transient ArrayMap<String, String> names;
+
+    /**
+     * Placeholders of values in the arbitrary condition.
+     */
+    private final transient ArrayMap<String, AttributeValue> values;
+
+    /**
+     * What to return.
+     */
+    private final transient ReturnValue returns;
+
+    /**
+     * Public ctor.
+     */
+    public UpdateExpression() {
+        this(
+            new ArrayMap<>(), new ArrayMap<>(), new Conditions(), "",
+            new ArrayMap<>(), new ArrayMap<>(), ReturnValue.UPDATED_NEW
+        );
+    }
+
+    /**
+     * Public ctor, from legacy attribute updates.
+     *
+     * <p>{@code PUT} becomes {@code SET}, {@code ADD} stays {@code ADD},
+     * and {@code DELETE} becomes either {@code REMOVE} or {@code DELETE},
+     * depending on whether it has a value or not.
+     *
+     * @param attrs Attribute updates
+     */
+    public UpdateExpression(final Map<String, AttributeValueUpdate> attrs) {
+        this(
+            UpdateExpression.actions(attrs), UpdateExpression.operands(attrs),
+            new Conditions(), "", new ArrayMap<>(), new ArrayMap<>(),
+            ReturnValue.UPDATED_NEW
+        );
+    }
+
+    /**
+     * Private ctor.
+     * @param acts Actions
+     * @param opds Operands
+     * @param cnds Conditions
+     * @param expr Arbitrary condition
+     * @param nms Names in the arbitrary condition
+     * @param vals Values in the arbitrary condition
+     * @param rtn What to return
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    private UpdateExpression(
+        final ArrayMap<String, UpdateExpression.Action> acts,
+        final ArrayMap<String, AttributeValue> opds, final Conditions cnds,
+        final String expr, final ArrayMap<String, String> nms,
+        final ArrayMap<String, AttributeValue> vals, final ReturnValue rtn) {
+        this.actions = acts;
+        this.operands = opds;
+        this.conds = cnds;
+        this.raw = expr;
+        this.names = nms;
+        this.values = vals;
+        this.returns = rtn;
+    }
+
+    /**
+     * Set the attribute.
+     * @param attr Attribute name
+     * @param value New value
+     * @return New expression
+     */
+    public UpdateExpression set(final String attr, final AttributeValue value) {
+        return this.with(attr, UpdateExpression.Action.SET, value);
+    }
+
+    /**
+     * Set the attribute, only if it doesn't exist yet.
+     * @param attr Attribute name
+     * @param value New value
+     * @return New expression
+     */
+    public UpdateExpression setIfAbsent(final String attr,
+        final AttributeValue value) {
+        return this.with(attr, UpdateExpression.Action.SET_IF_ABSENT, value);
+    }
+
+    /**
+     * Add to the number, or to the set.
+     * @param attr Attribute name
+     * @param value Number or set to add
+     * @return New expression
+     */
+    public UpdateExpression add(final String attr, final AttributeValue value) {
+        return this.with(attr, UpdateExpression.Action.ADD, value);
+    }
+
+    /**
+     * Add to the number.
+     * @param attr Attribute name
+     * @param delta Number to add, may be negative
+     * @return New expression
+     */
+    public UpdateExpression add(final String attr, final long delta) {
+        return this.add(
+            attr, AttributeValue.builder().n(Long.toString(delta)).build()
+        );
+    }
+
+    /**
+     * Append to the list, creating it if it doesn't exist.
+     * @param attr Attribute name
+     * @param value List of elements to append
+     * @return New expression
+     */
+    public UpdateExpression append(final String attr,
+        final AttributeValue value) {
+        return this.with(attr, UpdateExpression.Action.APPEND, value);
+    }
+
+    /**
+     * Remove the attribute.
+     * @param attr Attribute name
+     * @return New expression
+     */
+    public UpdateExpression remove(final String attr) {
+        return this.with(
+            attr, UpdateExpression.Action.REMOVE,
+            AttributeValue.builder().nul(true).build()
+        );
+    }
+
+    /**
+     * Delete elements from the set.
+     * @param attr Attribute name
+     * @param value Set of elements to delete
+     * @return New expression
+     */
+    public UpdateExpression delete(final String attr,
+        final AttributeValue value) {
+        return this.with(attr, UpdateExpression.Action.DELETE, value);
+    }
+
+    /**
+     * Update only if this condition is met.
+     * @param attr Attribute name
+     * @param condition The condition
+     * @return New expression
+     */
+    public UpdateExpression where(final String attr,
+        final Condition condition) {
+        return new UpdateExpression(
+            this.actions, this.operands, this.conds.with(attr, condition),
+            this.raw, this.names, this.values, this.returns
+        );
+    }
+
+    /**
+     * Update only if these conditions are met.
+     * @param conditions The conditions
+     * @return New expression
+     */
+    public UpdateExpression where(final Map<String, Condition> conditions) {
+        return new UpdateExpression(
+            this.actions, this.operands, this.conds.with(conditions),
+            this.raw, this.names, this.values, this.returns
+        );
+    }
+
+    /**
+     * Update only if this condition expression is met.
+     *
+     * <p>If called a few times, all expressions must be met.
+     *
+     * @param expr Condition expression, like {@code "#v = :expected"}
+     * @param nms Placeholders of attribute names used in the expression
+     * @param vals Placeholders of values used in the expression
+     * @return New expression
+     */
+    public UpdateExpression where(final String expr,
+        final Map<String, String> nms, final Map<String, AttributeValue> vals) {
+        final Collection<String> holders = new ArrayList<>(nms.keySet());
+        holders.addAll(vals.keySet());
+        for (final String holder : holders) {
+            if (UpdateExpression.RESERVED.matcher(holder).matches()) {
+                throw new IllegalArgumentException(
+                    String.format("Placeholder \"%s\" is reserved", holder)
+                );
+            }
+        }
+        final String joined;
+        if (this.raw.isEmpty()) {
+            joined = expr;
+        } else {
+            joined = String.format("(%s) AND (%s)", this.raw, expr);
+        }
+        return new UpdateExpression(
+            this.actions, this.operands, this.conds, joined,
+            this.names.with(nms), this.values.with(vals), this.returns
+        );
+    }
+
+    /**
+     * Return these values.
+     * @param rtn What to return, {@link ReturnValue#NONE} to return nothing
+     * @return New expression
+     */
+    public UpdateExpression returning(final ReturnValue rtn) {
+        return new UpdateExpression(
+            this.actions, this.operands, this.conds, this.raw,
+            this.names, this.values, rtn
+        );
+    }
+
+    /**
+     * What is returned after the update.
+     * @return Return values
+     */
+    public ReturnValue returns() {
+        return this.returns;
+    }
+
+    /**
+     * Does it have any conditions?
+     * @return TRUE if the update is conditional
+     */
+    public boolean conditional() {
+        return !this.conds.isEmpty() || !this.raw.isEmpty();
+    }
+
+    /**
+     * Would DynamoDB accept the update of this item?
+     *
+     * <p>Conditions are evaluated locally, see
+     * {@link Conditions#matches(Map)}, and so are arbitrary condition
+     * expressions, see {@link ConditionExpression#matches(Map)}.
+     *
+     * @param item Attributes of the item before the update
+     * @return TRUE if all conditions are met
+     */
+    public boolean accepts(final Map<String, AttributeValue> item) {
+        return this.conds.matches(item) && (this.raw.isEmpty()
+            || new ConditionExpression(this.raw, this.names, this.values)
+                .matches(item));
+    }
+
+    /**
+     * Names of attributes changed by this expression.
+     * @return Attribute names
+     */
+    public Set<String> attributes() {
+        return this.actions.keySet();
+    }
+
+    /**
+     * Apply the actions to the attributes, locally.
+     *
+     * <p>Conditions are ignored. This is how DynamoDB would change
+     * the item, and it's useful for mocks and caches. Operands of wrong
+     * types are rejected with {@link IllegalArgumentException}, as
+     * DynamoDB rejects them with {@code ValidationException}.
+     *
+     * @param item Attributes of the item before the update
+     * @return Attributes of the item after the update
+     */
+    public Map<String, AttributeValue> apply(
+        final Map<String, AttributeValue> item) {
+        if (this.actions.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Update expression must have at least one action"
+            );
+        }
+        final Map<String, AttributeValue> after = new HashMap<>(item);
+        for (final Map.Entry<String, UpdateExpression.Action> entry
+            : this.actions.entrySet()) {
+            final String attr = entry.getKey();
+            final AttributeValue before = after.get(attr);
+            final AttributeValue value = entry.getValue().apply(
+                before, this.operands.get(attr)
+            );
+            if (value == null) {
+                after.remove(attr);
+            } else {
+                after.put(attr, value);
+            }
+        }
+        return after;
+    }
+
+    /**
+     * Make a request for DynamoDB.
+     * @param table Table name
+     * @param key Primary key of the item, which must exist
+     * @return Request
+     */
+    UpdateItemRequest request(final String table, final Attributes key) {
+        final Expressions expr = new Expressions();
+        for (final Map.Entry<String, UpdateExpression.Action> entry
+            : this.actions.entrySet()) {
+            entry.getValue().translate(
+                expr, entry.getKey(), this.operands.get(entry.getKey())
+            );
+        }
+        final String update = expr.update();
+        final List<String> checks = new ArrayList<>(3);
+        checks.add(expr.exist(key.keySet()));
+        if (!this.conds.isEmpty()) {
+            checks.add(expr.condition(this.conds));
+        }
+        if (!this.raw.isEmpty()) {
+            checks.add(String.format("(%s)", this.raw));
+        }
+        final Map<String, String> nms = new HashMap<>(this.names);
+        if (expr.names() != null) {
+            nms.putAll(expr.names());
+        }
+        final Map<String, AttributeValue> vals = new HashMap<>(this.values);
+        if (expr.values() != null) {
+            vals.putAll(expr.values());
+        }
+        final UpdateItemRequest.Builder req = UpdateItemRequest.builder()
+            .tableName(table)
+            .key(key)
+            .updateExpression(update)
+            .conditionExpression(String.join(" AND ", checks))
+            .expressionAttributeNames(nms)
+            .returnValues(this.returns);
+        if (!vals.isEmpty()) {
+            req.expressionAttributeValues(vals);
+        }
+        return req.build();
+    }
+
+    /**
+     * Make a new expression with one more action.
+     * @param attr Attribute name
+     * @param action The action
+     * @param operand Its operand
+     * @return New expression
+     */
+    private UpdateExpression with(final String attr,
+        final UpdateExpression.Action action, final AttributeValue operand) {
+        return new UpdateExpression(
+            this.actions.with(attr, action), this.operands.with(attr, operand),
+            this.conds, this.raw, this.names, this.values, this.returns
+        );
+    }
+
+    /**
+     * Convert legacy attribute updates to actions.
+     * @param attrs Attribute updates
+     * @return Actions
+     */
+    private static ArrayMap<String, UpdateExpression.Action> actions(
+        final Map<String, AttributeValueUpdate> attrs) {
+        final Map<String, UpdateExpression.Action> acts =
+            new HashMap<>(attrs.size());
+        for (final Map.Entry<String, AttributeValueUpdate> entry
+            : attrs.entrySet()) {
+            final AttributeValueUpdate upd = entry.getValue();
+            final UpdateExpression.Action action;
+            if (upd.action() == AttributeAction.ADD) {
+                action = UpdateExpression.Action.ADD;
+            } else if (upd.action() == AttributeAction.DELETE) {
+                if (upd.value() == null) {
+                    action = UpdateExpression.Action.REMOVE;
+                } else {
+                    action = UpdateExpression.Action.DELETE;
+                }
+            } else {
+                action = UpdateExpression.Action.SET;
+            }
+            acts.put(entry.getKey(), action);
+        }
+        return new ArrayMap<>(acts);
+    }
+
+    /**
+     * Convert legacy attribute updates to operands.
+     * @param attrs Attribute updates
+     * @return Operands
+     */
+    private static ArrayMap<String, AttributeValue> operands(
+        final Map<String, AttributeValueUpdate> attrs) {
+        final Map<String, AttributeValue> opds = new HashMap<>(attrs.size());
+        for (final Map.Entry<String, AttributeValueUpdate> entry
+            : attrs.entrySet()) {
+            AttributeValue value = entry.getValue().value();
+            if (value == null) {
+                value = AttributeValue.builder().nul(true).build();
+            }
+            opds.put(entry.getKey(), value);
+        }
+        return new ArrayMap<>(opds);
+    }
+
+    /**
+     * Merge sets of the same type.
+     * @param before Set before, not NULL
+     * @param operand Set to add or to delete
+     * @param action Name of the action, {@code "ADD"} or {@code "DELETE"}
+     * @return Set after, NULL if it's empty
+     */
+    private static AttributeValue merged(final AttributeValue before,
+        final AttributeValue operand, final String action) {
+        final AttributeValue.Builder after = AttributeValue.builder();
+        final Collection<?> rest;
+        if (operand.hasSs() && before.hasSs()) {
+            final Set<String> set = new LinkedHashSet<>(before.ss());
+            UpdateExpression.merge(set, operand.ss(), action);
+            after.ss(set);
+            rest = set;
+        } else if (operand.hasNs() && before.hasNs()) {
+            final Set<String> set = new LinkedHashSet<>(before.ns());
+            UpdateExpression.merge(set, operand.ns(), action);
+            after.ns(set);
+            rest = set;
+        } else if (operand.hasBs() && before.hasBs()) {
+            final Set<SdkBytes> set = new LinkedHashSet<>(before.bs());
+            UpdateExpression.merge(set, operand.bs(), action);
+            after.bs(set);
+            rest = set;
+        } else {
+            throw UpdateExpression.mismatch(action, before, operand);
+        }
+        AttributeValue merged = null;
+        if (!rest.isEmpty()) {
+            merged = after.build();
+        }
+        return merged;
+    }
+
+    /**
+     * Add elements to the set, or delete them from it.
+     * @param set The set
+     * @param elements Elements
+     * @param action Name of the action, {@code "ADD"} or {@code "DELETE"}
+     * @param <T> Type of elements
+     */
+    private static <T> void merge(final Set<T> set,
+        final Collection<T> elements, final String action) {
+        if ("ADD".equals(action)) {
+            set.addAll(elements);
+        } else {
+            set.removeAll(elements);
+        }
+    }
+
+    /**
+     * Is it a set of strings, numbers or binaries?
+     * @param value The value
+     * @return TRUE if it is a set
+     */
+    private static boolean isSet(final AttributeValue value) {
+        return value.hasSs() || value.hasNs() || value.hasBs();
+    }
+
+    /**
+     * Validation error, which DynamoDB reports when types don't match.
+     * @param action Name of the action
+     * @param before Value of the attribute
+     * @param operand Operand of the action
+     * @return The error
+     */
+    private static IllegalArgumentException mismatch(final String action,
+        final AttributeValue before, final AttributeValue operand) {
+        return new IllegalArgumentException(
+            String.format(
+                // @checkstyle LineLength (1 line)
+                "An operand in the update expression has an incorrect data type, can't %s %s to %s",
+                action, operand, before
+            )
+        );
+    }
+
+    /**
+     * Update action.
+     *
+     * @since 0.23
+     */
+    private enum Action {
+        /**
+         * Set the value.
+         */
+        SET {
+            @Override
+            AttributeValue apply(final AttributeValue before,
+                final AttributeValue operand) {
+                return operand;
+            }
+
+            @Override
+            void translate(final Expressions expr, final String attr,
+                final AttributeValue operand) {
+                expr.set(attr, operand);
+            }
+        },
+        /**
+         * Set the value if it's absent.
+         */
+        SET_IF_ABSENT {
+            @Override
+            AttributeValue apply(final AttributeValue before,
+                final AttributeValue operand) {
+                final AttributeValue after;
+                if (before == null) {
+                    after = operand;
+                } else {
+                    after = before;
+                }
+                return after;
+            }
+
+            @Override
+            void translate(final Expressions expr, final String attr,
+                final AttributeValue operand) {
+                expr.setIfAbsent(attr, operand);
+            }
+        },
+        /**
+         * Add to the number or to the set.
+         */
+        ADD {
+            @Override
+            AttributeValue apply(final AttributeValue before,
+                final AttributeValue operand) {
+                final AttributeValue after;
+                if (operand.n() == null && !UpdateExpression.isSet(operand)) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Can't ADD %s, only a number or a set", operand
+                        )
+                    );
+                }
+                if (before == null) {
+                    after = operand;
+                } else if (operand.n() == null) {
+                    after = UpdateExpression.merged(before, operand, "ADD");
+                } else if (before.n() == null) {
+                    throw UpdateExpression.mismatch("ADD", before, operand);
+                } else {
+                    after = AttributeValue.builder().n(
+                        new BigDecimal(before.n())
+                            .add(new BigDecimal(operand.n()))
+                            .toPlainString()
+                    ).build();
+                }
+                return after;
+            }
+
+            @Override
+            void translate(final Expressions expr, final String attr,
+                final AttributeValue operand) {
+                expr.add(attr, operand);
+            }
+        },
+        /**
+         * Append to the list.
+         */
+        APPEND {
+            @Override
+            AttributeValue apply(final AttributeValue before,
+                final AttributeValue operand) {
+                final List<AttributeValue> list = new ArrayList<>(0);
+                if (before != null) {
+                    list.addAll(before.l());
+                }
+                list.addAll(operand.l());
+                return AttributeValue.builder().l(list).build();
+            }
+
+            @Override
+            void translate(final Expressions expr, final String attr,
+                final AttributeValue operand) {
+                expr.append(attr, operand);
+            }
+        },
+        /**
+         * Remove the attribute.
+         */
+        REMOVE {
+            @Override
+            AttributeValue apply(final AttributeValue before,
+                final AttributeValue operand) {
+                return null;
+            }
+
+            @Override
+            void translate(final Expressions expr, final String attr,
+                final AttributeValue operand) {
+                expr.remove(attr);
+            }
+        },
+        /**
+         * Delete from the set.
+         */
+        DELETE {
+            @Override
+            AttributeValue apply(final AttributeValue before,
+                final AttributeValue operand) {
+                if (!UpdateExpression.isSet(operand)) {
+                    throw new IllegalArgumentException(
+                        String.format("Can't DELETE %s, only a set", operand)
+                    );
+                }
+                AttributeValue after = null;
+                if (before != null) {
+                    after = UpdateExpression.merged(before, operand, "DELETE");
+                }
+                return after;
+            }
+
+            @Override
+            void translate(final Expressions expr, final String attr,
+                final AttributeValue operand) {
+                expr.delete(attr, operand);
+            }
+        };
+
+        /**
+         * Apply the action.
+         * @param before Value before, NULL if absent
+         * @param operand Operand of the action
+         * @return Value after, NULL if removed
+         */
+        abstract AttributeValue apply(AttributeValue before,
+            AttributeValue operand);
+
+        /**
+         * Translate the action into a part of the update expression.
+         * @param expr Expressions to add the part to
+         * @param attr Attribute name
+         * @param operand Operand of the action
+         */
+        abstract void translate(Expressions expr, String attr,
+            AttributeValue operand);
+    }
+}
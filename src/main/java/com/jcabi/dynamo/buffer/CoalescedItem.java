@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.buffer;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.AttributeUpdates;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.UpdateExpression;
+import java.io.IOException;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+
+/**
+ * Item, which puts through a write-behind buffer.
+ *
+ * <p>Its {@code put()} methods return immediately with an empty map,
+ * since nothing is sent to DynamoDB yet. Reading methods go straight
+ * to the original item and don't see the buffered updates, until they
+ * are flushed. {@link #update(UpdateExpression)} flushes the buffer
+ * first and then goes to the original item, keeping updates in order.
+ *
+ * @since 0.23
+ */
+@Loggable(Loggable.DEBUG)
+@ToString(of = "origin")
+@EqualsAndHashCode(of = "origin")
+final class CoalescedItem implements Item {
+
+    /**
+     * Buffer.
+     */
+    private final transient Coalescer buffer;
+
+    /**
+     * Original item.
+     */
+    private final transient Item origin;
+
+    /**
+     * Public ctor.
+     * @param coalescer The buffer
+     * @param item Original item
+     */
+    CoalescedItem(final Coalescer coalescer, final Item item) {
+        this.buffer = coalescer;
+        this.origin = item;
+    }
+
+    @Override
+    public AttributeValue get(final String name) throws IOException {
+        return this.origin.get(name);
+    }
+
+    @Override
+    public boolean has(final String name) throws IOException {
+        return this.origin.has(name);
+    }
+
+    @Override
+    public Map<String, AttributeValue> put(final String name,
+        final AttributeValueUpdate value) throws IOException {
+        return this.put(new AttributeUpdates().with(name, value));
+    }
+
+    @Override
+    public Map<String, AttributeValue> put(
+        final Map<String, AttributeValueUpdate> attrs) throws IOException {
+        this.buffer.buffer(this.origin, attrs);
+        return new Attributes();
+    }
+
+    @Override
+    public Map<String, AttributeValue> update(
+        final UpdateExpression expression) throws IOException {
+        this.buffer.flush();
+        return this.origin.update(expression);
+    }
+
+    @Override
+    public Map<String, AttributeValue> loaded() {
+        return this.origin.loaded();
+    }
+
+    @Override
+    public Frame frame() {
+        return this.origin.frame();
+    }
+}
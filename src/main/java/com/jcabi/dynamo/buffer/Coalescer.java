@@ -0,0 +1,475 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.buffer;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Fanout;
+import com.jcabi.dynamo.Item;
+import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeAction;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+
+/**
+ * Write-behind buffer, which coalesces frequent updates of the same item.
+ *
+ * <p>Items made by {@link #item(Item)} don't send their
+ * {@link Item#put(Map)} calls to DynamoDB. Instead, the updates are kept
+ * in memory, per primary key, and merged with the updates already
+ * buffered for the same item: a new {@code PUT} or {@code DELETE}
+ * replaces the previous action, while numbers and sets of consecutive
+ * {@code ADD} actions are summed up. Once in a time window, all buffered
+ * items are sent, with one {@code UpdateItem} per item. For example:
+ *
+ * <pre> try (Coalescer buffer = new Coalescer(1L, TimeUnit.SECONDS, "id")) {
+ *   final Item item = buffer.item(table.frame().where(...).iterator().next());
+ *   for (final Event event : events) {
+ *     item.put("hits", AttributeValueUpdate.builder().action(ADD)...);
+ *   }
+ * }</pre>
+ *
+ * <p>Updates that can't be merged, like a removal from a set after an
+ * addition to it, make the buffer flush first. Updates that fail to be
+ * sent are kept and sent again, in the next window. Buffered updates
+ * are lost if the JVM stops without {@link #close()}, which flushes
+ * everything. The buffer is thread-safe.
+ *
+ * @since 0.23
+ */
+@ToString(of = { "window", "keys" })
+@Loggable(Loggable.DEBUG)
+public final class Coalescer implements Closeable {
+
+    /**
+     * How many items to send at the same time.
+     */
+    private static final int THREADS = 16;
+
+    /**
+     * Time window, in milliseconds.
+     */
+    private final transient long window;
+
+    /**
+     * Names of the primary key attributes.
+     */
+    private final transient Collection<String> keys;
+
+    /**
+     * Buffered updates, by table name and primary key.
+     */
+    private final transient Map<List<Object>, Coalescer.Pending> pending;
+
+    /**
+     * Lock that keeps flushes in order.
+     */
+    private final transient Object flushing;
+
+    /**
+     * Timer of flushes.
+     */
+    private final transient ScheduledExecutorService timer;
+
+    /**
+     * Public ctor.
+     * @param time Time window
+     * @param unit Unit of time
+     * @param names Names of the primary key attributes
+     */
+    public Coalescer(final long time, final TimeUnit unit,
+        final String... names) {
+        if (time <= 0L) {
+            throw new IllegalArgumentException(
+                String.format("Time window must be positive: %d", time)
+            );
+        }
+        if (names.length == 0) {
+            throw new IllegalArgumentException(
+                "At least one key attribute is required"
+            );
+        }
+        this.window = unit.toMillis(time);
+        this.keys = Collections.unmodifiableList(Arrays.asList(names.clone()));
+        this.pending = new LinkedHashMap<>(0);
+        this.flushing = new Object();
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                final Thread thread = new Thread(runnable, "coalescer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.timer.scheduleWithFixedDelay(
+            this::tick, this.window, this.window, TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Make an item, which puts through this buffer.
+     * @param origin Original item
+     * @return Buffered item
+     */
+    public Item item(final Item origin) {
+        return new CoalescedItem(this, origin);
+    }
+
+    /**
+     * How many items have buffered updates now.
+     * @return Number of items
+     */
+    public int size() {
+        synchronized (this.pending) {
+            return this.pending.size();
+        }
+    }
+
+    /**
+     * Send all buffered updates now.
+     * @throws IOException If some of them fail, they are kept in the buffer
+     */
+    public void flush() throws IOException {
+        synchronized (this.flushing) {
+            final Map<List<Object>, Coalescer.Pending> batch;
+            synchronized (this.pending) {
+                batch = new LinkedHashMap<>(this.pending);
+                this.pending.clear();
+            }
+            if (!batch.isEmpty()) {
+                this.send(batch);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.timer.shutdown();
+        this.flush();
+    }
+
+    /**
+     * Buffer the updates of the item.
+     * @param origin Original item
+     * @param attrs Updates of its attributes
+     * @throws IOException If fails
+     */
+    void buffer(final Item origin,
+        final Map<String, AttributeValueUpdate> attrs) throws IOException {
+        if (this.timer.isShutdown()) {
+            throw new IllegalStateException(
+                "The buffer is closed, no more updates are accepted"
+            );
+        }
+        final List<Object> key = this.key(origin);
+        while (!this.merge(key, new Coalescer.Pending(origin, attrs))) {
+            this.flush();
+        }
+    }
+
+    /**
+     * Send updates of all these items.
+     * @param batch Updates to send
+     * @throws IOException If some of them fail
+     */
+    private void send(final Map<List<Object>, Coalescer.Pending> batch)
+        throws IOException {
+        final long start = System.currentTimeMillis();
+        final Map<List<Object>, Coalescer.Pending> failed =
+            new ConcurrentHashMap<>(0);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        new Fanout(Coalescer.THREADS).each(
+            batch.entrySet().iterator(),
+            entry -> {
+                try {
+                    entry.getValue().send();
+                } catch (final IOException | RuntimeException ex) {
+                    failed.put(entry.getKey(), entry.getValue());
+                    failure.compareAndSet(null, ex);
+                }
+            }
+        );
+        for (final Map.Entry<List<Object>, Coalescer.Pending> entry
+            : failed.entrySet()) {
+            this.requeue(entry.getKey(), entry.getValue());
+        }
+        Logger.info(
+            this, "#flush(): %d item(s) updated in %[ms]s, %d failed",
+            batch.size() - failed.size(),
+            System.currentTimeMillis() - start,
+            failed.size()
+        );
+        if (failure.get() != null) {
+            throw new IOException(
+                String.format(
+                    "Failed to flush %d of %d item(s), they are kept",
+                    failed.size(), batch.size()
+                ),
+                failure.get()
+            );
+        }
+    }
+
+    /**
+     * Merge the updates into the buffer, if possible.
+     * @param key Key of the item
+     * @param after Newer updates
+     * @return TRUE if merged, FALSE if the buffer has to be flushed first
+     */
+    private boolean merge(final List<Object> key,
+        final Coalescer.Pending after) {
+        synchronized (this.pending) {
+            final Coalescer.Pending before = this.pending.get(key);
+            Coalescer.Pending merged = after;
+            if (before != null) {
+                merged = before.then(after);
+            }
+            if (merged != null) {
+                this.pending.put(key, merged);
+            }
+            return merged != null;
+        }
+    }
+
+    /**
+     * Put failed updates back, in front of the newer ones.
+     * @param key Key of the item
+     * @param failed Updates that failed to be sent
+     */
+    private void requeue(final List<Object> key,
+        final Coalescer.Pending failed) {
+        synchronized (this.pending) {
+            final Coalescer.Pending after = this.pending.get(key);
+            Coalescer.Pending merged = failed;
+            if (after != null) {
+                merged = failed.then(after);
+            }
+            if (merged == null) {
+                Logger.error(
+                    this,
+                    "Dropped updates %s of %s, they conflict with newer ones",
+                    failed, key
+                );
+            } else {
+                this.pending.put(key, merged);
+            }
+        }
+    }
+
+    /**
+     * Flush by timer.
+     */
+    private void tick() {
+        try {
+            this.flush();
+        } catch (final IOException ex) {
+            Logger.warn(
+                this, "Failed to flush, will try again: %[exception]s", ex
+            );
+        }
+    }
+
+    /**
+     * Make a key of the item.
+     * @param item The item
+     * @return Table name and primary key
+     * @throws IOException If fails
+     */
+    private List<Object> key(final Item item) throws IOException {
+        Attributes attrs = new Attributes();
+        for (final String name : this.keys) {
+            if (!item.has(name)) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Item %s doesn't have key attribute \"%s\"",
+                        item, name
+                    )
+                );
+            }
+            attrs = attrs.with(name, item.get(name));
+        }
+        return Arrays.asList(item.frame().table().name(), attrs);
+    }
+
+    /**
+     * Merge two updates of the same attribute.
+     * @param before Older update
+     * @param after Newer update
+     * @return Merged update or NULL if they can't be merged
+     */
+    private static AttributeValueUpdate merge(
+        final AttributeValueUpdate before, final AttributeValueUpdate after) {
+        final AttributeAction prev = Coalescer.action(before);
+        final AttributeAction next = Coalescer.action(after);
+        AttributeValueUpdate merged = null;
+        if (next == AttributeAction.PUT
+            || next == AttributeAction.DELETE && after.value() == null) {
+            merged = after;
+        } else if (next == AttributeAction.ADD) {
+            if (prev == AttributeAction.DELETE && before.value() == null) {
+                merged = Coalescer.update(AttributeAction.PUT, after.value());
+            } else if (prev == AttributeAction.ADD
+                || prev == AttributeAction.PUT) {
+                final AttributeValue sum = Coalescer.sum(
+                    before.value(), after.value()
+                );
+                if (sum != null) {
+                    merged = Coalescer.update(prev, sum);
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Sum up two numbers or two sets.
+     * @param left Left value
+     * @param right Right value
+     * @return Sum or NULL if they can't be summed up
+     */
+    private static AttributeValue sum(final AttributeValue left,
+        final AttributeValue right) {
+        AttributeValue sum = null;
+        if (left.n() != null && right.n() != null) {
+            sum = AttributeValue.builder().n(
+                new BigDecimal(left.n()).add(new BigDecimal(right.n()))
+                    .toPlainString()
+            ).build();
+        } else if (left.hasSs() && right.hasSs()) {
+            sum = AttributeValue.builder()
+                .ss(Coalescer.union(left.ss(), right.ss()))
+                .build();
+        } else if (left.hasNs() && right.hasNs()) {
+            sum = AttributeValue.builder()
+                .ns(Coalescer.union(left.ns(), right.ns()))
+                .build();
+        }
+        return sum;
+    }
+
+    /**
+     * Union of two sets.
+     * @param left Left set
+     * @param right Right set
+     * @return Union
+     */
+    private static Set<String> union(final Collection<String> left,
+        final Collection<String> right) {
+        final Set<String> union = new LinkedHashSet<>(left);
+        union.addAll(right);
+        return union;
+    }
+
+    /**
+     * Action of the update.
+     * @param upd The update
+     * @return Action, PUT if not set
+     */
+    private static AttributeAction action(final AttributeValueUpdate upd) {
+        AttributeAction action = upd.action();
+        if (action == null) {
+            action = AttributeAction.PUT;
+        }
+        return action;
+    }
+
+    /**
+     * Make an update.
+     * @param action Action
+     * @param value Value
+     * @return Update
+     */
+    private static AttributeValueUpdate update(final AttributeAction action,
+        final AttributeValue value) {
+        return AttributeValueUpdate.builder()
+            .action(action)
+            .value(value)
+            .build();
+    }
+
+    /**
+     * Updates of one item, waiting to be sent.
+     *
+     * @since 0.23
+     */
+    @ToString
+    private static final class Pending {
+
+        /**
+         * Item to send them through.
+         */
+        private final transient Item origin;
+
+        /**
+         * Updates of attributes.
+         */
+        private final transient Map<String, AttributeValueUpdate> updates;
+
+        /**
+         * Ctor.
+         * @param item Item to send them through
+         * @param attrs Updates of attributes
+         */
+        Pending(final Item item,
+            final Map<String, AttributeValueUpdate> attrs) {
+            this.origin = item;
+            this.updates = new LinkedHashMap<>(attrs);
+        }
+
+        /**
+         * Merge newer updates of the same item into these ones.
+         * @param after Newer updates
+         * @return Merged updates or NULL if they can't be merged
+         */
+        Coalescer.Pending then(final Coalescer.Pending after) {
+            final Map<String, AttributeValueUpdate> merged =
+                new LinkedHashMap<>(this.updates);
+            boolean mergeable = true;
+            for (final Map.Entry<String, AttributeValueUpdate> entry
+                : after.updates.entrySet()) {
+                final AttributeValueUpdate before =
+                    merged.get(entry.getKey());
+                AttributeValueUpdate upd = entry.getValue();
+                if (before != null) {
+                    upd = Coalescer.merge(before, upd);
+                }
+                if (upd == null) {
+                    mergeable = false;
+                    break;
+                }
+                merged.put(entry.getKey(), upd);
+            }
+            Coalescer.Pending result = null;
+            if (mergeable) {
+                result = new Coalescer.Pending(after.origin, merged);
+            }
+            return result;
+        }
+
+        /**
+         * Send them to DynamoDB.
+         * @throws IOException If fails
+         */
+        void send() throws IOException {
+            this.origin.put(this.updates);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.deadline;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.dynamo.Credentials;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Valve;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Deadline of a call, which may take many DynamoDB requests.
+ *
+ * <p>A deadline caps the total wall time of everything done through
+ * the objects it decorates, including all pages and all retries. Every
+ * request to DynamoDB gets the remaining time as its API call timeout,
+ * and once the time is over, requests are not even sent:
+ * {@link DeadlineExceededException} is thrown instead. For example:
+ *
+ * <pre> Deadline deadline = new Deadline(300L, TimeUnit.MILLISECONDS);
+ * for (Item item : deadline.frame(table.frame())
+ *   .where("id", "42")
+ *   .through(new QueryValve())) {
+ *   // ...
+ * }</pre>
+ *
+ * <p>Requests get timeouts only when they go through
+ * {@link #credentials(Credentials)}. A valve does that by itself,
+ * since it receives credentials with every fetch. A frame does that for
+ * its own valve, through {@link Frame#wrap(java.util.function.UnaryOperator)},
+ * and for the valves given to its {@link Frame#through(Valve)}. Otherwise,
+ * frames and tables only fail fast before each request. To cap everything,
+ * including reads and writes of items, make the region with
+ * {@link #credentials(Credentials)}.
+ *
+ * @since 0.23
+ */
+@Immutable
+@EqualsAndHashCode
+public final class Deadline {
+
+    /**
+     * When it's over, in terms of {@link System#nanoTime()}.
+     */
+    private final transient long until;
+
+    /**
+     * Public ctor.
+     *
+     * <p>Times longer than {@code Long.MAX_VALUE / 2} nanoseconds, which
+     * is about 146 years, are capped, so the deadline never overflows.
+     *
+     * @param time Time from now
+     * @param unit Unit of time
+     */
+    public Deadline(final long time, final TimeUnit unit) {
+        this.until = System.nanoTime()
+            + Math.min(unit.toNanos(time), Long.MAX_VALUE / 2L);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%dms left", this.remaining().toMillis());
+    }
+
+    /**
+     * Time left.
+     * @return Time left, zero if it's over
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0L, this.until - System.nanoTime()));
+    }
+
+    /**
+     * Is it over?
+     * @return TRUE if no time is left
+     */
+    public boolean expired() {
+        return this.until - System.nanoTime() <= 0L;
+    }
+
+    /**
+     * Fail if it's over.
+     * @param action What is about to be done, for the message
+     */
+    public void check(final String action) {
+        if (this.expired()) {
+            throw new DeadlineExceededException(
+                String.format("Deadline is over, can't %s", action)
+            );
+        }
+    }
+
+    /**
+     * Credentials, which give every request the remaining time.
+     * @param origin Original credentials
+     * @return Credentials with the deadline
+     */
+    public Credentials credentials(final Credentials origin) {
+        return new DeadlineCredentials(origin, this);
+    }
+
+    /**
+     * Valve, which fetches all pages within the deadline.
+     * @param origin Original valve
+     * @return Valve with the deadline
+     */
+    public Valve valve(final Valve origin) {
+        return new DeadlineValve(origin, this);
+    }
+
+    /**
+     * Frame, which iterates within the deadline.
+     *
+     * <p>The valve of the frame, the default one or the one it was given
+     * before, is wrapped into {@link #valve(Valve)}.
+     *
+     * @param origin Original frame
+     * @return Frame with the deadline
+     */
+    public Frame frame(final Frame origin) {
+        return new DeadlineFrame(origin.wrap(this::valve), this);
+    }
+
+    /**
+     * Region, which works within the deadline.
+     *
+     * <p>Its tables are made by {@link #table(Table)}, its client by
+     * {@link #credentials(Credentials)}, and its transactions and reads
+     * of items together fail fast when the deadline is over.
+     *
+     * @param origin Original region
+     * @return Region with the deadline
+     */
+    public Region region(final Region origin) {
+        return new DeadlineRegion(origin, this);
+    }
+
+    /**
+     * Table, which works within the deadline.
+     * @param origin Original table
+     * @return Table with the deadline
+     */
+    public Table table(final Table origin) {
+        return new DeadlineTable(origin, this);
+    }
+}
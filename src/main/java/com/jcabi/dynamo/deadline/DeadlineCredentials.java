@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.deadline;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Credentials;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbRequest;
+
+/**
+ * Credentials, which give every request the remaining time of a deadline.
+ *
+ * <p>The client they build sets the API call timeout of every request
+ * to the time left, or to the timeout already in the request, whichever
+ * is shorter. When no time is left, the request is not sent.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "deadline" })
+final class DeadlineCredentials implements Credentials {
+
+    /**
+     * Original credentials.
+     */
+    private final transient Credentials origin;
+
+    /**
+     * The deadline.
+     */
+    private final transient Deadline deadline;
+
+    /**
+     * Public ctor.
+     * @param creds Original credentials
+     * @param dln The deadline
+     */
+    DeadlineCredentials(final Credentials creds, final Deadline dln) {
+        this.origin = creds;
+        this.deadline = dln;
+    }
+
+    @Override
+    public DynamoDbClient aws() {
+        this.deadline.check("connect to DynamoDB");
+        return (DynamoDbClient) Proxy.newProxyInstance(
+            DynamoDbClient.class.getClassLoader(),
+            new Class<?>[] {DynamoDbClient.class},
+            new DeadlineCredentials.Capped(this.origin.aws(), this.deadline)
+        );
+    }
+
+    /**
+     * Calls of the client, capped by the deadline.
+     *
+     * @since 0.23
+     */
+    private static final class Capped implements InvocationHandler {
+
+        /**
+         * Original client.
+         */
+        private final transient DynamoDbClient client;
+
+        /**
+         * The deadline.
+         */
+        private final transient Deadline deadline;
+
+        /**
+         * Ctor.
+         * @param aws Original client
+         * @param dln The deadline
+         */
+        Capped(final DynamoDbClient aws, final Deadline dln) {
+            this.client = aws;
+            this.deadline = dln;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method,
+            final Object[] args) throws Throwable {
+            final boolean request = args != null && args.length == 1
+                && args[0] instanceof DynamoDbRequest;
+            if (request) {
+                this.deadline.check(
+                    String.format("call %s()", method.getName())
+                );
+                args[0] = this.capped((DynamoDbRequest) args[0]);
+            }
+            try {
+                return method.invoke(this.client, args);
+            } catch (final InvocationTargetException ex) {
+                final Throwable cause = ex.getCause();
+                if (request && cause instanceof ApiCallTimeoutException
+                    && this.deadline.expired()) {
+                    throw new DeadlineExceededException(
+                        String.format(
+                            "Deadline is over during %s()", method.getName()
+                        ),
+                        cause
+                    );
+                }
+                throw cause;
+            }
+        }
+
+        /**
+         * Set the API call timeout of the request.
+         * @param req The request
+         * @return Request with the timeout
+         */
+        private DynamoDbRequest capped(final DynamoDbRequest req) {
+            final AwsRequestOverrideConfiguration.Builder config =
+                req.overrideConfiguration()
+                    .map(AwsRequestOverrideConfiguration::toBuilder)
+                    .orElseGet(AwsRequestOverrideConfiguration::builder);
+            Duration timeout = this.deadline.remaining();
+            final Duration before = config.apiCallTimeout();
+            if (before != null && before.compareTo(timeout) < 0) {
+                timeout = before;
+            }
+            return (DynamoDbRequest) req.toBuilder()
+                .overrideConfiguration(config.apiCallTimeout(timeout).build())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.deadline;
+
+/**
+ * The deadline of a call is over.
+ *
+ * <p>The exception is unchecked on purpose: it has to pass through
+ * iterators and dosages, which can't throw checked exceptions, and
+ * through valves, which wrap SDK failures into {@link java.io.IOException}.
+ * Decorators from {@link com.jcabi.dynamo.retry} never retry it.
+ *
+ * @since 0.23
+ */
+public final class DeadlineExceededException extends IllegalStateException {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 0x5a81c3e04d2b97f6L;
+
+    /**
+     * Public ctor.
+     * @param msg Message
+     */
+    public DeadlineExceededException(final String msg) {
+        super(msg);
+    }
+
+    /**
+     * Public ctor.
+     * @param msg Message
+     * @param cause Cause
+     */
+    public DeadlineExceededException(final String msg, final Throwable cause) {
+        super(msg, cause);
+    }
+}
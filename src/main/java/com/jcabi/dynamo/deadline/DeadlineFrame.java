@@ -0,0 +1,187 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.deadline;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Dosage;
+import com.jcabi.dynamo.Explain;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Valve;
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Frame, which iterates within a deadline.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(callSuper = false, of = { "origin", "deadline" })
+final class DeadlineFrame extends AbstractCollection<Item> implements Frame {
+
+    /**
+     * Original frame.
+     */
+    private final transient Frame origin;
+
+    /**
+     * The deadline.
+     */
+    private final transient Deadline deadline;
+
+    /**
+     * Public ctor.
+     * @param frame Original frame
+     * @param dln The deadline
+     */
+    DeadlineFrame(final Frame frame, final Deadline dln) {
+        super();
+        this.origin = frame;
+        this.deadline = dln;
+    }
+
+    @Override
+    public Iterator<Item> iterator() {
+        return new DeadlineFrame.Checked(this.origin.iterator(), this.deadline);
+    }
+
+    @Override
+    public int size() {
+        this.deadline.check("count items");
+        return this.origin.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        this.deadline.check("check for items");
+        return this.origin.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        this.deadline.check("delete items");
+        this.origin.clear();
+    }
+
+    @Override
+    public Frame where(final String name, final String value) {
+        return new DeadlineFrame(this.origin.where(name, value), this.deadline);
+    }
+
+    @Override
+    public Frame where(final String name, final Condition condition) {
+        return new DeadlineFrame(
+            this.origin.where(name, condition), this.deadline
+        );
+    }
+
+    @Override
+    public Frame where(final Map<String, Condition> conditions) {
+        return new DeadlineFrame(this.origin.where(conditions), this.deadline);
+    }
+
+    @Override
+    public Frame through(final Valve valve) {
+        return new DeadlineFrame(
+            this.origin.through(this.deadline.valve(valve)), this.deadline
+        );
+    }
+
+    @Override
+    public Frame wrap(final UnaryOperator<Valve> wrapper) {
+        return new DeadlineFrame(this.origin.wrap(wrapper), this.deadline);
+    }
+
+    @Override
+    public Frame limit(final int max) {
+        return new DeadlineFrame(this.origin.limit(max), this.deadline);
+    }
+
+    @Override
+    public Dosage page() {
+        this.deadline.check("fetch a page");
+        return this.origin.page();
+    }
+
+    @Override
+    public Explain explain(final int sample) {
+        this.deadline.check("explain the frame");
+        return this.origin.explain(sample);
+    }
+
+    @Override
+    public Table table() {
+        return this.deadline.table(this.origin.table());
+    }
+
+    @Override
+    public void forEachParallel(final Consumer<Item> action,
+        final int concurrency) {
+        this.origin.forEachParallel(
+            item -> {
+                this.deadline.check("process items");
+                action.accept(item);
+            },
+            concurrency
+        );
+    }
+
+    /**
+     * Iterator, which checks the deadline before every step.
+     *
+     * @since 0.23
+     */
+    private static final class Checked implements Iterator<Item> {
+
+        /**
+         * Original iterator.
+         */
+        private final transient Iterator<Item> origin;
+
+        /**
+         * The deadline.
+         */
+        private final transient Deadline deadline;
+
+        /**
+         * Ctor.
+         * @param iterator Original iterator
+         * @param dln The deadline
+         */
+        Checked(final Iterator<Item> iterator, final Deadline dln) {
+            this.origin = iterator;
+            this.deadline = dln;
+        }
+
+        @Override
+        public boolean hasNext() {
+            this.deadline.check("iterate items");
+            return this.origin.hasNext();
+        }
+
+        @Override
+        public Item next() {
+            this.deadline.check("iterate items");
+            return this.origin.next();
+        }
+
+        @Override
+        public void remove() {
+            this.deadline.check("remove an item");
+            this.origin.remove();
+        }
+    }
+}
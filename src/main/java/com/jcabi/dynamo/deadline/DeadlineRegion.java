@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.deadline;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Transaction;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Region, which works within a deadline.
+ *
+ * <p>Its client gives every request the remaining time, as
+ * {@link Deadline#credentials(com.jcabi.dynamo.Credentials)} does.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "deadline" })
+final class DeadlineRegion implements Region {
+
+    /**
+     * Original region.
+     */
+    private final transient Region origin;
+
+    /**
+     * The deadline.
+     */
+    private final transient Deadline deadline;
+
+    /**
+     * Public ctor.
+     * @param region Original region
+     * @param dln The deadline
+     */
+    DeadlineRegion(final Region region, final Deadline dln) {
+        this.origin = region;
+        this.deadline = dln;
+    }
+
+    @Override
+    public DynamoDbClient aws() {
+        return this.deadline.credentials(this.origin::aws).aws();
+    }
+
+    @Override
+    public Table table(final String name) {
+        return this.deadline.table(this.origin.table(name));
+    }
+
+    @Override
+    public Transaction transaction() {
+        return new DeadlineTransaction(
+            this.origin.transaction(), this.deadline
+        );
+    }
+
+    @Override
+    public List<Item> readTogether(final Collection<? extends Item> items)
+        throws IOException {
+        this.deadline.check("read items together");
+        return this.origin.readTogether(items);
+    }
+}
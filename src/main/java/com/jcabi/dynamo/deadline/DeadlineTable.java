@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.deadline;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.Table;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Table, which works within a deadline.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "deadline" })
+final class DeadlineTable implements Table {
+
+    /**
+     * Original table.
+     */
+    private final transient Table origin;
+
+    /**
+     * The deadline.
+     */
+    private final transient Deadline deadline;
+
+    /**
+     * Public ctor.
+     * @param table Original table
+     * @param dln The deadline
+     */
+    DeadlineTable(final Table table, final Deadline dln) {
+        this.origin = table;
+        this.deadline = dln;
+    }
+
+    @Override
+    public Item put(final Map<String, AttributeValue> attributes)
+        throws IOException {
+        this.deadline.check(String.format("put into \"%s\"", this.name()));
+        return this.origin.put(attributes);
+    }
+
+    @Override
+    public Item put(final Map<String, AttributeValue> attributes,
+        final Map<String, Condition> conditions) throws IOException {
+        this.deadline.check(String.format("put into \"%s\"", this.name()));
+        return this.origin.put(attributes, conditions);
+    }
+
+    @Override
+    public List<Item> putAll(
+        final Collection<? extends Map<String, AttributeValue>> items,
+        final int concurrency) throws IOException {
+        this.deadline.check(String.format("put into \"%s\"", this.name()));
+        return this.origin.putAll(items, concurrency);
+    }
+
+    @Override
+    public Frame frame() {
+        return this.deadline.frame(this.origin.frame());
+    }
+
+    @Override
+    public Region region() {
+        return this.deadline.region(this.origin.region());
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public void delete(final Map<String, AttributeValue> attributes)
+        throws IOException {
+        this.deadline.check(String.format("delete from \"%s\"", this.name()));
+        this.origin.delete(attributes);
+    }
+}
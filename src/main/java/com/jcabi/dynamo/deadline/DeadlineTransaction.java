@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.deadline;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Transaction;
+import java.io.IOException;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Transaction, which is committed only within a deadline.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "deadline" })
+final class DeadlineTransaction implements Transaction {
+
+    /**
+     * Original transaction.
+     */
+    private final transient Transaction origin;
+
+    /**
+     * The deadline.
+     */
+    private final transient Deadline deadline;
+
+    /**
+     * Public ctor.
+     * @param trn Original transaction
+     * @param dln The deadline
+     */
+    DeadlineTransaction(final Transaction trn, final Deadline dln) {
+        this.origin = trn;
+        this.deadline = dln;
+    }
+
+    @Override
+    public Transaction put(final Table table,
+        final Map<String, AttributeValue> attributes) {
+        return new DeadlineTransaction(
+            this.origin.put(table, attributes), this.deadline
+        );
+    }
+
+    @Override
+    public Transaction update(final Item item,
+        final Map<String, AttributeValueUpdate> attrs) {
+        return new DeadlineTransaction(
+            this.origin.update(item, attrs), this.deadline
+        );
+    }
+
+    @Override
+    public Transaction delete(final Item item) {
+        return new DeadlineTransaction(
+            this.origin.delete(item), this.deadline
+        );
+    }
+
+    @Override
+    public Transaction check(final Item item,
+        final Map<String, Condition> conditions) {
+        return new DeadlineTransaction(
+            this.origin.check(item, conditions), this.deadline
+        );
+    }
+
+    @Override
+    public String token() {
+        return this.origin.token();
+    }
+
+    @Override
+    public void commit() throws IOException {
+        this.deadline.check(
+            String.format("commit transaction '%s'", this.token())
+        );
+        this.origin.commit();
+    }
+}
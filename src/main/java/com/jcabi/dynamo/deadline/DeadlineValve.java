@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.deadline;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.BoundedValve;
+import com.jcabi.dynamo.Credentials;
+import com.jcabi.dynamo.Dosage;
+import com.jcabi.dynamo.Valve;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Valve, which fetches all pages within a deadline.
+ *
+ * <p>The origin gets credentials with the deadline, and its dosages
+ * keep using them for next pages.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "deadline" })
+final class DeadlineValve implements BoundedValve {
+
+    /**
+     * Original valve.
+     */
+    private final transient Valve origin;
+
+    /**
+     * The deadline.
+     */
+    private final transient Deadline deadline;
+
+    /**
+     * Public ctor.
+     * @param valve Original valve
+     * @param dln The deadline
+     */
+    DeadlineValve(final Valve valve, final Deadline dln) {
+        this.origin = valve;
+        this.deadline = dln;
+    }
+
+    // @checkstyle ParameterNumber (6 lines)
+    @Override
+    public Dosage fetch(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions,
+        final Collection<String> keys) throws IOException {
+        this.deadline.check(String.format("fetch from \"%s\"", table));
+        return this.origin.fetch(
+            this.deadline.credentials(credentials), table, conditions, keys
+        );
+    }
+
+    // @checkstyle ParameterNumber (6 lines)
+    @Override
+    public Dosage fetch(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions, final Collection<String> keys,
+        final int max) throws IOException {
+        this.deadline.check(String.format("fetch from \"%s\"", table));
+        return BoundedValve.bounded(
+            this.origin, this.deadline.credentials(credentials), table,
+            conditions, keys, max
+        );
+    }
+
+    @Override
+    public int count(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions) throws IOException {
+        this.deadline.check(String.format("count in \"%s\"", table));
+        return this.origin.count(
+            this.deadline.credentials(credentials), table, conditions
+        );
+    }
+
+    @Override
+    public Valve origin() {
+        return this.origin;
+    }
+}
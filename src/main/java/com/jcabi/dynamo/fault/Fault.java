@@ -0,0 +1,215 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.fault;
+
+import com.jcabi.aspects.Immutable;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Fault of one operation of DynamoDB, on one table.
+ *
+ * <p>Operations are named as in DynamoDB API, like {@code "Query"} or
+ * {@code "BatchWriteItem"}. For example, every query of table
+ * {@code "orders"} takes 5-50ms, one of twenty is throttled, and every
+ * page has no more than ten items:
+ *
+ * <pre> Fault fault = new Fault("Query", "orders")
+ *   .withLatency(new Latency.Uniform(5L, 50L, TimeUnit.MILLISECONDS))
+ *   .withThrottling(0.05d)
+ *   .withTruncation(10);</pre>
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+public final class Fault {
+
+    /**
+     * Any operation or any table.
+     */
+    public static final String ANY = "*";
+
+    /**
+     * Operation, or {@link #ANY}.
+     */
+    private final transient String operation;
+
+    /**
+     * Table, or {@link #ANY}.
+     */
+    private final transient String table;
+
+    /**
+     * Latency of every request.
+     */
+    private final transient Latency latency;
+
+    /**
+     * Share of throttled requests.
+     */
+    private final transient double throttling;
+
+    /**
+     * Share of items in batches, which are left unprocessed.
+     */
+    private final transient double unprocessed;
+
+    /**
+     * Maximum number of items in a page, zero if there is no maximum.
+     */
+    private final transient int truncation;
+
+    /**
+     * Public ctor, of all operations on all tables.
+     */
+    public Fault() {
+        this(Fault.ANY, Fault.ANY);
+    }
+
+    /**
+     * Public ctor.
+     * @param opr Operation, like {@code "GetItem"}, or {@link #ANY}
+     * @param tbl Table, or {@link #ANY}
+     */
+    public Fault(final String opr, final String tbl) {
+        this(opr, tbl, Latency.NONE, 0.0d, 0.0d, 0);
+    }
+
+    /**
+     * Private ctor.
+     * @param opr Operation
+     * @param tbl Table
+     * @param ltc Latency of every request
+     * @param thr Share of throttled requests
+     * @param unp Share of unprocessed items in batches
+     * @param trn Maximum number of items in a page
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private Fault(final String opr, final String tbl, final Latency ltc,
+        final double thr, final double unp, final int trn) {
+        this.operation = opr;
+        this.table = tbl;
+        this.latency = ltc;
+        this.throttling = thr;
+        this.unprocessed = unp;
+        this.truncation = trn;
+    }
+
+    /**
+     * With this latency of every request.
+     * @param ltc Latency
+     * @return New fault
+     */
+    public Fault withLatency(final Latency ltc) {
+        return new Fault(
+            this.operation, this.table, ltc,
+            this.throttling, this.unprocessed, this.truncation
+        );
+    }
+
+    /**
+     * With this share of requests, which fail with
+     * {@code ProvisionedThroughputExceededException}.
+     * @param share Share of requests, from 0 to 1
+     * @return New fault
+     */
+    public Fault withThrottling(final double share) {
+        return new Fault(
+            this.operation, this.table, this.latency,
+            Fault.share(share), this.unprocessed, this.truncation
+        );
+    }
+
+    /**
+     * With this share of items of {@code BatchWriteItem} and
+     * {@code BatchGetItem}, which are not sent and are returned as
+     * unprocessed.
+     * @param share Share of items, from 0 to 1
+     * @return New fault
+     */
+    public Fault withUnprocessed(final double share) {
+        return new Fault(
+            this.operation, this.table, this.latency,
+            this.throttling, Fault.share(share), this.truncation
+        );
+    }
+
+    /**
+     * With this maximum number of items in a page of {@code Query} and
+     * {@code Scan}, as if the page got over the size limit of DynamoDB.
+     * @param max Maximum number of items, zero if there is no maximum
+     * @return New fault
+     */
+    public Fault withTruncation(final int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException(
+                String.format("Size of page can't be negative: %d", max)
+            );
+        }
+        return new Fault(
+            this.operation, this.table, this.latency,
+            this.throttling, this.unprocessed, max
+        );
+    }
+
+    /**
+     * Does it apply to this operation on this table?
+     * @param opr Operation
+     * @param tbl Table
+     * @return TRUE if it does
+     */
+    boolean matches(final String opr, final String tbl) {
+        return (Fault.ANY.equals(this.operation) || this.operation.equals(opr))
+            && (Fault.ANY.equals(this.table) || this.table.equals(tbl));
+    }
+
+    /**
+     * Latency of every request.
+     * @return Latency
+     */
+    Latency latency() {
+        return this.latency;
+    }
+
+    /**
+     * Share of throttled requests.
+     * @return Share, from 0 to 1
+     */
+    double throttling() {
+        return this.throttling;
+    }
+
+    /**
+     * Share of items in batches, which are left unprocessed.
+     * @return Share, from 0 to 1
+     */
+    double unprocessed() {
+        return this.unprocessed;
+    }
+
+    /**
+     * Maximum number of items in a page.
+     * @return Maximum, zero if there is no maximum
+     */
+    int truncation() {
+        return this.truncation;
+    }
+
+    /**
+     * Validate the share.
+     * @param share Share
+     * @return The same share
+     */
+    private static double share(final double share) {
+        if (share < 0.0d || share > 1.0d) {
+            throw new IllegalArgumentException(
+                String.format("Share must be in [0, 1]: %f", share)
+            );
+        }
+        return share;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.fault;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Credentials;
+import com.jcabi.dynamo.Region;
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.ToString;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+/**
+ * Latencies and failures, injected into requests to DynamoDB.
+ *
+ * <p>They help to see how timeouts, retries and prefetching behave when
+ * DynamoDB slows down or throttles, without DynamoDB. The first
+ * {@link Fault}, which matches the operation and the table, applies to
+ * a request; requests without faults go as they are. For example:
+ *
+ * <pre> Faults faults = new Faults(
+ *   new Fault("Query", "orders").withTruncation(10),
+ *   new Fault().withLatency(
+ *     new Latency.Exponential(2L, 10L, TimeUnit.MILLISECONDS)
+ *   ).withThrottling(0.01d)
+ * );
+ * Region region = faults.region(new MkRegion(data));</pre>
+ *
+ * <p>Every request is affected only when it goes through
+ * {@link #credentials(Credentials)}; that's where batches get
+ * unprocessed items and pages get truncated. Faults are injected
+ * outside of the client of AWS SDK, so its own retries don't hide
+ * them. A region of {@link #region(Region)} works with any region,
+ * including {@code MkRegion}, but only tables and frames get latencies
+ * and throttling there, before every put, delete and page, while items,
+ * which frames return, are not affected. A truncated page there means
+ * that latency and throttling are injected again after every few items
+ * of a frame.
+ *
+ * <p>The object is thread-safe and may be shared by all threads of a
+ * test. With the same seed, the same faults are injected in the same
+ * order of requests.
+ *
+ * @since 0.23
+ */
+@ToString(of = "faults")
+@Loggable(Loggable.DEBUG)
+public final class Faults {
+
+    /**
+     * No fault at all.
+     */
+    private static final Fault NONE = new Fault();
+
+    /**
+     * Faults, the first matching one applies.
+     */
+    private final transient Collection<Fault> faults;
+
+    /**
+     * Source of randomness.
+     */
+    private final transient Random random;
+
+    /**
+     * Number of throttled requests.
+     */
+    private final transient AtomicLong throttled;
+
+    /**
+     * Public ctor.
+     * @param list Faults, the first matching one applies
+     */
+    public Faults(final Fault... list) {
+        this(new Random(), list);
+    }
+
+    /**
+     * Public ctor.
+     * @param seed Seed of randomness, to reproduce faults
+     * @param list Faults, the first matching one applies
+     */
+    public Faults(final long seed, final Fault... list) {
+        this(new Random(seed), list);
+    }
+
+    /**
+     * Private ctor.
+     * @param rnd Source of randomness
+     * @param list Faults
+     */
+    private Faults(final Random rnd, final Fault... list) {
+        this.faults = Collections.unmodifiableList(Arrays.asList(list));
+        this.random = rnd;
+        this.throttled = new AtomicLong();
+    }
+
+    /**
+     * Credentials, which inject faults into every request.
+     * @param origin Original credentials
+     * @return Credentials with faults
+     */
+    public Credentials credentials(final Credentials origin) {
+        return new FaultyCredentials(origin, this);
+    }
+
+    /**
+     * Region, which injects faults into operations of tables and frames.
+     * @param origin Original region
+     * @return Region with faults
+     */
+    public Region region(final Region origin) {
+        return new FaultyRegion(origin, this);
+    }
+
+    /**
+     * How many requests were throttled so far.
+     * @return Number of requests
+     */
+    public long throttled() {
+        return this.throttled.get();
+    }
+
+    /**
+     * Wait for the latency and maybe throttle the request.
+     * @param operation Operation, like {@code "GetItem"}
+     * @param table Table
+     */
+    void inject(final String operation, final String table) {
+        final Fault fault = this.fault(operation, table);
+        final Duration delay = fault.latency().next(this.random);
+        if (!delay.isZero()) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+        if (this.chance(fault.throttling())) {
+            this.throttled.incrementAndGet();
+            final String msg = String.format(
+                "%s on \"%s\" is throttled by injected fault", operation, table
+            );
+            throw ProvisionedThroughputExceededException.builder()
+                .message(msg)
+                .statusCode(HttpURLConnection.HTTP_BAD_REQUEST)
+                .awsErrorDetails(
+                    AwsErrorDetails.builder()
+                        .errorCode("ProvisionedThroughputExceededException")
+                        .errorMessage(msg)
+                        .serviceName("DynamoDb")
+                        .build()
+                )
+                .build();
+        }
+    }
+
+    /**
+     * The fault of this operation on this table.
+     * @param operation Operation, like {@code "GetItem"}
+     * @param table Table
+     * @return The first matching fault, or a fault with no effect
+     */
+    Fault fault(final String operation, final String table) {
+        Fault found = Faults.NONE;
+        for (final Fault fault : this.faults) {
+            if (fault.matches(operation, table)) {
+                found = fault;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Does it happen, with this probability?
+     * @param share Probability, from 0 to 1
+     * @return TRUE if it does
+     */
+    boolean chance(final double share) {
+        return share > 0.0d && this.random.nextDouble() < share;
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.fault;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Credentials;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Credentials, which inject faults into every request.
+ *
+ * <p>Before a request is sent, the client they build waits for the
+ * latency and maybe throttles it. Then, queries and scans get a smaller
+ * limit, if their pages are truncated, while batches are sent without
+ * a few of their items, which are returned as unprocessed.
+ *
+ * <p>The table of a batch is its first table.
+ *
+ * @since 0.23
+ */
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "faults" })
+final class FaultyCredentials implements Credentials {
+
+    /**
+     * Original credentials.
+     */
+    private final transient Credentials origin;
+
+    /**
+     * The faults.
+     */
+    private final transient Faults faults;
+
+    /**
+     * Public ctor.
+     * @param creds Original credentials
+     * @param flts The faults
+     */
+    FaultyCredentials(final Credentials creds, final Faults flts) {
+        this.origin = creds;
+        this.faults = flts;
+    }
+
+    @Override
+    public DynamoDbClient aws() {
+        return FaultyCredentials.client(this.origin.aws(), this.faults);
+    }
+
+    /**
+     * Client, which injects faults into every request.
+     * @param aws Original client
+     * @param faults The faults
+     * @return Client with faults
+     */
+    static DynamoDbClient client(final DynamoDbClient aws,
+        final Faults faults) {
+        return (DynamoDbClient) Proxy.newProxyInstance(
+            DynamoDbClient.class.getClassLoader(),
+            new Class<?>[] {DynamoDbClient.class},
+            new FaultyCredentials.Injected(aws, faults)
+        );
+    }
+
+    /**
+     * Calls of the client, with faults.
+     *
+     * @since 0.23
+     */
+    private static final class Injected implements InvocationHandler {
+
+        /**
+         * Original client.
+         */
+        private final transient DynamoDbClient client;
+
+        /**
+         * The faults.
+         */
+        private final transient Faults faults;
+
+        /**
+         * Ctor.
+         * @param aws Original client
+         * @param flts The faults
+         */
+        Injected(final DynamoDbClient aws, final Faults flts) {
+            this.client = aws;
+            this.faults = flts;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method,
+            final Object[] args) throws Throwable {
+            final Object result;
+            if (args != null && args.length == 1
+                && args[0] instanceof DynamoDbRequest) {
+                final DynamoDbRequest req = (DynamoDbRequest) args[0];
+                final String name = method.getName();
+                final String operation = String.format(
+                    "%s%s",
+                    name.substring(0, 1).toUpperCase(Locale.ENGLISH),
+                    name.substring(1)
+                );
+                final String table = Injected.table(req);
+                this.faults.inject(operation, table);
+                final int max = this.faults.fault(operation, table)
+                    .truncation();
+                if (req instanceof BatchWriteItemRequest) {
+                    result = this.write(
+                        method, (BatchWriteItemRequest) req, operation
+                    );
+                } else if (req instanceof BatchGetItemRequest) {
+                    result = this.read(
+                        method, (BatchGetItemRequest) req, operation
+                    );
+                } else if (req instanceof QueryRequest && max > 0
+                    && Injected.above(((QueryRequest) req).limit(), max)) {
+                    result = this.call(
+                        method, ((QueryRequest) req).toBuilder().limit(max)
+                            .build()
+                    );
+                } else if (req instanceof ScanRequest && max > 0
+                    && Injected.above(((ScanRequest) req).limit(), max)) {
+                    result = this.call(
+                        method, ((ScanRequest) req).toBuilder().limit(max)
+                            .build()
+                    );
+                } else {
+                    result = this.call(method, args);
+                }
+            } else {
+                result = this.call(method, args);
+            }
+            return result;
+        }
+
+        /**
+         * Send a batch of writes without a few of them.
+         * @param method Method of the client
+         * @param req The batch
+         * @param operation Operation
+         * @return Response, with unsent writes as unprocessed
+         * @throws Throwable If fails
+         */
+        private BatchWriteItemResponse write(final Method method,
+            final BatchWriteItemRequest req, final String operation)
+            throws Throwable {
+            final Map<String, List<WriteRequest>> sent =
+                new LinkedHashMap<>(0);
+            final Map<String, List<WriteRequest>> held =
+                new LinkedHashMap<>(0);
+            for (final Map.Entry<String, List<WriteRequest>> items
+                : req.requestItems().entrySet()) {
+                final double share = this.faults.fault(
+                    operation, items.getKey()
+                ).unprocessed();
+                for (final WriteRequest item : items.getValue()) {
+                    final Map<String, List<WriteRequest>> target;
+                    if (this.faults.chance(share)) {
+                        target = held;
+                    } else {
+                        target = sent;
+                    }
+                    target.computeIfAbsent(
+                        items.getKey(), key -> new ArrayList<>(1)
+                    ).add(item);
+                }
+            }
+            BatchWriteItemResponse rsp = BatchWriteItemResponse.builder()
+                .build();
+            if (!sent.isEmpty()) {
+                rsp = (BatchWriteItemResponse) this.call(
+                    method, req.toBuilder().requestItems(sent).build()
+                );
+            }
+            for (final Map.Entry<String, List<WriteRequest>> left
+                : rsp.unprocessedItems().entrySet()) {
+                held.computeIfAbsent(
+                    left.getKey(), key -> new ArrayList<>(1)
+                ).addAll(left.getValue());
+            }
+            return rsp.toBuilder().unprocessedItems(held).build();
+        }
+
+        /**
+         * Send a batch of reads without a few of them.
+         * @param method Method of the client
+         * @param req The batch
+         * @param operation Operation
+         * @return Response, with unsent keys as unprocessed
+         * @throws Throwable If fails
+         */
+        private BatchGetItemResponse read(final Method method,
+            final BatchGetItemRequest req, final String operation)
+            throws Throwable {
+            final Map<String, KeysAndAttributes> sent = new LinkedHashMap<>(0);
+            final Map<String, KeysAndAttributes> held = new LinkedHashMap<>(0);
+            for (final Map.Entry<String, KeysAndAttributes> items
+                : req.requestItems().entrySet()) {
+                final double share = this.faults.fault(
+                    operation, items.getKey()
+                ).unprocessed();
+                final List<Map<String, AttributeValue>> pass =
+                    new ArrayList<>(items.getValue().keys().size());
+                final List<Map<String, AttributeValue>> stop =
+                    new ArrayList<>(0);
+                for (final Map<String, AttributeValue> key
+                    : items.getValue().keys()) {
+                    if (this.faults.chance(share)) {
+                        stop.add(key);
+                    } else {
+                        pass.add(key);
+                    }
+                }
+                if (!pass.isEmpty()) {
+                    sent.put(
+                        items.getKey(),
+                        items.getValue().toBuilder().keys(pass).build()
+                    );
+                }
+                if (!stop.isEmpty()) {
+                    held.put(
+                        items.getKey(),
+                        items.getValue().toBuilder().keys(stop).build()
+                    );
+                }
+            }
+            BatchGetItemResponse rsp = BatchGetItemResponse.builder().build();
+            if (!sent.isEmpty()) {
+                rsp = (BatchGetItemResponse) this.call(
+                    method, req.toBuilder().requestItems(sent).build()
+                );
+            }
+            for (final Map.Entry<String, KeysAndAttributes> left
+                : rsp.unprocessedKeys().entrySet()) {
+                final KeysAndAttributes before = held.get(left.getKey());
+                if (before == null) {
+                    held.put(left.getKey(), left.getValue());
+                } else {
+                    final List<Map<String, AttributeValue>> keys =
+                        new ArrayList<>(before.keys());
+                    keys.addAll(left.getValue().keys());
+                    held.put(
+                        left.getKey(), before.toBuilder().keys(keys).build()
+                    );
+                }
+            }
+            return rsp.toBuilder().unprocessedKeys(held).build();
+        }
+
+        /**
+         * Call the original client.
+         * @param method Method of the client
+         * @param args Arguments
+         * @return Result
+         * @throws Throwable If fails
+         */
+        private Object call(final Method method, final Object... args)
+            throws Throwable {
+            try {
+                return method.invoke(this.client, args);
+            } catch (final InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+
+        /**
+         * Table of the request.
+         * @param req The request
+         * @return Table, or empty if the request has no table
+         */
+        private static String table(final DynamoDbRequest req) {
+            final String table;
+            if (req instanceof BatchWriteItemRequest) {
+                table = Injected.first(
+                    ((BatchWriteItemRequest) req).requestItems()
+                );
+            } else if (req instanceof BatchGetItemRequest) {
+                table = Injected.first(
+                    ((BatchGetItemRequest) req).requestItems()
+                );
+            } else {
+                table = req.getValueForField("TableName", String.class)
+                    .orElse("");
+            }
+            return table;
+        }
+
+        /**
+         * The first key of the map.
+         * @param map The map
+         * @return The first key, or empty if there are none
+         */
+        private static String first(final Map<String, ?> map) {
+            final String first;
+            if (map.isEmpty()) {
+                first = "";
+            } else {
+                first = map.keySet().iterator().next();
+            }
+            return first;
+        }
+
+        /**
+         * Is the limit above the maximum?
+         * @param limit Limit of the request, NULL if there is none
+         * @param max The maximum
+         * @return TRUE if it's above
+         */
+        private static boolean above(final Integer limit, final int max) {
+            return limit == null || limit > max;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.fault;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.BoundedValve;
+import com.jcabi.dynamo.Dosage;
+import com.jcabi.dynamo.Explain;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.PlannedValve;
+import com.jcabi.dynamo.QueryValve;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Valve;
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Frame, which injects faults before every page.
+ *
+ * <p>The frame reads as {@code "Query"} when it goes through a
+ * {@link QueryValve}, as {@code "Query"} or {@code "Scan"} through a
+ * {@link PlannedValve}, as its plan says, and as {@code "Scan"}
+ * otherwise. The plan comes from {@link Frame#explain(int)} without
+ * a sample, so it only takes a cached {@code DescribeTable}. Valves
+ * added by {@link #wrap(UnaryOperator)} don't change the operation.
+ * Without truncation, the whole frame is one page.
+ *
+ * @since 0.23
+ */
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(
+    callSuper = false, of = { "origin", "faults", "valve" }
+)
+final class FaultyFrame extends AbstractCollection<Item> implements Frame {
+
+    /**
+     * Original frame.
+     */
+    private final transient Frame origin;
+
+    /**
+     * The faults.
+     */
+    private final transient Faults faults;
+
+    /**
+     * The valve, which the frame reads through, before wrappers.
+     */
+    private final transient Valve valve;
+
+    /**
+     * Public ctor, with the default valve.
+     * @param frame Original frame
+     * @param flts The faults
+     */
+    FaultyFrame(final Frame frame, final Faults flts) {
+        this(frame, flts, new PlannedValve());
+    }
+
+    /**
+     * Public ctor.
+     * @param frame Original frame
+     * @param flts The faults
+     * @param vlv The valve, which the frame reads through
+     */
+    FaultyFrame(final Frame frame, final Faults flts, final Valve vlv) {
+        super();
+        this.origin = frame;
+        this.faults = flts;
+        this.valve = vlv;
+    }
+
+    @Override
+    public Iterator<Item> iterator() {
+        final String table = this.origin.table().name();
+        final String opr = this.operation();
+        return new FaultyFrame.Paged(
+            this.origin.iterator(), this.faults, opr, table,
+            this.faults.fault(opr, table).truncation()
+        );
+    }
+
+    @Override
+    public int size() {
+        this.inject(this.operation());
+        return this.origin.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        this.inject(this.operation());
+        return this.origin.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        this.inject("BatchWriteItem");
+        this.origin.clear();
+    }
+
+    @Override
+    public Frame where(final String name, final String value) {
+        return new FaultyFrame(
+            this.origin.where(name, value), this.faults, this.valve
+        );
+    }
+
+    @Override
+    public Frame where(final String name, final Condition condition) {
+        return new FaultyFrame(
+            this.origin.where(name, condition), this.faults, this.valve
+        );
+    }
+
+    @Override
+    public Frame where(final Map<String, Condition> conditions) {
+        return new FaultyFrame(
+            this.origin.where(conditions), this.faults, this.valve
+        );
+    }
+
+    @Override
+    public Frame through(final Valve vlv) {
+        return new FaultyFrame(this.origin.through(vlv), this.faults, vlv);
+    }
+
+    @Override
+    public Frame wrap(final UnaryOperator<Valve> wrapper) {
+        return new FaultyFrame(
+            this.origin.wrap(wrapper), this.faults, this.valve
+        );
+    }
+
+    @Override
+    public Frame limit(final int max) {
+        return new FaultyFrame(
+            this.origin.limit(max), this.faults, this.valve
+        );
+    }
+
+    @Override
+    public Dosage page() {
+        this.inject(this.operation());
+        return this.origin.page();
+    }
+
+    @Override
+    public Explain explain(final int sample) {
+        this.inject("DescribeTable");
+        return this.origin.explain(sample);
+    }
+
+    @Override
+    public Table table() {
+        return new FaultyTable(this.origin.table(), this.faults);
+    }
+
+    @Override
+    public void forEachParallel(final Consumer<Item> action,
+        final int concurrency) {
+        this.inject(this.operation());
+        this.origin.forEachParallel(action, concurrency);
+    }
+
+    /**
+     * Operation of reading, by the valve.
+     * @return Operation, {@code "Query"} or {@code "Scan"}
+     */
+    private String operation() {
+        final Valve inner = BoundedValve.unwrapped(this.valve);
+        final String opr;
+        if (inner instanceof QueryValve
+            || inner instanceof PlannedValve
+            && !this.origin.explain(0).isScan()) {
+            opr = "Query";
+        } else {
+            opr = "Scan";
+        }
+        return opr;
+    }
+
+    /**
+     * Inject faults of the operation on the table of the frame.
+     * @param opr Operation
+     */
+    private void inject(final String opr) {
+        this.faults.inject(opr, this.origin.table().name());
+    }
+
+    /**
+     * Iterator, which injects faults before every page.
+     *
+     * @since 0.23
+     */
+    private static final class Paged implements Iterator<Item> {
+
+        /**
+         * Original iterator.
+         */
+        private final transient Iterator<Item> origin;
+
+        /**
+         * The faults.
+         */
+        private final transient Faults faults;
+
+        /**
+         * Operation of reading.
+         */
+        private final transient String operation;
+
+        /**
+         * Table name.
+         */
+        private final transient String table;
+
+        /**
+         * Size of a page, zero if there are no pages.
+         */
+        private final transient int size;
+
+        /**
+         * Items left in the current page, zero before a new page.
+         */
+        private transient int left;
+
+        /**
+         * Ctor.
+         * @param iterator Original iterator
+         * @param flts The faults
+         * @param opr Operation of reading
+         * @param tbl Table name
+         * @param max Size of a page, zero if there are no pages
+         * @checkstyle ParameterNumber (5 lines)
+         */
+        Paged(final Iterator<Item> iterator, final Faults flts,
+            final String opr, final String tbl, final int max) {
+            this.origin = iterator;
+            this.faults = flts;
+            this.operation = opr;
+            this.table = tbl;
+            this.size = max;
+        }
+
+        @Override
+        public boolean hasNext() {
+            this.turn();
+            return this.origin.hasNext();
+        }
+
+        @Override
+        public Item next() {
+            this.turn();
+            --this.left;
+            return this.origin.next();
+        }
+
+        @Override
+        public void remove() {
+            this.origin.remove();
+        }
+
+        /**
+         * Start a new page, if the current one is over.
+         */
+        private void turn() {
+            if (this.left == 0) {
+                this.faults.inject(this.operation, this.table);
+                if (this.size > 0) {
+                    this.left = this.size;
+                } else {
+                    this.left = Integer.MAX_VALUE;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.fault;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Transaction;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Region, which injects faults into operations of tables and frames.
+ *
+ * <p>Transactions are not affected, while reading together is, as
+ * {@code TransactGetItems} with no table.
+ *
+ * @since 0.23
+ */
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "faults" })
+final class FaultyRegion implements Region {
+
+    /**
+     * Original region.
+     */
+    private final transient Region origin;
+
+    /**
+     * The faults.
+     */
+    private final transient Faults faults;
+
+    /**
+     * Public ctor.
+     * @param region Original region
+     * @param flts The faults
+     */
+    FaultyRegion(final Region region, final Faults flts) {
+        this.origin = region;
+        this.faults = flts;
+    }
+
+    @Override
+    public DynamoDbClient aws() {
+        return FaultyCredentials.client(this.origin.aws(), this.faults);
+    }
+
+    @Override
+    public Table table(final String name) {
+        return new FaultyTable(this.origin.table(name), this.faults);
+    }
+
+    @Override
+    public Transaction transaction() {
+        return this.origin.transaction();
+    }
+
+    @Override
+    public List<Item> readTogether(final Collection<? extends Item> items)
+        throws IOException {
+        this.faults.inject("TransactGetItems", "");
+        return this.origin.readTogether(items);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.fault;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.Table;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Table, which injects faults before every put and delete.
+ *
+ * @since 0.23
+ */
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "faults" })
+final class FaultyTable implements Table {
+
+    /**
+     * Original table.
+     */
+    private final transient Table origin;
+
+    /**
+     * The faults.
+     */
+    private final transient Faults faults;
+
+    /**
+     * Public ctor.
+     * @param table Original table
+     * @param flts The faults
+     */
+    FaultyTable(final Table table, final Faults flts) {
+        this.origin = table;
+        this.faults = flts;
+    }
+
+    @Override
+    public Item put(final Map<String, AttributeValue> attributes)
+        throws IOException {
+        this.faults.inject("PutItem", this.name());
+        return this.origin.put(attributes);
+    }
+
+    @Override
+    public Item put(final Map<String, AttributeValue> attributes,
+        final Map<String, Condition> conditions) throws IOException {
+        this.faults.inject("PutItem", this.name());
+        return this.origin.put(attributes, conditions);
+    }
+
+    @Override
+    public List<Item> putAll(
+        final Collection<? extends Map<String, AttributeValue>> items,
+        final int concurrency) throws IOException {
+        this.faults.inject("BatchWriteItem", this.name());
+        return this.origin.putAll(items, concurrency);
+    }
+
+    @Override
+    public Frame frame() {
+        return new FaultyFrame(this.origin.frame(), this.faults);
+    }
+
+    @Override
+    public Region region() {
+        return this.origin.region();
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public void delete(final Map<String, AttributeValue> attributes)
+        throws IOException {
+        this.faults.inject("DeleteItem", this.name());
+        this.origin.delete(attributes);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.fault;
+
+import com.jcabi.aspects.Immutable;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Distribution of latencies, which {@link Faults} inject.
+ *
+ * @since 0.23
+ */
+@Immutable
+public interface Latency {
+
+    /**
+     * No latency at all.
+     */
+    Latency NONE = new Latency.Fixed(0L, TimeUnit.MILLISECONDS);
+
+    /**
+     * Next latency.
+     * @param random Source of randomness
+     * @return Latency
+     */
+    Duration next(Random random);
+
+    /**
+     * The same latency every time.
+     *
+     * @since 0.23
+     */
+    @Immutable
+    @ToString
+    @EqualsAndHashCode
+    final class Fixed implements Latency {
+
+        /**
+         * Latency, in nanoseconds.
+         */
+        private final transient long nanos;
+
+        /**
+         * Public ctor.
+         * @param time Latency
+         * @param unit Unit of time
+         */
+        public Fixed(final long time, final TimeUnit unit) {
+            if (time < 0L) {
+                throw new IllegalArgumentException(
+                    String.format("Latency can't be negative: %d", time)
+                );
+            }
+            this.nanos = unit.toNanos(time);
+        }
+
+        @Override
+        public Duration next(final Random random) {
+            return Duration.ofNanos(this.nanos);
+        }
+    }
+
+    /**
+     * Latency, uniformly distributed between two bounds.
+     *
+     * @since 0.23
+     */
+    @Immutable
+    @ToString
+    @EqualsAndHashCode
+    final class Uniform implements Latency {
+
+        /**
+         * Minimum latency, in nanoseconds.
+         */
+        private final transient long min;
+
+        /**
+         * Maximum latency, in nanoseconds.
+         */
+        private final transient long max;
+
+        /**
+         * Public ctor.
+         * @param low Minimum latency
+         * @param high Maximum latency
+         * @param unit Unit of time
+         */
+        public Uniform(final long low, final long high, final TimeUnit unit) {
+            if (low < 0L || high < low) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Invalid bounds of latency: [%d, %d]", low, high
+                    )
+                );
+            }
+            this.min = unit.toNanos(low);
+            this.max = unit.toNanos(high);
+        }
+
+        @Override
+        public Duration next(final Random random) {
+            return Duration.ofNanos(
+                this.min + (long) (random.nextDouble() * (this.max - this.min))
+            );
+        }
+    }
+
+    /**
+     * Latency with a long tail: a floor plus an exponentially
+     * distributed part with the given mean.
+     *
+     * <p>Most latencies are close to the floor, while a few are many
+     * times longer than the mean, which is how latencies of DynamoDB
+     * look under load.
+     *
+     * @since 0.23
+     */
+    @Immutable
+    @ToString
+    @EqualsAndHashCode
+    final class Exponential implements Latency {
+
+        /**
+         * Minimum latency, in nanoseconds.
+         */
+        private final transient long floor;
+
+        /**
+         * Mean of the exponential part, in nanoseconds.
+         */
+        private final transient long mean;
+
+        /**
+         * Public ctor.
+         * @param low Minimum latency
+         * @param avg Mean of latencies above the minimum
+         * @param unit Unit of time
+         */
+        public Exponential(final long low, final long avg,
+            final TimeUnit unit) {
+            if (low < 0L || avg < 0L) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid latency: %d + %d", low, avg)
+                );
+            }
+            this.floor = unit.toNanos(low);
+            this.mean = unit.toNanos(avg);
+        }
+
+        @Override
+        public Duration next(final Random random) {
+            return Duration.ofNanos(
+                this.floor
+                    + (long) (-Math.log(1.0d - random.nextDouble()) * this.mean)
+            );
+        }
+    }
+}
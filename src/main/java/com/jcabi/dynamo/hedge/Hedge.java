@@ -0,0 +1,315 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.hedge;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Valve;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.ToString;
+
+/**
+ * Hedging policy of reads.
+ *
+ * <p>A read is sent to DynamoDB and, if there is no response within
+ * the given percentile of recent latencies, the same read is sent
+ * once again. Whichever response comes first is used, the other
+ * one is abandoned. Hedges are capped at the given share of all
+ * reads, so the extra capacity they consume stays bounded. For example,
+ * reads slower than 95% of others are hedged, but no more than 5% of
+ * them:
+ *
+ * <pre> Hedge hedge = new Hedge(95.0d, 0.05d, 10L, TimeUnit.MILLISECONDS);
+ * Frame frame = table.frame()
+ *   .where("id", "42")
+ *   .through(hedge.valve(new QueryValve()));
+ * Item item = hedge.item(frame.iterator().next());</pre>
+ *
+ * <p>Only reads are hedged, since writes may be not idempotent.
+ * Until enough latencies are collected, nothing is hedged. The object
+ * is thread-safe and is supposed to be shared by all readers of the
+ * same table.
+ *
+ * @since 0.23
+ */
+@ToString(of = { "percentile", "ratio", "floor" })
+@Loggable(Loggable.DEBUG)
+public final class Hedge {
+
+    /**
+     * Threads of all reads.
+     */
+    private static final ExecutorService THREADS =
+        Executors.newCachedThreadPool(
+            runnable -> {
+                final Thread thread = new Thread(runnable, "hedge");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+
+    /**
+     * How many latencies to remember.
+     */
+    private static final int WINDOW = 1000;
+
+    /**
+     * How many latencies are needed before hedging starts.
+     */
+    private static final int WARMUP = 20;
+
+    /**
+     * How often to recalculate the delay, in reads.
+     */
+    private static final int RECALC = 50;
+
+    /**
+     * Percentile of latencies to wait for, before hedging.
+     */
+    private final transient double percentile;
+
+    /**
+     * Maximum share of hedged reads.
+     */
+    private final transient double ratio;
+
+    /**
+     * Minimum delay before hedging, in nanoseconds.
+     */
+    private final transient long floor;
+
+    /**
+     * Recent latencies, in nanoseconds, ring buffer.
+     */
+    private final transient long[] latencies;
+
+    /**
+     * Total number of reads.
+     */
+    private final transient AtomicLong reads;
+
+    /**
+     * Total number of hedged reads.
+     */
+    private final transient AtomicLong hedges;
+
+    /**
+     * Current delay before hedging, in nanoseconds.
+     */
+    private final transient AtomicLong delay;
+
+    /**
+     * Public ctor, with 95th percentile, 5% of hedges and 5ms floor.
+     */
+    public Hedge() {
+        // @checkstyle MagicNumber (1 line)
+        this(95.0d, 0.05d, 5L, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Public ctor.
+     * @param pct Percentile of latencies to wait for, like 95.0
+     * @param share Maximum share of hedged reads, like 0.05
+     * @param min Minimum delay before hedging
+     * @param unit Unit of time
+     */
+    public Hedge(final double pct, final double share, final long min,
+        final TimeUnit unit) {
+        // @checkstyle MagicNumber (1 line)
+        if (pct <= 0.0d || pct > 100.0d) {
+            throw new IllegalArgumentException(
+                String.format("Percentile must be in (0, 100]: %f", pct)
+            );
+        }
+        if (share < 0.0d || share > 1.0d) {
+            throw new IllegalArgumentException(
+                String.format("Share of hedges must be in [0, 1]: %f", share)
+            );
+        }
+        this.percentile = pct;
+        this.ratio = share;
+        this.floor = unit.toNanos(min);
+        this.latencies = new long[Hedge.WINDOW];
+        this.reads = new AtomicLong();
+        this.hedges = new AtomicLong();
+        this.delay = new AtomicLong(Long.MAX_VALUE);
+    }
+
+    /**
+     * Make a valve with hedged first pages.
+     * @param origin Original valve
+     * @return Hedged valve
+     */
+    public Valve valve(final Valve origin) {
+        return new HedgedValve(origin, this);
+    }
+
+    /**
+     * Make an item with hedged reads of attributes.
+     * @param origin Original item
+     * @return Hedged item
+     */
+    public Item item(final Item origin) {
+        return new HedgedItem(origin, this);
+    }
+
+    /**
+     * How many reads were hedged so far.
+     * @return Number of hedged reads
+     */
+    public long hedged() {
+        return this.hedges.get();
+    }
+
+    /**
+     * Read, with a hedge if it's slow.
+     * @param read The read
+     * @param <T> Type of result
+     * @return Result of the read, which responded first
+     * @throws IOException If both reads fail
+     */
+    public <T> T read(final Hedge.Read<T> read) throws IOException {
+        final long start = System.nanoTime();
+        final CompletionService<T> service =
+            new ExecutorCompletionService<>(Hedge.THREADS);
+        final Future<T> first = service.submit(read::read);
+        Future<T> second = null;
+        try {
+            Future<T> done = service.poll(
+                this.delay.get(), TimeUnit.NANOSECONDS
+            );
+            if (done == null && this.allowed()) {
+                second = service.submit(read::read);
+            }
+            if (done == null) {
+                done = service.take();
+            }
+            final T result = Hedge.result(service, done, second != null);
+            this.record(System.nanoTime() - start);
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        } finally {
+            first.cancel(true);
+            if (second != null) {
+                second.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Can we hedge one more read?
+     * @return TRUE if we can
+     */
+    private boolean allowed() {
+        long current;
+        boolean allowed;
+        do {
+            current = this.hedges.get();
+            allowed = current + 1L <= (long) (this.ratio * this.reads.get());
+        } while (allowed && !this.hedges.compareAndSet(current, current + 1L));
+        return allowed;
+    }
+
+    /**
+     * Record the latency of a read.
+     * @param nanos Latency, in nanoseconds
+     */
+    private void record(final long nanos) {
+        final long count = this.reads.getAndIncrement();
+        synchronized (this.latencies) {
+            this.latencies[(int) (count % Hedge.WINDOW)] = nanos;
+        }
+        if (count + 1L == Hedge.WARMUP
+            || count + 1L > Hedge.WARMUP && count % Hedge.RECALC == 0L) {
+            final long[] sorted;
+            synchronized (this.latencies) {
+                sorted = Arrays.copyOf(
+                    this.latencies,
+                    (int) Math.min(count + 1L, (long) Hedge.WINDOW)
+                );
+            }
+            Arrays.sort(sorted);
+            // @checkstyle MagicNumber (1 line)
+            final int idx = (int) Math.ceil(this.percentile / 100.0d
+                * sorted.length) - 1;
+            this.delay.set(Math.max(this.floor, sorted[Math.max(idx, 0)]));
+        }
+    }
+
+    /**
+     * Get the result of the first successful read.
+     * @param service Service with the reads
+     * @param done The read finished first
+     * @param hedged TRUE if there is another read in flight
+     * @param <T> Type of result
+     * @return Result
+     * @throws IOException If fails
+     * @throws InterruptedException If interrupted
+     */
+    private static <T> T result(final CompletionService<T> service,
+        final Future<T> done, final boolean hedged)
+        throws IOException, InterruptedException {
+        T result;
+        try {
+            result = done.get();
+        } catch (final ExecutionException ex) {
+            if (!hedged) {
+                throw Hedge.unwrap(ex);
+            }
+            try {
+                result = service.take().get();
+            } catch (final ExecutionException again) {
+                throw Hedge.unwrap(again);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Unwrap the failure of a read.
+     * @param ex The failure
+     * @return Exception to throw
+     */
+    private static IOException unwrap(final ExecutionException ex) {
+        final Throwable cause = ex.getCause();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        final IOException failure;
+        if (cause instanceof IOException) {
+            failure = (IOException) cause;
+        } else {
+            failure = new IOException(cause);
+        }
+        return failure;
+    }
+
+    /**
+     * Read to hedge.
+     *
+     * @param <T> Type of result
+     * @since 0.23
+     */
+    @FunctionalInterface
+    public interface Read<T> {
+        /**
+         * Read.
+         * @return Result
+         * @throws IOException If fails
+         */
+        T read() throws IOException;
+    }
+}
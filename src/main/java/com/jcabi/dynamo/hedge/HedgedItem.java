@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.hedge;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.UpdateExpression;
+import java.io.IOException;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+
+/**
+ * Item with hedged reads of attributes.
+ *
+ * <p>Only reads, which go to DynamoDB, are hedged: attributes loaded
+ * already are returned right away. Writes go straight to the original
+ * item, without hedging.
+ *
+ * <p>The class is NOT immutable, even though {@link Item} is, since
+ * it holds a {@link Hedge}, which is mutable. It is thread-safe.
+ *
+ * @since 0.23
+ */
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "hedge" })
+final class HedgedItem implements Item {
+
+    /**
+     * Original item.
+     */
+    private final transient Item origin;
+
+    /**
+     * Hedging policy.
+     */
+    private final transient Hedge hedge;
+
+    /**
+     * Public ctor.
+     * @param item Origin item
+     * @param policy Hedging policy
+     */
+    HedgedItem(final Item item, final Hedge policy) {
+        this.origin = item;
+        this.hedge = policy;
+    }
+
+    @Override
+    public AttributeValue get(final String name) throws IOException {
+        AttributeValue value = this.origin.loaded().get(name);
+        if (value == null) {
+            value = this.hedge.read(() -> this.origin.get(name));
+        }
+        return value;
+    }
+
+    @Override
+    public boolean has(final String name) throws IOException {
+        return this.origin.loaded().containsKey(name)
+            || this.hedge.read(() -> this.origin.has(name));
+    }
+
+    @Override
+    public Map<String, AttributeValue> put(final String name,
+        final AttributeValueUpdate value) throws IOException {
+        return this.origin.put(name, value);
+    }
+
+    @Override
+    public Map<String, AttributeValue> put(
+        final Map<String, AttributeValueUpdate> attrs) throws IOException {
+        return this.origin.put(attrs);
+    }
+
+    @Override
+    public Map<String, AttributeValue> update(
+        final UpdateExpression expression) throws IOException {
+        return this.origin.update(expression);
+    }
+
+    @Override
+    public Map<String, AttributeValue> loaded() {
+        return this.origin.loaded();
+    }
+
+    @Override
+    public Frame frame() {
+        return this.origin.frame();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.hedge;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.BoundedValve;
+import com.jcabi.dynamo.Credentials;
+import com.jcabi.dynamo.Dosage;
+import com.jcabi.dynamo.Valve;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Valve with hedged first page.
+ *
+ * <p>Only the first page is hedged, since its latency is what the
+ * reader waits for. Next pages and counting are not hedged: a duplicate
+ * of a long scan would cost too much capacity.
+ *
+ * <p>The class is NOT immutable, even though {@link Valve} is, since
+ * it holds a {@link Hedge}, which is mutable. It is thread-safe.
+ *
+ * @since 0.23
+ */
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "hedge" })
+final class HedgedValve implements BoundedValve {
+
+    /**
+     * Original valve.
+     */
+    private final transient Valve origin;
+
+    /**
+     * Hedging policy.
+     */
+    private final transient Hedge hedge;
+
+    /**
+     * Public ctor.
+     * @param valve Origin valve
+     * @param policy Hedging policy
+     */
+    HedgedValve(final Valve valve, final Hedge policy) {
+        this.origin = valve;
+        this.hedge = policy;
+    }
+
+    // @checkstyle ParameterNumber (6 lines)
+    @Override
+    public Dosage fetch(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions,
+        final Collection<String> keys) throws IOException {
+        return this.hedge.read(
+            () -> this.origin.fetch(credentials, table, conditions, keys)
+        );
+    }
+
+    // @checkstyle ParameterNumber (6 lines)
+    @Override
+    public Dosage fetch(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions, final Collection<String> keys,
+        final int max) throws IOException {
+        return this.hedge.read(
+            () -> BoundedValve.bounded(
+                this.origin, credentials, table, conditions, keys, max
+            )
+        );
+    }
+
+    @Override
+    public int count(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions) throws IOException {
+        return this.origin.count(credentials, table, conditions);
+    }
+
+    @Override
+    public Valve origin() {
+        return this.origin;
+    }
+}
@@ -6,7 +6,9 @@ package com.jcabi.dynamo.mock;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.dynamo.AttributeUpdates;
@@ -14,83 +16,78 @@ import com.jcabi.dynamo.Attributes;
 import com.jcabi.dynamo.Conditions;
 import com.jcabi.jdbc.JdbcSession;
 import com.jcabi.jdbc.ListOutcome;
-import com.jcabi.jdbc.Outcome;
+import com.jcabi.jdbc.SingleOutcome;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.apache.commons.codec.binary.Base32;
-import org.h2.jdbcx.JdbcDataSource;
+import org.h2.jdbcx.JdbcConnectionPool;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeAction;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
-import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
 
 /**
  * Mock data in H2 database.
  *
+ * <p>Connections to the database are pooled, and H2 keeps parsed
+ * statements in every connection. SQL is generated once for every
+ * table and set of columns and is kept in this object, so repeated
+ * calls of the same shape neither format nor parse it again. Call
+ * {@link #close()} when the data is not needed anymore, to close all
+ * connections and the database.
+ *
+ * <p>Types of attributes may be declared in {@link #with(String,
+ * String[], String...)}, after a colon: {@code "age:N"}, {@code "photo:B"},
+ * {@code "tags:SS"}. Numbers are kept as {@code DECFLOAT} and compared
+ * as numbers, binaries as {@code VARBINARY}, and sets, lists, maps and
+ * booleans are packed into {@code VARBINARY}. Attributes without a type
+ * are kept as text, together with the type of every value, and are
+ * compared as text. In any case, values are read back with the types
+ * they were written with. Attributes, which are not declared, are added
+ * to the table, without a type, when they are written for the first
+ * time, so tables are as free of schema as they are in DynamoDB.
+ * Tables made by older versions, which kept
+ * all values as plain text, are not readable and have to be made again.
+ *
+ * <p>All comparison operators are supported. Conditions are checked by
+ * H2, in SQL, whenever it can do it exactly as DynamoDB does. The rest,
+ * such as {@code CONTAINS} in sets or comparisons of numbers in columns
+ * without a type, are checked after rows are read.
+ *
  * @since 0.10
  */
 @Immutable
 @ToString
 @Loggable(Loggable.DEBUG)
 @EqualsAndHashCode(of = "jdbc")
-public final class H2Data implements MkData {
-
-    /**
-     * Fetcher of rows.
-     */
-    private static final Outcome<Iterable<Attributes>> OUTCOME =
-        // @checkstyle AnonInnerLengthCheck (50 lines)
-        new Outcome<Iterable<Attributes>>() {
-            @Override
-            public Iterable<Attributes> handle(final ResultSet rset,
-                final Statement stmt) throws SQLException {
-                final Collection<Attributes> items = new LinkedList<>();
-                while (rset.next()) {
-                    items.add(this.fetch(rset));
-                }
-                return items;
-            }
-
-            /**
-             * Convert result set to Attributes.
-             * @param rset Result set
-             * @return Attribs
-             * @throws SQLException If fails
-             */
-            private Attributes fetch(final ResultSet rset) throws SQLException {
-                final ResultSetMetaData meta = rset.getMetaData();
-                Attributes attrs = new Attributes();
-                for (int idx = 0; idx < meta.getColumnCount(); ++idx) {
-                    final String text = rset.getString(idx + 1);
-                    final AttributeValue value;
-                    if (text.matches("[0-9]+")) {
-                        value = AttributeValue.builder().s(text).n(text).build();
-                    } else {
-                        value = AttributeValue.builder().s(text).build();
-                    }
-                    attrs = attrs.with(
-                        meta.getColumnName(idx + 1).toLowerCase(Locale.ENGLISH),
-                        value
-                    );
-                }
-                return attrs;
-            }
-        };
+public final class H2Data implements MkData, Closeable {
 
     /**
      * Where clause.
@@ -98,64 +95,75 @@ public final class H2Data implements MkData {
     private static final Function<String, String> WHERE =
         key -> String.format("`%s` = ?", key);
 
-    /**
-     * Select WHERE.
-     * @checkstyle AnonInnerLengthCheck (100 lines)
-     * @checkstyle LineLength (3 lines)
-     */
-    private static final Function<Map.Entry<String, Condition>, String> SELECT_WHERE = cnd -> {
-        final String opr;
-        if (cnd.getValue().comparisonOperatorAsString()
-            .equals(ComparisonOperator.GT.toString())) {
-            opr = ">";
-        } else if (cnd.getValue().comparisonOperatorAsString()
-            .equals(ComparisonOperator.LT.toString())) {
-            opr = "<";
-        } else if (cnd.getValue().comparisonOperatorAsString()
-            .equals(ComparisonOperator.EQ.toString())) {
-            opr = "=";
-        } else {
-            throw new UnsupportedOperationException(
-                String.format(
-                    // @checkstyle LineLength (1 line)
-                    "At the moment only EQ/GT/LT operators are supported: %s",
-                    cnd.getValue().comparisonOperatorAsString()
-                )
-            );
-        }
-        return String.format(
-            "`%s` %s ?", cnd.getKey(), opr
-        );
-    };
-
     /**
      * Declare a key column.
      */
     private static final Function<String, String> CREATE_KEY =
-        key -> String.format("`%s` VARCHAR NOT NULL", key);
+        key -> String.format(
+            "`%s` %s COMMENT '%s' NOT NULL", H2Data.name(key),
+            H2Data.Kind.declared(key).type(), H2Data.Kind.declared(key)
+        );
 
     /**
      * Quote a key column name for use inside a PRIMARY KEY clause.
      */
     private static final Function<String, String> QUOTE_KEY =
-        key -> String.format("`%s`", key);
+        key -> String.format("`%s`", H2Data.name(key));
 
     /**
      * Create attr.
      */
     private static final Function<String, String> CREATE_ATTR =
-        key -> String.format("`%s` CLOB", key);
+        key -> String.format(
+            "`%s` %s COMMENT '%s'", H2Data.name(key),
+            H2Data.Kind.declared(key).type(), H2Data.Kind.declared(key)
+        );
 
     /**
      * WHERE clauses are joined with this.
      */
     private static final String AND = " AND ";
 
+    /**
+     * Maximum number of rows in a page, read at once.
+     */
+    private static final int FETCH = 256;
+
+    /**
+     * Maximum number of rows in a JDBC batch.
+     */
+    private static final int BATCH = 1000;
+
+    /**
+     * Hidden column, which orders rows with equal keys.
+     */
+    private static final String ROWID = "_ROWID_";
+
+    /**
+     * Maximum number of pooled connections.
+     */
+    private static final int CONNECTIONS = 16;
+
+    /**
+     * Separator of parts of a statement shape.
+     */
+    private static final String SHAPE = "\u0000";
+
     /**
      * JDBC data source.
      */
     private final transient DataSource jdbc;
 
+    /**
+     * SQL statements and encoded table names, by their shape.
+     */
+    private final transient Map<String, String> queries;
+
+    /**
+     * Kinds of columns of every table.
+     */
+    private final transient Map<String, Map<String, H2Data.Kind>> columns;
+
     /**
      * Public ctor.
      * @throws IOException If fails
@@ -175,6 +183,17 @@ public final class H2Data implements MkData {
                 file.getAbsolutePath()
             )
         );
+        this.queries = new ConcurrentHashMap<>(0);
+        this.columns = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Close all connections of the pool, and the database with them.
+     * All later calls fail with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        ((JdbcConnectionPool) this.jdbc).dispose();
     }
 
     @Override
@@ -183,8 +202,8 @@ public final class H2Data implements MkData {
             return new JdbcSession(this.jdbc)
                 // @checkstyle LineLength (1 line)
                 .sql(
-                "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE WHERE TABLE_NAME = ?"
-                ).set(H2Data.encodeTableName(table))
+                "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE WHERE TABLE_NAME = ? ORDER BY ORDINAL_POSITION"
+                ).set(this.encoded(table))
                 .select(
                     new ListOutcome<>(
                         rset -> rset.getString(1).toLowerCase(Locale.ENGLISH)
@@ -195,81 +214,320 @@ public final class H2Data implements MkData {
         }
     }
 
+    @Override
+    public Iterable<String> keys(final String table, final String index)
+        throws IOException {
+        final Iterable<String> keys;
+        if (index.isEmpty()) {
+            keys = this.keys(table);
+        } else {
+            keys = this.indexed(table, index);
+        }
+        return keys;
+    }
+
     @Override
     public Iterable<Attributes> iterate(final String table,
         final Conditions conds) throws IOException {
+        return this.select(table, conds, Collections.emptyList(), true);
+    }
+
+    @Override
+    public Iterable<Attributes> iterate(final String table,
+        final String index, final Conditions conds, final boolean forward)
+        throws IOException {
+        return this.select(
+            table, conds, MkFrame.order(this, table, index), forward
+        );
+    }
+
+    /**
+     * With this secondary index of the table.
+     *
+     * <p>Items are in the index only if they have all its keys, as in
+     * DynamoDB, where all attributes are projected into it. There is no
+     * difference between local and global indexes here.
+     *
+     * @param table Table name
+     * @param index Name of the index
+     * @param keys Hash key and maybe range key of the index
+     * @return New data, modified
+     * @throws IOException If fails
+     * @since 0.23
+     */
+    @Override
+    public H2Data withIndex(final String table, final String index,
+        final String... keys) throws IOException {
+        if (keys.length == 0 || keys.length > 2) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Index %s of %s table must have one or two keys",
+                    index, table
+                )
+            );
+        }
         try {
-            final StringBuilder sql = new StringBuilder("SELECT * FROM ")
-                .append(H2Data.encodeTableName(table));
-            if (!conds.isEmpty()) {
-                sql.append(" WHERE ");
-                Joiner.on(H2Data.AND).appendTo(
-                    sql,
-                    Iterables.transform(conds.entrySet(), H2Data.SELECT_WHERE)
-                );
-            }
-            JdbcSession session = new JdbcSession(this.jdbc)
-                .sql(sql.toString());
-            for (final Condition cond : conds.values()) {
-                if (cond.attributeValueList().size() != 1) {
-                    throw new UnsupportedOperationException(
-                        "At the moment only one value of condition is supported"
-                    );
+            new JdbcSession(this.jdbc).sql(
+                String.format(
+                    "CREATE INDEX %s ON %s (%s)",
+                    H2Data.encodeIndexName(table, index),
+                    H2Data.encodeTableName(table),
+                    Joiner.on(',').join(
+                        Iterables.transform(
+                            Arrays.asList(keys), H2Data.QUOTE_KEY
+                        )
+                    )
+                )
+            ).execute();
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        }
+        return this;
+    }
+
+    @Override
+    public int count(final String table, final String index,
+        final Conditions conds) throws IOException {
+        final List<String> keys;
+        if (index.isEmpty()) {
+            keys = Collections.emptyList();
+        } else {
+            keys = this.indexed(table, index);
+        }
+        final Map<String, H2Data.Kind> kinds = this.kinds(table);
+        final Conditions pushed = H2Data.pushed(kinds, conds, true);
+        if (pushed.size() < conds.size()) {
+            return Iterables.size(this.select(table, conds, keys, true));
+        }
+        final List<Object> args = H2Data.args(kinds, pushed);
+        JdbcSession session = new JdbcSession(this.jdbc).sql(
+            this.sql(
+                H2Data.shape("COUNT", table, pushed, keys),
+                () -> {
+                    final StringBuilder sql = new StringBuilder(
+                        "SELECT COUNT(*) FROM "
+                    ).append(H2Data.encodeTableName(table));
+                    final Collection<String> where =
+                        H2Data.where(pushed, keys);
+                    if (!where.isEmpty()) {
+                        sql.append(" WHERE ");
+                        Joiner.on(H2Data.AND).appendTo(sql, where);
+                    }
+                    return sql.toString();
                 }
-                session = session.set(H2Data.value(cond.attributeValueList().get(0)));
-            }
-            return session.select(H2Data.OUTCOME);
+            )
+        );
+        for (final Object arg : args) {
+            session = session.set(arg);
+        }
+        try {
+            return session.select(new SingleOutcome<>(Long.class)).intValue();
         } catch (final SQLException ex) {
             throw new IOException(ex);
         }
     }
 
+    /**
+     * Select items, ordered by keys.
+     *
+     * <p>Rows are read lazily, by pages of {@link #FETCH} rows, each
+     * page starting right after the last row of the previous one, as
+     * DynamoDB does with its cursors. No connection is kept between
+     * pages, so an iterator, which is not read to the end, doesn't
+     * hold anything.
+     *
+     * @param table Table name
+     * @param conds Conditions
+     * @param keys Keys to order by, which must be present, or empty
+     * @param forward Ascending order
+     * @return Items
+     * @throws IOException If fails
+     */
+    private Iterable<Attributes> select(final String table,
+        final Conditions conds, final List<String> keys,
+        final boolean forward) throws IOException {
+        final Map<String, H2Data.Kind> kinds = this.kinds(table);
+        final Conditions pushed = H2Data.pushed(kinds, conds, true);
+        final Conditions rest = H2Data.pushed(kinds, conds, false);
+        final List<Object> args = H2Data.args(kinds, pushed);
+        final List<String> order = H2Data.ordered(kinds, keys);
+        final String[] sql = new String[2];
+        for (int idx = 0; idx < sql.length; ++idx) {
+            final boolean next = idx > 0;
+            sql[idx] = this.sql(
+                H2Data.shape(
+                    String.format("SELECT%b%b", forward, next),
+                    table, pushed, keys
+                ),
+                () -> H2Data.selection(
+                    table, pushed, keys, order, forward, next
+                )
+            );
+        }
+        final Iterable<Attributes> rows = () -> new H2Data.Rows(
+            this.jdbc, kinds, sql, args, order
+        );
+        final Iterable<Attributes> items;
+        if (rest.isEmpty()) {
+            items = rows;
+        } else {
+            items = Iterables.filter(rows, rest::matches);
+        }
+        return items;
+    }
+
     @Override
     public void put(final String table, final Attributes attrs)
         throws IOException {
         try {
+            final Map<String, H2Data.Kind> kinds = this.kinds(
+                table, attrs.keySet()
+            );
             JdbcSession session = new JdbcSession(this.jdbc);
-            for (final AttributeValue value : attrs.values()) {
-                session = session.set(H2Data.value(value));
+            for (final Map.Entry<String, AttributeValue> attr
+                : attrs.entrySet()) {
+                session = session.set(
+                    H2Data.kind(kinds, attr.getKey()).bind(attr.getValue())
+                );
             }
-            session.sql(
-                String.format(
-                    "INSERT INTO %s (%s) VALUES (%s)",
-                    H2Data.encodeTableName(table),
-                    attrs.keySet()
-                        .stream()
-                        .map(a -> String.format("`%s`", a))
-                        .collect(Collectors.joining(", ")),
-                    Joiner.on(',').join(Collections.nCopies(attrs.size(), "?"))
-                )
-            );
+            session.sql(this.insertion(table, attrs.keySet()));
             session.execute();
         } catch (final SQLException ex) {
             throw new IOException(ex);
         }
     }
 
+    @Override
+    public void putAll(final String table, final Iterable<Attributes> items)
+        throws IOException {
+        this.batch(
+            this.kinds(
+                table,
+                Iterables.concat(Iterables.transform(items, Attributes::keySet))
+            ),
+            items,
+            item -> this.insertion(table, item.keySet())
+        );
+    }
+
+    @Override
+    public Iterable<Attributes> getAll(final String table,
+        final Iterable<Attributes> keys) throws IOException {
+        final Map<String, H2Data.Kind> kinds = this.kinds(table);
+        final List<String> names = Lists.newArrayList(this.keys(table));
+        final List<Attributes> found = new ArrayList<>(0);
+        for (final List<Attributes> chunk
+            : Iterables.partition(keys, H2Data.FETCH)) {
+            JdbcSession session = new JdbcSession(this.jdbc).sql(
+                this.sql(
+                    H2Data.shape(
+                        "GET", table,
+                        Iterables.concat(
+                            names,
+                            Collections.singleton(
+                                String.valueOf(chunk.size())
+                            )
+                        )
+                    ),
+                    () -> String.format(
+                        "SELECT * FROM %s WHERE (%s) IN (%s)",
+                        H2Data.encodeTableName(table),
+                        Joiner.on(", ").join(
+                            Iterables.transform(names, H2Data.QUOTE_KEY)
+                        ),
+                        Joiner.on(", ").join(
+                            Collections.nCopies(
+                                chunk.size(),
+                                String.format(
+                                    "(%s)",
+                                    Joiner.on(", ").join(
+                                        Collections.nCopies(names.size(), "?")
+                                    )
+                                )
+                            )
+                        )
+                    )
+                )
+            );
+            for (final Attributes key : chunk) {
+                for (final String name : names) {
+                    final AttributeValue value = key.get(name);
+                    if (value == null) {
+                        throw new IllegalArgumentException(
+                            String.format(
+                                "Key \"%s\" is missing in %s", name, key
+                            )
+                        );
+                    }
+                    session = session.set(
+                        H2Data.kind(kinds, name).bind(value)
+                    );
+                }
+            }
+            try {
+                found.addAll(
+                    session.select(
+                        (rset, stmt) -> {
+                            final int total =
+                                rset.getMetaData().getColumnCount();
+                            final List<Attributes> items = new ArrayList<>(
+                                chunk.size()
+                            );
+                            while (rset.next()) {
+                                items.add(
+                                    H2Data.attributes(kinds, rset, total)
+                                );
+                            }
+                            return items;
+                        }
+                    )
+                );
+            } catch (final SQLException ex) {
+                throw new IOException(ex);
+            }
+        }
+        return found;
+    }
+
     @Override
     public void update(final String table, final Attributes keys,
         final AttributeUpdates attrs)
         throws IOException {
         try {
+            final Map<String, H2Data.Kind> kinds = this.kinds(
+                table, attrs.keySet()
+            );
             JdbcSession session = new JdbcSession(this.jdbc);
-            for (final AttributeValueUpdate value : attrs.values()) {
-                session = session.set(H2Data.value(value.value()));
-            }
-            for (final AttributeValue value : keys.values()) {
-                session = session.set(H2Data.value(value));
+            for (final Map.Entry<String, AttributeValueUpdate> attr
+                : attrs.entrySet()) {
+                final Object value;
+                if (attr.getValue().action() == AttributeAction.DELETE) {
+                    value = null;
+                } else {
+                    value = H2Data.kind(kinds, attr.getKey())
+                        .bind(attr.getValue().value());
+                }
+                session = session.set(value);
             }
+            session = H2Data.bind(session, kinds, keys);
             session.sql(
-                String.format(
-                    "UPDATE %s SET %s WHERE %s",
-                    H2Data.encodeTableName(table),
-                    Joiner.on(',').join(
-                        Iterables.transform(attrs.keySet(), H2Data.WHERE)
+                this.sql(
+                    H2Data.shape(
+                        "UPDATE", table,
+                        Iterables.concat(
+                            attrs.keySet(), Collections.singleton(H2Data.AND),
+                            keys.keySet()
+                        )
                     ),
-                    Joiner.on(H2Data.AND).join(
-                        Iterables.transform(keys.keySet(), H2Data.WHERE)
+                    () -> String.format(
+                        "UPDATE %s SET %s WHERE %s",
+                        H2Data.encodeTableName(table),
+                        Joiner.on(',').join(
+                            Iterables.transform(attrs.keySet(), H2Data.WHERE)
+                        ),
+                        Joiner.on(H2Data.AND).join(
+                            Iterables.transform(keys.keySet(), H2Data.WHERE)
+                        )
                     )
                 )
             );
@@ -283,33 +541,39 @@ public final class H2Data implements MkData {
     public void delete(final String table, final Attributes keys)
         throws IOException {
         try {
-            JdbcSession session = new JdbcSession(this.jdbc);
-            for (final AttributeValue value : keys.values()) {
-                session = session.set(H2Data.value(value));
-            }
-            session.sql(
-                String.format(
-                    "DELETE FROM %s WHERE %s",
-                    H2Data.encodeTableName(table),
-                    Joiner.on(H2Data.AND).join(
-                        Iterables.transform(keys.keySet(), H2Data.WHERE)
-                    )
-                )
+            final JdbcSession session = H2Data.bind(
+                new JdbcSession(this.jdbc), this.kinds(table), keys
             );
+            session.sql(this.deletion(table, keys.keySet()));
             session.execute();
         } catch (final SQLException ex) {
             throw new IOException(ex);
         }
     }
 
+    @Override
+    public void deleteAll(final String table, final Iterable<Attributes> keys)
+        throws IOException {
+        this.batch(
+            this.kinds(table), keys,
+            key -> this.deletion(table, key.keySet())
+        );
+    }
+
     /**
      * With this table, that has given primary keys.
+     *
+     * <p>Every key and attribute may have its type after a colon, for
+     * example {@code "id:N"}. Keys may only be {@code S}, {@code N} or
+     * {@code B}, or have no type.
+     *
      * @param table Table name
      * @param keys Primary keys
      * @param attrs Attributes
      * @return New data, modified
      * @throws IOException If fails
      */
+    @Override
     public H2Data with(final String table, final String[] keys,
         final String... attrs) throws IOException {
         if (keys.length == 0) {
@@ -317,6 +581,15 @@ public final class H2Data implements MkData {
                 String.format("Empty list of keys for %s table", table)
             );
         }
+        for (final String key : keys) {
+            if (H2Data.Kind.declared(key) == H2Data.Kind.PACKED) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Key %s of %s table must be S, N or B", key, table
+                    )
+                );
+            }
+        }
         final StringBuilder sql = new StringBuilder(128)
             .append("CREATE TABLE ")
             .append(H2Data.encodeTableName(table)).append(" (");
@@ -342,36 +615,706 @@ public final class H2Data implements MkData {
         } catch (final SQLException ex) {
             throw new IOException(ex);
         }
+        this.columns.remove(table);
         return this;
     }
 
     /**
-     * Make data source.
+     * INSERT of these columns.
+     * @param table Table name
+     * @param cols Names of columns, in the order of values
+     * @return SQL
+     */
+    private String insertion(final String table,
+        final Collection<String> cols) {
+        return this.sql(
+            H2Data.shape("INSERT", table, cols),
+            () -> String.format(
+                "INSERT INTO %s (%s) VALUES (%s)",
+                H2Data.encodeTableName(table),
+                cols.stream()
+                    .map(a -> String.format("`%s`", a))
+                    .collect(Collectors.joining(", ")),
+                Joiner.on(',').join(Collections.nCopies(cols.size(), "?"))
+            )
+        );
+    }
+
+    /**
+     * DELETE by these keys.
+     * @param table Table name
+     * @param keys Names of keys, in the order of values
+     * @return SQL
+     */
+    private String deletion(final String table,
+        final Collection<String> keys) {
+        return this.sql(
+            H2Data.shape("DELETE", table, keys),
+            () -> String.format(
+                "DELETE FROM %s WHERE %s",
+                H2Data.encodeTableName(table),
+                Joiner.on(H2Data.AND).join(
+                    Iterables.transform(keys, H2Data.WHERE)
+                )
+            )
+        );
+    }
+
+    /**
+     * Run statements in JDBC batches, in one transaction.
+     *
+     * <p>Every row gives values to the statement of its columns, in the
+     * order of its attributes. Rows are sent to H2 by {@link #BATCH} at
+     * a time, and are committed only when all of them succeed.
+     *
+     * @param kinds Kinds of columns
+     * @param rows Rows
+     * @param sql Statement of a row
+     * @throws IOException If fails, in which case nothing is changed
+     */
+    private void batch(final Map<String, H2Data.Kind> kinds,
+        final Iterable<Attributes> rows,
+        final Function<Attributes, String> sql)
+        throws IOException {
+        try (Connection conn = this.jdbc.getConnection()) {
+            conn.setAutoCommit(false);
+            final Map<String, PreparedStatement> stmts = new HashMap<>(0);
+            try {
+                int pending = 0;
+                for (final Attributes row : rows) {
+                    final String query = sql.apply(row);
+                    PreparedStatement stmt = stmts.get(query);
+                    if (stmt == null) {
+                        stmt = conn.prepareStatement(query);
+                        stmts.put(query, stmt);
+                    }
+                    int idx = 0;
+                    for (final Map.Entry<String, AttributeValue> attr
+                        : row.entrySet()) {
+                        ++idx;
+                        stmt.setObject(
+                            idx,
+                            H2Data.kind(kinds, attr.getKey())
+                                .bind(attr.getValue())
+                        );
+                    }
+                    stmt.addBatch();
+                    ++pending;
+                    if (pending == H2Data.BATCH) {
+                        H2Data.flush(stmts.values());
+                        pending = 0;
+                    }
+                }
+                H2Data.flush(stmts.values());
+                conn.commit();
+            } catch (final SQLException ex) {
+                conn.rollback();
+                throw ex;
+            } finally {
+                for (final PreparedStatement stmt : stmts.values()) {
+                    stmt.close();
+                }
+                conn.setAutoCommit(true);
+            }
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * SQL statement of this shape, generated only once.
+     * @param shape Shape of the statement: its kind, table and columns
+     * @param make Generator of the statement
+     * @return SQL
+     */
+    private String sql(final String shape, final Supplier<String> make) {
+        String sql = this.queries.get(shape);
+        if (sql == null) {
+            sql = this.queries.computeIfAbsent(shape, key -> make.get());
+        }
+        return sql;
+    }
+
+    /**
+     * Encoded name of the table, encoded only once.
+     * @param table Table name
+     * @return Name of the table in H2
+     */
+    private String encoded(final String table) {
+        return this.sql(
+            H2Data.shape("TABLE", table, Collections.emptyList()),
+            () -> H2Data.encodeTableName(table)
+        );
+    }
+
+    /**
+     * Execute all batches of these statements.
+     * @param stmts Statements
+     * @throws SQLException If fails
+     */
+    private static void flush(final Collection<PreparedStatement> stmts)
+        throws SQLException {
+        for (final PreparedStatement stmt : stmts) {
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Shape of a statement.
+     * @param kind Kind of the statement
+     * @param table Table name
+     * @param columns Names of columns, in the order of parameters
+     * @return Shape
+     */
+    private static String shape(final String kind, final String table,
+        final Iterable<String> columns) {
+        final StringBuilder shape = new StringBuilder(kind)
+            .append(H2Data.SHAPE).append(table);
+        for (final String column : columns) {
+            shape.append(H2Data.SHAPE).append(column);
+        }
+        return shape.toString();
+    }
+
+    /**
+     * Make pool of connections.
+     *
+     * <p>Every connection keeps its own cache of parsed statements,
+     * which is made bigger than the default one.
+     *
      * @param jdbc URL
      * @return Data source for JDBC
      */
     private static DataSource connection(final String jdbc) {
-        final JdbcDataSource src = new JdbcDataSource();
-        src.setURL(jdbc);
-        return src;
+        final JdbcConnectionPool pool = JdbcConnectionPool.create(
+            String.format("%s;QUERY_CACHE_SIZE=64", jdbc), "", ""
+        );
+        pool.setMaxConnections(H2Data.CONNECTIONS);
+        return pool;
     }
 
     /**
-     * Get value from attribute.
-     * @param attr Attribute value
-     * @return Text format
+     * Keys of the index.
+     * @param table Table name
+     * @param index Index name
+     * @return Names of the hash key and maybe the range key
+     * @throws IOException If there is no such index
      */
-    private static String value(final AttributeValue attr) {
-        String val = attr.s();
-        if (val == null) {
-            val = attr.n();
+    private List<String> indexed(final String table, final String index)
+        throws IOException {
+        final List<String> keys;
+        try {
+            keys = new JdbcSession(this.jdbc)
+                // @checkstyle LineLength (1 line)
+                .sql("SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS WHERE TABLE_NAME = ? AND INDEX_NAME = ? ORDER BY ORDINAL_POSITION")
+                .set(this.encoded(table))
+                .set(H2Data.encodeIndexName(table, index))
+                .select(
+                    new ListOutcome<>(
+                        rset -> rset.getString(1).toLowerCase(Locale.ENGLISH)
+                    )
+                );
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
         }
-        if (val == null) {
-            throw new IllegalArgumentException(
-                "We support only N and S at the moment"
+        if (keys.isEmpty()) {
+            throw new IOException(
+                String.format(
+                    "Index \"%s\" of \"%s\" doesn't exist", index, table
+                )
+            );
+        }
+        return keys;
+    }
+
+    /**
+     * Kinds of columns of the table, loaded only once.
+     * @param table Table name
+     * @return Kinds, by names of columns
+     * @throws IOException If fails, or there is no such table
+     */
+    private Map<String, H2Data.Kind> kinds(final String table)
+        throws IOException {
+        Map<String, H2Data.Kind> kinds = this.columns.get(table);
+        if (kinds == null) {
+            try {
+                kinds = new JdbcSession(this.jdbc)
+                    // @checkstyle LineLength (1 line)
+                    .sql("SELECT COLUMN_NAME, REMARKS FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = ?")
+                    .set(this.encoded(table))
+                    .select(
+                        (rset, stmt) -> {
+                            final Map<String, H2Data.Kind> map =
+                                new HashMap<>(0);
+                            while (rset.next()) {
+                                final String name = rset.getString(1)
+                                    .toLowerCase(Locale.ENGLISH);
+                                final H2Data.Kind kind =
+                                    H2Data.Kind.remarked(rset.getString(2));
+                                if (kind == null) {
+                                    throw new SQLException(
+                                        String.format(
+                                            // @checkstyle LineLength (1 line)
+                                            "Column \"%s\" of table \"%s\" has no kind, the table was made by an older version of H2Data, make it again",
+                                            name, table
+                                        )
+                                    );
+                                }
+                                map.put(name, kind);
+                            }
+                            return map;
+                        }
+                    );
+            } catch (final SQLException ex) {
+                throw new IOException(ex);
+            }
+            if (kinds.isEmpty()) {
+                throw new IOException(
+                    String.format("Table \"%s\" doesn't exist", table)
+                );
+            }
+            this.columns.put(table, kinds);
+        }
+        return kinds;
+    }
+
+    /**
+     * Shape of a statement with conditions.
+     * @param kind Kind of the statement
+     * @param table Table name
+     * @param conds Conditions
+     * @param keys Keys, which must be present
+     * @return Shape
+     */
+    private static String shape(final String kind, final String table,
+        final Conditions conds, final List<String> keys) {
+        final Collection<String> parts = new LinkedList<>();
+        for (final Map.Entry<String, Condition> cond : conds.entrySet()) {
+            parts.add(cond.getKey());
+            parts.add(cond.getValue().comparisonOperatorAsString());
+            parts.add(
+                String.valueOf(cond.getValue().attributeValueList().size())
             );
         }
-        return val;
+        parts.add(H2Data.AND);
+        parts.addAll(keys);
+        return H2Data.shape(kind, table, parts);
+    }
+
+    /**
+     * SELECT of one page of rows.
+     *
+     * <p>Columns of the order are selected after all others, so that
+     * the next page may start after them.
+     *
+     * @param table Table name
+     * @param conds Conditions
+     * @param keys Keys, which must be present
+     * @param order Terms of the order, see {@link #ordered(Map, List)}
+     * @param forward Ascending order
+     * @param next Start after the previous page, not from the first row
+     * @return SQL
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private static String selection(final String table,
+        final Conditions conds, final List<String> keys,
+        final List<String> order, final boolean forward,
+        final boolean next) {
+        final String cols = Joiner.on(", ").join(order);
+        final StringBuilder sql = new StringBuilder("SELECT *, ")
+            .append(cols).append(" FROM ")
+            .append(H2Data.encodeTableName(table));
+        final Collection<String> where = H2Data.where(conds, keys);
+        if (next) {
+            final String opr;
+            if (forward) {
+                opr = ">";
+            } else {
+                opr = "<";
+            }
+            where.add(
+                String.format(
+                    "(%s) %s (%s)", cols, opr,
+                    Joiner.on(", ").join(Collections.nCopies(order.size(), "?"))
+                )
+            );
+        }
+        if (!where.isEmpty()) {
+            sql.append(" WHERE ");
+            Joiner.on(H2Data.AND).appendTo(sql, where);
+        }
+        final String dir;
+        if (forward) {
+            dir = " ASC";
+        } else {
+            dir = " DESC";
+        }
+        sql.append(" ORDER BY ")
+            .append(Joiner.on(String.format("%s, ", dir)).join(order))
+            .append(dir)
+            .append(" LIMIT ").append(H2Data.FETCH);
+        return sql.toString();
+    }
+
+    /**
+     * Terms of the order of rows, by these keys and then by rows.
+     *
+     * <p>Values of keys, which were declared without types, are kept
+     * as text with their types, where "N:10" is before "N:9". Numbers
+     * among them are ordered by their values first, as DynamoDB orders
+     * them, and then everything by the text.
+     *
+     * @param kinds Kinds of columns
+     * @param keys Keys to order by
+     * @return SQL expressions
+     */
+    private static List<String> ordered(final Map<String, H2Data.Kind> kinds,
+        final List<String> keys) {
+        final List<String> order = new ArrayList<>(keys.size() * 2 + 1);
+        for (final String key : keys) {
+            final String col = String.format("`%s`", key);
+            if (H2Data.kind(kinds, key) == H2Data.Kind.ANY) {
+                order.add(
+                    String.format(
+                        // @checkstyle LineLength (1 line)
+                        "COALESCE(CASE WHEN LEFT(%1$s, 2) = 'N:' THEN CAST(SUBSTRING(%1$s, 3) AS DECFLOAT) END, 0)",
+                        col
+                    )
+                );
+            }
+            order.add(col);
+        }
+        order.add(H2Data.ROWID);
+        return order;
+    }
+
+    /**
+     * WHERE clauses of conditions.
+     * @param conds Conditions
+     * @param keys Keys, which must be present
+     * @return Clauses, to be joined with AND
+     */
+    private static Collection<String> where(final Conditions conds,
+        final List<String> keys) {
+        final Collection<String> where = new LinkedList<>();
+        for (final Map.Entry<String, Condition> cond : conds.entrySet()) {
+            where.add(H2Data.predicate(cond.getKey(), cond.getValue()));
+        }
+        for (final String key : keys) {
+            where.add(String.format("`%s` IS NOT NULL", key));
+        }
+        return where;
+    }
+
+    /**
+     * Values of conditions, to give to JDBC.
+     * @param kinds Kinds of columns
+     * @param conds Conditions, which H2 checks
+     * @return Values, in the order of conditions
+     */
+    private static List<Object> args(final Map<String, H2Data.Kind> kinds,
+        final Conditions conds) {
+        final List<Object> args = new ArrayList<>(conds.size());
+        for (final Map.Entry<String, Condition> cond : conds.entrySet()) {
+            final H2Data.Kind kind = H2Data.kind(kinds, cond.getKey());
+            final List<AttributeValue> values =
+                cond.getValue().attributeValueList();
+            switch (cond.getValue().comparisonOperator()) {
+                case NULL:
+                case NOT_NULL:
+                    break;
+                case BEGINS_WITH:
+                    args.add(
+                        kind.bind(
+                            AttributeValue.builder().s(
+                                String.format(
+                                    "%s%%", H2Data.escape(values.get(0))
+                                )
+                            ).build()
+                        )
+                    );
+                    break;
+                case CONTAINS:
+                case NOT_CONTAINS:
+                    args.add(
+                        String.format("%%%s%%", H2Data.escape(values.get(0)))
+                    );
+                    break;
+                default:
+                    for (final AttributeValue value : values) {
+                        args.add(kind.bind(value));
+                    }
+                    break;
+            }
+        }
+        return args;
+    }
+
+    /**
+     * Conditions, which H2 checks exactly as
+     * {@link Conditions#matches(Map)} does, or all others.
+     *
+     * <p>Numbers are compared as numbers only in columns of numbers,
+     * and sets, lists and maps are packed, so some conditions may be
+     * checked only after rows are read. So are conditions on attributes,
+     * which don't have columns yet.
+     *
+     * @param kinds Kinds of columns
+     * @param conds Conditions
+     * @param pushed TRUE for conditions, which H2 checks, FALSE for others
+     * @return Conditions
+     * @checkstyle CyclomaticComplexityCheck (60 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static Conditions pushed(final Map<String, H2Data.Kind> kinds,
+        final Conditions conds, final boolean pushed) {
+        Conditions found = new Conditions();
+        for (final Map.Entry<String, Condition> cond : conds.entrySet()) {
+            final H2Data.Kind kind = H2Data.kind(kinds, cond.getKey());
+            final List<AttributeValue> values =
+                cond.getValue().attributeValueList();
+            final boolean texts = values.stream().allMatch(
+                value -> value.s() != null
+            );
+            final boolean checks;
+            switch (cond.getValue().comparisonOperator()) {
+                case NULL:
+                case NOT_NULL:
+                    checks = true;
+                    break;
+                case EQ:
+                case NE:
+                case IN:
+                    checks = kind == H2Data.Kind.ANY && texts
+                        || kind != H2Data.Kind.ANY
+                        && kind != H2Data.Kind.PACKED;
+                    break;
+                case LT:
+                case LE:
+                case GT:
+                case GE:
+                case BETWEEN:
+                    checks = kind == H2Data.Kind.S
+                        || kind == H2Data.Kind.N || kind == H2Data.Kind.B;
+                    break;
+                case BEGINS_WITH:
+                    checks = texts && (kind == H2Data.Kind.S
+                        || kind == H2Data.Kind.ANY);
+                    break;
+                case CONTAINS:
+                case NOT_CONTAINS:
+                    checks = texts && kind == H2Data.Kind.S;
+                    break;
+                default:
+                    checks = false;
+                    break;
+            }
+            final boolean column = kinds.containsKey(
+                cond.getKey().toLowerCase(Locale.ENGLISH)
+            );
+            if ((checks && column) == pushed) {
+                found = found.with(cond.getKey(), cond.getValue());
+            }
+        }
+        return found;
+    }
+
+    /**
+     * SQL predicate of the condition.
+     * @param name Name of the column
+     * @param cond The condition
+     * @return Predicate, with a placeholder for every value
+     * @checkstyle CyclomaticComplexityCheck (60 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static String predicate(final String name, final Condition cond) {
+        final String col = String.format("`%s`", name);
+        final String like = "LIKE ? ESCAPE '\\'";
+        final String pred;
+        switch (cond.comparisonOperator()) {
+            case EQ:
+                pred = String.format("%s = ?", col);
+                break;
+            case NE:
+                pred = String.format("(%s IS NULL OR %1$s <> ?)", col);
+                break;
+            case LT:
+                pred = String.format("%s < ?", col);
+                break;
+            case LE:
+                pred = String.format("%s <= ?", col);
+                break;
+            case GT:
+                pred = String.format("%s > ?", col);
+                break;
+            case GE:
+                pred = String.format("%s >= ?", col);
+                break;
+            case BETWEEN:
+                pred = String.format("%s BETWEEN ? AND ?", col);
+                break;
+            case IN:
+                pred = String.format(
+                    "%s IN (%s)", col,
+                    Joiner.on(", ").join(
+                        Collections.nCopies(
+                            cond.attributeValueList().size(), "?"
+                        )
+                    )
+                );
+                break;
+            case NULL:
+                pred = String.format("%s IS NULL", col);
+                break;
+            case NOT_NULL:
+                pred = String.format("%s IS NOT NULL", col);
+                break;
+            case BEGINS_WITH:
+            case CONTAINS:
+                pred = String.format("%s %s", col, like);
+                break;
+            case NOT_CONTAINS:
+                pred = String.format("(%s IS NULL OR %1$s NOT %s)", col, like);
+                break;
+            default:
+                throw new UnsupportedOperationException(
+                    String.format(
+                        "Comparison operator %s is not supported",
+                        cond.comparisonOperatorAsString()
+                    )
+                );
+        }
+        return pred;
+    }
+
+    /**
+     * Text of the value, escaped for LIKE.
+     * @param value Text value
+     * @return Escaped text
+     */
+    private static String escape(final AttributeValue value) {
+        return value.s()
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+
+    /**
+     * Attributes of the current row.
+     * @param kinds Kinds of columns
+     * @param rset Result set
+     * @param total Number of columns to read, starting from the first one
+     * @return Attributes
+     * @throws SQLException If fails
+     */
+    private static Attributes attributes(final Map<String, H2Data.Kind> kinds,
+        final ResultSet rset, final int total) throws SQLException {
+        final ResultSetMetaData meta = rset.getMetaData();
+        Attributes attrs = new Attributes();
+        for (int idx = 1; idx <= total; ++idx) {
+            final String name = meta.getColumnName(idx);
+            final AttributeValue value = H2Data.kind(kinds, name)
+                .read(rset, idx);
+            if (value != null) {
+                attrs = attrs.with(name.toLowerCase(Locale.ENGLISH), value);
+            }
+        }
+        return attrs;
+    }
+
+    /**
+     * Bind values of keys to the session.
+     * @param session The session
+     * @param kinds Kinds of columns
+     * @param keys Keys
+     * @return Session with the values
+     */
+    private static JdbcSession bind(final JdbcSession session,
+        final Map<String, H2Data.Kind> kinds, final Attributes keys) {
+        JdbcSession bound = session;
+        for (final Map.Entry<String, AttributeValue> key : keys.entrySet()) {
+            bound = bound.set(
+                H2Data.kind(kinds, key.getKey()).bind(key.getValue())
+            );
+        }
+        return bound;
+    }
+
+    /**
+     * Kinds of columns of the table, after columns of these attributes
+     * are added, if they are absent.
+     * @param table Table name
+     * @param attrs Names of attributes to write
+     * @return Kinds, by names of columns
+     * @throws IOException If fails, or there is no such table
+     */
+    private Map<String, H2Data.Kind> kinds(final String table,
+        final Iterable<String> attrs) throws IOException {
+        Map<String, H2Data.Kind> kinds = this.kinds(table);
+        final Collection<String> absent = new LinkedHashSet<>(0);
+        for (final String attr : attrs) {
+            if (!kinds.containsKey(attr.toLowerCase(Locale.ENGLISH))) {
+                absent.add(attr);
+            }
+        }
+        if (!absent.isEmpty()) {
+            try {
+                for (final String attr : absent) {
+                    new JdbcSession(this.jdbc).sql(
+                        String.format(
+                            // @checkstyle LineLength (1 line)
+                            "ALTER TABLE %s ADD COLUMN IF NOT EXISTS `%s` %s COMMENT '%s'",
+                            H2Data.encodeTableName(table), attr,
+                            H2Data.Kind.ANY.type(), H2Data.Kind.ANY
+                        )
+                    ).execute();
+                }
+            } catch (final SQLException ex) {
+                throw new IOException(ex);
+            }
+            this.columns.remove(table);
+            kinds = this.kinds(table);
+        }
+        return kinds;
+    }
+
+    /**
+     * Kind of the column.
+     * @param kinds Kinds of columns
+     * @param name Name of the column, in any case
+     * @return Kind, values of any type if there is no such column
+     */
+    private static H2Data.Kind kind(final Map<String, H2Data.Kind> kinds,
+        final String name) {
+        return kinds.getOrDefault(
+            name.toLowerCase(Locale.ENGLISH), H2Data.Kind.ANY
+        );
+    }
+
+    /**
+     * Name of the column, without its type.
+     * @param declared Name with the type, if any, after a colon
+     * @return Name
+     */
+    private static String name(final String declared) {
+        String name = declared;
+        if (H2Data.Kind.declared(declared) != H2Data.Kind.ANY) {
+            name = declared.substring(0, declared.lastIndexOf(':'));
+        }
+        return name;
+    }
+
+    /**
+     * Name of the index in H2.
+     * @param table Table name
+     * @param index Index name
+     * @return Base-32-encoded names of the table and the index
+     */
+    private static String encodeIndexName(final String table,
+        final String index) {
+        return Joiner.on("").join(
+            H2Data.encodeTableName(table), H2Data.encodeTableName(index)
+        );
     }
 
     /**
@@ -390,4 +1333,362 @@ public final class H2Data implements MkData {
         );
     }
 
+    /**
+     * Rows, read by pages.
+     *
+     * @since 0.23
+     */
+    private static final class Rows extends AbstractIterator<Attributes> {
+
+        /**
+         * JDBC data source.
+         */
+        private final DataSource jdbc;
+
+        /**
+         * Kinds of columns.
+         */
+        private final Map<String, H2Data.Kind> kinds;
+
+        /**
+         * SELECT of the first page and of every next one.
+         */
+        private final String[] sql;
+
+        /**
+         * Values of conditions.
+         */
+        private final List<Object> args;
+
+        /**
+         * Values of columns of the order in the last row read.
+         */
+        private final Object[] last;
+
+        /**
+         * Rows of the current page.
+         */
+        private Iterator<Attributes> page;
+
+        /**
+         * Pages read so far.
+         */
+        private int pages;
+
+        /**
+         * There may be more pages.
+         */
+        private boolean more;
+
+        /**
+         * Ctor.
+         * @param src JDBC data source
+         * @param knds Kinds of columns
+         * @param stmts SELECT of the first page and of every next one
+         * @param vals Values of conditions
+         * @param order Columns of the order
+         * @checkstyle ParameterNumber (5 lines)
+         */
+        Rows(final DataSource src, final Map<String, H2Data.Kind> knds,
+            final String[] stmts, final List<Object> vals,
+            final List<String> order) {
+            super();
+            this.jdbc = src;
+            this.kinds = knds;
+            this.sql = stmts.clone();
+            this.args = vals;
+            this.last = new Object[order.size()];
+            this.page = Collections.emptyIterator();
+            this.more = true;
+        }
+
+        @Override
+        protected Attributes computeNext() {
+            if (!this.page.hasNext() && this.more) {
+                this.page = this.fetch().iterator();
+            }
+            final Attributes next;
+            if (this.page.hasNext()) {
+                next = this.page.next();
+            } else {
+                next = this.endOfData();
+            }
+            return next;
+        }
+
+        /**
+         * Read the next page.
+         * @return Rows of the page
+         */
+        private List<Attributes> fetch() {
+            JdbcSession session = new JdbcSession(this.jdbc);
+            for (final Object arg : this.args) {
+                session = session.set(arg);
+            }
+            if (this.pages > 0) {
+                for (final Object val : this.last) {
+                    session = session.set(val);
+                }
+            }
+            final List<Attributes> rows;
+            try {
+                rows = session.sql(this.sql[Math.min(this.pages, 1)]).select(
+                    (rset, stmt) -> {
+                        final List<Attributes> items =
+                            new ArrayList<>(H2Data.FETCH);
+                        final int total = rset.getMetaData().getColumnCount()
+                            - this.last.length;
+                        while (rset.next()) {
+                            items.add(
+                                H2Data.attributes(this.kinds, rset, total)
+                            );
+                            for (int idx = 0; idx < this.last.length; ++idx) {
+                                this.last[idx] = rset.getObject(
+                                    total + idx + 1
+                                );
+                            }
+                        }
+                        return items;
+                    }
+                );
+            } catch (final SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+            ++this.pages;
+            this.more = rows.size() == H2Data.FETCH;
+            return rows;
+        }
+    }
+
+    /**
+     * Kind of column.
+     *
+     * @since 0.23
+     */
+    private enum Kind {
+        /**
+         * Strings.
+         */
+        S("VARCHAR") {
+            @Override
+            Object bind(final AttributeValue value) {
+                return this.check(value, value.s()).s();
+            }
+
+            @Override
+            AttributeValue read(final ResultSet rset, final int idx)
+                throws SQLException {
+                final String text = rset.getString(idx);
+                AttributeValue value = null;
+                if (text != null) {
+                    value = AttributeValue.builder().s(text).build();
+                }
+                return value;
+            }
+        },
+        /**
+         * Numbers.
+         */
+        N("DECFLOAT") {
+            @Override
+            Object bind(final AttributeValue value) {
+                return new BigDecimal(this.check(value, value.n()).n());
+            }
+
+            @Override
+            AttributeValue read(final ResultSet rset, final int idx)
+                throws SQLException {
+                final BigDecimal num = rset.getBigDecimal(idx);
+                AttributeValue value = null;
+                if (num != null) {
+                    value = AttributeValue.builder()
+                        .n(num.toPlainString())
+                        .build();
+                }
+                return value;
+            }
+        },
+        /**
+         * Binaries.
+         */
+        B("VARBINARY") {
+            @Override
+            Object bind(final AttributeValue value) {
+                return this.check(value, value.b()).b().asByteArray();
+            }
+
+            @Override
+            AttributeValue read(final ResultSet rset, final int idx)
+                throws SQLException {
+                final byte[] data = rset.getBytes(idx);
+                AttributeValue value = null;
+                if (data != null) {
+                    value = AttributeValue.builder()
+                        .b(SdkBytes.fromByteArray(data))
+                        .build();
+                }
+                return value;
+            }
+        },
+        /**
+         * Sets, lists, maps and booleans, packed.
+         */
+        PACKED("VARBINARY") {
+            @Override
+            Object bind(final AttributeValue value) {
+                return new Packed(value).bytes();
+            }
+
+            @Override
+            AttributeValue read(final ResultSet rset, final int idx)
+                throws SQLException {
+                final byte[] data = rset.getBytes(idx);
+                AttributeValue value = null;
+                if (data != null) {
+                    value = new Packed(data).value();
+                }
+                return value;
+            }
+        },
+        /**
+         * Values of any type, as text with their types.
+         */
+        ANY("VARCHAR") {
+            @Override
+            Object bind(final AttributeValue value) {
+                final String text;
+                if (value.s() != null) {
+                    text = String.format("S:%s", value.s());
+                } else if (value.n() != null) {
+                    text = String.format("N:%s", value.n());
+                } else {
+                    text = String.format(
+                        "P:%s",
+                        Base64.getEncoder().encodeToString(
+                            new Packed(value).bytes()
+                        )
+                    );
+                }
+                return text;
+            }
+
+            @Override
+            AttributeValue read(final ResultSet rset, final int idx)
+                throws SQLException {
+                final String text = rset.getString(idx);
+                AttributeValue value = null;
+                if (text != null) {
+                    final String body = text.substring(2);
+                    if (text.charAt(0) == 'S') {
+                        value = AttributeValue.builder().s(body).build();
+                    } else if (text.charAt(0) == 'N') {
+                        value = AttributeValue.builder().n(body).build();
+                    } else {
+                        value = new Packed(
+                            Base64.getDecoder().decode(body)
+                        ).value();
+                    }
+                }
+                return value;
+            }
+        };
+
+        /**
+         * SQL type of the column.
+         */
+        private final String sql;
+
+        /**
+         * Ctor.
+         * @param type SQL type of the column
+         */
+        Kind(final String type) {
+            this.sql = type;
+        }
+
+        /**
+         * SQL type of the column.
+         * @return SQL type
+         */
+        String type() {
+            return this.sql;
+        }
+
+        /**
+         * Value to give to JDBC.
+         * @param value Attribute value
+         * @return JDBC value
+         */
+        abstract Object bind(AttributeValue value);
+
+        /**
+         * Attribute value from the result set.
+         * @param rset Result set
+         * @param idx Index of the column
+         * @return Attribute value, NULL if there is none
+         * @throws SQLException If fails
+         */
+        abstract AttributeValue read(ResultSet rset, int idx)
+            throws SQLException;
+
+        /**
+         * The value, if it has the part of this kind.
+         * @param value Attribute value
+         * @param part Part of the value
+         * @return The value
+         */
+        protected AttributeValue check(final AttributeValue value,
+            final Object part) {
+            if (part == null) {
+                throw new IllegalArgumentException(
+                    String.format("Value %s is not of type %s", value, this)
+                );
+            }
+            return value;
+        }
+
+        /**
+         * Kind of the declared key or attribute.
+         * @param declared Name with its type, if any, after a colon
+         * @return Kind
+         */
+        static H2Data.Kind declared(final String declared) {
+            final String type = declared.substring(
+                declared.lastIndexOf(':') + 1
+            );
+            final H2Data.Kind kind;
+            if (declared.indexOf(':') < 0) {
+                kind = H2Data.Kind.ANY;
+            } else if ("S".equals(type)) {
+                kind = H2Data.Kind.S;
+            } else if ("N".equals(type)) {
+                kind = H2Data.Kind.N;
+            } else if ("B".equals(type)) {
+                kind = H2Data.Kind.B;
+            } else if (Arrays.asList("SS", "NS", "BS", "L", "M", "BOOL")
+                .contains(type)) {
+                kind = H2Data.Kind.PACKED;
+            } else {
+                kind = H2Data.Kind.ANY;
+            }
+            return kind;
+        }
+
+        /**
+         * Kind of the column, by its remark.
+         * @param remark Remark of the column or NULL
+         * @return Kind, NULL if there is no remark, as in tables made
+         *  by older versions
+         */
+        static H2Data.Kind remarked(final String remark) {
+            H2Data.Kind kind = null;
+            for (final H2Data.Kind candidate : H2Data.Kind.values()) {
+                if (candidate.name().equals(remark)) {
+                    kind = candidate;
+                    break;
+                }
+            }
+            return kind;
+        }
+    }
 }
@@ -0,0 +1,533 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.mock;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.AttributeUpdates;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Conditions;
+import com.jcabi.immutable.Array;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeAction;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Mock data in memory.
+ *
+ * <p>Items are kept as they are, with their native attribute values,
+ * in concurrent maps: one per hash key, with items sorted by range key.
+ * When conditions fix the hash key, only its items are looked at; when
+ * they also compare the range key, only the matching part of them.
+ * Nothing is copied or converted on reading. Use it instead of
+ * {@link H2Data} when tests don't need the data to survive the JVM:
+ *
+ * <pre>Region region = new MkRegion(
+ *   new MemData().with("users", new String[] {"id"})
+ * );</pre>
+ *
+ * <p>Unlike {@link H2Data}, it doesn't have a schema for non-key
+ * attributes, and {@link #put(String, Attributes)} replaces an item
+ * with the same keys, the way DynamoDB does.
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString(of = "schemas")
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = "schemas")
+public final class MemData implements MkData {
+
+    /**
+     * Type of attribute after its name, as {@link H2Data} declares it.
+     */
+    private static final Pattern TYPE = Pattern.compile(
+        ":(S|N|B|SS|NS|BS|L|M|BOOL)$"
+    );
+
+    /**
+     * Range key operators, which select a part of a partition.
+     */
+    private static final Array<ComparisonOperator> RANGES = new Array<>(
+        ComparisonOperator.EQ, ComparisonOperator.LT, ComparisonOperator.LE,
+        ComparisonOperator.GT, ComparisonOperator.GE, ComparisonOperator.BETWEEN
+    );
+
+    /**
+     * Order of key values, the same as in {@link Conditions}.
+     */
+    private static final Comparator<AttributeValue> ORDER = MemData::compare;
+
+    /**
+     * Names of keys of every table, the hash key first.
+     */
+    private final transient Map<String, Array<String>> schemas;
+
+    /**
+     * Keys of secondary indexes of every table, by name of the index.
+     */
+    private final transient Map<String, Map<String, Array<String>>> indexes;
+
+    /**
+     * Partitions of every table, by hash key.
+     */
+    private final transient Map<String, ConcurrentMap<AttributeValue,
+        ConcurrentNavigableMap<AttributeValue, Attributes>>> tables;
+
+    /**
+     * Public ctor.
+     */
+    public MemData() {
+        this.schemas = new ConcurrentHashMap<>(0);
+        this.indexes = new ConcurrentHashMap<>(0);
+        this.tables = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public Iterable<String> keys(final String table) throws IOException {
+        return this.schema(table);
+    }
+
+    @Override
+    public Iterable<String> keys(final String table, final String index)
+        throws IOException {
+        final Array<String> keys;
+        if (index.isEmpty()) {
+            keys = this.schema(table);
+        } else {
+            keys = this.indexes.get(table).get(index);
+            if (keys == null) {
+                throw new IOException(
+                    String.format(
+                        "Index \"%s\" of \"%s\" doesn't exist", index, table
+                    )
+                );
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public Iterable<Attributes> iterate(final String table,
+        final Conditions conds) throws IOException {
+        final Array<String> keys = this.schema(table);
+        final Map<AttributeValue,
+            ConcurrentNavigableMap<AttributeValue, Attributes>> parts =
+            this.tables.get(table);
+        final Condition hash = conds.get(keys.get(0));
+        final Iterable<? extends NavigableMap<AttributeValue, Attributes>>
+            scope;
+        if (MemData.fixes(hash)) {
+            final ConcurrentNavigableMap<AttributeValue, Attributes> part =
+                parts.get(hash.attributeValueList().get(0));
+            if (part == null) {
+                scope = Collections.emptyList();
+            } else {
+                scope = Collections.singletonList(part);
+            }
+        } else {
+            scope = parts.values();
+        }
+        final Condition range;
+        if (keys.size() > 1) {
+            range = conds.get(keys.get(1));
+        } else {
+            range = null;
+        }
+        return Iterables.filter(
+            Iterables.concat(
+                Iterables.transform(
+                    scope, part -> MemData.narrow(part, range).values()
+                )
+            ),
+            conds::matches
+        );
+    }
+
+    @Override
+    public Iterable<Attributes> iterate(final String table,
+        final String index, final Conditions conds, final boolean forward)
+        throws IOException {
+        final Collection<String> keys = Lists.newArrayList(
+            this.keys(table, index)
+        );
+        final List<Attributes> items = new ArrayList<>(0);
+        for (final Attributes item : this.iterate(table, conds)) {
+            if (item.keySet().containsAll(keys)) {
+                items.add(item);
+            }
+        }
+        items.sort(
+            MemData.order(Iterables.concat(keys, this.schema(table)), forward)
+        );
+        return items;
+    }
+
+    @Override
+    public int count(final String table, final String index,
+        final Conditions conds) throws IOException {
+        final Iterable<Attributes> items;
+        if (index.isEmpty()) {
+            items = this.iterate(table, conds);
+        } else {
+            items = this.iterate(table, index, conds, true);
+        }
+        return Iterables.size(items);
+    }
+
+    @Override
+    public void put(final String table, final Attributes attrs)
+        throws IOException {
+        final Array<String> keys = this.schema(table);
+        final AttributeValue hash = MemData.key(table, attrs, keys.get(0));
+        this.tables.get(table)
+            .computeIfAbsent(
+                hash, key -> new ConcurrentSkipListMap<>(MemData.ORDER)
+            )
+            .put(MemData.range(table, attrs, keys), attrs);
+    }
+
+    @Override
+    public void putAll(final String table, final Iterable<Attributes> items)
+        throws IOException {
+        final Array<String> keys = this.schema(table);
+        final List<Attributes> all = Lists.newArrayList(items);
+        for (final Attributes item : all) {
+            MemData.key(table, item, keys.get(0));
+            MemData.range(table, item, keys);
+        }
+        for (final Attributes item : all) {
+            this.put(table, item);
+        }
+    }
+
+    @Override
+    public Iterable<Attributes> getAll(final String table,
+        final Iterable<Attributes> keys) throws IOException {
+        final Array<String> names = this.schema(table);
+        final List<Attributes> found = new ArrayList<>(0);
+        for (final Attributes key : keys) {
+            Iterables.addAll(
+                found,
+                this.iterate(
+                    table, new Conditions().withAttributes(key.only(names))
+                )
+            );
+        }
+        return found;
+    }
+
+    @Override
+    public void update(final String table, final Attributes keys,
+        final AttributeUpdates attrs) throws IOException {
+        final Array<String> names = this.schema(table);
+        final ConcurrentNavigableMap<AttributeValue, Attributes> part =
+            this.tables.get(table).get(MemData.key(table, keys, names.get(0)));
+        if (part != null) {
+            part.computeIfPresent(
+                MemData.range(table, keys, names),
+                (key, before) -> MemData.apply(before, attrs)
+            );
+        }
+    }
+
+    @Override
+    public void delete(final String table, final Attributes keys)
+        throws IOException {
+        final Array<String> names = this.schema(table);
+        final ConcurrentNavigableMap<AttributeValue, Attributes> part =
+            this.tables.get(table).get(MemData.key(table, keys, names.get(0)));
+        if (part != null) {
+            part.remove(MemData.range(table, keys, names));
+        }
+    }
+
+    @Override
+    public void deleteAll(final String table, final Iterable<Attributes> keys)
+        throws IOException {
+        final Array<String> names = this.schema(table);
+        final List<Attributes> all = Lists.newArrayList(keys);
+        for (final Attributes key : all) {
+            MemData.key(table, key, names.get(0));
+            MemData.range(table, key, names);
+        }
+        for (final Attributes key : all) {
+            this.delete(table, key);
+        }
+    }
+
+    /**
+     * With this table, that has given primary keys.
+     *
+     * <p>Keys may have their types after a colon, as in {@link H2Data},
+     * which are ignored, since values are kept as they are.
+     *
+     * @param table Table name
+     * @param keys Primary keys, the hash key first
+     * @param attrs Attributes, ignored, since there is no schema for them
+     * @return This data, modified
+     * @throws IOException If the table already exists
+     */
+    @Override
+    public MemData with(final String table, final String[] keys,
+        final String... attrs) throws IOException {
+        if (keys.length == 0 || keys.length > 2) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Table %s must have a hash key and maybe a range key",
+                    table
+                )
+            );
+        }
+        if (this.tables.putIfAbsent(table, new ConcurrentHashMap<>(0))
+            != null) {
+            throw new IOException(
+                String.format("Table \"%s\" already exists", table)
+            );
+        }
+        this.indexes.put(table, new ConcurrentHashMap<>(0));
+        final List<String> names = new ArrayList<>(keys.length);
+        for (final String key : keys) {
+            names.add(MemData.TYPE.matcher(key).replaceFirst(""));
+        }
+        this.schemas.put(table, new Array<>(names));
+        return this;
+    }
+
+    /**
+     * With this secondary index of the table.
+     *
+     * <p>Items are in the index only if they have all its keys. Reading
+     * the index reads the whole table and sorts the items in it.
+     *
+     * @param table Table name
+     * @param index Name of the index
+     * @param keys Hash key and maybe range key of the index
+     * @return This data, modified
+     * @throws IOException If there is no such table
+     * @since 0.23
+     */
+    @Override
+    public MemData withIndex(final String table, final String index,
+        final String... keys) throws IOException {
+        this.schema(table);
+        if (keys.length == 0 || keys.length > 2) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Index %s of %s table must have one or two keys",
+                    index, table
+                )
+            );
+        }
+        this.indexes.get(table).put(index, new Array<>(keys));
+        return this;
+    }
+
+    /**
+     * Names of keys of the table.
+     * @param table Table name
+     * @return Names of keys, the hash key first
+     * @throws IOException If there is no such table
+     */
+    private Array<String> schema(final String table) throws IOException {
+        final Array<String> keys = this.schemas.get(table);
+        if (keys == null) {
+            throw new IOException(
+                String.format("Table \"%s\" doesn't exist", table)
+            );
+        }
+        return keys;
+    }
+
+    /**
+     * Does the condition fix the key to one value?
+     * @param cond The condition or NULL
+     * @return TRUE if it does
+     */
+    private static boolean fixes(final Condition cond) {
+        return cond != null
+            && cond.comparisonOperator() == ComparisonOperator.EQ
+            && cond.attributeValueList().size() == 1;
+    }
+
+    /**
+     * Part of the partition, which the range key condition selects.
+     *
+     * <p>It may be wider than the condition, but never narrower, since
+     * all conditions are checked on every item afterwards.
+     *
+     * @param part Items of the partition, by range key
+     * @param cond Condition on the range key or NULL
+     * @return Items, which may match
+     */
+    private static NavigableMap<AttributeValue, Attributes> narrow(
+        final NavigableMap<AttributeValue, Attributes> part,
+        final Condition cond) {
+        NavigableMap<AttributeValue, Attributes> sub = part;
+        if (cond != null && MemData.RANGES.contains(cond.comparisonOperator())
+            && !cond.attributeValueList().isEmpty()) {
+            final List<AttributeValue> args = cond.attributeValueList();
+            switch (cond.comparisonOperator()) {
+                case EQ:
+                    sub = part.subMap(args.get(0), true, args.get(0), true);
+                    break;
+                case LT:
+                    sub = part.headMap(args.get(0), false);
+                    break;
+                case LE:
+                    sub = part.headMap(args.get(0), true);
+                    break;
+                case GT:
+                    sub = part.tailMap(args.get(0), false);
+                    break;
+                case GE:
+                    sub = part.tailMap(args.get(0), true);
+                    break;
+                default:
+                    if (args.size() == 2
+                        && MemData.compare(args.get(0), args.get(1)) <= 0) {
+                        sub = part.subMap(args.get(0), true, args.get(1), true);
+                    }
+                    break;
+            }
+        }
+        return sub;
+    }
+
+    /**
+     * Item with the updates applied.
+     * @param before The item
+     * @param updates Updates of attributes
+     * @return New item
+     */
+    private static Attributes apply(final Attributes before,
+        final AttributeUpdates updates) {
+        Attributes after = before;
+        for (final Map.Entry<String, AttributeValueUpdate> upd
+            : updates.entrySet()) {
+            if (upd.getValue().action() == AttributeAction.DELETE) {
+                after = after.only(
+                    Iterables.filter(
+                        after.keySet(), name -> !name.equals(upd.getKey())
+                    )
+                );
+            } else {
+                after = after.with(upd.getKey(), upd.getValue().value());
+            }
+        }
+        return after;
+    }
+
+    /**
+     * Value of the key in the item.
+     * @param table Table name
+     * @param item The item or its keys
+     * @param name Name of the key
+     * @return Value
+     * @throws IOException If there is no such key
+     */
+    private static AttributeValue key(final String table,
+        final Map<String, AttributeValue> item, final String name)
+        throws IOException {
+        final AttributeValue value = item.get(name);
+        if (value == null) {
+            throw new IOException(
+                String.format(
+                    "Key \"%s\" is absent in %s of \"%s\"", name, item, table
+                )
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Value of the range key, or of the hash key if there is no range.
+     * @param table Table name
+     * @param item The item or its keys
+     * @param keys Names of keys
+     * @return Value
+     * @throws IOException If there is no such key
+     */
+    private static AttributeValue range(final String table,
+        final Map<String, AttributeValue> item, final List<String> keys)
+        throws IOException {
+        return MemData.key(table, item, keys.get(keys.size() - 1));
+    }
+
+    /**
+     * Order of items by values of these keys, items without them first.
+     * @param keys Names of keys
+     * @param forward Ascending order
+     * @return Order
+     */
+    static Comparator<Map<String, AttributeValue>> order(
+        final Iterable<String> keys, final boolean forward) {
+        Comparator<Map<String, AttributeValue>> order = (left, right) -> 0;
+        for (final String key : keys) {
+            order = order.thenComparing(
+                item -> item.get(key), Comparator.nullsFirst(MemData.ORDER)
+            );
+        }
+        if (!forward) {
+            order = order.reversed();
+        }
+        return order;
+    }
+
+    /**
+     * Compare two scalar values, numerically if both are numbers.
+     * @param left Left value
+     * @param right Right value
+     * @return Result of comparison
+     */
+    private static int compare(final AttributeValue left,
+        final AttributeValue right) {
+        final int result;
+        if (left.n() != null && right.n() != null) {
+            result = new BigDecimal(left.n()).compareTo(
+                new BigDecimal(right.n())
+            );
+        } else {
+            result = MemData.text(left).compareTo(MemData.text(right));
+        }
+        return result;
+    }
+
+    /**
+     * Text of a scalar value.
+     * @param value The value
+     * @return Text
+     */
+    private static String text(final AttributeValue value) {
+        String text = value.s();
+        if (text == null) {
+            text = value.n();
+        }
+        if (text == null) {
+            text = String.valueOf(value);
+        }
+        return text;
+    }
+}
@@ -26,6 +26,16 @@ public interface MkData {
      */
     Iterable<String> keys(String table) throws IOException;
 
+    /**
+     * Get keys of the table or its index, the hash key first.
+     * @param table Name of the table
+     * @param index Name of the index, empty for the table itself
+     * @return All keys of the index
+     * @throws IOException If fails, or there is no such index
+     * @since 0.23
+     */
+    Iterable<String> keys(String table, String index) throws IOException;
+
     /**
      * Iterate everything for the given table.
      * @param table Name of the table
@@ -36,6 +46,36 @@ public interface MkData {
     Iterable<Attributes> iterate(String table, Conditions conds)
         throws IOException;
 
+    /**
+     * Iterate items of the table or its index, ordered by its keys.
+     *
+     * <p>Only items, which have all keys of the index, are in it. Items
+     * with the same keys of the index are ordered by the keys of the
+     * table, so the order of all items is known by their keys.
+     *
+     * @param table Name of the table
+     * @param index Name of the index, empty for the table itself
+     * @param conds Conditions
+     * @param forward Ascending order
+     * @return Rows found, in the order of keys of the index and the table
+     * @throws IOException If fails, or there is no such index
+     * @since 0.23
+     */
+    Iterable<Attributes> iterate(String table, String index, Conditions conds,
+        boolean forward) throws IOException;
+
+    /**
+     * Count items of the table or its index, without reading them.
+     * @param table Name of the table
+     * @param index Name of the index, empty for the table itself
+     * @param conds Conditions
+     * @return Number of rows found
+     * @throws IOException If fails, or there is no such index
+     * @since 0.23
+     */
+    int count(String table, String index, Conditions conds)
+        throws IOException;
+
     /**
      * Insert a new item into the given table.
      * @param table Table name
@@ -44,6 +84,26 @@ public interface MkData {
      */
     void put(String table, Attributes attrs) throws IOException;
 
+    /**
+     * Insert many new items into the given table, all or none.
+     * @param table Table name
+     * @param items Full sets of attributes of the new items
+     * @throws IOException If fails
+     * @since 0.23
+     */
+    void putAll(String table, Iterable<Attributes> items) throws IOException;
+
+    /**
+     * Read items by their keys.
+     * @param table Table name
+     * @param keys Keys of the items
+     * @return Items found, in no particular order, without absent ones
+     * @throws IOException If fails
+     * @since 0.23
+     */
+    Iterable<Attributes> getAll(String table, Iterable<Attributes> keys)
+        throws IOException;
+
     /**
      * Update attributes of an existing item in the given table.
      * Unlike {@link #put}, this method does not insert a new item; it only
@@ -63,4 +123,38 @@ public interface MkData {
      * @throws IOException If fails
      */
     void delete(String table, Attributes keys) throws IOException;
+
+    /**
+     * Delete many items from the given table, all or none.
+     * @param table Table name
+     * @param keys Keys of the items
+     * @throws IOException If fails
+     * @since 0.23
+     */
+    void deleteAll(String table, Iterable<Attributes> keys)
+        throws IOException;
+
+    /**
+     * With this table, that has given primary keys.
+     * @param table Table name
+     * @param keys Hash key and maybe range key, with types after a colon
+     * @param attrs Other attributes, with types after a colon
+     * @return This data, with the table
+     * @throws IOException If fails, or the table already exists
+     * @since 0.23
+     */
+    MkData with(String table, String[] keys, String... attrs)
+        throws IOException;
+
+    /**
+     * With this secondary index of the table.
+     * @param table Table name
+     * @param index Name of the index
+     * @param keys Hash key and maybe range key of the index
+     * @return This data, with the index
+     * @throws IOException If fails
+     * @since 0.23
+     */
+    MkData withIndex(String table, String index, String... keys)
+        throws IOException;
 }
@@ -5,33 +5,64 @@
 package com.jcabi.dynamo.mock;
 
 import com.google.common.base.Function;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.BoundedValve;
 import com.jcabi.dynamo.Conditions;
+import com.jcabi.dynamo.Cursor;
+import com.jcabi.dynamo.Dosage;
+import com.jcabi.dynamo.Explain;
+import com.jcabi.dynamo.Fanout;
 import com.jcabi.dynamo.Frame;
 import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Plan;
+import com.jcabi.dynamo.QueryValve;
+import com.jcabi.dynamo.ScanValve;
 import com.jcabi.dynamo.Table;
 import com.jcabi.dynamo.Valve;
 import com.jcabi.immutable.ArrayMap;
 import java.io.IOException;
 import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
 
 /**
  * Mock version of {@link Frame}.
  *
+ * <p>Through a {@link QueryValve}, items are read from its index, in
+ * the order of its keys, and only if they match its query filter.
+ * Pages are as big as its limit, with only the attributes it asks for,
+ * besides the keys of the index and the table. Through a
+ * {@link ScanValve}, items are read from the table, in the order of its
+ * keys, by pages of its limit. Both start right after the keys of
+ * their cursors, if they have them, in the order of keys, so the next
+ * page is found even if the last item of the previous one is deleted.
+ * Other valves are ignored: the items are read from the table as one
+ * page.
+ *
  * @since 0.10
  */
 @Immutable
 @ToString
 @Loggable(Loggable.DEBUG)
-@EqualsAndHashCode(callSuper = false, of = { "tbl", "data", "conds" })
+@EqualsAndHashCode(
+    callSuper = false, of = { "tbl", "data", "conds", "max", "valve" }
+)
 final class MkFrame extends AbstractCollection<Item> implements Frame {
 
     /**
@@ -49,6 +80,16 @@ final class MkFrame extends AbstractCollection<Item> implements Frame {
      */
     private final transient Conditions conds;
 
+    /**
+     * Maximum number of items to iterate.
+     */
+    private final transient int max;
+
+    /**
+     * Valve.
+     */
+    private final transient Valve valve;
+
     /**
      * Public ctor.
      * @param dta Data
@@ -65,17 +106,45 @@ final class MkFrame extends AbstractCollection<Item> implements Frame {
      * @param conditions Map of conditions
      */
     MkFrame(final MkData dta, final String table, final Conditions conditions) {
+        this(dta, table, conditions, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Public ctor.
+     * @param dta Data
+     * @param table Table
+     * @param conditions Map of conditions
+     * @param limit Maximum number of items to iterate
+     */
+    MkFrame(final MkData dta, final String table, final Conditions conditions,
+        final int limit) {
+        this(dta, table, conditions, limit, new ScanValve());
+    }
+
+    /**
+     * Public ctor.
+     * @param dta Data
+     * @param table Table
+     * @param conditions Map of conditions
+     * @param limit Maximum number of items to iterate
+     * @param vlv Valve
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    MkFrame(final MkData dta, final String table, final Conditions conditions,
+        final int limit, final Valve vlv) {
         super();
         this.data = dta;
         this.tbl = table;
         this.conds = conditions;
+        this.max = limit;
+        this.valve = vlv;
     }
 
     @Override
     public Iterator<Item> iterator() {
         try {
             return Iterators.transform(
-                this.data.iterate(this.tbl, this.conds).iterator(),
+                this.rows().iterator(),
                 new Function<Attributes, Item>() {
                     @Override
                     public Item apply(final Attributes input) {
@@ -92,9 +161,37 @@ final class MkFrame extends AbstractCollection<Item> implements Frame {
         }
     }
 
+    @Override
+    public void forEachParallel(final Consumer<Item> action,
+        final int concurrency) {
+        new Fanout(concurrency).forEach(this, action);
+    }
+
     @Override
     public int size() {
-        return Iterators.size(this.iterator());
+        try {
+            final int size;
+            if (this.inner() instanceof QueryValve) {
+                final QueryValve query = (QueryValve) this.inner();
+                if (query.cursor().isEmpty() && query.filter().isEmpty()) {
+                    size = Math.min(
+                        this.data.count(this.tbl, query.index(), this.conds),
+                        this.max
+                    );
+                } else {
+                    size = Iterables.size(this.rows());
+                }
+            } else if (this.cursor().isEmpty()) {
+                size = Math.min(
+                    this.data.count(this.tbl, "", this.conds), this.max
+                );
+            } else {
+                size = Iterables.size(this.rows());
+            }
+            return size;
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
     }
 
     @Override
@@ -111,7 +208,10 @@ final class MkFrame extends AbstractCollection<Item> implements Frame {
 
     @Override
     public Frame where(final Map<String, Condition> conditions) {
-        return new MkFrame(this.data, this.tbl, this.conds.with(conditions));
+        return new MkFrame(
+            this.data, this.tbl, this.conds.with(conditions), this.max,
+            this.valve
+        );
     }
 
     @Override
@@ -120,7 +220,297 @@ final class MkFrame extends AbstractCollection<Item> implements Frame {
     }
 
     @Override
-    public Frame through(final Valve valve) {
-        return this;
+    public Frame through(final Valve vlv) {
+        return new MkFrame(this.data, this.tbl, this.conds, this.max, vlv);
+    }
+
+    @Override
+    public Frame wrap(final UnaryOperator<Valve> wrapper) {
+        return new MkFrame(
+            this.data, this.tbl, this.conds, this.max,
+            wrapper.apply(this.valve)
+        );
+    }
+
+    /**
+     * Fetch the first page.
+     *
+     * <p>All items are read at once, and are split into pages of the
+     * limit of the valve. The cursor of a page is the keys of its last
+     * item in the index and the table.
+     *
+     * @return The page
+     */
+    @Override
+    public Dosage page() {
+        try {
+            final List<String> keys = this.order();
+            final Collection<String> attrs;
+            final int size;
+            if (this.inner() instanceof QueryValve) {
+                final QueryValve query = (QueryValve) this.inner();
+                attrs = query.attributes();
+                size = query.limit();
+            } else if (this.inner() instanceof ScanValve) {
+                attrs = Collections.emptyList();
+                size = ((ScanValve) this.inner()).limit();
+            } else {
+                attrs = Collections.emptyList();
+                size = Integer.MAX_VALUE;
+            }
+            final List<Map<String, AttributeValue>> items = new ArrayList<>(0);
+            for (final Attributes item : this.rows()) {
+                if (attrs.isEmpty()) {
+                    items.add(item);
+                } else {
+                    items.add(
+                        item.only(Iterables.concat(keys, attrs))
+                    );
+                }
+            }
+            return new MkFrame.Page(items, 0, size, keys);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Explain the frame.
+     *
+     * <p>The mock reads all items of the table as one page, and doesn't
+     * consume any capacity, so the explanation is always a scan with
+     * the exact number of items.
+     *
+     * @param sample Ignored
+     * @return Explanation
+     */
+    @Override
+    public Explain explain(final int sample) {
+        return new Explain(
+            "MkFrame", Plan.SCAN, this.conds.keySet(),
+            this.size(), 1L, 0.0d, false
+        );
+    }
+
+    @Override
+    public Frame limit(final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException(
+                String.format("Limit can't be negative: %d", limit)
+            );
+        }
+        return new MkFrame(
+            this.data, this.tbl, this.conds, Math.min(this.max, limit),
+            this.valve
+        );
+    }
+
+    /**
+     * The valve under its decorators.
+     * @return Valve
+     */
+    private Valve inner() {
+        return BoundedValve.unwrapped(this.valve);
+    }
+
+    /**
+     * Where the valve starts.
+     * @return Cursor of a previous page, empty to start from the beginning
+     */
+    private Cursor cursor() {
+        final Cursor cursor;
+        if (this.inner() instanceof QueryValve) {
+            cursor = ((QueryValve) this.inner()).cursor();
+        } else if (this.inner() instanceof ScanValve) {
+            cursor = ((ScanValve) this.inner()).cursor();
+        } else {
+            cursor = Cursor.EMPTY;
+        }
+        return cursor;
+    }
+
+    /**
+     * Keys, which order items read through the valve: the keys of its
+     * index and then the rest of keys of the table.
+     * @return Names of keys
+     * @throws IOException If fails
+     */
+    private List<String> order() throws IOException {
+        String index = "";
+        if (this.inner() instanceof QueryValve) {
+            index = ((QueryValve) this.inner()).index();
+        }
+        return MkFrame.order(this.data, this.tbl, index);
+    }
+
+    /**
+     * Keys, which order items of the index: its keys and then the rest
+     * of keys of the table.
+     * @param data Data
+     * @param table Table name
+     * @param index Name of the index, empty for the table itself
+     * @return Names of keys
+     * @throws IOException If fails
+     */
+    static List<String> order(final MkData data, final String table,
+        final String index) throws IOException {
+        final List<String> keys = Lists.newArrayList(data.keys(table, index));
+        for (final String key : data.keys(table)) {
+            if (!keys.contains(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Items, read through the valve, up to the limit.
+     * @return Items
+     * @throws IOException If fails
+     */
+    private Iterable<Attributes> rows() throws IOException {
+        final Iterable<Attributes> rows;
+        if (this.inner() instanceof QueryValve) {
+            final QueryValve query = (QueryValve) this.inner();
+            final Conditions filter = query.filter();
+            rows = Iterables.filter(
+                MkFrame.after(
+                    this.data.iterate(
+                        this.tbl, query.index(), this.conds, query.forward()
+                    ),
+                    this.order(), query.forward(), query.cursor()
+                ),
+                filter::matches
+            );
+        } else if (this.inner() instanceof ScanValve) {
+            rows = MkFrame.after(
+                this.data.iterate(this.tbl, "", this.conds, true),
+                this.order(), true, this.cursor()
+            );
+        } else {
+            rows = this.data.iterate(this.tbl, this.conds);
+        }
+        return Iterables.limit(rows, this.max);
+    }
+
+    /**
+     * Items after the keys of the cursor.
+     *
+     * <p>Items are compared with the cursor by their keys, in the order
+     * of the items, not found by keys equal to it, so the item of the
+     * cursor may be absent.
+     *
+     * @param rows All items, in the order of the keys
+     * @param keys Names of keys, which order the items
+     * @param forward Ascending order
+     * @param cursor The cursor, empty to start from the first item
+     * @return Items after the cursor
+     */
+    static Iterable<Attributes> after(final Iterable<Attributes> rows,
+        final List<String> keys, final boolean forward, final Cursor cursor) {
+        final Iterable<Attributes> after;
+        if (cursor.isEmpty()) {
+            after = rows;
+        } else {
+            final Comparator<Map<String, AttributeValue>> cmp =
+                MemData.order(keys, forward);
+            final Map<String, AttributeValue> start = cursor.key();
+            after = Iterables.filter(
+                rows, row -> cmp.compare(row, start) > 0
+            );
+        }
+        return after;
+    }
+
+    /**
+     * Page of items.
+     *
+     * @since 0.23
+     */
+    @ToString
+    @EqualsAndHashCode
+    private static final class Page implements Dosage {
+
+        /**
+         * All items of the frame.
+         */
+        private final transient List<Map<String, AttributeValue>> rows;
+
+        /**
+         * Position of the first item of the page.
+         */
+        private final transient int offset;
+
+        /**
+         * Maximum number of items in a page.
+         */
+        private final transient int size;
+
+        /**
+         * Names of keys of the table.
+         */
+        private final transient List<String> keys;
+
+        /**
+         * Ctor.
+         * @param items All items of the frame
+         * @param first Position of the first item of the page
+         * @param limit Maximum number of items in a page
+         * @param names Names of keys of the table
+         * @checkstyle ParameterNumber (5 lines)
+         */
+        Page(final List<Map<String, AttributeValue>> items, final int first,
+            final int limit, final List<String> names) {
+            this.rows = items;
+            this.offset = first;
+            this.size = limit;
+            this.keys = names;
+        }
+
+        @Override
+        public List<Map<String, AttributeValue>> items() {
+            return Collections.unmodifiableList(
+                this.rows.subList(this.offset, this.end())
+            );
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.end() < this.rows.size();
+        }
+
+        @Override
+        public Dosage next() {
+            if (!this.hasNext()) {
+                throw new IllegalStateException("There are no more pages");
+            }
+            return new MkFrame.Page(
+                this.rows, this.end(), this.size, this.keys
+            );
+        }
+
+        @Override
+        public Cursor cursor() {
+            final Cursor cursor;
+            if (this.hasNext()) {
+                cursor = new Cursor(
+                    new Attributes(this.rows.get(this.end() - 1))
+                        .only(this.keys)
+                );
+            } else {
+                cursor = Cursor.EMPTY;
+            }
+            return cursor;
+        }
+
+        /**
+         * Position after the last item of the page.
+         * @return Position
+         */
+        private int end() {
+            return (int) Math.min(
+                (long) this.offset + this.size, this.rows.size()
+            );
+        }
     }
 }
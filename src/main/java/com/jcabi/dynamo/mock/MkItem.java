@@ -14,14 +14,19 @@ import com.jcabi.dynamo.Attributes;
 import com.jcabi.dynamo.Conditions;
 import com.jcabi.dynamo.Frame;
 import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.UpdateExpression;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeAction;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
 /**
  * Mock version of {@link Item}.
@@ -119,8 +124,99 @@ final class MkItem implements Item {
         );
     }
 
+    @Override
+    public Map<String, AttributeValue> update(
+        final UpdateExpression expression) throws IOException {
+        final Attributes keys = this.attributes.only(
+            this.data.keys(this.table)
+        );
+        final Iterator<Attributes> found = this.data.iterate(
+            this.table, new Conditions().withAttributes(keys)
+        ).iterator();
+        final Map<String, AttributeValue> before;
+        if (found.hasNext()) {
+            before = found.next();
+        } else {
+            before = Collections.emptyMap();
+        }
+        if (before.isEmpty() || !expression.accepts(before)) {
+            throw ConditionalCheckFailedException.builder()
+                .message(
+                    String.format(
+                        "The conditional request failed for %s in \"%s\"",
+                        keys, this.table
+                    )
+                )
+                .build();
+        }
+        final Map<String, AttributeValue> after = expression.apply(before);
+        AttributeUpdates updates = new AttributeUpdates();
+        for (final String attr : expression.attributes()) {
+            final AttributeValue value = after.get(attr);
+            if (value != null) {
+                updates = updates.with(attr, value);
+            } else if (before.containsKey(attr)) {
+                updates = updates.with(
+                    attr,
+                    AttributeValueUpdate.builder()
+                        .action(AttributeAction.DELETE).build()
+                );
+            }
+        }
+        if (!updates.isEmpty()) {
+            this.data.update(this.table, keys, updates);
+        }
+        return MkItem.returned(expression, before, after);
+    }
+
+    @Override
+    public Map<String, AttributeValue> loaded() {
+        return this.attributes;
+    }
+
     @Override
     public Frame frame() {
         return new MkFrame(this.data, this.table);
     }
+
+    /**
+     * Values to return after the update, as DynamoDB returns them.
+     * @param expression The update expression
+     * @param before Attributes before the update
+     * @param after Attributes after the update
+     * @return Values to return
+     */
+    private static Map<String, AttributeValue> returned(
+        final UpdateExpression expression,
+        final Map<String, AttributeValue> before,
+        final Map<String, AttributeValue> after) {
+        final Map<String, AttributeValue> result;
+        switch (expression.returns()) {
+            case ALL_OLD:
+                result = before;
+                break;
+            case ALL_NEW:
+                result = after;
+                break;
+            case UPDATED_OLD:
+                result = new Attributes(before).only(expression.attributes());
+                break;
+            case UPDATED_NEW:
+                result = new Attributes(after).only(expression.attributes());
+                break;
+            default:
+                result = Collections.emptyMap();
+                break;
+        }
+        return result;
+    }
+
+    /**
+     * Primary key of the item.
+     * @return Key attributes
+     * @throws IOException If fails
+     */
+    Attributes primary() throws IOException {
+        return this.attributes.only(this.data.keys(this.table));
+    }
 }
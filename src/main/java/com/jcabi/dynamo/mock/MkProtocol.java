@@ -0,0 +1,1289 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.mock;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.jcabi.dynamo.AttributeUpdates;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.ConditionExpression;
+import com.jcabi.dynamo.Conditions;
+import com.jcabi.dynamo.Cursor;
+import com.jcabi.dynamo.UpdateExpression;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import lombok.ToString;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonWriter;
+import software.amazon.awssdk.services.dynamodb.model.AttributeAction;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Operations of DynamoDB JSON protocol, on top of {@link MkData}.
+ *
+ * <p>Requests are understood in their legacy form, with key conditions,
+ * filters, expected values and attribute updates, and with expressions:
+ * condition and filter expressions, as {@link ConditionExpression}
+ * evaluates them, key condition expressions, which are turned into
+ * {@link Conditions}, and update expressions, as {@link MkUpdate}
+ * understands them. Operations, which are not implemented here, are
+ * rejected.
+ *
+ * <p>Every write reads the item first and replaces it with the new one,
+ * so that expected values and updates work the same way with any
+ * {@link MkData}. Writes are done one at a time.
+ *
+ * @since 0.23
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle ClassFanOutComplexityCheck (500 lines)
+ */
+@ToString(of = "data")
+@SuppressWarnings("PMD.GodClass")
+final class MkProtocol {
+
+    /**
+     * Name of the table in requests.
+     */
+    private static final String TABLE = "TableName";
+
+    /**
+     * Name of the item in requests.
+     */
+    private static final String ITEM = "Item";
+
+    /**
+     * Name of keys in requests.
+     */
+    private static final String KEY = "Key";
+
+    /**
+     * Name of attributes in responses.
+     */
+    private static final String ATTRS = "Attributes";
+
+    /**
+     * Name of projected attributes in requests.
+     */
+    private static final String PROJECTION = "AttributesToGet";
+
+    /**
+     * Name of a key in key schemas.
+     */
+    private static final String NAME = "AttributeName";
+
+    /**
+     * Name of the key schema in requests and responses.
+     */
+    private static final String SCHEMA = "KeySchema";
+
+    /**
+     * Type of error, which rejects a request.
+     */
+    private static final String INVALID = "ValidationException";
+
+    /**
+     * Data.
+     */
+    private final transient MkData data;
+
+    /**
+     * Lock of writes.
+     */
+    private final transient Object lock;
+
+    /**
+     * Ctor.
+     * @param dta Data
+     */
+    MkProtocol(final MkData dta) {
+        this.data = dta;
+        this.lock = new Object();
+    }
+
+    /**
+     * Run the operation.
+     * @param operation Name of the operation, like {@code "GetItem"}
+     * @param req Request
+     * @return Response, in JSON
+     * @throws IOException If fails
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    byte[] answer(final String operation, final JsonNode req)
+        throws IOException {
+        final JsonWriter out = JsonWriter.create();
+        out.writeStartObject();
+        switch (operation) {
+            case "CreateTable":
+                this.create(req, out);
+                break;
+            case "DescribeTable":
+                out.writeFieldName("Table");
+                this.describe(MkProtocol.text(req, MkProtocol.TABLE), out);
+                break;
+            case "PutItem":
+                this.put(req, out);
+                break;
+            case "GetItem":
+                this.get(req, out);
+                break;
+            case "DeleteItem":
+                this.delete(req, out);
+                break;
+            case "UpdateItem":
+                this.update(req, out);
+                break;
+            case "Query":
+                this.query(req, out);
+                break;
+            case "Scan":
+                this.scan(req, out);
+                break;
+            case "BatchWriteItem":
+                this.write(req, out);
+                break;
+            case "BatchGetItem":
+                this.read(req, out);
+                break;
+            default:
+                throw new MkProtocol.Failure(
+                    "UnknownOperationException",
+                    String.format("Operation %s is not supported", operation)
+                );
+        }
+        out.writeEndObject();
+        return out.getBytes();
+    }
+
+    /**
+     * Create a table and its indexes.
+     * @param req Request
+     * @param out Response
+     * @throws IOException If fails
+     */
+    private void create(final JsonNode req, final JsonWriter out)
+        throws IOException {
+        final String table = MkProtocol.text(req, MkProtocol.TABLE);
+        if (this.exists(table)) {
+            throw new MkProtocol.Failure(
+                "ResourceInUseException",
+                String.format("Table already exists: %s", table)
+            );
+        }
+        final Map<String, String> types = new LinkedHashMap<>(0);
+        for (final JsonNode def
+            : MkProtocol.list(req, "AttributeDefinitions")) {
+            types.put(
+                MkProtocol.text(def, MkProtocol.NAME),
+                MkProtocol.text(def, "AttributeType")
+            );
+        }
+        final List<String> keys = MkProtocol.schema(req);
+        final Map<String, List<String>> indexes = new LinkedHashMap<>(0);
+        final String[] kinds = {
+            "LocalSecondaryIndexes", "GlobalSecondaryIndexes",
+        };
+        for (final String kind : kinds) {
+            for (final JsonNode idx : MkProtocol.list(req, kind)) {
+                indexes.put(
+                    MkProtocol.text(idx, "IndexName"), MkProtocol.schema(idx)
+                );
+            }
+        }
+        final Collection<String> attrs = new LinkedList<>();
+        for (final Map.Entry<String, String> type : types.entrySet()) {
+            if (!keys.contains(type.getKey())) {
+                attrs.add(
+                    String.format("%s:%s", type.getKey(), type.getValue())
+                );
+            }
+        }
+        final List<String> declared = new ArrayList<>(keys.size());
+        for (final String key : keys) {
+            final String type = types.get(key);
+            if (type == null) {
+                throw new MkProtocol.Failure(
+                    MkProtocol.INVALID,
+                    String.format("Type of key %s is not defined", key)
+                );
+            }
+            declared.add(String.format("%s:%s", key, type));
+        }
+        this.data.with(
+            table, declared.toArray(new String[0]),
+            attrs.toArray(new String[0])
+        );
+        for (final Map.Entry<String, List<String>> idx : indexes.entrySet()) {
+            this.data.withIndex(
+                table, idx.getKey(), idx.getValue().toArray(new String[0])
+            );
+        }
+        out.writeFieldName("TableDescription");
+        this.describe(table, out);
+    }
+
+    /**
+     * Describe a table.
+     * @param table Table name
+     * @param out Response
+     * @throws IOException If fails
+     */
+    private void describe(final String table, final JsonWriter out)
+        throws IOException {
+        final List<String> keys = this.keys(table);
+        out.writeStartObject()
+            .writeFieldName(MkProtocol.TABLE).writeValue(table)
+            .writeFieldName("TableStatus").writeValue("ACTIVE")
+            .writeFieldName(MkProtocol.SCHEMA).writeStartArray();
+        for (int idx = 0; idx < keys.size(); ++idx) {
+            final String type;
+            if (idx == 0) {
+                type = "HASH";
+            } else {
+                type = "RANGE";
+            }
+            out.writeStartObject()
+                .writeFieldName(MkProtocol.NAME).writeValue(keys.get(idx))
+                .writeFieldName("KeyType").writeValue(type)
+                .writeEndObject();
+        }
+        out.writeEndArray()
+            .writeFieldName("ItemCount")
+            .writeValue(this.data.count(table, "", new Conditions()))
+            .writeFieldName("TableSizeBytes").writeValue(0)
+            .writeEndObject();
+    }
+
+    /**
+     * Put an item.
+     * @param req Request
+     * @param out Response
+     * @throws IOException If fails
+     */
+    private void put(final JsonNode req, final JsonWriter out)
+        throws IOException {
+        final String table = MkProtocol.text(req, MkProtocol.TABLE);
+        final Attributes item = MkProtocol.attributes(req, MkProtocol.ITEM);
+        final Attributes key = this.key(table, item);
+        final Attributes before;
+        synchronized (this.lock) {
+            before = this.find(table, key);
+            MkProtocol.expect(req, before);
+            this.save(table, key, before, item);
+        }
+        MkProtocol.old(req, before, out);
+    }
+
+    /**
+     * Get an item.
+     * @param req Request
+     * @param out Response
+     * @throws IOException If fails
+     */
+    private void get(final JsonNode req, final JsonWriter out)
+        throws IOException {
+        final String table = MkProtocol.text(req, MkProtocol.TABLE);
+        final Attributes item = this.find(
+            table,
+            this.key(table, MkProtocol.attributes(req, MkProtocol.KEY))
+        );
+        if (!item.isEmpty()) {
+            out.writeFieldName(MkProtocol.ITEM);
+            MkProtocol.write(out, MkProtocol.projected(req, item));
+        }
+    }
+
+    /**
+     * Delete an item.
+     * @param req Request
+     * @param out Response
+     * @throws IOException If fails
+     */
+    private void delete(final JsonNode req, final JsonWriter out)
+        throws IOException {
+        final String table = MkProtocol.text(req, MkProtocol.TABLE);
+        final Attributes key = this.key(
+            table, MkProtocol.attributes(req, MkProtocol.KEY)
+        );
+        final Attributes before;
+        synchronized (this.lock) {
+            before = this.find(table, key);
+            MkProtocol.expect(req, before);
+            if (!before.isEmpty()) {
+                this.data.delete(table, key);
+            }
+        }
+        MkProtocol.old(req, before, out);
+    }
+
+    /**
+     * Update an item, or create it if it's absent.
+     * @param req Request
+     * @param out Response
+     * @throws IOException If fails
+     */
+    private void update(final JsonNode req, final JsonWriter out)
+        throws IOException {
+        final String table = MkProtocol.text(req, MkProtocol.TABLE);
+        final Attributes key = this.key(
+            table, MkProtocol.attributes(req, MkProtocol.KEY)
+        );
+        final Map<String, JsonNode> updates = req.field("AttributeUpdates")
+            .map(JsonNode::asObject)
+            .orElse(Collections.emptyMap());
+        final Set<String> changed;
+        final UpdateExpression expr;
+        if (req.field("UpdateExpression").isPresent()) {
+            expr = new MkUpdate(
+                MkProtocol.text(req, "UpdateExpression"),
+                MkProtocol.names(req), MkProtocol.values(req)
+            ).expression();
+            changed = expr.attributes();
+        } else {
+            expr = null;
+            changed = updates.keySet();
+        }
+        final Attributes before;
+        final Attributes after;
+        synchronized (this.lock) {
+            before = this.find(table, key);
+            MkProtocol.expect(req, before);
+            Map<String, AttributeValue> item = new LinkedHashMap<>(key);
+            item.putAll(before);
+            if (expr == null) {
+                for (final Map.Entry<String, JsonNode> upd
+                    : updates.entrySet()) {
+                    MkProtocol.change(item, upd.getKey(), upd.getValue());
+                }
+            } else {
+                item = expr.apply(item);
+            }
+            after = new Attributes(item);
+            this.save(table, key, before, after);
+        }
+        final String returns = MkProtocol.text(req, "ReturnValues", "NONE");
+        final Attributes shown;
+        if ("ALL_NEW".equals(returns)) {
+            shown = after;
+        } else if ("UPDATED_NEW".equals(returns)) {
+            shown = after.only(changed);
+        } else if ("ALL_OLD".equals(returns)) {
+            shown = before;
+        } else if ("UPDATED_OLD".equals(returns)) {
+            shown = before.only(changed);
+        } else {
+            shown = new Attributes();
+        }
+        if (!shown.isEmpty()) {
+            out.writeFieldName(MkProtocol.ATTRS);
+            MkProtocol.write(out, shown);
+        }
+    }
+
+    /**
+     * Query a table or its index.
+     * @param req Request
+     * @param out Response
+     * @throws IOException If fails
+     */
+    private void query(final JsonNode req, final JsonWriter out)
+        throws IOException {
+        final String table = MkProtocol.text(req, MkProtocol.TABLE);
+        final String index = MkProtocol.text(req, "IndexName", "");
+        this.keys(table);
+        final List<String> keys = MkFrame.order(this.data, table, index);
+        Conditions conds = MkProtocol.conditions(req, "KeyConditions");
+        if (req.field("KeyConditionExpression").isPresent()) {
+            conds = conds.with(
+                MkProtocol.expression(req, "KeyConditionExpression")
+                    .conditions()
+            );
+        }
+        final boolean forward = !"false".equals(
+            req.field("ScanIndexForward")
+                .map(node -> String.valueOf(node.asBoolean()))
+                .orElse("true")
+        );
+        this.page(
+            req,
+            MkProtocol.after(
+                req, this.data.iterate(table, index, conds, forward),
+                keys, forward
+            ),
+            MkProtocol.filter(req, "QueryFilter"), keys, out
+        );
+    }
+
+    /**
+     * Scan a table, or a segment of it.
+     * @param req Request
+     * @param out Response
+     * @throws IOException If fails
+     */
+    private void scan(final JsonNode req, final JsonWriter out)
+        throws IOException {
+        final String table = MkProtocol.text(req, MkProtocol.TABLE);
+        final List<String> keys = this.keys(table);
+        Iterable<Attributes> rows = MkProtocol.after(
+            req, this.data.iterate(table, "", new Conditions(), true),
+            keys, true
+        );
+        final int total = MkProtocol.number(req, "TotalSegments", 1);
+        if (total > 1) {
+            final int segment = MkProtocol.number(req, "Segment", 0);
+            rows = Iterables.filter(
+                rows,
+                item -> Math.floorMod(item.only(keys).hashCode(), total)
+                    == segment
+            );
+        }
+        this.page(
+            req, rows, MkProtocol.filter(req, "ScanFilter"), keys, out
+        );
+    }
+
+    /**
+     * Items after the exclusive start key, as Query and Scan read them.
+     *
+     * <p>Items are compared with the key in the order of keys, so the
+     * item of the key doesn't have to be there anymore.
+     *
+     * @param req Request
+     * @param rows All items, in the order of the keys
+     * @param keys Names of keys of the index and the table
+     * @param forward Ascending order
+     * @return Items after the key, all of them if there is no key
+     */
+    private static Iterable<Attributes> after(final JsonNode req,
+        final Iterable<Attributes> rows, final List<String> keys,
+        final boolean forward) {
+        return MkFrame.after(
+            rows, keys, forward,
+            new Cursor(
+                MkProtocol.attributes(req, "ExclusiveStartKey").only(keys)
+            )
+        );
+    }
+
+    /**
+     * Write a page of items, as Query and Scan do.
+     *
+     * <p>The page has no more than the limit of items read, before they
+     * are filtered. Its last evaluated key has the keys of the index,
+     * if any, and of the table.
+     *
+     * @param req Request
+     * @param rows Items, which may be read, in order
+     * @param filter Which items to show
+     * @param keys Names of keys of the index and the table
+     * @param out Response
+     * @checkstyle ParameterNumber (5 lines)
+     */
+    private void page(final JsonNode req, final Iterable<Attributes> rows,
+        final Predicate<Attributes> filter, final List<String> keys,
+        final JsonWriter out) {
+        final Iterator<Attributes> iter = rows.iterator();
+        final int limit = MkProtocol.number(req, "Limit", Integer.MAX_VALUE);
+        final List<Attributes> items = new LinkedList<>();
+        Attributes last = new Attributes();
+        int scanned = 0;
+        while (scanned < limit && iter.hasNext()) {
+            last = iter.next();
+            ++scanned;
+            if (filter.test(last)) {
+                items.add(MkProtocol.projected(req, last));
+            }
+        }
+        out.writeFieldName("Count").writeValue(items.size())
+            .writeFieldName("ScannedCount").writeValue(scanned);
+        if (!"COUNT".equals(MkProtocol.text(req, "Select", ""))) {
+            out.writeFieldName("Items").writeStartArray();
+            for (final Attributes item : items) {
+                MkProtocol.write(out, item);
+            }
+            out.writeEndArray();
+        }
+        if (scanned == limit && iter.hasNext()) {
+            out.writeFieldName("LastEvaluatedKey");
+            MkProtocol.write(out, last.only(keys));
+        }
+    }
+
+    /**
+     * Put and delete items in many tables.
+     * @param req Request
+     * @param out Response
+     * @throws IOException If fails
+     */
+    private void write(final JsonNode req, final JsonWriter out)
+        throws IOException {
+        final Map<String, JsonNode> tables = MkProtocol.object(
+            req, "RequestItems"
+        );
+        synchronized (this.lock) {
+            for (final Map.Entry<String, JsonNode> table : tables.entrySet()) {
+                final List<Attributes> puts = new LinkedList<>();
+                final List<Attributes> gone = new LinkedList<>();
+                for (final JsonNode request : table.getValue().asArray()) {
+                    final Attributes item = MkProtocol.attributes(
+                        request.field("PutRequest").orElse(
+                            JsonNode.emptyObjectNode()
+                        ),
+                        MkProtocol.ITEM
+                    );
+                    if (item.isEmpty()) {
+                        gone.add(
+                            this.key(
+                                table.getKey(),
+                                MkProtocol.attributes(
+                                    request.field("DeleteRequest").orElse(
+                                        JsonNode.emptyObjectNode()
+                                    ),
+                                    MkProtocol.KEY
+                                )
+                            )
+                        );
+                    } else {
+                        final Attributes key = this.key(table.getKey(), item);
+                        if (!this.find(table.getKey(), key).isEmpty()) {
+                            gone.add(key);
+                        }
+                        puts.add(item);
+                    }
+                }
+                this.data.deleteAll(table.getKey(), gone);
+                this.data.putAll(table.getKey(), puts);
+            }
+        }
+        out.writeFieldName("UnprocessedItems").writeStartObject()
+            .writeEndObject();
+    }
+
+    /**
+     * Get items from many tables.
+     * @param req Request
+     * @param out Response
+     * @throws IOException If fails
+     */
+    private void read(final JsonNode req, final JsonWriter out)
+        throws IOException {
+        final Map<String, JsonNode> tables = MkProtocol.object(
+            req, "RequestItems"
+        );
+        out.writeFieldName("Responses").writeStartObject();
+        for (final Map.Entry<String, JsonNode> table : tables.entrySet()) {
+            final List<Attributes> keys = new LinkedList<>();
+            for (final JsonNode key
+                : MkProtocol.list(table.getValue(), "Keys")) {
+                keys.add(this.key(table.getKey(), MkProtocol.attributes(key)));
+            }
+            out.writeFieldName(table.getKey()).writeStartArray();
+            for (final Attributes item
+                : this.data.getAll(table.getKey(), keys)) {
+                MkProtocol.write(
+                    out, MkProtocol.projected(table.getValue(), item)
+                );
+            }
+            out.writeEndArray();
+        }
+        out.writeEndObject()
+            .writeFieldName("UnprocessedKeys").writeStartObject()
+            .writeEndObject();
+    }
+
+    /**
+     * The item with these keys.
+     * @param table Table name
+     * @param key Keys of the item
+     * @return The item, empty if it's absent
+     * @throws IOException If fails
+     */
+    private Attributes find(final String table, final Attributes key)
+        throws IOException {
+        final Iterator<Attributes> found = this.data.iterate(
+            table, new Conditions().withAttributes(key)
+        ).iterator();
+        final Attributes item;
+        if (found.hasNext()) {
+            item = found.next();
+        } else {
+            item = new Attributes();
+        }
+        return item;
+    }
+
+    /**
+     * Store the item over the one with the same keys, if any.
+     *
+     * <p>An existing item is changed in place, with
+     * {@link MkData#update(String, Attributes, AttributeUpdates)}, not
+     * deleted and put again, so it stays where it was among the items,
+     * for those who read them by pages.
+     *
+     * @param table Table name
+     * @param key Keys of the item
+     * @param before Item, which is stored now, empty if there is none
+     * @param after The item to store
+     * @throws IOException If fails
+     */
+    private void save(final String table, final Attributes key,
+        final Attributes before, final Attributes after) throws IOException {
+        if (before.isEmpty()) {
+            this.data.put(table, after);
+        } else {
+            AttributeUpdates changes = new AttributeUpdates();
+            for (final Map.Entry<String, AttributeValue> attr
+                : after.entrySet()) {
+                if (!key.containsKey(attr.getKey())
+                    && !attr.getValue().equals(before.get(attr.getKey()))) {
+                    changes = changes.with(attr.getKey(), attr.getValue());
+                }
+            }
+            for (final String name : before.keySet()) {
+                if (!after.containsKey(name)) {
+                    changes = changes.with(
+                        name,
+                        AttributeValueUpdate.builder()
+                            .action(AttributeAction.DELETE)
+                            .build()
+                    );
+                }
+            }
+            if (!changes.isEmpty()) {
+                this.data.update(table, key, changes);
+            }
+        }
+    }
+
+    /**
+     * Keys of the item.
+     * @param table Table name
+     * @param item The item or its keys
+     * @return Keys
+     * @throws IOException If some keys are absent
+     */
+    private Attributes key(final String table, final Attributes item)
+        throws IOException {
+        final List<String> keys = this.keys(table);
+        final Attributes key = item.only(keys);
+        if (key.size() != keys.size()) {
+            throw new MkProtocol.Failure(
+                MkProtocol.INVALID,
+                "The provided key element does not match the schema"
+            );
+        }
+        return key;
+    }
+
+    /**
+     * Names of keys of the table.
+     * @param table Table name
+     * @return Names of keys, the hash key first
+     * @throws IOException If there is no such table
+     */
+    private List<String> keys(final String table) throws IOException {
+        if (!this.exists(table)) {
+            throw new MkProtocol.Failure(
+                "ResourceNotFoundException",
+                String.format(
+                    "Requested resource not found: Table: %s not found", table
+                )
+            );
+        }
+        return Lists.newArrayList(this.data.keys(table));
+    }
+
+    /**
+     * Is there such table?
+     * @param table Table name
+     * @return TRUE if it exists
+     */
+    private boolean exists(final String table) {
+        boolean exists;
+        try {
+            exists = this.data.keys(table).iterator().hasNext();
+        } catch (final IOException ex) {
+            exists = false;
+        }
+        return exists;
+    }
+
+    /**
+     * Check expected values of the item.
+     * @param req Request
+     * @param before The item, empty if it's absent
+     * @throws IOException If the item doesn't meet them
+     */
+    private static void expect(final JsonNode req, final Attributes before)
+        throws IOException {
+        Conditions conds = new Conditions();
+        for (final Map.Entry<String, JsonNode> exp
+            : MkProtocol.object(req, "Expected").entrySet()) {
+            final JsonNode node = exp.getValue();
+            final Condition cond;
+            if (node.field("ComparisonOperator").isPresent()) {
+                cond = MkProtocol.condition(node);
+            } else if (node.field("Value").isPresent()) {
+                cond = Condition.builder()
+                    .comparisonOperator(ComparisonOperator.EQ)
+                    .attributeValueList(
+                        MkProtocol.value(node.field("Value").get())
+                    )
+                    .build();
+            } else if (!node.field("Exists").map(JsonNode::asBoolean)
+                .orElse(true)) {
+                cond = Condition.builder()
+                    .comparisonOperator(ComparisonOperator.NULL)
+                    .build();
+            } else {
+                cond = Condition.builder()
+                    .comparisonOperator(ComparisonOperator.NOT_NULL)
+                    .build();
+            }
+            conds = conds.with(exp.getKey(), cond);
+        }
+        if (!conds.matches(before)
+            || req.field("ConditionExpression").isPresent()
+            && !MkProtocol.expression(req, "ConditionExpression")
+                .matches(before)) {
+            throw new MkProtocol.Failure(
+                "ConditionalCheckFailedException",
+                "The conditional request failed"
+            );
+        }
+    }
+
+    /**
+     * Write the old item, if it was requested.
+     * @param req Request
+     * @param before The item, empty if it was absent
+     * @param out Response
+     */
+    private static void old(final JsonNode req, final Attributes before,
+        final JsonWriter out) {
+        if ("ALL_OLD".equals(MkProtocol.text(req, "ReturnValues", ""))
+            && !before.isEmpty()) {
+            out.writeFieldName(MkProtocol.ATTRS);
+            MkProtocol.write(out, before);
+        }
+    }
+
+    /**
+     * Apply an attribute update to the item.
+     * @param item The item
+     * @param name Name of the attribute
+     * @param upd The update
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static void change(final Map<String, AttributeValue> item,
+        final String name, final JsonNode upd) {
+        final String action = MkProtocol.text(upd, "Action", "PUT");
+        final AttributeValue value = upd.field("Value")
+            .map(MkProtocol::value).orElse(null);
+        final AttributeValue old = item.get(name);
+        if ("PUT".equals(action)) {
+            item.put(name, value);
+        } else if ("DELETE".equals(action) && (value == null || old == null)) {
+            item.remove(name);
+        } else if ("DELETE".equals(action)) {
+            final AttributeValue left = MkProtocol.merge(old, value, false);
+            if (left == null) {
+                item.remove(name);
+            } else {
+                item.put(name, left);
+            }
+        } else if ("ADD".equals(action) && old == null) {
+            item.put(name, value);
+        } else if ("ADD".equals(action) && value.n() != null) {
+            item.put(
+                name,
+                AttributeValue.builder().n(
+                    new BigDecimal(old.n()).add(new BigDecimal(value.n()))
+                        .toPlainString()
+                ).build()
+            );
+        } else if ("ADD".equals(action)) {
+            item.put(name, MkProtocol.merge(old, value, true));
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Action %s is not supported", action)
+            );
+        }
+    }
+
+    /**
+     * Add elements of one set to another, or remove them.
+     * @param old The set
+     * @param value Elements
+     * @param add TRUE to add them, FALSE to remove
+     * @return New set, NULL if it's empty
+     */
+    private static AttributeValue merge(final AttributeValue old,
+        final AttributeValue value, final boolean add) {
+        final AttributeValue merged;
+        if (old.hasSs() && value.hasSs()) {
+            final Set<String> set = MkProtocol.merge(
+                old.ss(), value.ss(), add
+            );
+            merged = AttributeValue.builder().ss(set).build();
+        } else if (old.hasNs() && value.hasNs()) {
+            final Set<String> set = MkProtocol.merge(
+                old.ns(), value.ns(), add
+            );
+            merged = AttributeValue.builder().ns(set).build();
+        } else if (old.hasBs() && value.hasBs()) {
+            final Set<SdkBytes> set = MkProtocol.merge(
+                old.bs(), value.bs(), add
+            );
+            merged = AttributeValue.builder().bs(set).build();
+        } else {
+            throw new IllegalArgumentException(
+                "An operand in the update expression has an incorrect type"
+            );
+        }
+        final AttributeValue result;
+        if (merged.ss().isEmpty() && merged.ns().isEmpty()
+            && merged.bs().isEmpty()) {
+            result = null;
+        } else {
+            result = merged;
+        }
+        return result;
+    }
+
+    /**
+     * Add elements of one set to another, or remove them.
+     * @param old The set
+     * @param elements Elements
+     * @param add TRUE to add them, FALSE to remove
+     * @param <T> Type of elements
+     * @return New set
+     */
+    private static <T> Set<T> merge(final Collection<T> old,
+        final Collection<T> elements, final boolean add) {
+        final Set<T> set = new LinkedHashSet<>(old);
+        if (add) {
+            set.addAll(elements);
+        } else {
+            set.removeAll(new HashSet<>(elements));
+        }
+        return set;
+    }
+
+    /**
+     * Items to show, which meet the filter and the filter expression.
+     * @param req Request
+     * @param name Name of the legacy filter
+     * @return Filter
+     */
+    private static Predicate<Attributes> filter(final JsonNode req,
+        final String name) {
+        final Conditions conds = MkProtocol.conditions(req, name);
+        final Predicate<Attributes> filter;
+        if (req.field("FilterExpression").isPresent()) {
+            final ConditionExpression expr = MkProtocol.expression(
+                req, "FilterExpression"
+            );
+            filter = item -> conds.matches(item) && expr.matches(item);
+        } else {
+            filter = conds::matches;
+        }
+        return filter;
+    }
+
+    /**
+     * Condition expression of the request.
+     * @param req Request
+     * @param name Name of the expression
+     * @return Expression
+     */
+    private static ConditionExpression expression(final JsonNode req,
+        final String name) {
+        return new ConditionExpression(
+            MkProtocol.text(req, name), MkProtocol.names(req),
+            MkProtocol.values(req)
+        );
+    }
+
+    /**
+     * Placeholders of attribute names in expressions of the request.
+     * @param req Request
+     * @return Names, by placeholders
+     */
+    private static Map<String, String> names(final JsonNode req) {
+        final Map<String, String> names = new LinkedHashMap<>(0);
+        for (final Map.Entry<String, JsonNode> name
+            : MkProtocol.object(req, "ExpressionAttributeNames").entrySet()) {
+            names.put(name.getKey(), name.getValue().asString());
+        }
+        return names;
+    }
+
+    /**
+     * Placeholders of values in expressions of the request.
+     * @param req Request
+     * @return Values, by placeholders
+     */
+    private static Map<String, AttributeValue> values(final JsonNode req) {
+        return MkProtocol.attributes(req, "ExpressionAttributeValues");
+    }
+
+    /**
+     * Only attributes, which are requested.
+     * @param req Request
+     * @param item The item
+     * @return Attributes to show
+     */
+    private static Attributes projected(final JsonNode req,
+        final Attributes item) {
+        final List<String> attrs = new LinkedList<>();
+        for (final JsonNode attr
+            : MkProtocol.list(req, MkProtocol.PROJECTION)) {
+            attrs.add(attr.asString());
+        }
+        final Attributes shown;
+        if (attrs.isEmpty()) {
+            shown = item;
+        } else {
+            shown = item.only(attrs);
+        }
+        return shown;
+    }
+
+    /**
+     * Key names of a key schema, the hash key first.
+     * @param node Table or index, with a key schema
+     * @return Names of keys
+     */
+    private static List<String> schema(final JsonNode node) {
+        final List<String> keys = new ArrayList<>(2);
+        for (final JsonNode key : MkProtocol.list(node, MkProtocol.SCHEMA)) {
+            if ("HASH".equals(MkProtocol.text(key, "KeyType"))) {
+                keys.add(0, MkProtocol.text(key, MkProtocol.NAME));
+            } else {
+                keys.add(MkProtocol.text(key, MkProtocol.NAME));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Conditions of the request.
+     * @param req Request
+     * @param name Name of the conditions
+     * @return Conditions
+     */
+    private static Conditions conditions(final JsonNode req,
+        final String name) {
+        Conditions conds = new Conditions();
+        for (final Map.Entry<String, JsonNode> cond
+            : MkProtocol.object(req, name).entrySet()) {
+            conds = conds.with(
+                cond.getKey(), MkProtocol.condition(cond.getValue())
+            );
+        }
+        return conds;
+    }
+
+    /**
+     * Condition.
+     * @param node Condition in JSON
+     * @return Condition
+     */
+    private static Condition condition(final JsonNode node) {
+        final List<AttributeValue> values = new LinkedList<>();
+        for (final JsonNode value
+            : MkProtocol.list(node, "AttributeValueList")) {
+            values.add(MkProtocol.value(value));
+        }
+        return Condition.builder()
+            .comparisonOperator(MkProtocol.text(node, "ComparisonOperator"))
+            .attributeValueList(values)
+            .build();
+    }
+
+    /**
+     * Attributes of a field of the request.
+     * @param req Request
+     * @param name Name of the field
+     * @return Attributes, empty if there is no field
+     */
+    private static Attributes attributes(final JsonNode req,
+        final String name) {
+        return req.field(name).filter(node -> !node.isNull())
+            .map(MkProtocol::attributes)
+            .orElse(new Attributes());
+    }
+
+    /**
+     * Attributes.
+     * @param node Attributes in JSON
+     * @return Attributes
+     */
+    private static Attributes attributes(final JsonNode node) {
+        final Map<String, AttributeValue> attrs = new LinkedHashMap<>(0);
+        for (final Map.Entry<String, JsonNode> attr
+            : node.asObject().entrySet()) {
+            attrs.put(attr.getKey(), MkProtocol.value(attr.getValue()));
+        }
+        return new Attributes(attrs);
+    }
+
+    /**
+     * Attribute value.
+     * @param node Value in JSON, like {@code {"S": "hello"}}
+     * @return Value
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static AttributeValue value(final JsonNode node) {
+        final Map.Entry<String, JsonNode> typed =
+            node.asObject().entrySet().iterator().next();
+        final JsonNode body = typed.getValue();
+        final AttributeValue.Builder value = AttributeValue.builder();
+        switch (typed.getKey()) {
+            case "S":
+                value.s(body.asString());
+                break;
+            case "N":
+                value.n(body.asString());
+                break;
+            case "B":
+                value.b(MkProtocol.binary(body));
+                break;
+            case "BOOL":
+                value.bool(body.asBoolean());
+                break;
+            case "NULL":
+                value.nul(true);
+                break;
+            case "SS":
+                value.ss(Lists.transform(body.asArray(), JsonNode::asString));
+                break;
+            case "NS":
+                value.ns(Lists.transform(body.asArray(), JsonNode::asString));
+                break;
+            case "BS":
+                value.bs(Lists.transform(body.asArray(), MkProtocol::binary));
+                break;
+            case "L":
+                value.l(Lists.transform(body.asArray(), MkProtocol::value));
+                break;
+            case "M":
+                value.m(MkProtocol.attributes(body));
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Unknown type of value %s", typed.getKey())
+                );
+        }
+        return value.build();
+    }
+
+    /**
+     * Binary value.
+     * @param node Value in JSON, encoded in Base64
+     * @return Bytes
+     */
+    private static SdkBytes binary(final JsonNode node) {
+        return SdkBytes.fromByteArray(
+            Base64.getDecoder().decode(node.asString())
+        );
+    }
+
+    /**
+     * Write attributes.
+     * @param out Response
+     * @param attrs Attributes
+     */
+    private static void write(final JsonWriter out,
+        final Map<String, AttributeValue> attrs) {
+        out.writeStartObject();
+        for (final Map.Entry<String, AttributeValue> attr : attrs.entrySet()) {
+            out.writeFieldName(attr.getKey());
+            MkProtocol.write(out, attr.getValue());
+        }
+        out.writeEndObject();
+    }
+
+    /**
+     * Write attribute value.
+     * @param out Response
+     * @param value Value
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static void write(final JsonWriter out,
+        final AttributeValue value) {
+        out.writeStartObject();
+        if (value.s() != null) {
+            out.writeFieldName("S").writeValue(value.s());
+        } else if (value.n() != null) {
+            out.writeFieldName("N").writeValue(value.n());
+        } else if (value.b() != null) {
+            out.writeFieldName("B").writeValue(MkProtocol.base(value.b()));
+        } else if (value.bool() != null) {
+            out.writeFieldName("BOOL").writeValue(value.bool());
+        } else if (value.nul() != null) {
+            out.writeFieldName("NULL").writeValue(true);
+        } else if (value.hasSs()) {
+            out.writeFieldName("SS").writeStartArray();
+            value.ss().forEach(out::writeValue);
+            out.writeEndArray();
+        } else if (value.hasNs()) {
+            out.writeFieldName("NS").writeStartArray();
+            value.ns().forEach(out::writeValue);
+            out.writeEndArray();
+        } else if (value.hasBs()) {
+            out.writeFieldName("BS").writeStartArray();
+            for (final SdkBytes bytes : value.bs()) {
+                out.writeValue(MkProtocol.base(bytes));
+            }
+            out.writeEndArray();
+        } else if (value.hasL()) {
+            out.writeFieldName("L").writeStartArray();
+            for (final AttributeValue item : value.l()) {
+                MkProtocol.write(out, item);
+            }
+            out.writeEndArray();
+        } else if (value.hasM()) {
+            out.writeFieldName("M");
+            MkProtocol.write(out, value.m());
+        }
+        out.writeEndObject();
+    }
+
+    /**
+     * Bytes, encoded in Base64.
+     * @param bytes Bytes
+     * @return Text
+     */
+    private static String base(final SdkBytes bytes) {
+        return Base64.getEncoder().encodeToString(bytes.asByteArray());
+    }
+
+    /**
+     * Text field of the request.
+     * @param req Request
+     * @param name Name of the field
+     * @return Text
+     */
+    private static String text(final JsonNode req, final String name) {
+        return req.field(name).filter(node -> !node.isNull())
+            .map(JsonNode::asString)
+            .orElseThrow(
+                () -> new IllegalArgumentException(
+                    String.format("%s is required", name)
+                )
+            );
+    }
+
+    /**
+     * Text field of the request, if it's there.
+     * @param req Request
+     * @param name Name of the field
+     * @param def Default value
+     * @return Text
+     */
+    private static String text(final JsonNode req, final String name,
+        final String def) {
+        return req.field(name).filter(JsonNode::isString)
+            .map(JsonNode::asString)
+            .orElse(def);
+    }
+
+    /**
+     * Number field of the request, if it's there.
+     * @param req Request
+     * @param name Name of the field
+     * @param def Default value
+     * @return Number
+     */
+    private static int number(final JsonNode req, final String name,
+        final int def) {
+        return req.field(name).filter(JsonNode::isNumber)
+            .map(node -> Integer.parseInt(node.asNumber()))
+            .orElse(def);
+    }
+
+    /**
+     * Array field of the request.
+     * @param req Request
+     * @param name Name of the field
+     * @return Elements, empty if there is no field
+     */
+    private static List<JsonNode> list(final JsonNode req, final String name) {
+        return req.field(name).filter(JsonNode::isArray)
+            .map(JsonNode::asArray)
+            .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Object field of the request.
+     * @param req Request
+     * @param name Name of the field
+     * @return Fields of the object, empty if there is no field
+     */
+    private static Map<String, JsonNode> object(final JsonNode req,
+        final String name) {
+        return req.field(name).filter(JsonNode::isObject)
+            .map(JsonNode::asObject)
+            .orElse(Collections.emptyMap());
+    }
+
+    /**
+     * Failure, which DynamoDB reports to the client.
+     *
+     * @since 0.23
+     */
+    static final class Failure extends IOException {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 0x7def56a3be12c4d9L;
+
+        /**
+         * Type of error, like {@code "ResourceNotFoundException"}.
+         */
+        private final String type;
+
+        /**
+         * Ctor.
+         * @param kind Type of error
+         * @param msg Message
+         */
+        Failure(final String kind, final String msg) {
+            super(msg);
+            this.type = kind;
+        }
+
+        /**
+         * Type of error.
+         * @return Type, like {@code "ResourceNotFoundException"}
+         */
+        String type() {
+            return this.type;
+        }
+    }
+}
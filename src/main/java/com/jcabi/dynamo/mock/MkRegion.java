@@ -6,8 +6,18 @@ package com.jcabi.dynamo.mock;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Conditions;
+import com.jcabi.dynamo.Item;
 import com.jcabi.dynamo.Region;
 import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Transaction;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -23,6 +33,11 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 @EqualsAndHashCode(of = "data")
 public final class MkRegion implements Region {
 
+    /**
+     * Maximum number of items, which can be read together.
+     */
+    private static final int MAX = 100;
+
     /**
      * Data.
      */
@@ -48,4 +63,42 @@ public final class MkRegion implements Region {
         return new MkTable(this.data, name);
     }
 
+    @Override
+    public Transaction transaction() {
+        return new MkTransaction(this.data);
+    }
+
+    @Override
+    public List<Item> readTogether(final Collection<? extends Item> items)
+        throws IOException {
+        if (items.size() > MkRegion.MAX) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Can't read %d items together, %d is the maximum",
+                    items.size(), MkRegion.MAX
+                )
+            );
+        }
+        final List<Item> loaded = new ArrayList<>(items.size());
+        synchronized (this.data) {
+            for (final Item item : items) {
+                final MkTarget target = new MkTarget(this.data, item);
+                final String table = target.table();
+                final Attributes key = target.primary();
+                final Iterator<Attributes> found = this.data.iterate(
+                    table, new Conditions().withAttributes(key)
+                ).iterator();
+                if (!found.hasNext()) {
+                    throw new NoSuchElementException(
+                        String.format(
+                            "Item %s not found in \"%s\"", key, table
+                        )
+                    );
+                }
+                loaded.add(new MkItem(this.data, table, found.next()));
+            }
+        }
+        return loaded;
+    }
+
 }
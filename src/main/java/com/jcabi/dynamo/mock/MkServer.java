@@ -0,0 +1,187 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.mock;
+
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Credentials;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.ToString;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonWriter;
+
+/**
+ * DynamoDB server inside the JVM, on top of {@link MkData}.
+ *
+ * <p>It speaks the JSON protocol of DynamoDB over HTTP, on the loopback
+ * interface, so that the real client of AWS SDK, and any object of this
+ * library, which is made from {@link #credentials()}, works with the
+ * data, as if it were DynamoDB, without Docker or DynamoDB Local:
+ *
+ * <pre> try (MkServer server = new MkServer(
+ *   new H2Data().with("users", new String[] {"id:S"})
+ * )) {
+ *   final Region region = new Region.Simple(server.credentials());
+ *   region.table("users").put(new Attributes().with("id", "jeff"));
+ * }</pre>
+ *
+ * <p>Tables may also be created by {@code CreateTable}. Requests are
+ * understood in their legacy form, with key conditions, filters,
+ * expected values and attribute updates, and with condition, filter,
+ * key condition and update expressions, which objects of this library
+ * send. Expressions, which are not understood, are rejected with
+ * {@code ValidationException}.
+ *
+ * @since 0.23
+ */
+@ToString(of = "http")
+@Loggable(Loggable.DEBUG)
+public final class MkServer implements Closeable {
+
+    /**
+     * Prefix of the target of every request.
+     */
+    private static final String TARGET = "DynamoDB_20120810.";
+
+    /**
+     * Prefix of types of errors.
+     */
+    private static final String ERRORS = "com.amazonaws.dynamodb.v20120810#";
+
+    /**
+     * HTTP server.
+     */
+    private final transient HttpServer http;
+
+    /**
+     * Threads of the server.
+     */
+    private final transient ExecutorService threads;
+
+    /**
+     * Ctor, on a random port.
+     * @param data Data
+     * @throws IOException If fails
+     */
+    public MkServer(final MkData data) throws IOException {
+        this(data, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param data Data
+     * @param port Port, zero for a random one
+     * @throws IOException If fails
+     */
+    public MkServer(final MkData data, final int port) throws IOException {
+        this.http = HttpServer.create(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0
+        );
+        this.threads = Executors.newCachedThreadPool();
+        final MkProtocol protocol = new MkProtocol(data);
+        this.http.createContext(
+            "/", exchange -> MkServer.handle(protocol, exchange)
+        );
+        this.http.setExecutor(this.threads);
+        this.http.start();
+    }
+
+    /**
+     * Port it listens on.
+     * @return Port number
+     */
+    public int port() {
+        return this.http.getAddress().getPort();
+    }
+
+    /**
+     * Credentials, which connect to this server.
+     * @return Credentials
+     */
+    public Credentials credentials() {
+        return new Credentials.Direct(
+            new Credentials.Simple("key", "secret"),
+            String.format(
+                "http://%s:%d",
+                this.http.getAddress().getAddress().getHostAddress(),
+                this.port()
+            )
+        );
+    }
+
+    @Override
+    public void close() {
+        this.http.stop(0);
+        this.threads.shutdownNow();
+    }
+
+    /**
+     * Handle one request.
+     * @param protocol Protocol
+     * @param exchange Request and response
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static void handle(final MkProtocol protocol,
+        final HttpExchange exchange) throws IOException {
+        int status = HttpURLConnection.HTTP_OK;
+        byte[] body;
+        try (InputStream input = exchange.getRequestBody()) {
+            final String target = exchange.getRequestHeaders()
+                .getFirst("X-Amz-Target");
+            if (target == null || !target.startsWith(MkServer.TARGET)) {
+                throw new MkProtocol.Failure(
+                    "UnknownOperationException",
+                    String.format("Unknown target: %s", target)
+                );
+            }
+            body = protocol.answer(
+                target.substring(MkServer.TARGET.length()),
+                JsonNode.parser().parse(input)
+            );
+        } catch (final MkProtocol.Failure ex) {
+            status = HttpURLConnection.HTTP_BAD_REQUEST;
+            body = MkServer.error(ex.type(), ex.getMessage());
+        } catch (final IOException ex) {
+            status = HttpURLConnection.HTTP_INTERNAL_ERROR;
+            body = MkServer.error("InternalServerError", ex.getMessage());
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final RuntimeException ex) {
+            status = HttpURLConnection.HTTP_BAD_REQUEST;
+            body = MkServer.error("ValidationException", ex.getMessage());
+        }
+        exchange.getResponseHeaders().set(
+            "Content-Type", "application/x-amz-json-1.0"
+        );
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    /**
+     * Error, as DynamoDB reports it.
+     * @param type Type of error, like {@code "ValidationException"}
+     * @param msg Message
+     * @return Response, in JSON
+     */
+    private static byte[] error(final String type, final String msg) {
+        return JsonWriter.create()
+            .writeStartObject()
+            .writeFieldName("__type").writeValue(MkServer.ERRORS + type)
+            .writeFieldName("message").writeValue(String.valueOf(msg))
+            .writeEndObject()
+            .getBytes();
+    }
+}
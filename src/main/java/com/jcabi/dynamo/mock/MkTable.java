@@ -7,15 +7,23 @@ package com.jcabi.dynamo.mock;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Conditions;
 import com.jcabi.dynamo.Frame;
 import com.jcabi.dynamo.Item;
 import com.jcabi.dynamo.Region;
 import com.jcabi.dynamo.Table;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
 /**
  * Mock version of {@link Table}.
@@ -59,6 +67,63 @@ final class MkTable implements Table {
         return new MkItem(this.data, this.self, attrs);
     }
 
+    @Override
+    public Item put(final Map<String, AttributeValue> attributes,
+        final Map<String, Condition> conditions) throws IOException {
+        final Attributes keys = new Attributes(attributes)
+            .only(this.data.keys(this.self));
+        final Iterator<Attributes> found = this.data.iterate(
+            this.self, new Conditions().withAttributes(keys)
+        ).iterator();
+        final Map<String, AttributeValue> before;
+        if (found.hasNext()) {
+            before = found.next();
+        } else {
+            before = Collections.emptyMap();
+        }
+        if (!new Conditions(conditions).matches(before)) {
+            throw ConditionalCheckFailedException.builder()
+                .message(
+                    String.format(
+                        "The conditional request failed for %s in \"%s\"",
+                        keys, this.self
+                    )
+                )
+                .build();
+        }
+        if (!before.isEmpty()) {
+            this.data.delete(this.self, keys);
+        }
+        return this.put(attributes);
+    }
+
+    /**
+     * Put new items there, in one batch.
+     *
+     * <p>The mock saves all items at once, or none of them, so the
+     * concurrency doesn't matter.
+     *
+     * @param items Attributes of the items to save
+     * @param concurrency Maximum number of calls in flight, ignored
+     * @return Items just created, in the same order
+     * @throws IOException If fails
+     */
+    @Override
+    public List<Item> putAll(
+        final Collection<? extends Map<String, AttributeValue>> items,
+        final int concurrency) throws IOException {
+        final List<Attributes> attrs = new ArrayList<>(items.size());
+        for (final Map<String, AttributeValue> item : items) {
+            attrs.add(new Attributes(item));
+        }
+        this.data.putAll(this.self, attrs);
+        final List<Item> made = new ArrayList<>(attrs.size());
+        for (final Attributes item : attrs) {
+            made.add(new MkItem(this.data, this.self, item));
+        }
+        return made;
+    }
+
     @Override
     public Frame frame() {
         return new MkFrame(this.data, this.self);
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.mock;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Item;
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Table and primary key of an item, in {@link MkData}.
+ *
+ * <p>The item may be an {@link MkItem} or any decorator of it. A decorated
+ * item is found through its frame, while values of its keys are read
+ * from the item itself.
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = { "data", "item" })
+final class MkTarget {
+
+    /**
+     * Data.
+     */
+    private final transient MkData data;
+
+    /**
+     * The item.
+     */
+    private final transient Item item;
+
+    /**
+     * Public ctor.
+     * @param dta Data
+     * @param itm The item
+     */
+    MkTarget(final MkData dta, final Item itm) {
+        this.data = dta;
+        this.item = itm;
+    }
+
+    /**
+     * Name of the table.
+     * @return Table name
+     */
+    String table() {
+        return this.item.frame().table().name();
+    }
+
+    /**
+     * Primary key of the item.
+     * @return Key attributes
+     * @throws IOException If fails
+     */
+    Attributes primary() throws IOException {
+        Attributes key;
+        if (this.item instanceof MkItem) {
+            key = ((MkItem) this.item).primary();
+        } else {
+            key = new Attributes();
+            for (final String name : this.data.keys(this.table())) {
+                key = key.with(name, this.item.get(name));
+            }
+        }
+        return key;
+    }
+}
@@ -0,0 +1,410 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.mock;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.AttributeUpdates;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.CanceledTransactionException;
+import com.jcabi.dynamo.Conditions;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Transaction;
+import com.jcabi.immutable.Array;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * Mock version of {@link Transaction}.
+ *
+ * <p>Commits of transactions over the same {@link MkData} are serialized
+ * by a lock on the data. First, every operation is checked, then, if
+ * none of them fails, all of them are applied. Writes made to the data
+ * outside of transactions don't take the lock. The idempotency token is
+ * not remembered, so the same transaction may be committed twice.
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = { "data", "ops", "tkn" })
+final class MkTransaction implements Transaction {
+
+    /**
+     * Data.
+     */
+    private final transient MkData data;
+
+    /**
+     * Operations collected so far.
+     */
+    private final transient Array<MkTransaction.Operation> ops;
+
+    /**
+     * Idempotency token.
+     */
+    private final transient String tkn;
+
+    /**
+     * Public ctor.
+     * @param dta Data
+     */
+    MkTransaction(final MkData dta) {
+        this(dta, new Array<>(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * Public ctor.
+     * @param dta Data
+     * @param operations Operations
+     * @param token Idempotency token
+     */
+    MkTransaction(final MkData dta,
+        final Array<MkTransaction.Operation> operations, final String token) {
+        this.data = dta;
+        this.ops = operations;
+        this.tkn = token;
+    }
+
+    @Override
+    public Transaction put(final Table table,
+        final Map<String, AttributeValue> attributes) {
+        return this.with(
+            new MkTransaction.Put(table.name(), new Attributes(attributes))
+        );
+    }
+
+    @Override
+    public Transaction update(final Item item,
+        final Map<String, AttributeValueUpdate> attrs) {
+        return this.with(
+            new MkTransaction.Update(
+                new MkTarget(this.data, item).table(), this.primary(item),
+                new AttributeUpdates(attrs)
+            )
+        );
+    }
+
+    @Override
+    public Transaction delete(final Item item) {
+        return this.with(
+            new MkTransaction.Delete(
+                new MkTarget(this.data, item).table(), this.primary(item)
+            )
+        );
+    }
+
+    @Override
+    public Transaction check(final Item item,
+        final Map<String, Condition> conditions) {
+        return this.with(
+            new MkTransaction.Check(
+                new MkTarget(this.data, item).table(), this.primary(item),
+                new Conditions(conditions)
+            )
+        );
+    }
+
+    @Override
+    public String token() {
+        return this.tkn;
+    }
+
+    @Override
+    public void commit() throws IOException {
+        synchronized (this.data) {
+            final List<CancellationReason> reasons =
+                new ArrayList<>(this.ops.size());
+            boolean failed = false;
+            for (final MkTransaction.Operation operation : this.ops) {
+                final String code;
+                if (operation.accepts(this.data)) {
+                    code = "None";
+                } else {
+                    code = "ConditionalCheckFailed";
+                    failed = true;
+                }
+                reasons.add(CancellationReason.builder().code(code).build());
+            }
+            if (failed) {
+                final String msg = String.format(
+                    "Transaction '%s' of %d operation(s) canceled",
+                    this.tkn, this.ops.size()
+                );
+                throw new CanceledTransactionException(
+                    msg, reasons,
+                    TransactionCanceledException.builder()
+                        .message(msg)
+                        .cancellationReasons(reasons)
+                        .build()
+                );
+            }
+            for (final MkTransaction.Operation operation : this.ops) {
+                operation.apply(this.data);
+            }
+        }
+    }
+
+    /**
+     * Make a new transaction with one more operation.
+     * @param operation The operation
+     * @return New transaction
+     */
+    private Transaction with(final MkTransaction.Operation operation) {
+        return new MkTransaction(
+            this.data, this.ops.with(operation), this.tkn
+        );
+    }
+
+    /**
+     * Primary key of the item, which may be decorated.
+     * @param item The item
+     * @return Key attributes
+     */
+    private Attributes primary(final Item item) {
+        try {
+            return new MkTarget(this.data, item).primary();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Find the item by its key.
+     * @param data Data
+     * @param table Table name
+     * @param key Key attributes
+     * @return Attributes of the item, empty if there is no such item
+     * @throws IOException If fails
+     */
+    private static Map<String, AttributeValue> find(final MkData data,
+        final String table, final Attributes key) throws IOException {
+        final Iterator<Attributes> found = data.iterate(
+            table, new Conditions().withAttributes(key)
+        ).iterator();
+        final Map<String, AttributeValue> item;
+        if (found.hasNext()) {
+            item = found.next();
+        } else {
+            item = Collections.emptyMap();
+        }
+        return item;
+    }
+
+    /**
+     * One operation of a transaction.
+     *
+     * @since 0.23
+     */
+    @Immutable
+    private interface Operation {
+        /**
+         * Can it be applied now?
+         * @param data Data
+         * @return TRUE if its conditions are met
+         * @throws IOException If fails
+         */
+        boolean accepts(MkData data) throws IOException;
+
+        /**
+         * Apply it.
+         * @param data Data
+         * @throws IOException If fails
+         */
+        void apply(MkData data) throws IOException;
+    }
+
+    /**
+     * Put of a new item.
+     *
+     * @since 0.23
+     */
+    @Immutable
+    @ToString
+    @EqualsAndHashCode
+    private static final class Put implements MkTransaction.Operation {
+        /**
+         * Table name.
+         */
+        private final transient String table;
+
+        /**
+         * Attributes of the item.
+         */
+        private final transient Attributes attrs;
+
+        /**
+         * Ctor.
+         * @param tbl Table name
+         * @param attributes Attributes of the item
+         */
+        Put(final String tbl, final Attributes attributes) {
+            this.table = tbl;
+            this.attrs = attributes;
+        }
+
+        @Override
+        public boolean accepts(final MkData data) {
+            return true;
+        }
+
+        @Override
+        public void apply(final MkData data) throws IOException {
+            data.put(this.table, this.attrs);
+        }
+    }
+
+    /**
+     * Update of an existing item.
+     *
+     * @since 0.23
+     */
+    @Immutable
+    @ToString
+    @EqualsAndHashCode
+    private static final class Update implements MkTransaction.Operation {
+        /**
+         * Table name.
+         */
+        private final transient String table;
+
+        /**
+         * Key of the item.
+         */
+        private final transient Attributes key;
+
+        /**
+         * Updates.
+         */
+        private final transient AttributeUpdates updates;
+
+        /**
+         * Ctor.
+         * @param tbl Table name
+         * @param primary Key of the item
+         * @param attrs Updates
+         */
+        Update(final String tbl, final Attributes primary,
+            final AttributeUpdates attrs) {
+            this.table = tbl;
+            this.key = primary;
+            this.updates = attrs;
+        }
+
+        @Override
+        public boolean accepts(final MkData data) throws IOException {
+            return !MkTransaction.find(data, this.table, this.key).isEmpty();
+        }
+
+        @Override
+        public void apply(final MkData data) throws IOException {
+            data.update(this.table, this.key, this.updates);
+        }
+    }
+
+    /**
+     * Delete of an existing item.
+     *
+     * @since 0.23
+     */
+    @Immutable
+    @ToString
+    @EqualsAndHashCode
+    private static final class Delete implements MkTransaction.Operation {
+        /**
+         * Table name.
+         */
+        private final transient String table;
+
+        /**
+         * Key of the item.
+         */
+        private final transient Attributes key;
+
+        /**
+         * Ctor.
+         * @param tbl Table name
+         * @param primary Key of the item
+         */
+        Delete(final String tbl, final Attributes primary) {
+            this.table = tbl;
+            this.key = primary;
+        }
+
+        @Override
+        public boolean accepts(final MkData data) throws IOException {
+            return !MkTransaction.find(data, this.table, this.key).isEmpty();
+        }
+
+        @Override
+        public void apply(final MkData data) throws IOException {
+            data.delete(this.table, this.key);
+        }
+    }
+
+    /**
+     * Check of conditions, without changes.
+     *
+     * @since 0.23
+     */
+    @Immutable
+    @ToString
+    @EqualsAndHashCode
+    private static final class Check implements MkTransaction.Operation {
+        /**
+         * Table name.
+         */
+        private final transient String table;
+
+        /**
+         * Key of the item.
+         */
+        private final transient Attributes key;
+
+        /**
+         * Conditions.
+         */
+        private final transient Conditions conditions;
+
+        /**
+         * Ctor.
+         * @param tbl Table name
+         * @param primary Key of the item
+         * @param conds Conditions
+         */
+        Check(final String tbl, final Attributes primary,
+            final Conditions conds) {
+            this.table = tbl;
+            this.key = primary;
+            this.conditions = conds;
+        }
+
+        @Override
+        public boolean accepts(final MkData data) throws IOException {
+            return this.conditions.matches(
+                MkTransaction.find(data, this.table, this.key)
+            );
+        }
+
+        @Override
+        public void apply(final MkData data) {
+            // nothing to change
+        }
+    }
+}
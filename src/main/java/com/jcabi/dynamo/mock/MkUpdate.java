@@ -0,0 +1,321 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.mock;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.dynamo.UpdateExpression;
+import com.jcabi.immutable.ArrayMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Update expression of a request to {@link MkServer}.
+ *
+ * <p>It understands the actions, which {@link UpdateExpression} makes:
+ * {@code SET #a = :v}, {@code SET #a = if_not_exists(#a, :v)},
+ * {@code SET #a = list_append(if_not_exists(#a, :empty), :v)},
+ * {@code ADD #a :v}, {@code DELETE #a :v} and {@code REMOVE #a}, on
+ * top-level attributes. Other expressions, like arithmetic or nested
+ * paths, are rejected with {@link IllegalArgumentException}.
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+final class MkUpdate {
+
+    /**
+     * Tokens of an expression.
+     */
+    private static final Pattern TOKEN = Pattern.compile(
+        "\\s*([=(),]|[#:]?[\\p{L}\\p{N}_.\\-\\[\\]]+)"
+    );
+
+    /**
+     * The expression.
+     */
+    private final transient String expr;
+
+    /**
+     * Placeholders of attribute names.
+     */
+    private final transient ArrayMap<String, String> names;
+
+    /**
+     * Placeholders of values.
+     */
+    private final transient ArrayMap<String, AttributeValue> values;
+
+    /**
+     * Ctor.
+     * @param text The expression
+     * @param nms Placeholders of attribute names
+     * @param vals Placeholders of values
+     */
+    MkUpdate(final String text, final Map<String, String> nms,
+        final Map<String, AttributeValue> vals) {
+        this.expr = text;
+        this.names = new ArrayMap<>(nms);
+        this.values = new ArrayMap<>(vals);
+    }
+
+    /**
+     * The same actions, as an update expression.
+     * @return Update expression, without conditions
+     */
+    UpdateExpression expression() {
+        return new MkUpdate.Parser(this).clauses();
+    }
+
+    /**
+     * Split the expression into tokens.
+     * @return Tokens
+     */
+    private List<String> tokens() {
+        final List<String> tokens = new ArrayList<>(0);
+        final Matcher matcher = MkUpdate.TOKEN.matcher(this.expr);
+        int pos = 0;
+        while (pos < this.expr.length()) {
+            if (!matcher.find(pos) || matcher.start() != pos) {
+                if (this.expr.substring(pos).trim().isEmpty()) {
+                    break;
+                }
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Invalid syntax at %d in \"%s\"", pos, this.expr
+                    )
+                );
+            }
+            tokens.add(matcher.group(1));
+            pos = matcher.end();
+        }
+        return tokens;
+    }
+
+    /**
+     * Parser, which reads actions one by one.
+     *
+     * @since 0.23
+     */
+    private static final class Parser {
+
+        /**
+         * The expression.
+         */
+        private final transient MkUpdate owner;
+
+        /**
+         * Tokens.
+         */
+        private final transient List<String> tokens;
+
+        /**
+         * Position of the next token.
+         */
+        private transient int pos;
+
+        /**
+         * Ctor.
+         * @param update The expression
+         */
+        Parser(final MkUpdate update) {
+            this.owner = update;
+            this.tokens = update.tokens();
+        }
+
+        /**
+         * Read all clauses.
+         * @return Update expression
+         */
+        UpdateExpression clauses() {
+            UpdateExpression update = new UpdateExpression();
+            while (this.pos < this.tokens.size()) {
+                final String clause = this.take().toUpperCase(Locale.ENGLISH);
+                do {
+                    final String attr = this.attribute();
+                    if ("SET".equals(clause)) {
+                        this.expect("=");
+                        update = this.set(update, attr);
+                    } else if ("ADD".equals(clause)) {
+                        update = update.add(attr, this.value());
+                    } else if ("DELETE".equals(clause)) {
+                        update = update.delete(attr, this.value());
+                    } else if ("REMOVE".equals(clause)) {
+                        update = update.remove(attr);
+                    } else {
+                        throw this.error();
+                    }
+                } while (this.next(","));
+            }
+            return update;
+        }
+
+        /**
+         * Read the right side of an action of {@code SET}.
+         * @param update Update expression so far
+         * @param attr Name of the attribute to set
+         * @return Update expression with the action
+         */
+        private UpdateExpression set(final UpdateExpression update,
+            final String attr) {
+            final UpdateExpression next;
+            if (this.next("if_not_exists")) {
+                next = update.setIfAbsent(attr, this.absent(attr));
+            } else if (this.next("list_append")) {
+                this.expect("(");
+                if (!this.next("if_not_exists")) {
+                    throw this.unsupported();
+                }
+                final AttributeValue empty = this.absent(attr);
+                if (!empty.hasL() || !empty.l().isEmpty()) {
+                    throw this.unsupported();
+                }
+                this.expect(",");
+                next = update.append(attr, this.value());
+                this.expect(")");
+            } else {
+                next = update.set(attr, this.value());
+            }
+            return next;
+        }
+
+        /**
+         * Read arguments of {@code if_not_exists}, on the same attribute.
+         * @param attr Name of the attribute
+         * @return Value to use if the attribute is absent
+         */
+        private AttributeValue absent(final String attr) {
+            this.expect("(");
+            if (!attr.equals(this.attribute())) {
+                throw this.unsupported();
+            }
+            this.expect(",");
+            final AttributeValue value = this.value();
+            this.expect(")");
+            return value;
+        }
+
+        /**
+         * Read a name of a top-level attribute.
+         * @return Name
+         */
+        private String attribute() {
+            final String token = this.take();
+            final String name;
+            if (token.charAt(0) == '#') {
+                name = this.owner.names.get(token);
+                if (name == null) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Name %s is not defined in \"%s\"",
+                            token, this.owner.expr
+                        )
+                    );
+                }
+            } else if (token.matches("\\p{L}[\\p{L}\\p{N}_]*")) {
+                name = token;
+            } else {
+                throw this.unsupported();
+            }
+            return name;
+        }
+
+        /**
+         * Read a value, by its placeholder.
+         * @return Value
+         */
+        private AttributeValue value() {
+            final String token = this.take();
+            if (token.charAt(0) != ':') {
+                throw this.unsupported();
+            }
+            final AttributeValue value = this.owner.values.get(token);
+            if (value == null) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Value %s is not defined in \"%s\"",
+                        token, this.owner.expr
+                    )
+                );
+            }
+            return value;
+        }
+
+        /**
+         * Take the next token.
+         * @return Token
+         */
+        private String take() {
+            if (this.pos >= this.tokens.size()) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Unexpected end of \"%s\"", this.owner.expr
+                    )
+                );
+            }
+            final String token = this.tokens.get(this.pos);
+            ++this.pos;
+            return token;
+        }
+
+        /**
+         * Take the next token, if it is this keyword.
+         * @param keyword The keyword
+         * @return TRUE if taken
+         */
+        private boolean next(final String keyword) {
+            final boolean found = this.pos < this.tokens.size()
+                && keyword.equalsIgnoreCase(this.tokens.get(this.pos));
+            if (found) {
+                ++this.pos;
+            }
+            return found;
+        }
+
+        /**
+         * Take the next token, which must be this one.
+         * @param keyword The token
+         */
+        private void expect(final String keyword) {
+            if (!this.next(keyword)) {
+                throw this.error();
+            }
+        }
+
+        /**
+         * Syntax error at the current position.
+         * @return Exception
+         */
+        private IllegalArgumentException error() {
+            return new IllegalArgumentException(
+                String.format(
+                    "Invalid syntax at token #%d in \"%s\"",
+                    this.pos, this.owner.expr
+                )
+            );
+        }
+
+        /**
+         * Unsupported expression at the current position.
+         * @return Exception
+         */
+        private IllegalArgumentException unsupported() {
+            return new IllegalArgumentException(
+                String.format(
+                    "Expression at token #%d is not supported in \"%s\"",
+                    this.pos, this.owner.expr
+                )
+            );
+        }
+    }
+}
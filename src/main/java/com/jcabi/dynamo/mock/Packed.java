@@ -0,0 +1,274 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.mock;
+
+import com.jcabi.aspects.Immutable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Attribute value of any type, packed into bytes.
+ *
+ * <p>Every value starts with a byte of its type, followed by its
+ * content: texts and binaries with their lengths, sets, lists and maps
+ * with the number of their elements, which are packed the same way.
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+final class Packed {
+
+    /**
+     * The value.
+     */
+    private final transient AttributeValue value;
+
+    /**
+     * Ctor.
+     * @param bytes Bytes, previously made by {@link #bytes()}
+     */
+    Packed(final byte[] bytes) {
+        this(Packed.decode(bytes));
+    }
+
+    /**
+     * Ctor.
+     * @param val The value
+     */
+    Packed(final AttributeValue val) {
+        this.value = val;
+    }
+
+    /**
+     * The value.
+     * @return Attribute value
+     */
+    AttributeValue value() {
+        return this.value;
+    }
+
+    /**
+     * The bytes.
+     * @return Packed value
+     */
+    byte[] bytes() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            Packed.write(out, this.value);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Write one value.
+     * @param out Where to write
+     * @param val The value
+     * @throws IOException If fails
+     * @checkstyle CyclomaticComplexity (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static void write(final DataOutputStream out,
+        final AttributeValue val) throws IOException {
+        if (val.s() != null) {
+            out.writeByte('S');
+            Packed.write(out, val.s().getBytes(StandardCharsets.UTF_8));
+        } else if (val.n() != null) {
+            out.writeByte('N');
+            Packed.write(out, val.n().getBytes(StandardCharsets.UTF_8));
+        } else if (val.b() != null) {
+            out.writeByte('B');
+            Packed.write(out, val.b().asByteArray());
+        } else if (val.bool() != null) {
+            out.writeByte('T');
+            out.writeBoolean(val.bool());
+        } else if (val.nul() != null) {
+            out.writeByte('Z');
+        } else if (val.hasSs()) {
+            out.writeByte('s');
+            out.writeInt(val.ss().size());
+            for (final String item : val.ss()) {
+                Packed.write(out, item.getBytes(StandardCharsets.UTF_8));
+            }
+        } else if (val.hasNs()) {
+            out.writeByte('n');
+            out.writeInt(val.ns().size());
+            for (final String item : val.ns()) {
+                Packed.write(out, item.getBytes(StandardCharsets.UTF_8));
+            }
+        } else if (val.hasBs()) {
+            out.writeByte('b');
+            out.writeInt(val.bs().size());
+            for (final SdkBytes item : val.bs()) {
+                Packed.write(out, item.asByteArray());
+            }
+        } else if (val.hasL()) {
+            out.writeByte('L');
+            out.writeInt(val.l().size());
+            for (final AttributeValue item : val.l()) {
+                Packed.write(out, item);
+            }
+        } else if (val.hasM()) {
+            out.writeByte('M');
+            out.writeInt(val.m().size());
+            for (final Map.Entry<String, AttributeValue> item
+                : val.m().entrySet()) {
+                Packed.write(
+                    out, item.getKey().getBytes(StandardCharsets.UTF_8)
+                );
+                Packed.write(out, item.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Unknown type of value %s", val)
+            );
+        }
+    }
+
+    /**
+     * Write bytes with their length.
+     * @param out Where to write
+     * @param data The bytes
+     * @throws IOException If fails
+     */
+    private static void write(final DataOutputStream out, final byte[] data)
+        throws IOException {
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    /**
+     * Decode the bytes.
+     * @param bytes The bytes
+     * @return The value
+     */
+    private static AttributeValue decode(final byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(
+            new ByteArrayInputStream(bytes)
+        )) {
+            return Packed.read(in);
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Invalid packed value of %d bytes", bytes.length),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Read one value.
+     * @param in Where to read from
+     * @return The value
+     * @throws IOException If fails
+     * @checkstyle CyclomaticComplexity (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static AttributeValue read(final DataInputStream in)
+        throws IOException {
+        final byte type = in.readByte();
+        final AttributeValue.Builder value = AttributeValue.builder();
+        if (type == 'S') {
+            value.s(Packed.text(in));
+        } else if (type == 'N') {
+            value.n(Packed.text(in));
+        } else if (type == 'B') {
+            value.b(SdkBytes.fromByteArray(Packed.binary(in)));
+        } else if (type == 'T') {
+            value.bool(in.readBoolean());
+        } else if (type == 'Z') {
+            value.nul(true);
+        } else if (type == 's') {
+            final Collection<String> items = new ArrayList<>(0);
+            for (int idx = Packed.count(in); idx > 0; --idx) {
+                items.add(Packed.text(in));
+            }
+            value.ss(items);
+        } else if (type == 'n') {
+            final Collection<String> items = new ArrayList<>(0);
+            for (int idx = Packed.count(in); idx > 0; --idx) {
+                items.add(Packed.text(in));
+            }
+            value.ns(items);
+        } else if (type == 'b') {
+            final Collection<SdkBytes> items = new ArrayList<>(0);
+            for (int idx = Packed.count(in); idx > 0; --idx) {
+                items.add(SdkBytes.fromByteArray(Packed.binary(in)));
+            }
+            value.bs(items);
+        } else if (type == 'L') {
+            final List<AttributeValue> items = new ArrayList<>(0);
+            for (int idx = Packed.count(in); idx > 0; --idx) {
+                items.add(Packed.read(in));
+            }
+            value.l(items);
+        } else if (type == 'M') {
+            final Map<String, AttributeValue> items = new LinkedHashMap<>(0);
+            for (int idx = Packed.count(in); idx > 0; --idx) {
+                items.put(Packed.text(in), Packed.read(in));
+            }
+            value.m(items);
+        } else {
+            throw new IOException(
+                String.format("Unknown type of packed value: %d", type)
+            );
+        }
+        return value.build();
+    }
+
+    /**
+     * Read a text.
+     * @param in Where to read from
+     * @return The text
+     * @throws IOException If fails
+     */
+    private static String text(final DataInputStream in) throws IOException {
+        return new String(Packed.binary(in), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a binary.
+     * @param in Where to read from
+     * @return The bytes
+     * @throws IOException If fails
+     */
+    private static byte[] binary(final DataInputStream in)
+        throws IOException {
+        final byte[] data = new byte[Packed.count(in)];
+        in.readFully(data);
+        return data;
+    }
+
+    /**
+     * Read a number of elements or bytes.
+     * @param in Where to read from
+     * @return The number
+     * @throws IOException If it is negative
+     */
+    private static int count(final DataInputStream in) throws IOException {
+        final int count = in.readInt();
+        if (count < 0) {
+            throw new IOException(
+                String.format("Negative length of packed value: %d", count)
+            );
+        }
+        return count;
+    }
+}
@@ -6,11 +6,11 @@ package com.jcabi.dynamo.retry;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
-import com.jcabi.aspects.RetryOnFailure;
+import com.jcabi.dynamo.Cursor;
 import com.jcabi.dynamo.Dosage;
+import com.jcabi.dynamo.deadline.Deadline;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -31,29 +31,56 @@ public final class ReDosage implements Dosage {
      */
     private final transient Dosage origin;
 
+    /**
+     * Retries.
+     */
+    private final transient Retry retry;
+
     /**
      * Public ctor.
      * @param dosage Origin dosage
      */
     public ReDosage(final Dosage dosage) {
+        this(dosage, new Retry());
+    }
+
+    /**
+     * Public ctor.
+     * @param dosage Origin dosage
+     * @param deadline Deadline, which caps pauses between retries
+     * @since 0.23
+     */
+    public ReDosage(final Dosage dosage, final Deadline deadline) {
+        this(dosage, new Retry(deadline));
+    }
+
+    /**
+     * Ctor.
+     * @param dosage Origin dosage
+     * @param rtr Retries
+     */
+    ReDosage(final Dosage dosage, final Retry rtr) {
         this.origin = dosage;
+        this.retry = rtr;
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public List<Map<String, AttributeValue>> items() {
-        return this.origin.items();
+        return this.retry.call(this.origin::items);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public boolean hasNext() {
-        return this.origin.hasNext();
+        return this.retry.call(this.origin::hasNext);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Dosage next() {
-        return new ReDosage(this.origin.next());
+        return new ReDosage(this.retry.call(this.origin::next), this.retry);
+    }
+
+    @Override
+    public Cursor cursor() {
+        return this.origin.cursor();
     }
 }
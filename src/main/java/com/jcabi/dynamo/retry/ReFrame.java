@@ -6,15 +6,19 @@ package com.jcabi.dynamo.retry;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
-import com.jcabi.aspects.RetryOnFailure;
+import com.jcabi.dynamo.Dosage;
+import com.jcabi.dynamo.Explain;
+import com.jcabi.dynamo.Fanout;
 import com.jcabi.dynamo.Frame;
 import com.jcabi.dynamo.Item;
 import com.jcabi.dynamo.Table;
 import com.jcabi.dynamo.Valve;
+import com.jcabi.dynamo.deadline.Deadline;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
@@ -36,120 +40,162 @@ public final class ReFrame implements Frame {
      */
     private final transient Frame origin;
 
+    /**
+     * Retries.
+     */
+    private final transient Retry retry;
+
     /**
      * Public ctor.
      * @param frame Origin frame
      */
     public ReFrame(final Frame frame) {
+        this(frame, new Retry());
+    }
+
+    /**
+     * Public ctor.
+     * @param frame Origin frame
+     * @param deadline Deadline, which caps pauses between retries
+     * @since 0.23
+     */
+    public ReFrame(final Frame frame, final Deadline deadline) {
+        this(frame, new Retry(deadline));
+    }
+
+    /**
+     * Ctor.
+     * @param frame Origin frame
+     * @param rtr Retries
+     */
+    ReFrame(final Frame frame, final Retry rtr) {
         this.origin = frame;
+        this.retry = rtr;
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Frame where(final String name, final String value) {
-        return new ReFrame(this.origin.where(name, value));
+        return new ReFrame(this.origin.where(name, value), this.retry);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Frame where(final String name, final Condition condition) {
-        return new ReFrame(this.origin.where(name, condition));
+        return new ReFrame(this.origin.where(name, condition), this.retry);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Frame where(final Map<String, Condition> conditions) {
-        return new ReFrame(this.origin.where(conditions));
+        return new ReFrame(this.origin.where(conditions), this.retry);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Table table() {
-        return new ReTable(this.origin.table());
+        return new ReTable(this.origin.table(), this.retry);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Frame through(final Valve valve) {
-        return new ReFrame(this.origin.through(new ReValve(valve)));
+        return new ReFrame(
+            this.origin.through(new ReValve(valve, this.retry)), this.retry
+        );
+    }
+
+    @Override
+    public Frame wrap(final UnaryOperator<Valve> wrapper) {
+        return new ReFrame(this.origin.wrap(wrapper), this.retry);
+    }
+
+    @Override
+    public Frame limit(final int max) {
+        return new ReFrame(this.origin.limit(max), this.retry);
+    }
+
+    @Override
+    public Dosage page() {
+        return new ReDosage(this.retry.call(this.origin::page), this.retry);
+    }
+
+    @Override
+    public Explain explain(final int sample) {
+        return this.retry.call(() -> this.origin.explain(sample));
+    }
+
+    @Override
+    public void forEachParallel(final Consumer<Item> action,
+        final int concurrency) {
+        new Fanout(concurrency).forEach(this, action);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public int size() {
-        return this.origin.size();
+        return this.retry.call(this.origin::size);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public boolean isEmpty() {
-        return this.origin.isEmpty();
+        return this.retry.call(this.origin::isEmpty);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public boolean contains(final Object obj) {
-        return this.origin.contains(obj);
+        return this.retry.call(() -> this.origin.contains(obj));
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Iterator<Item> iterator() {
-        return new ReIterator<>(this.origin.iterator());
+        return new ReIterator<>(
+            this.retry.call(this.origin::iterator), this.retry
+        );
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Object[] toArray() {
-        return this.origin.toArray();
+        return this.retry.call(() -> this.origin.toArray());
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public <T> T[] toArray(final T[] arr) {
-        return this.origin.toArray(arr);
+        return this.retry.call(() -> this.origin.toArray(arr));
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public boolean add(final Item item) {
-        return this.origin.add(item);
+        return this.retry.call(() -> this.origin.add(item));
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public boolean remove(final Object obj) {
-        return this.origin.remove(obj);
+        return this.retry.call(() -> this.origin.remove(obj));
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public boolean containsAll(final Collection<?> list) {
-        return this.origin.containsAll(list);
+        return this.retry.call(() -> this.origin.containsAll(list));
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public boolean addAll(final Collection<? extends Item> list) {
-        return this.origin.addAll(list);
+        return this.retry.call(() -> this.origin.addAll(list));
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public boolean removeAll(final Collection<?> list) {
-        return this.origin.removeAll(list);
+        return this.retry.call(() -> this.origin.removeAll(list));
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public boolean retainAll(final Collection<?> list) {
-        return this.origin.retainAll(list);
+        return this.retry.call(() -> this.origin.retainAll(list));
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public void clear() {
-        this.origin.clear();
+        this.retry.call(
+            () -> {
+                this.origin.clear();
+                return null;
+            }
+        );
     }
 
 }
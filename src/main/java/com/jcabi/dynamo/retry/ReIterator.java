@@ -5,10 +5,8 @@
 package com.jcabi.dynamo.retry;
 
 import com.jcabi.aspects.Loggable;
-import com.jcabi.aspects.RetryOnFailure;
+import com.jcabi.dynamo.deadline.Deadline;
 import java.util.Iterator;
-import java.util.NoSuchElementException;
-import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -28,33 +26,56 @@ public final class ReIterator<T> implements Iterator<T> {
      */
     private final transient Iterator<T> origin;
 
+    /**
+     * Retries.
+     */
+    private final transient Retry retry;
+
     /**
      * Public ctor.
      * @param iterator Origin iterator
      */
     public ReIterator(final Iterator<T> iterator) {
+        this(iterator, new Retry());
+    }
+
+    /**
+     * Public ctor.
+     * @param iterator Origin iterator
+     * @param deadline Deadline, which caps pauses between retries
+     * @since 0.23
+     */
+    public ReIterator(final Iterator<T> iterator, final Deadline deadline) {
+        this(iterator, new Retry(deadline));
+    }
+
+    /**
+     * Ctor.
+     * @param iterator Origin iterator
+     * @param rtr Retries
+     */
+    ReIterator(final Iterator<T> iterator, final Retry rtr) {
         this.origin = iterator;
+        this.retry = rtr;
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public boolean hasNext() {
-        return this.origin.hasNext();
+        return this.retry.call(this.origin::hasNext);
     }
 
     @Override
-    @RetryOnFailure
-        (
-            verbose = false, delay = 5, unit = TimeUnit.SECONDS,
-            ignore = NoSuchElementException.class
-        )
     public T next() {
-        return this.origin.next();
+        return this.retry.call(this.origin::next);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public void remove() {
-        this.origin.remove();
+        this.retry.call(
+            () -> {
+                this.origin.remove();
+                return null;
+            }
+        );
     }
 }
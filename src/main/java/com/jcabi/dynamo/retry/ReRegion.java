@@ -6,10 +6,14 @@ package com.jcabi.dynamo.retry;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
-import com.jcabi.aspects.RetryOnFailure;
+import com.jcabi.dynamo.Item;
 import com.jcabi.dynamo.Region;
 import com.jcabi.dynamo.Table;
-import java.util.concurrent.TimeUnit;
+import com.jcabi.dynamo.Transaction;
+import com.jcabi.dynamo.deadline.Deadline;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -17,6 +21,10 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 /**
  * Region that retries on failure.
  *
+ * <p>With a {@link Deadline}, pauses between retries are capped by the
+ * time left, and tables and transactions made by the region get the
+ * same deadline, see {@link ReTable}.
+ *
  * @since 0.9
  */
 @Immutable
@@ -30,23 +38,57 @@ public final class ReRegion implements Region {
      */
     private final transient Region origin;
 
+    /**
+     * Retries.
+     */
+    private final transient Retry retry;
+
     /**
      * Public ctor.
      * @param region Origin region
      */
     public ReRegion(final Region region) {
+        this(region, new Retry());
+    }
+
+    /**
+     * Public ctor.
+     * @param region Origin region
+     * @param deadline Deadline, which caps pauses between retries
+     * @since 0.23
+     */
+    public ReRegion(final Region region, final Deadline deadline) {
+        this(region, new Retry(deadline));
+    }
+
+    /**
+     * Ctor.
+     * @param region Origin region
+     * @param rtr Retries
+     */
+    ReRegion(final Region region, final Retry rtr) {
         this.origin = region;
+        this.retry = rtr;
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public DynamoDbClient aws() {
-        return this.origin.aws();
+        return this.retry.call(this.origin::aws);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Table table(final String name) {
-        return new ReTable(this.origin.table(name));
+        return new ReTable(this.origin.table(name), this.retry);
+    }
+
+    @Override
+    public Transaction transaction() {
+        return new ReTransaction(this.origin.transaction(), this.retry);
+    }
+
+    @Override
+    public List<Item> readTogether(final Collection<? extends Item> items)
+        throws IOException {
+        return this.retry.call(() -> this.origin.readTogether(items));
     }
 }
@@ -6,21 +6,39 @@ package com.jcabi.dynamo.retry;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
-import com.jcabi.aspects.RetryOnFailure;
+import com.jcabi.dynamo.Fanout;
 import com.jcabi.dynamo.Frame;
 import com.jcabi.dynamo.Item;
 import com.jcabi.dynamo.Region;
 import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.deadline.Deadline;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
 
 /**
  * Table that retries on failure.
  *
+ * <p>Conditional puts are retried only when DynamoDB throttles them,
+ * since then they are surely not applied. After any other failure the
+ * put may have been applied while its response was lost, and a retry
+ * would fail its conditions and report a false conflict.
+ *
+ * <p>Retries pause for five seconds, but with a {@link Deadline} the
+ * pause is capped by the time left, and after the deadline nothing is
+ * retried. The deadline is given to frames, iterators, valves and pages
+ * made by the table, for example:
+ *
+ * <pre> Deadline deadline = new Deadline(2L, TimeUnit.SECONDS);
+ * Table table = new ReTable(deadline.table(origin), deadline);</pre>
+ *
  * @since 0.9
  */
 @Immutable
@@ -34,43 +52,85 @@ public final class ReTable implements Table {
      */
     private final transient Table origin;
 
+    /**
+     * Retries.
+     */
+    private final transient Retry retry;
+
     /**
      * Public ctor.
      * @param table Origin table
      */
     public ReTable(final Table table) {
+        this(table, new Retry());
+    }
+
+    /**
+     * Public ctor.
+     * @param table Origin table
+     * @param deadline Deadline, which caps pauses between retries
+     * @since 0.23
+     */
+    public ReTable(final Table table, final Deadline deadline) {
+        this(table, new Retry(deadline));
+    }
+
+    /**
+     * Ctor.
+     * @param table Origin table
+     * @param rtr Retries
+     */
+    ReTable(final Table table, final Retry rtr) {
         this.origin = table;
+        this.retry = rtr;
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Item put(final Map<String, AttributeValue> attributes)
         throws IOException {
-        return this.origin.put(attributes);
+        return this.retry.call(() -> this.origin.put(attributes));
+    }
+
+    @Override
+    public Item put(final Map<String, AttributeValue> attributes,
+        final Map<String, Condition> conditions) throws IOException {
+        return this.retry.call(
+            () -> this.origin.put(attributes, conditions),
+            ProvisionedThroughputExceededException.class,
+            RequestLimitExceededException.class
+        );
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Frame frame() {
-        return new ReFrame(this.origin.frame());
+        return new ReFrame(this.origin.frame(), this.retry);
+    }
+
+    @Override
+    public List<Item> putAll(
+        final Collection<? extends Map<String, AttributeValue>> items,
+        final int concurrency) throws IOException {
+        return new Fanout(concurrency).putAll(this, items);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Region region() {
-        return new ReRegion(this.origin.region());
+        return new ReRegion(this.origin.region(), this.retry);
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public String name() {
         return this.origin.name();
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public void delete(final Map<String, AttributeValue> attributes)
         throws IOException {
-        this.origin.delete(attributes);
+        this.retry.call(
+            () -> {
+                this.origin.delete(attributes);
+                return null;
+            }
+        );
     }
 }
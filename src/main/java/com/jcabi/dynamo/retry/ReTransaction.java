@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.retry;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Transaction;
+import com.jcabi.dynamo.deadline.Deadline;
+import java.io.IOException;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Transaction that retries on failure.
+ *
+ * <p>Commits are retried with the same idempotency token, so
+ * DynamoDB never applies the transaction twice. Canceled transactions
+ * are not retried. With a {@link Deadline}, pauses between retries are
+ * capped by the time left.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = "origin")
+public final class ReTransaction implements Transaction {
+
+    /**
+     * Original transaction.
+     */
+    private final transient Transaction origin;
+
+    /**
+     * Retries.
+     */
+    private final transient Retry retry;
+
+    /**
+     * Public ctor.
+     * @param trn Origin transaction
+     */
+    public ReTransaction(final Transaction trn) {
+        this(trn, new Retry());
+    }
+
+    /**
+     * Public ctor.
+     * @param trn Origin transaction
+     * @param deadline Deadline, which caps pauses between retries
+     */
+    public ReTransaction(final Transaction trn, final Deadline deadline) {
+        this(trn, new Retry(deadline));
+    }
+
+    /**
+     * Ctor.
+     * @param trn Origin transaction
+     * @param rtr Retries
+     */
+    ReTransaction(final Transaction trn, final Retry rtr) {
+        this.origin = trn;
+        this.retry = rtr;
+    }
+
+    @Override
+    public Transaction put(final Table table,
+        final Map<String, AttributeValue> attributes) {
+        return new ReTransaction(
+            this.origin.put(table, attributes), this.retry
+        );
+    }
+
+    @Override
+    public Transaction update(final Item item,
+        final Map<String, AttributeValueUpdate> attrs) {
+        return new ReTransaction(
+            this.origin.update(item, attrs), this.retry
+        );
+    }
+
+    @Override
+    public Transaction delete(final Item item) {
+        return new ReTransaction(
+            this.origin.delete(item), this.retry
+        );
+    }
+
+    @Override
+    public Transaction check(final Item item,
+        final Map<String, Condition> conditions) {
+        return new ReTransaction(
+            this.origin.check(item, conditions), this.retry
+        );
+    }
+
+    @Override
+    public String token() {
+        return this.origin.token();
+    }
+
+    @Override
+    public void commit() throws IOException {
+        this.retry.call(
+            () -> {
+                this.origin.commit();
+                return null;
+            }
+        );
+    }
+}
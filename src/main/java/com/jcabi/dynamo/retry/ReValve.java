@@ -6,14 +6,14 @@ package com.jcabi.dynamo.retry;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
-import com.jcabi.aspects.RetryOnFailure;
+import com.jcabi.dynamo.BoundedValve;
 import com.jcabi.dynamo.Credentials;
 import com.jcabi.dynamo.Dosage;
 import com.jcabi.dynamo.Valve;
+import com.jcabi.dynamo.deadline.Deadline;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
@@ -27,37 +27,84 @@ import software.amazon.awssdk.services.dynamodb.model.Condition;
 @Loggable(Loggable.DEBUG)
 @ToString
 @EqualsAndHashCode(of = "origin")
-public final class ReValve implements Valve {
+public final class ReValve implements BoundedValve {
 
     /**
      * Original valve.
      */
     private final transient Valve origin;
 
+    /**
+     * Retries.
+     */
+    private final transient Retry retry;
+
     /**
      * Public ctor.
      * @param valve Origin valve
      */
     public ReValve(final Valve valve) {
+        this(valve, new Retry());
+    }
+
+    /**
+     * Public ctor.
+     * @param valve Origin valve
+     * @param deadline Deadline, which caps pauses between retries
+     * @since 0.23
+     */
+    public ReValve(final Valve valve, final Deadline deadline) {
+        this(valve, new Retry(deadline));
+    }
+
+    /**
+     * Ctor.
+     * @param valve Origin valve
+     * @param rtr Retries
+     */
+    ReValve(final Valve valve, final Retry rtr) {
         this.origin = valve;
+        this.retry = rtr;
     }
 
-    // @checkstyle ParameterNumber (7 lines)
+    // @checkstyle ParameterNumber (6 lines)
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public Dosage fetch(final Credentials credentials, final String table,
         final Map<String, Condition> conditions,
         final Collection<String> keys) throws IOException {
         return new ReDosage(
-            this.origin.fetch(credentials, table, conditions, keys)
+            this.retry.call(
+                () -> this.origin.fetch(credentials, table, conditions, keys)
+            ),
+            this.retry
+        );
+    }
+
+    // @checkstyle ParameterNumber (6 lines)
+    @Override
+    public Dosage fetch(final Credentials credentials, final String table,
+        final Map<String, Condition> conditions, final Collection<String> keys,
+        final int max) throws IOException {
+        return new ReDosage(
+            this.retry.call(
+                () -> BoundedValve.bounded(
+                    this.origin, credentials, table, conditions, keys, max
+                )
+            ),
+            this.retry
         );
     }
 
     @Override
-    @RetryOnFailure(verbose = false, delay = 5, unit = TimeUnit.SECONDS)
     public int count(final Credentials credentials, final String table,
         final Map<String, Condition> conditions) throws IOException {
-        return this.origin.count(credentials, table, conditions);
+        return this.retry.call(
+            () -> this.origin.count(credentials, table, conditions)
+        );
     }
 
+    @Override
+    public Valve origin() {
+        return this.origin;
+    }
 }
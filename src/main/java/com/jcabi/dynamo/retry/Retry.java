@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.retry;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.dynamo.CanceledTransactionException;
+import com.jcabi.dynamo.deadline.Deadline;
+import com.jcabi.dynamo.deadline.DeadlineExceededException;
+import com.jcabi.log.Logger;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Retries of a call, within a deadline.
+ *
+ * <p>A call is made up to three times, with a pause of five seconds
+ * between attempts. The pause is capped by half of the time left
+ * before the deadline, so the next attempt still has time to finish.
+ * When the deadline is over, the last failure is thrown without
+ * retries. {@link DeadlineExceededException},
+ * {@link NoSuchElementException} and {@link CanceledTransactionException}
+ * are never retried.
+ *
+ * @since 0.23
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+final class Retry {
+
+    /**
+     * How many attempts to make.
+     */
+    private static final int ATTEMPTS = 3;
+
+    /**
+     * Pause between attempts, in nanoseconds.
+     */
+    private static final long PAUSE = TimeUnit.SECONDS.toNanos(5L);
+
+    /**
+     * The deadline.
+     */
+    private final transient Deadline deadline;
+
+    /**
+     * Ctor, without a deadline.
+     */
+    Retry() {
+        this(new Deadline(Long.MAX_VALUE, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Ctor.
+     * @param dln The deadline
+     */
+    Retry(final Deadline dln) {
+        this.deadline = dln;
+    }
+
+    /**
+     * The deadline, to give to objects made by the decorators.
+     * @return The deadline
+     */
+    Deadline deadline() {
+        return this.deadline;
+    }
+
+    /**
+     * Make the call, retrying failures of these types.
+     * @param action The call
+     * @param types Types of failures to retry, all of them if empty
+     * @param <T> Type of result
+     * @param <E> Type of exception
+     * @return Result
+     * @throws E If all attempts fail
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    <T, E extends Exception> T call(final Retry.Action<T, E> action,
+        final Class<?>... types) throws E {
+        T result;
+        int attempt = 1;
+        while (true) {
+            try {
+                result = action.exec();
+                break;
+            } catch (final Exception ex) {
+                if (!this.paused(ex, attempt, types)) {
+                    throw Retry.<E>rethrown(ex);
+                }
+            }
+            ++attempt;
+        }
+        return result;
+    }
+
+    /**
+     * Pause before the next attempt, if it is worth making.
+     * @param failure Failure of the last attempt
+     * @param attempt Number of the last attempt
+     * @param types Types of failures to retry, all of them if empty
+     * @return TRUE if the next attempt has to be made
+     */
+    private boolean paused(final Exception failure, final int attempt,
+        final Class<?>... types) {
+        final long left = this.deadline.remaining().toNanos();
+        boolean paused = attempt < Retry.ATTEMPTS && left > 0L
+            && !(failure instanceof DeadlineExceededException)
+            && !(failure instanceof NoSuchElementException)
+            && !(failure instanceof CanceledTransactionException)
+            && Retry.retriable(failure, types);
+        if (paused) {
+            final long pause = Math.min(Retry.PAUSE, left / 2L);
+            Logger.warn(
+                this, "Attempt #%d of %d failed, retrying in %[nano]s: %s",
+                attempt, Retry.ATTEMPTS, pause, failure.getMessage()
+            );
+            try {
+                TimeUnit.NANOSECONDS.sleep(pause);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                paused = false;
+            }
+        }
+        return paused;
+    }
+
+    /**
+     * Is it a failure of one of these types, or caused by one of them?
+     * @param failure The failure
+     * @param types Types of failures, all of them if empty
+     * @return TRUE if it is
+     */
+    private static boolean retriable(final Throwable failure,
+        final Class<?>... types) {
+        boolean found = types.length == 0;
+        Throwable cause = failure;
+        while (!found && cause != null) {
+            for (final Class<?> type : types) {
+                if (type.isInstance(cause)) {
+                    found = true;
+                    break;
+                }
+            }
+            cause = cause.getCause();
+        }
+        return found;
+    }
+
+    /**
+     * Failure to throw.
+     * @param failure The failure, which is either unchecked or of type E
+     * @param <E> Type of exception
+     * @return The same failure
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Exception> E rethrown(final Exception failure) {
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        return (E) failure;
+    }
+
+    /**
+     * Call to retry.
+     *
+     * @param <T> Type of result
+     * @param <E> Type of exception
+     * @since 0.23
+     */
+    @FunctionalInterface
+    interface Action<T, E extends Exception> {
+        /**
+         * Make the call.
+         * @return Result
+         * @throws E If fails
+         */
+        T exec() throws E;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.version;
+
+import java.io.IOException;
+
+/**
+ * The item was changed by someone else since it was read.
+ *
+ * <p>Read the item again and repeat the write, if it still makes sense.
+ *
+ * @since 0.23
+ */
+public final class VersionConflictException extends IOException {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 0x3c9e5d17a2f4b861L;
+
+    /**
+     * Public ctor.
+     * @param msg Message
+     * @param cause Cause
+     */
+    public VersionConflictException(final String msg, final Throwable cause) {
+        super(msg, cause);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.version;
+
+import com.google.common.base.Function;
+import com.google.common.collect.Iterators;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Dosage;
+import com.jcabi.dynamo.Explain;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Valve;
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Frame with versioned items.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(callSuper = false, of = { "origin", "attr" })
+final class VersionedFrame extends AbstractCollection<Item> implements Frame {
+
+    /**
+     * Original frame.
+     */
+    private final transient Frame origin;
+
+    /**
+     * Name of the version attribute.
+     */
+    private final transient String attr;
+
+    /**
+     * Public ctor.
+     * @param frame Origin frame
+     * @param name Name of the version attribute
+     */
+    VersionedFrame(final Frame frame, final String name) {
+        super();
+        this.origin = frame;
+        this.attr = name;
+    }
+
+    @Override
+    public Iterator<Item> iterator() {
+        return Iterators.transform(
+            this.origin.iterator(),
+            new Function<Item, Item>() {
+                @Override
+                public Item apply(final Item input) {
+                    return VersionedFrame.this.wrap(input);
+                }
+            }
+        );
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.origin.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        this.origin.clear();
+    }
+
+    @Override
+    public Frame where(final String name, final String value) {
+        return new VersionedFrame(this.origin.where(name, value), this.attr);
+    }
+
+    @Override
+    public Frame where(final String name, final Condition condition) {
+        return new VersionedFrame(
+            this.origin.where(name, condition), this.attr
+        );
+    }
+
+    @Override
+    public Frame where(final Map<String, Condition> conditions) {
+        return new VersionedFrame(this.origin.where(conditions), this.attr);
+    }
+
+    @Override
+    public Frame through(final Valve valve) {
+        return new VersionedFrame(this.origin.through(valve), this.attr);
+    }
+
+    @Override
+    public Frame wrap(final UnaryOperator<Valve> wrapper) {
+        return new VersionedFrame(this.origin.wrap(wrapper), this.attr);
+    }
+
+    @Override
+    public Frame limit(final int max) {
+        return new VersionedFrame(this.origin.limit(max), this.attr);
+    }
+
+    @Override
+    public Dosage page() {
+        return this.origin.page();
+    }
+
+    @Override
+    public Explain explain(final int sample) {
+        return this.origin.explain(sample);
+    }
+
+    @Override
+    public Table table() {
+        return new VersionedTable(this.origin.table(), this.attr);
+    }
+
+    @Override
+    public void forEachParallel(final Consumer<Item> action,
+        final int concurrency) {
+        this.origin.forEachParallel(
+            item -> action.accept(this.wrap(item)), concurrency
+        );
+    }
+
+    /**
+     * Wrap the item.
+     * @param item Original item
+     * @return Versioned item
+     */
+    private Item wrap(final Item item) {
+        return VersionedItem.of(item, this.attr);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.version;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.AttributeUpdates;
+import com.jcabi.dynamo.Conditions;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.UpdateExpression;
+import java.io.IOException;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+/**
+ * Item with optimistic locking.
+ *
+ * <p>The item remembers the version it was read with. Every write is
+ * conditional on that version and increments it.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "attr", "version" })
+final class VersionedItem implements Item {
+
+    /**
+     * Original item.
+     */
+    private final transient Item origin;
+
+    /**
+     * Name of the version attribute.
+     */
+    private final transient String attr;
+
+    /**
+     * Version the item was read with, empty if it has no version.
+     */
+    private final transient String version;
+
+    /**
+     * Public ctor.
+     * @param item Origin item
+     * @param name Name of the version attribute
+     * @param ver Version of the item, empty if it has no version
+     */
+    VersionedItem(final Item item, final String name, final String ver) {
+        this.origin = item;
+        this.attr = name;
+        this.version = ver;
+    }
+
+    @Override
+    public AttributeValue get(final String name) throws IOException {
+        return this.origin.get(name);
+    }
+
+    @Override
+    public boolean has(final String name) throws IOException {
+        return this.origin.has(name);
+    }
+
+    @Override
+    public Map<String, AttributeValue> put(final String name,
+        final AttributeValueUpdate value) throws IOException {
+        return this.put(new AttributeUpdates().with(name, value));
+    }
+
+    @Override
+    public Map<String, AttributeValue> put(
+        final Map<String, AttributeValueUpdate> attrs) throws IOException {
+        return this.update(new UpdateExpression(attrs));
+    }
+
+    @Override
+    public Map<String, AttributeValue> update(
+        final UpdateExpression expression) throws IOException {
+        if (expression.attributes().contains(this.attr)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Version attribute \"%s\" can't be updated explicitly",
+                    this.attr
+                )
+            );
+        }
+        final UpdateExpression guarded;
+        if (this.version.isEmpty()) {
+            guarded = expression
+                .where(
+                    this.attr,
+                    Condition.builder()
+                        .comparisonOperator(ComparisonOperator.NULL)
+                        .build()
+                )
+                .set(this.attr, AttributeValue.builder().n("1").build());
+        } else {
+            guarded = expression
+                .where(
+                    this.attr,
+                    Conditions.equalTo(
+                        AttributeValue.builder().n(this.version).build()
+                    )
+                )
+                .add(this.attr, 1L);
+        }
+        try {
+            return this.origin.update(guarded);
+        } catch (final ConditionalCheckFailedException ex) {
+            throw new VersionConflictException(
+                String.format(
+                    "Can't update %s, its version \"%s\" is stale or unknown",
+                    expression.attributes(), this.version
+                ),
+                ex
+            );
+        }
+    }
+
+    @Override
+    public Map<String, AttributeValue> loaded() {
+        return this.origin.loaded();
+    }
+
+    @Override
+    public Frame frame() {
+        return new VersionedFrame(this.origin.frame(), this.attr);
+    }
+
+    /**
+     * Wrap the item, remembering its current version.
+     *
+     * <p>The version is taken from {@link Item#loaded()} only, without
+     * calls to DynamoDB. If it is not loaded, for example because the
+     * valve doesn't fetch it, the version is unknown and the item is
+     * treated as one without a version: writes then require the version
+     * attribute to be absent, so a versioned item fails with
+     * {@link VersionConflictException} instead of being overwritten.
+     * If the version attribute is not a number, the item is not
+     * versioned by this library, and {@link IllegalStateException}
+     * is thrown.
+     *
+     * @param item The item
+     * @param name Name of the version attribute
+     * @return Versioned item
+     */
+    static Item of(final Item item, final String name) {
+        final AttributeValue loaded = item.loaded().get(name);
+        final String ver;
+        if (loaded == null) {
+            ver = "";
+        } else if (loaded.n() == null) {
+            throw new IllegalStateException(
+                String.format(
+                    "Version attribute \"%s\" is not a number: %s",
+                    name, loaded
+                )
+            );
+        } else {
+            ver = loaded.n();
+        }
+        return new VersionedItem(item, name, ver);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.version;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.dynamo.Conditions;
+import com.jcabi.dynamo.Fanout;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.Table;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+/**
+ * Table with optimistic locking of its items.
+ *
+ * <p>Every item in the table gets a numeric version attribute, which
+ * is incremented on every write and checked by DynamoDB with a condition.
+ * Writes never read the item first. When the item was changed by someone
+ * else since it was read, {@link VersionConflictException} is thrown.
+ * For example:
+ *
+ * <pre> Table table = new VersionedTable(region.table("accounts"));
+ * Item account = table.frame().where("id", "alice").iterator().next();
+ * account.put("balance", ...);</pre>
+ *
+ * <p>{@link Table#put(Map)} without the version attribute creates
+ * a new item and fails if a versioned item with the same key already
+ * exists. With the version attribute, it replaces the item of exactly
+ * this version. Items are immutable and remember the version they were
+ * read with, so read an item again after writing it, before writing
+ * it once more.
+ *
+ * <p>When combined with {@link com.jcabi.dynamo.retry.ReTable}, wrap
+ * the retrying table, not the other way around.
+ *
+ * @since 0.23
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString
+@EqualsAndHashCode(of = { "origin", "attr" })
+public final class VersionedTable implements Table {
+
+    /**
+     * Original table.
+     */
+    private final transient Table origin;
+
+    /**
+     * Name of the version attribute.
+     */
+    private final transient String attr;
+
+    /**
+     * Public ctor, with {@code "version"} attribute.
+     * @param table Origin table
+     */
+    public VersionedTable(final Table table) {
+        this(table, "version");
+    }
+
+    /**
+     * Public ctor.
+     * @param table Origin table
+     * @param name Name of the version attribute
+     */
+    public VersionedTable(final Table table, final String name) {
+        this.origin = table;
+        this.attr = name;
+    }
+
+    @Override
+    public Item put(final Map<String, AttributeValue> attributes)
+        throws IOException {
+        return this.put(attributes, new Conditions());
+    }
+
+    @Override
+    public Item put(final Map<String, AttributeValue> attributes,
+        final Map<String, Condition> conditions) throws IOException {
+        final AttributeValue current = attributes.get(this.attr);
+        final Map<String, AttributeValue> next = new HashMap<>(attributes);
+        final String version;
+        final Condition guard;
+        if (current == null) {
+            version = "1";
+            guard = Condition.builder()
+                .comparisonOperator(ComparisonOperator.NULL)
+                .build();
+        } else {
+            version = VersionedTable.increment(current.n());
+            guard = Conditions.equalTo(current);
+        }
+        next.put(this.attr, AttributeValue.builder().n(version).build());
+        try {
+            return new VersionedItem(
+                this.origin.put(
+                    next, new Conditions(conditions).with(this.attr, guard)
+                ),
+                this.attr,
+                version
+            );
+        } catch (final ConditionalCheckFailedException ex) {
+            throw new VersionConflictException(
+                String.format(
+                    "Can't put into \"%s\", the item is not of version %s",
+                    this.origin.name(), current
+                ),
+                ex
+            );
+        }
+    }
+
+    @Override
+    public Frame frame() {
+        return new VersionedFrame(this.origin.frame(), this.attr);
+    }
+
+    @Override
+    public List<Item> putAll(
+        final Collection<? extends Map<String, AttributeValue>> items,
+        final int concurrency) throws IOException {
+        return new Fanout(concurrency).putAll(this, items);
+    }
+
+    @Override
+    public Region region() {
+        return this.origin.region();
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public void delete(final Map<String, AttributeValue> attributes)
+        throws IOException {
+        this.origin.delete(attributes);
+    }
+
+    /**
+     * Next version.
+     * @param version Current version
+     * @return Next one
+     */
+    static String increment(final String version) {
+        return new BigDecimal(version).add(BigDecimal.ONE).toPlainString();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.dynamo.retry.ReValve;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+/**
+ * Test case for {@link AwsExplain}.
+ * @since 0.23
+ */
+final class AwsExplainTest {
+
+    @Test
+    void estimatesScanFromTableSize() throws Exception {
+        final String table = "explain-scän";
+        final Explain explain = new AwsExplain(
+            AwsExplainTest.described(Mockito.mock(DynamoDbClient.class), table),
+            table, new Conditions(), new ScanValve(), Integer.MAX_VALUE
+        ).explain(0);
+        MatcherAssert.assertThat(
+            "should read all items of the table",
+            explain.items(),
+            Matchers.equalTo(1000L)
+        );
+        MatcherAssert.assertThat(
+            "should fetch a page per hundred items",
+            explain.pages(),
+            Matchers.equalTo(10L)
+        );
+        MatcherAssert.assertThat(
+            "should take half a unit per 4KB",
+            explain.capacity(),
+            Matchers.closeTo(500.0d, 0.01d)
+        );
+        MatcherAssert.assertThat(
+            "should be a scan, with exact estimates",
+            explain.isScan() && !explain.isUpperBound(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void countsQueryBySample() throws Exception {
+        final String table = "explain-qüery";
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(QueryResponse.builder().scannedCount(7).build())
+            .when(aws).query(Mockito.any(QueryRequest.class));
+        final Explain explain = new AwsExplain(
+            AwsExplainTest.described(aws, table), table,
+            new Conditions().with("id", "1").with("cölor", "red"),
+            new PlannedValve(), Integer.MAX_VALUE
+        ).explain(50);
+        MatcherAssert.assertThat(
+            "should query by the hash key and filter by the rest",
+            explain.toString(),
+            Matchers.startsWith(
+                "query by \"id\" on the table, filtered by cölor"
+            )
+        );
+        MatcherAssert.assertThat(
+            "should count items exactly, by the sample",
+            explain.items(),
+            Matchers.equalTo(7L)
+        );
+        MatcherAssert.assertThat(
+            "should take a unit per 4KB, reading consistently",
+            explain.capacity(),
+            Matchers.closeTo(7.0d, 0.01d)
+        );
+    }
+
+    @Test
+    void seesThroughDecoratorsOfValve() throws Exception {
+        final String table = "explain-decörated";
+        final Explain explain = new AwsExplain(
+            AwsExplainTest.described(Mockito.mock(DynamoDbClient.class), table),
+            table, new Conditions().with("id", "5"),
+            new ReValve(new PlannedValve()), Integer.MAX_VALUE
+        ).explain(0);
+        MatcherAssert.assertThat(
+            "should query by the plan of the retried valve",
+            explain.toString(),
+            Matchers.startsWith("query by \"id\" on the table")
+        );
+        MatcherAssert.assertThat(
+            "should not be a scan",
+            explain.isScan(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Credentials of a client, which describes the table with a thousand
+     * items of 4KB each, and hash key "id".
+     * @param aws The client
+     * @param table Table name
+     * @return Credentials
+     */
+    private static Credentials described(final DynamoDbClient aws,
+        final String table) {
+        Mockito.doReturn(
+            DescribeTableResponse.builder().table(
+                TableDescription.builder()
+                    .tableName(table)
+                    .itemCount(1000L)
+                    .tableSizeBytes(4096L * 1000L)
+                    .keySchema(
+                        KeySchemaElement.builder()
+                            .attributeName("id")
+                            .keyType(KeyType.HASH)
+                            .build()
+                    )
+                    .build()
+            ).build()
+        ).when(aws).describeTable(Mockito.any(DescribeTableRequest.class));
+        return () -> aws;
+    }
+}
@@ -5,12 +5,19 @@
 package com.jcabi.dynamo;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
 
 /**
@@ -87,6 +94,20 @@ final class AwsFrameTest {
         );
     }
 
+    @Test
+    void plansByDefault() {
+        final Credentials creds = Mockito.mock(Credentials.class);
+        final AwsTable table = Mockito.mock(AwsTable.class);
+        MatcherAssert.assertThat(
+            "should go through the planned valve by default",
+            new AwsFrame(creds, table, "d\u00e9fault"),
+            Matchers.equalTo(
+                new AwsFrame(creds, table, "d\u00e9fault")
+                    .through(new PlannedValve())
+            )
+        );
+    }
+
     @Test
     void delegatesSizeToValve() throws IOException {
         final Valve valve = Mockito.mock(Valve.class);
@@ -125,4 +146,33 @@ final class AwsFrameTest {
         );
     }
 
+    @Test
+    void clearsItemsInBatches() throws IOException {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(BatchWriteItemResponse.builder().build())
+            .when(aws).batchWriteItem(Mockito.any(BatchWriteItemRequest.class));
+        final Credentials creds = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(creds).aws();
+        final String key = "cl\u00e9";
+        final List<Map<String, AttributeValue>> items = new ArrayList<>(0);
+        for (int idx = 0; idx < 30; ++idx) {
+            items.add(new Attributes().with(key, idx).with("t\u00eate", idx));
+        }
+        final Dosage dosage = Mockito.mock(Dosage.class);
+        Mockito.doReturn(items).when(dosage).items();
+        final Valve valve = Mockito.mock(Valve.class);
+        Mockito.doReturn(dosage).when(valve).fetch(
+            Mockito.any(), Mockito.anyString(),
+            Mockito.any(), Mockito.any()
+        );
+        final AwsTable table = Mockito.mock(AwsTable.class);
+        Mockito.doReturn(Collections.singletonList(key)).when(table).keys();
+        new AwsFrame(
+            creds, table, "p\u00fcrge-tbl", new Conditions(), valve
+        ).clear();
+        Mockito.verify(aws, Mockito.times(2)).batchWriteItem(
+            Mockito.any(BatchWriteItemRequest.class)
+        );
+    }
+
 }
@@ -21,6 +21,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
 import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
 
@@ -205,6 +206,36 @@ final class AwsItemTest {
         );
     }
 
+    @Test
+    void updatesWithExpressionReturningNothing() throws IOException {
+        final Credentials creds = Mockito.mock(Credentials.class);
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(aws).when(creds).aws();
+        Mockito.doReturn(
+            UpdateItemResponse.builder()
+                .consumedCapacity(
+                    ConsumedCapacity.builder().capacityUnits(1.0).build()
+                )
+                .build()
+        ).when(aws).updateItem(Mockito.any(UpdateItemRequest.class));
+        new AwsItem(
+            creds, Mockito.mock(AwsFrame.class), "c\u00f6unter-tbl",
+            new Attributes().with(
+                "pk", AttributeValue.builder().s("h\u00efts").build()
+            ),
+            new Array<>("pk")
+        ).update(
+            new UpdateExpression().add("t\u00f6tal", 1L)
+                .returning(ReturnValue.NONE)
+        );
+        Mockito.verify(aws).updateItem(
+            Mockito.argThat(
+                (UpdateItemRequest req) -> req.returnValues() == ReturnValue.NONE
+                    && "ADD #n0 :v0".equals(req.updateExpression())
+            )
+        );
+    }
+
     @Test
     void throwsOnAbsentAttribute() throws IOException {
         final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
@@ -0,0 +1,241 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Benchmark of {@link AwsIterator}, lock-free and synchronized.
+ *
+ * <p>Pages are in memory, so only the cost of iteration is measured:
+ * the lock-free iterator, as frames return it, and the same iterator
+ * wrapped into {@link SyncIterator}, which takes a lock on every call,
+ * as the iterator did before. Run it with:
+ *
+ * <pre> mvn test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=com.jcabi.dynamo.AwsIteratorBench</pre>
+ *
+ * @since 0.23
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+public class AwsIteratorBench {
+
+    /**
+     * Items in one page.
+     */
+    private static final int PAGE = 100;
+
+    /**
+     * Pages in the frame.
+     */
+    private static final int PAGES = 10;
+
+    /**
+     * Credentials.
+     */
+    private Credentials credentials;
+
+    /**
+     * Frame of the iterator.
+     */
+    private AwsFrame frame;
+
+    /**
+     * Items of one page.
+     */
+    private List<Map<String, AttributeValue>> items;
+
+    /**
+     * Prepare the frame and its pages.
+     */
+    @Setup
+    public void setup() {
+        this.credentials = Mockito.mock(Credentials.class);
+        this.frame = new AwsFrame(
+            this.credentials,
+            new AwsTable(
+                this.credentials, Mockito.mock(Region.class), "bench"
+            ),
+            "bench"
+        );
+        this.items = new ArrayList<>(AwsIteratorBench.PAGE);
+        for (int idx = 0; idx < AwsIteratorBench.PAGE; ++idx) {
+            this.items.add(new Attributes().with("id", idx));
+        }
+    }
+
+    /**
+     * Iterate the lock-free iterator.
+     * @param hole Consumer of items
+     */
+    @Benchmark
+    public void lockFree(final Blackhole hole) {
+        AwsIteratorBench.drain(this.iterator(), hole);
+    }
+
+    /**
+     * Iterate the iterator, synchronized on every call.
+     * @param hole Consumer of items
+     */
+    @Benchmark
+    public void synchronous(final Blackhole hole) {
+        AwsIteratorBench.drain(new SyncIterator<>(this.iterator()), hole);
+    }
+
+    /**
+     * Run the benchmark.
+     * @param args Arguments
+     * @throws RunnerException If fails
+     */
+    public static void main(final String... args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(AwsIteratorBench.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    /**
+     * New iterator over all pages.
+     * @return Iterator
+     */
+    private Iterator<Item> iterator() {
+        return new AwsIterator(
+            this.credentials, this.frame, "bench", new Conditions(),
+            Collections.singletonList("id"),
+            new AwsIteratorBench.Pages(this.items, AwsIteratorBench.PAGES)
+        );
+    }
+
+    /**
+     * Consume all items of the iterator.
+     * @param iterator The iterator
+     * @param hole Consumer of items
+     */
+    private static void drain(final Iterator<Item> iterator,
+        final Blackhole hole) {
+        while (iterator.hasNext()) {
+            hole.consume(iterator.next());
+        }
+    }
+
+    /**
+     * Valve with the same page many times.
+     *
+     * @since 0.23
+     */
+    private static final class Pages implements Valve {
+
+        /**
+         * Items of one page.
+         */
+        private final transient List<Map<String, AttributeValue>> items;
+
+        /**
+         * Number of pages.
+         */
+        private final transient int total;
+
+        /**
+         * Ctor.
+         * @param page Items of one page
+         * @param pages Number of pages
+         */
+        Pages(final List<Map<String, AttributeValue>> page, final int pages) {
+            this.items = page;
+            this.total = pages;
+        }
+
+        @Override
+        public Dosage fetch(final Credentials credentials, final String table,
+            final Map<String, Condition> conditions,
+            final Collection<String> keys) {
+            return new AwsIteratorBench.Page(this.items, this.total);
+        }
+
+        @Override
+        public int count(final Credentials credentials, final String table,
+            final Map<String, Condition> conditions) {
+            return this.items.size() * this.total;
+        }
+    }
+
+    /**
+     * Page of items in memory.
+     *
+     * @since 0.23
+     */
+    private static final class Page implements Dosage {
+
+        /**
+         * Items of the page.
+         */
+        private final transient List<Map<String, AttributeValue>> list;
+
+        /**
+         * Pages left, including this one.
+         */
+        private final transient int left;
+
+        /**
+         * Ctor.
+         * @param page Items of the page
+         * @param pages Pages left, including this one
+         */
+        Page(final List<Map<String, AttributeValue>> page, final int pages) {
+            this.list = page;
+            this.left = pages;
+        }
+
+        @Override
+        public List<Map<String, AttributeValue>> items() {
+            return this.list;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.left > 1;
+        }
+
+        @Override
+        public Dosage next() {
+            return new AwsIteratorBench.Page(this.list, this.left - 1);
+        }
+
+        @Override
+        public Cursor cursor() {
+            return Cursor.EMPTY;
+        }
+    }
+}
@@ -339,4 +339,76 @@ final class AwsIteratorTest {
         );
     }
 
+    @Test
+    void continuesIterationAfterRemove() throws IOException {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        final Credentials creds = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(creds).aws();
+        final String attr = UUID.randomUUID().toString();
+        final Dosage dosage = Mockito.mock(Dosage.class);
+        Mockito.doReturn(
+            Arrays.asList(
+                new Attributes().with(attr, "pr\u00e9mier"),
+                new Attributes().with(attr, "s\u00e9cond")
+            )
+        ).when(dosage).items();
+        final Valve valve = Mockito.mock(Valve.class);
+        Mockito.doReturn(dosage)
+            .when(valve)
+            .fetch(
+                Mockito.eq(creds), Mockito.anyString(),
+                Mockito.any(Map.class), Mockito.any(Collection.class)
+            );
+        final String table = UUID.randomUUID().toString();
+        final Iterator<Item> iter = new AwsIterator(
+            creds,
+            new AwsFrame(
+                creds,
+                new AwsTable(creds, Mockito.mock(Region.class), table),
+                table
+            ),
+            table, new Conditions(),
+            Collections.singletonList(attr), valve
+        );
+        iter.next();
+        iter.remove();
+        MatcherAssert.assertThat(
+            "did not move to the second item after remove",
+            iter.next().get(attr).s(),
+            Matchers.equalTo("s\u00e9cond")
+        );
+    }
+
+    @Test
+    void throwsOnSecondRemove() throws IOException {
+        final Credentials creds = Mockito.mock(Credentials.class);
+        Mockito.doReturn(Mockito.mock(DynamoDbClient.class))
+            .when(creds).aws();
+        final Dosage dosage = Mockito.mock(Dosage.class);
+        Mockito.doReturn(
+            Collections.singletonList(new Attributes().with("k", "\u00e0"))
+        ).when(dosage).items();
+        final Valve valve = Mockito.mock(Valve.class);
+        Mockito.doReturn(dosage)
+            .when(valve)
+            .fetch(
+                Mockito.eq(creds), Mockito.anyString(),
+                Mockito.any(Map.class), Mockito.any(Collection.class)
+            );
+        final String table = UUID.randomUUID().toString();
+        final Iterator<Item> iter = new AwsIterator(
+            creds,
+            new AwsFrame(
+                creds,
+                new AwsTable(creds, Mockito.mock(Region.class), table),
+                table
+            ),
+            table, new Conditions(),
+            Collections.singletonList("k"), valve
+        );
+        iter.next();
+        iter.remove();
+        Assertions.assertThrows(IllegalStateException.class, iter::remove);
+    }
+
 }
@@ -0,0 +1,155 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.immutable.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.ItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsResponse;
+
+/**
+ * Test case for {@link AwsSnapshot}.
+ * @since 0.23
+ */
+final class AwsSnapshotTest {
+
+    @Test
+    void readsItemsInOneCall() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(
+            TransactGetItemsResponse.builder().responses(
+                ItemResponse.builder().item(
+                    new Attributes().with("ïd", "1").with("cölor", "röt")
+                ).build(),
+                ItemResponse.builder().item(
+                    new Attributes().with("ïd", "2").with("cölor", "blau")
+                ).build()
+            ).build()
+        ).when(aws).transactGetItems(
+            Mockito.any(TransactGetItemsRequest.class)
+        );
+        final Credentials creds = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(creds).aws();
+        final List<Item> items = new AwsSnapshot(creds).read(
+            Arrays.asList(
+                AwsSnapshotTest.item(creds, "1"),
+                AwsSnapshotTest.item(creds, "2")
+            )
+        );
+        Mockito.verify(aws, Mockito.times(1)).transactGetItems(
+            Mockito.any(TransactGetItemsRequest.class)
+        );
+        MatcherAssert.assertThat(
+            "did not load all attributes",
+            items.get(1).get("cölor").s(),
+            Matchers.equalTo("blau")
+        );
+    }
+
+    @Test
+    void failsOnMissingItem() {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(
+            TransactGetItemsResponse.builder().responses(
+                ItemResponse.builder().build()
+            ).build()
+        ).when(aws).transactGetItems(
+            Mockito.any(TransactGetItemsRequest.class)
+        );
+        final Credentials creds = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(creds).aws();
+        Assertions.assertThrows(
+            NoSuchElementException.class,
+            () -> new AwsSnapshot(creds).read(
+                Arrays.asList(AwsSnapshotTest.item(creds, "3"))
+            )
+        );
+    }
+
+    @Test
+    void readsDecoratedItems() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(
+            DescribeTableResponse.builder().table(
+                TableDescription.builder().keySchema(
+                    KeySchemaElement.builder().attributeName("ïd").build()
+                ).build()
+            ).build()
+        ).when(aws).describeTable(Mockito.any(DescribeTableRequest.class));
+        Mockito.doReturn(
+            TransactGetItemsResponse.builder().responses(
+                ItemResponse.builder().item(
+                    new Attributes().with("ïd", "7").with("cölor", "grün")
+                ).build()
+            ).build()
+        ).when(aws).transactGetItems(
+            Mockito.any(TransactGetItemsRequest.class)
+        );
+        final Credentials creds = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(creds).aws();
+        final Table table = Mockito.mock(Table.class);
+        Mockito.doReturn("wräpped").when(table).name();
+        final Frame frame = Mockito.mock(Frame.class);
+        Mockito.doReturn(table).when(frame).table();
+        final Item item = Mockito.mock(Item.class);
+        Mockito.doReturn(frame).when(item).frame();
+        Mockito.doReturn(AttributeValue.builder().s("7").build())
+            .when(item).get("ïd");
+        MatcherAssert.assertThat(
+            "did not read the decorated item",
+            new AwsSnapshot(creds).read(Collections.singletonList(item))
+                .get(0).get("cölor").s(),
+            Matchers.equalTo("grün")
+        );
+    }
+
+    @Test
+    void rejectsTooManyItems() {
+        final Credentials creds = Mockito.mock(Credentials.class);
+        final Collection<Item> items = new ArrayList<>(0);
+        for (int idx = 0; idx <= AwsSnapshot.MAX; ++idx) {
+            items.add(AwsSnapshotTest.item(creds, String.valueOf(idx)));
+        }
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new AwsSnapshot(creds).read(items)
+        );
+    }
+
+    /**
+     * Make an item.
+     * @param creds Credentials
+     * @param key Value of the key
+     * @return Item
+     */
+    private static Item item(final Credentials creds, final String key) {
+        return new AwsItem(
+            creds,
+            Mockito.mock(AwsFrame.class),
+            "snäpshot",
+            new Attributes().with(
+                "ïd", AttributeValue.builder().s(key).build()
+            ),
+            new Array<>("ïd")
+        );
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.jcabi.immutable.Array;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * Test case for {@link AwsTransaction}.
+ * @since 0.23
+ */
+final class AwsTransactionTest {
+
+    @Test
+    void commitsAllOperationsInOneCall() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(TransactWriteItemsResponse.builder().build())
+            .when(aws).transactWriteItems(
+                Mockito.any(TransactWriteItemsRequest.class)
+            );
+        final Credentials creds = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(creds).aws();
+        final Table table = Mockito.mock(Table.class);
+        Mockito.doReturn("tränsact-tbl").when(table).name();
+        final Item item = AwsTransactionTest.item(creds);
+        final Transaction trn = new AwsTransaction(creds)
+            .put(table, new Attributes().with("ïd", "1"))
+            .update(item, new AttributeUpdates().with("stätus", "done"))
+            .delete(item);
+        trn.commit();
+        final ArgumentCaptor<TransactWriteItemsRequest> req =
+            ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        Mockito.verify(aws).transactWriteItems(req.capture());
+        MatcherAssert.assertThat(
+            "did not send all operations",
+            req.getValue().transactItems(),
+            Matchers.hasSize(3)
+        );
+        MatcherAssert.assertThat(
+            "did not send the idempotency token",
+            req.getValue().clientRequestToken(),
+            Matchers.equalTo(trn.token())
+        );
+    }
+
+    @Test
+    void surfacesCancellationReasons() {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doThrow(
+            TransactionCanceledException.builder()
+                .message("canceled")
+                .cancellationReasons(
+                    CancellationReason.builder().code("None").build(),
+                    CancellationReason.builder()
+                        .code("ConditionalCheckFailed").build()
+                )
+                .build()
+        ).when(aws).transactWriteItems(
+            Mockito.any(TransactWriteItemsRequest.class)
+        );
+        final Credentials creds = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(creds).aws();
+        final Item item = AwsTransactionTest.item(creds);
+        final CanceledTransactionException thrown = Assertions.assertThrows(
+            CanceledTransactionException.class,
+            () -> new AwsTransaction(creds)
+                .update(item, new AttributeUpdates().with("näme", "x"))
+                .check(item, new Conditions().with("näme", "y"))
+                .commit()
+        );
+        MatcherAssert.assertThat(
+            "did not surface the reason of the second operation",
+            thrown.code(1),
+            Matchers.equalTo("ConditionalCheckFailed")
+        );
+    }
+
+    @Test
+    void keepsTokenWhenOperationsAdded() {
+        final Credentials creds = Mockito.mock(Credentials.class);
+        final Transaction trn = new AwsTransaction(creds);
+        MatcherAssert.assertThat(
+            "changed the idempotency token",
+            trn.delete(AwsTransactionTest.item(creds)).token(),
+            Matchers.equalTo(trn.token())
+        );
+    }
+
+    @Test
+    void acceptsDecoratedItems() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(
+            DescribeTableResponse.builder().table(
+                TableDescription.builder().keySchema(
+                    KeySchemaElement.builder().attributeName("ïd").build()
+                ).build()
+            ).build()
+        ).when(aws).describeTable(Mockito.any(DescribeTableRequest.class));
+        Mockito.doReturn(TransactWriteItemsResponse.builder().build())
+            .when(aws).transactWriteItems(
+                Mockito.any(TransactWriteItemsRequest.class)
+            );
+        final Credentials creds = Mockito.mock(Credentials.class);
+        Mockito.doReturn(aws).when(creds).aws();
+        final Table table = Mockito.mock(Table.class);
+        Mockito.doReturn("wräpped").when(table).name();
+        final Frame frame = Mockito.mock(Frame.class);
+        Mockito.doReturn(table).when(frame).table();
+        final Item item = Mockito.mock(Item.class);
+        Mockito.doReturn(frame).when(item).frame();
+        final AttributeValue key = AttributeValue.builder().s("böb").build();
+        Mockito.doReturn(key).when(item).get("ïd");
+        new AwsTransaction(creds).delete(item).commit();
+        final ArgumentCaptor<TransactWriteItemsRequest> req =
+            ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        Mockito.verify(aws).transactWriteItems(req.capture());
+        MatcherAssert.assertThat(
+            "did not find the key of the decorated item",
+            req.getValue().transactItems().get(0).delete().key(),
+            Matchers.hasEntry("ïd", key)
+        );
+    }
+
+    /**
+     * Make an item.
+     * @param creds Credentials
+     * @return Item
+     */
+    private static Item item(final Credentials creds) {
+        return new AwsItem(
+            creds,
+            Mockito.mock(AwsFrame.class),
+            "äccounts",
+            new Attributes()
+                .with("ïd", AttributeValue.builder().s("älice").build())
+                .with("näme", AttributeValue.builder().s("Alice").build()),
+            new Array<>("ïd")
+        );
+    }
+}
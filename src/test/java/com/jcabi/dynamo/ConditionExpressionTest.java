@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Test case for {@link ConditionExpression}.
+ * @since 0.23
+ */
+final class ConditionExpressionTest {
+
+    @Test
+    void matchesComparisonsAndFunctions() {
+        MatcherAssert.assertThat(
+            "did not match the item",
+            new ConditionExpression(
+                "#n >= :min AND NOT attribute_exists(löcked)"
+                    + " AND begins_with(nâme, :pfx)",
+                Collections.singletonMap("#n", "cöunt"),
+                ImmutableMap.of(
+                    ":min", AttributeValue.builder().n("5").build(),
+                    ":pfx", AttributeValue.builder().s("Je").build()
+                )
+            ).matches(
+                new Attributes().with("cöunt", 12).with("nâme", "Jeff")
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void respectsPrecedenceOfOperators() {
+        MatcherAssert.assertThat(
+            "did not evaluate AND before OR",
+            new ConditionExpression(
+                "a = :x OR a = :y AND b = :y",
+                Collections.emptyMap(),
+                ImmutableMap.of(
+                    ":x", AttributeValue.builder().s("x").build(),
+                    ":y", AttributeValue.builder().s("y").build()
+                )
+            ).matches(new Attributes().with("a", "x").with("b", "z")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void matchesBetweenAndIn() {
+        MatcherAssert.assertThat(
+            "did not evaluate BETWEEN and IN",
+            new ConditionExpression(
+                "(a BETWEEN :one AND :ten) AND b IN (:one, :two)",
+                Collections.emptyMap(),
+                ImmutableMap.of(
+                    ":one", AttributeValue.builder().n("1").build(),
+                    ":two", AttributeValue.builder().n("2").build(),
+                    ":ten", AttributeValue.builder().n("10").build()
+                )
+            ).matches(new Attributes().with("a", 9).with("b", 2)),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void turnsKeyConditionsIntoConditions() {
+        final AttributeValue from = AttributeValue.builder().n("3").build();
+        final AttributeValue till = AttributeValue.builder().n("7").build();
+        MatcherAssert.assertThat(
+            "did not turn comparisons into conditions",
+            new ConditionExpression(
+                "#h = :h AND stämp BETWEEN :from AND :till",
+                Collections.singletonMap("#h", "höst"),
+                ImmutableMap.of(
+                    ":h", AttributeValue.builder().s("a").build(),
+                    ":from", from, ":till", till
+                )
+            ).conditions(),
+            Matchers.equalTo(
+                new Conditions()
+                    .with("höst", Conditions.equalTo("a"))
+                    .with(
+                        "stämp",
+                        Condition.builder()
+                            .comparisonOperator(ComparisonOperator.BETWEEN)
+                            .attributeValueList(from, till)
+                            .build()
+                    )
+            )
+        );
+    }
+
+    @Test
+    void rejectsKeyConditionsWithOr() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new ConditionExpression(
+                "a = :x OR b = :x", Collections.emptyMap(),
+                Collections.singletonMap(
+                    ":x", AttributeValue.builder().s("x").build()
+                )
+            ).conditions()
+        );
+    }
+
+    @Test
+    void rejectsNestedPaths() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new ConditionExpression(
+                "attribute_exists(a.b)",
+                Collections.emptyMap(), Collections.emptyMap()
+            ).matches(new Attributes())
+        );
+    }
+}
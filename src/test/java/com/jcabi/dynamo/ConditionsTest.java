@@ -10,6 +10,7 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
 
 /**
@@ -244,4 +245,29 @@ final class ConditionsTest {
         );
     }
 
+    @Test
+    void matchesItemNumerically() {
+        MatcherAssert.assertThat(
+            "should compare numbers as numbers, not as strings",
+            new Conditions()
+                .with(
+                    "s\u00e9q",
+                    Condition.builder()
+                        .comparisonOperator(ComparisonOperator.GT)
+                        .attributeValueList(
+                            AttributeValue.builder().n("9").build()
+                        )
+                        .build()
+                )
+                .with(
+                    "\u00e9tat",
+                    Condition.builder()
+                        .comparisonOperator(ComparisonOperator.NULL)
+                        .build()
+                )
+                .matches(new Attributes().with("s\u00e9q", 10L)),
+            Matchers.is(true)
+        );
+    }
+
 }
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Test case for {@link Cursor}.
+ * @since 0.23
+ */
+final class CursorTest {
+
+    @Test
+    void restoresItselfFromToken() {
+        final Cursor cursor = new Cursor(
+            new Attributes()
+                .with("häsh", "téxt")
+                .with("ränge", 42L)
+                .with(
+                    "bïn",
+                    AttributeValue.builder()
+                        .b(SdkBytes.fromByteArray(new byte[] {1, 0, -1}))
+                        .build()
+                )
+        );
+        MatcherAssert.assertThat(
+            "should restore the same key from the token",
+            new Cursor(cursor.token()),
+            Matchers.equalTo(cursor)
+        );
+    }
+
+    @Test
+    void makesEmptyTokenOfEmptyCursor() {
+        MatcherAssert.assertThat(
+            "should turn empty token into empty cursor",
+            new Cursor(Cursor.EMPTY.token()).isEmpty(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void rejectsBrokenToken() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Cursor("nöt-a-töken")
+        );
+    }
+}
@@ -33,6 +33,15 @@ final class DosageTest {
         );
     }
 
+    @Test
+    void hasEmptyCursor() {
+        MatcherAssert.assertThat(
+            "does not return empty cursor of empty dosage",
+            new Dosage.Empty().cursor().isEmpty(),
+            Matchers.is(true)
+        );
+    }
+
     @Test
     void throwsOnNextWhenEmpty() {
         Assertions.assertThrows(
@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeAction;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Test case for {@link Expressions}.
+ * @since 0.23
+ */
+final class ExpressionsTest {
+
+    @Test
+    void translatesAttributeUpdates() {
+        MatcherAssert.assertThat(
+            "did not translate attribute updates",
+            new Expressions().update(
+                new AttributeUpdates()
+                    .with("näme", "Jörg")
+                    .with(
+                        "cöunt",
+                        AttributeValueUpdate.builder()
+                            .value(AttributeValue.builder().n("1").build())
+                            .action(AttributeAction.ADD)
+                            .build()
+                    )
+                    .with(
+                        "öld",
+                        AttributeValueUpdate.builder()
+                            .action(AttributeAction.DELETE)
+                            .build()
+                    )
+            ),
+            Matchers.equalTo("SET #n1 = :v1 ADD #n0 :v0 REMOVE #n2")
+        );
+    }
+
+    @Test
+    void translatesConditions() {
+        final Expressions expr = new Expressions();
+        MatcherAssert.assertThat(
+            "did not translate conditions",
+            expr.condition(
+                new Conditions()
+                    .with("état", Conditions.equalTo("ok"))
+                    .with(
+                        "séq",
+                        Condition.builder()
+                            .comparisonOperator(ComparisonOperator.BETWEEN)
+                            .attributeValueList(
+                                AttributeValue.builder().n("1").build(),
+                                AttributeValue.builder().n("9").build()
+                            )
+                            .build()
+                    )
+            ),
+            Matchers.equalTo("#n0 BETWEEN :v0 AND :v1 AND #n1 = :v2")
+        );
+    }
+
+    @Test
+    void reusesNamePlaceholders() {
+        final Expressions expr = new Expressions();
+        expr.name("über");
+        MatcherAssert.assertThat(
+            "did not reuse placeholder of the same name",
+            expr.name("über"),
+            Matchers.equalTo("#n0")
+        );
+    }
+
+    @Test
+    void returnsNullWithoutValues() {
+        final Expressions expr = new Expressions();
+        expr.exist(Collections.singleton("häsh"));
+        MatcherAssert.assertThat(
+            "returned values without any",
+            expr.values(),
+            Matchers.nullValue()
+        );
+    }
+}
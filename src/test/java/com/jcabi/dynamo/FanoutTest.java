@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Fanout}.
+ * @since 0.23
+ */
+final class FanoutTest {
+
+    @Test
+    void runsActionForEveryItem() throws Exception {
+        final List<Integer> items = new ArrayList<>(0);
+        for (int idx = 0; idx < 500; ++idx) {
+            items.add(idx);
+        }
+        final Collection<Integer> seen = new ConcurrentLinkedQueue<>();
+        new Fanout(16).each(items.iterator(), seen::add);
+        MatcherAssert.assertThat(
+            "did not run action for every item",
+            seen,
+            Matchers.containsInAnyOrder(items.toArray())
+        );
+    }
+
+    @Test
+    void keepsOrderOfResults() throws Exception {
+        MatcherAssert.assertThat(
+            "did not keep order of results",
+            new Fanout(3).map(
+                Arrays.asList("fünf", "vier", "drei", "zwéi"),
+                String::length
+            ),
+            Matchers.contains(4, 4, 4, 4)
+        );
+    }
+
+    @Test
+    void limitsCallsInFlight() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final List<Integer> items = new ArrayList<>(0);
+        for (int idx = 0; idx < 40; ++idx) {
+            items.add(idx);
+        }
+        new Fanout(3).each(
+            items.iterator(),
+            item -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(5L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+                running.decrementAndGet();
+            }
+        );
+        MatcherAssert.assertThat(
+            "ran too many calls at the same time",
+            peak.get(),
+            Matchers.lessThanOrEqualTo(3)
+        );
+    }
+
+    @Test
+    void rethrowsFirstFailure() {
+        final IOException thrown = Assertions.assertThrows(
+            IOException.class,
+            () -> new Fanout(2).each(
+                Arrays.asList("böse", "gut").iterator(),
+                item -> {
+                    if (item.startsWith("b")) {
+                        throw new IOException(item);
+                    }
+                }
+            )
+        );
+        MatcherAssert.assertThat(
+            "did not rethrow the failure",
+            thrown.getMessage(),
+            Matchers.equalTo("böse")
+        );
+    }
+
+    @Test
+    void rejectsNonPositiveConcurrency() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Fanout(0)
+        );
+    }
+
+    @Test
+    void rethrowsErrorsOfActions() {
+        Assertions.assertThrows(
+            AssertionError.class,
+            () -> new Fanout(2).each(
+                Arrays.asList("éins", "zwei").iterator(),
+                item -> {
+                    throw new AssertionError(item);
+                }
+            )
+        );
+    }
+}
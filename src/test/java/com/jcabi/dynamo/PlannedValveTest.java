@@ -0,0 +1,250 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import java.util.ArrayList;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.IndexStatus;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.LocalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+/**
+ * Test case for {@link PlannedValve}.
+ * @since 0.23
+ */
+final class PlannedValveTest {
+
+    @Test
+    void queriesTableByHashKey() throws Exception {
+        MatcherAssert.assertThat(
+            "should query the table by its hash key",
+            new PlannedValve().plan(
+                PlannedValveTest.described("plän-table"), "plän-table",
+                new Conditions().with("id", "5").with("cölor", "red")
+            ).toString(),
+            Matchers.equalTo("query by \"id\" on the table")
+        );
+    }
+
+    @Test
+    void prefersLocalIndexWithRangeCondition() throws Exception {
+        MatcherAssert.assertThat(
+            "should query the local index, which has the range key",
+            new PlannedValve().plan(
+                PlannedValveTest.described("plän-local"), "plän-local",
+                new Conditions().with("id", "5").with(
+                    "size",
+                    Condition.builder()
+                        .comparisonOperator(ComparisonOperator.GT)
+                        .attributeValueList(Conditions.equalTo(1L)
+                            .attributeValueList())
+                        .build()
+                )
+            ).index(),
+            Matchers.equalTo("by-size")
+        );
+    }
+
+    @Test
+    void usesGlobalIndexOnlyWhenProjected() throws Exception {
+        final String table = "plän-global";
+        final Credentials creds = PlannedValveTest.described(table);
+        MatcherAssert.assertThat(
+            "should query the global index",
+            new PlannedValve().plan(
+                creds, table,
+                new Conditions().with("owner", "jeff").with("name", "x")
+            ).index(),
+            Matchers.equalTo("by-owner")
+        );
+        MatcherAssert.assertThat(
+            "should scan, since the attribute is not projected",
+            new PlannedValve().plan(
+                creds, table,
+                new Conditions().with("owner", "jeff").with("cölor", "red")
+            ).isScan(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void scansWithoutDescribingTable() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        MatcherAssert.assertThat(
+            "should scan, since nothing is fixed",
+            new PlannedValve().plan(
+                () -> aws, "plän-scan", new Conditions()
+            ),
+            Matchers.equalTo(Plan.SCAN)
+        );
+        Mockito.verifyNoInteractions(aws);
+    }
+
+    @Test
+    void scansWhenNotAllowedToDescribeTable() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doThrow(
+            DynamoDbException.builder()
+                .message("not authorized to perform: dynamodb:DescribeTable")
+                .statusCode(400)
+                .build()
+        ).when(aws).describeTable(Mockito.any(DescribeTableRequest.class));
+        MatcherAssert.assertThat(
+            "should scan, since the table can't be described",
+            new PlannedValve().plan(
+                () -> aws, "plän-denied", new Conditions().with("id", "1")
+            ),
+            Matchers.equalTo(Plan.SCAN)
+        );
+    }
+
+    @Test
+    void queriesIndexWithFilter() throws Exception {
+        final String table = "plän-fetch";
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        PlannedValveTest.describe(aws, table);
+        Mockito.doReturn(QueryResponse.builder().build())
+            .when(aws).query(Mockito.any(QueryRequest.class));
+        new PlannedValve().fetch(
+            () -> aws, table,
+            new Conditions().with("owner", "jeff").with("name", "x"),
+            new ArrayList<>(0)
+        );
+        final ArgumentCaptor<QueryRequest> captor =
+            ArgumentCaptor.forClass(QueryRequest.class);
+        Mockito.verify(aws).query(captor.capture());
+        final QueryRequest request = captor.getValue();
+        MatcherAssert.assertThat(
+            "should query the index by its key",
+            request.indexName(),
+            Matchers.equalTo("by-owner")
+        );
+        MatcherAssert.assertThat(
+            "should filter by other attributes",
+            request.queryFilter().keySet(),
+            Matchers.contains("name")
+        );
+        MatcherAssert.assertThat(
+            "should not read global index consistently",
+            request.consistentRead(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void startsQueryAfterCursor() throws Exception {
+        final String table = "plän-cursor";
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        PlannedValveTest.describe(aws, table);
+        Mockito.doReturn(QueryResponse.builder().build())
+            .when(aws).query(Mockito.any(QueryRequest.class));
+        final Cursor cursor = new Cursor(
+            new Attributes().with("id", "5").with("time", 7L)
+        );
+        new PlannedValve().withCursor(cursor).fetch(
+            () -> aws, table, new Conditions().with("id", "5"),
+            new ArrayList<>(0)
+        );
+        final ArgumentCaptor<QueryRequest> captor =
+            ArgumentCaptor.forClass(QueryRequest.class);
+        Mockito.verify(aws).query(captor.capture());
+        MatcherAssert.assertThat(
+            "should start right after the cursor",
+            captor.getValue().exclusiveStartKey(),
+            Matchers.equalTo(cursor.key())
+        );
+    }
+
+    /**
+     * Credentials of a client, which describes the table.
+     * @param table Table name
+     * @return Credentials
+     */
+    private static Credentials described(final String table) {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        PlannedValveTest.describe(aws, table);
+        return () -> aws;
+    }
+
+    /**
+     * Make the client describe the table.
+     *
+     * <p>The table has hash key "id" and range key "time", local index
+     * "by-size" with range key "size", and global index "by-owner" with
+     * hash key "owner", which has only "name" projected.
+     *
+     * @param aws The client
+     * @param table Table name
+     */
+    private static void describe(final DynamoDbClient aws,
+        final String table) {
+        Mockito.doReturn(
+            DescribeTableResponse.builder().table(
+                TableDescription.builder()
+                    .tableName(table)
+                    .keySchema(
+                        PlannedValveTest.key("id", KeyType.HASH),
+                        PlannedValveTest.key("time", KeyType.RANGE)
+                    )
+                    .localSecondaryIndexes(
+                        LocalSecondaryIndexDescription.builder()
+                            .indexName("by-size")
+                            .keySchema(
+                                PlannedValveTest.key("id", KeyType.HASH),
+                                PlannedValveTest.key("size", KeyType.RANGE)
+                            )
+                            .build()
+                    )
+                    .globalSecondaryIndexes(
+                        GlobalSecondaryIndexDescription.builder()
+                            .indexName("by-owner")
+                            .indexStatus(IndexStatus.ACTIVE)
+                            .keySchema(
+                                PlannedValveTest.key("owner", KeyType.HASH)
+                            )
+                            .projection(
+                                Projection.builder()
+                                    .projectionType(ProjectionType.INCLUDE)
+                                    .nonKeyAttributes("name")
+                                    .build()
+                            )
+                            .build()
+                    )
+                    .build()
+            ).build()
+        ).when(aws).describeTable(Mockito.any(DescribeTableRequest.class));
+    }
+
+    /**
+     * Make a key schema element.
+     * @param name Attribute name
+     * @param type Key type
+     * @return Key schema element
+     */
+    private static KeySchemaElement key(final String name,
+        final KeyType type) {
+        return KeySchemaElement.builder()
+            .attributeName(name)
+            .keyType(type)
+            .build();
+    }
+}
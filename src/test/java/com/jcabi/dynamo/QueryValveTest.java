@@ -8,10 +8,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -378,4 +380,81 @@ final class QueryValveTest {
         );
     }
 
+    @Test
+    void shrinksPageLimitToRemainingItems() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        final Map<String, AttributeValue> item = Collections.singletonMap(
+            "k\u00e9y", AttributeValue.builder().s("v").build()
+        );
+        Mockito.doReturn(
+            QueryResponse.builder()
+                .items(Collections.nCopies(2, item))
+                .count(2)
+                .lastEvaluatedKey(item)
+                .build(),
+            QueryResponse.builder()
+                .items(Collections.singletonList(item))
+                .count(1)
+                .lastEvaluatedKey(item)
+                .build()
+        ).when(aws).query(Mockito.any(QueryRequest.class));
+        final Dosage first = new QueryValve().withLimit(10).fetch(
+            () -> aws, "b\u00f6unded", new Conditions(),
+            new ArrayList<>(0), 3
+        );
+        final Dosage last = first.next();
+        final ArgumentCaptor<QueryRequest> captor =
+            ArgumentCaptor.forClass(QueryRequest.class);
+        Mockito.verify(aws, Mockito.times(2)).query(captor.capture());
+        MatcherAssert.assertThat(
+            "should ask for the remaining items only",
+            captor.getAllValues().stream()
+                .map(QueryRequest::limit)
+                .collect(Collectors.toList()),
+            Matchers.contains(3, 1)
+        );
+        MatcherAssert.assertThat(
+            "should not fetch beyond the limit",
+            last.hasNext(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void resumesFromCursor() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        final Map<String, AttributeValue> last = Collections.singletonMap(
+            "h\u00e4sh", AttributeValue.builder().s("n\u00e9xt").build()
+        );
+        Mockito.doReturn(
+            QueryResponse.builder()
+                .items(Collections.singletonList(last))
+                .lastEvaluatedKey(last)
+                .build()
+        ).when(aws).query(Mockito.any(QueryRequest.class));
+        final Cursor cursor = new Cursor(
+            Collections.singletonMap(
+                "h\u00e4sh", AttributeValue.builder().s("st\u00e4rt").build()
+            )
+        );
+        final Dosage page = new QueryValve()
+            .withCursor(new Cursor(cursor.token()))
+            .fetch(
+                () -> aws, "c\u00fcrsor", new Conditions(),
+                new ArrayList<>(0)
+            );
+        final ArgumentCaptor<QueryRequest> captor =
+            ArgumentCaptor.forClass(QueryRequest.class);
+        Mockito.verify(aws).query(captor.capture());
+        MatcherAssert.assertThat(
+            "should start right after the cursor",
+            captor.getValue().exclusiveStartKey(),
+            Matchers.equalTo(cursor.key())
+        );
+        MatcherAssert.assertThat(
+            "should point to the next page",
+            page.cursor(),
+            Matchers.equalTo(new Cursor(last))
+        );
+    }
 }
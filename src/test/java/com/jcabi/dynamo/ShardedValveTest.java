@@ -0,0 +1,213 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+/**
+ * Test case for {@link ShardedValve}.
+ * @since 0.23
+ */
+final class ShardedValveTest {
+
+    /**
+     * Name of the hash key.
+     */
+    private static final String HASH = "häsh";
+
+    /**
+     * Name of the range key.
+     */
+    private static final String RANGE = "ränge";
+
+    @Test
+    void mergesShardsPageByPage() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doAnswer(
+            inv -> {
+                final QueryRequest req = inv.getArgument(0);
+                final String shard = req.keyConditions()
+                    .get(ShardedValveTest.HASH).attributeValueList()
+                    .get(0).s();
+                final QueryResponse rsp;
+                if ("s-1".equals(shard)) {
+                    rsp = ShardedValveTest.page(false, 2, 3, 5);
+                } else if (req.exclusiveStartKey().isEmpty()) {
+                    rsp = ShardedValveTest.page(true, 1, 4);
+                } else {
+                    rsp = ShardedValveTest.page(false, 6);
+                }
+                return rsp;
+            }
+        ).when(aws).query(Mockito.any(QueryRequest.class));
+        MatcherAssert.assertThat(
+            "should merge shards in ascending order",
+            ShardedValveTest.ranges(
+                new ShardedValve(
+                    new QueryValve(),
+                    ShardedValveTest.HASH, ShardedValveTest.RANGE,
+                    "s-0", "s-1"
+                ).fetch(
+                    () -> aws, "shärds", new Conditions(),
+                    Collections.singletonList(ShardedValveTest.HASH)
+                )
+            ),
+            Matchers.contains(1, 2, 3, 4, 5, 6)
+        );
+        Mockito.verify(aws, Mockito.times(3))
+            .query(Mockito.any(QueryRequest.class));
+    }
+
+    @Test
+    void mergesInReverseOrder() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doAnswer(
+            inv -> {
+                final QueryRequest req = inv.getArgument(0);
+                final QueryResponse rsp;
+                if ("s-0".equals(
+                    req.keyConditions().get(ShardedValveTest.HASH)
+                        .attributeValueList().get(0).s()
+                )) {
+                    rsp = ShardedValveTest.page(false, 9, 3);
+                } else {
+                    rsp = ShardedValveTest.page(false, 7, 5);
+                }
+                return rsp;
+            }
+        ).when(aws).query(Mockito.any(QueryRequest.class));
+        MatcherAssert.assertThat(
+            "should merge shards in descending order",
+            ShardedValveTest.ranges(
+                new ShardedValve(
+                    new QueryValve().withScanIndexForward(false),
+                    ShardedValveTest.HASH, ShardedValveTest.RANGE,
+                    Arrays.asList("s-0", "s-1")
+                ).fetch(
+                    () -> aws, "réverse", new Conditions(),
+                    Collections.singletonList(ShardedValveTest.HASH)
+                )
+            ),
+            Matchers.contains(9, 7, 5, 3)
+        );
+    }
+
+    @Test
+    void splitsLimitAmongShards() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(ShardedValveTest.page(false, 1))
+            .when(aws).query(Mockito.any(QueryRequest.class));
+        final Dosage merged = new ShardedValve(
+            new QueryValve(),
+            ShardedValveTest.HASH, ShardedValveTest.RANGE,
+            "s-0", "s-1", "s-2", "s-3"
+        ).fetch(
+            () -> aws, "lïmit", new Conditions(),
+            Collections.singletonList(ShardedValveTest.HASH), 6
+        );
+        final ArgumentCaptor<QueryRequest> captor =
+            ArgumentCaptor.forClass(QueryRequest.class);
+        Mockito.verify(aws, Mockito.times(4)).query(captor.capture());
+        MatcherAssert.assertThat(
+            "should read no more than a share of the limit in every shard",
+            captor.getAllValues().stream()
+                .map(QueryRequest::limit)
+                .collect(Collectors.toList()),
+            Matchers.everyItem(Matchers.equalTo(2))
+        );
+        MatcherAssert.assertThat(
+            "should have an empty cursor after the last page",
+            merged.cursor().isEmpty(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void hasNoCursorInTheMiddle() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(ShardedValveTest.page(true, 1))
+            .when(aws).query(Mockito.any(QueryRequest.class));
+        final Dosage merged = new ShardedValve(
+            new QueryValve(),
+            ShardedValveTest.HASH, ShardedValveTest.RANGE, "s-0", "s-1"
+        ).fetch(
+            () -> aws, "mïddle", new Conditions(),
+            Collections.singletonList(ShardedValveTest.HASH)
+        );
+        Assertions.assertThrows(IllegalStateException.class, merged::cursor);
+    }
+
+    @Test
+    void rejectsQueryWithCursor() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new ShardedValve(
+                new QueryValve().withCursor(
+                    new Cursor(new Attributes().with("id", "x"))
+                ),
+                ShardedValveTest.HASH, ShardedValveTest.RANGE, "s-0", "s-1"
+            )
+        );
+    }
+
+    /**
+     * Make a page of items.
+     * @param more Has next page
+     * @param ranges Range keys of items
+     * @return Response
+     */
+    private static QueryResponse page(final boolean more,
+        final Integer... ranges) {
+        final List<Map<String, AttributeValue>> items = Arrays.stream(ranges)
+            .<Map<String, AttributeValue>>map(
+                rng -> new Attributes()
+                    .with(ShardedValveTest.RANGE, rng)
+                    .with(ShardedValveTest.HASH, "any")
+            )
+            .collect(Collectors.toList());
+        final QueryResponse.Builder rsp = QueryResponse.builder().items(items);
+        if (more) {
+            rsp.lastEvaluatedKey(items.get(items.size() - 1));
+        }
+        return rsp.build();
+    }
+
+    /**
+     * Range keys of all items in all dosages.
+     * @param first First dosage
+     * @return Range keys
+     */
+    private static List<Integer> ranges(final Dosage first) {
+        final List<Integer> ranges = new ArrayList<>(0);
+        Dosage dosage = first;
+        while (true) {
+            for (final Map<String, AttributeValue> item : dosage.items()) {
+                ranges.add(
+                    Integer.valueOf(item.get(ShardedValveTest.RANGE).n())
+                );
+            }
+            if (!dosage.hasNext()) {
+                break;
+            }
+            dosage = dosage.next();
+        }
+        return ranges;
+    }
+}
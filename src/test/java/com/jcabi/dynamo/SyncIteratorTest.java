@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link SyncIterator}.
+ * @since 0.23
+ */
+final class SyncIteratorTest {
+
+    @Test
+    void delegatesNextToOrigin() {
+        MatcherAssert.assertThat(
+            "does not delegate next to origin iterator",
+            new SyncIterator<>(
+                Arrays.asList("été", "hiver").iterator()
+            ).next(),
+            Matchers.equalTo("été")
+        );
+    }
+
+    @Test
+    void delegatesRemoveToOrigin() {
+        final List<String> items = new ArrayList<>(
+            Collections.singletonList("öde")
+        );
+        final Iterator<String> iter = new SyncIterator<>(items.iterator());
+        iter.next();
+        iter.remove();
+        MatcherAssert.assertThat(
+            "does not delegate remove to origin iterator",
+            items,
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void sharesItemsBetweenThreads() throws Exception {
+        final int total = 1000;
+        final List<Integer> items = new ArrayList<>(total);
+        for (int idx = 0; idx < total; ++idx) {
+            items.add(idx);
+        }
+        final Iterator<Integer> iter = new SyncIterator<>(items.iterator());
+        final Collection<Integer> seen = new ConcurrentLinkedQueue<>();
+        final ExecutorService svc = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; ++thread) {
+            svc.submit(
+                () -> {
+                    while (true) {
+                        try {
+                            seen.add(iter.next());
+                        } catch (final NoSuchElementException ex) {
+                            break;
+                        }
+                    }
+                }
+            );
+        }
+        svc.shutdown();
+        svc.awaitTermination(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            "did not deliver every item exactly once",
+            seen,
+            Matchers.containsInAnyOrder(items.toArray())
+        );
+    }
+}
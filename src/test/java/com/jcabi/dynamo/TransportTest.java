@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Test case for {@link Transport}.
+ * @since 0.23
+ */
+final class TransportTest {
+
+    @Test
+    void setsAttemptTimeoutOfClient() {
+        final DynamoDbClient aws = new Credentials.Simple(
+            "ABABABABABABABABABAB",
+            "ABCDEABCDEABCDEABCDEABCDEABCDEABCDEABCDE",
+            "eu-west-1",
+            new Transport()
+                .withMaxConnections(8)
+                .withTcpKeepAlive(true)
+                .withAttemptTimeout(150L, TimeUnit.MILLISECONDS)
+        ).aws();
+        MatcherAssert.assertThat(
+            "should configure timeout of an attempt",
+            aws.serviceClientConfiguration().overrideConfiguration()
+                .apiCallAttemptTimeout().orElse(Duration.ZERO),
+            Matchers.equalTo(Duration.ofMillis(150L))
+        );
+        aws.close();
+    }
+
+    @Test
+    void buildsClientsThroughPluggedHttp() {
+        final Transport transport = new Transport(
+            trans -> Transport.APACHE.client(trans)
+        ).withSocketTimeout(1L, TimeUnit.SECONDS);
+        final DynamoDbClient first = new Credentials.Assumed(
+            "us-east-1", transport
+        ).aws();
+        first.close();
+        final DynamoDbClient second = new Credentials.Direct(
+            new Credentials.Simple(
+                "ABABABABABABABABABAB",
+                "ABCDEABCDEABCDEABCDEABCDEABCDEABCDEABCDE",
+                "us-east-1",
+                transport
+            ),
+            8000
+        ).aws();
+        MatcherAssert.assertThat(
+            "should build client after the first one was closed",
+            second,
+            Matchers.notNullValue()
+        );
+        second.close();
+    }
+
+    @Test
+    void sharesHttpClientRegardlessOfCallTimeouts() {
+        final AtomicInteger made = new AtomicInteger();
+        final Transport transport = new Transport(
+            trans -> {
+                made.incrementAndGet();
+                return Transport.APACHE.client(trans);
+            }
+        );
+        final Transport timed = transport
+            .withCallTimeout(1L, TimeUnit.SECONDS)
+            .withAttemptTimeout(100L, TimeUnit.MILLISECONDS);
+        TransportTest.client(transport).close();
+        TransportTest.client(timed).close();
+        MatcherAssert.assertThat(
+            "should share one HTTP client",
+            made.get(),
+            Matchers.equalTo(1)
+        );
+        timed.close();
+        TransportTest.client(transport).close();
+        transport.close();
+        MatcherAssert.assertThat(
+            "should make a new HTTP client after close",
+            made.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void comparesBySettings() {
+        MatcherAssert.assertThat(
+            "should be equal with the same settings",
+            new Transport().withConnectionTtl(1L, TimeUnit.MINUTES),
+            Matchers.equalTo(
+                new Transport().withConnectionTtl(60L, TimeUnit.SECONDS)
+            )
+        );
+    }
+
+    @Test
+    void rejectsNegativeTimeout() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Transport().withCallTimeout(-1L, TimeUnit.SECONDS)
+        );
+    }
+
+    /**
+     * Make a DynamoDB client through this transport.
+     * @param transport The transport
+     * @return Client
+     */
+    private static DynamoDbClient client(final Transport transport) {
+        return new Credentials.Simple(
+            "ABABABABABABABABABAB",
+            "ABCDEABCDEABCDEABCDEABCDEABCDEABCDEABCDE",
+            "eu-west-1",
+            transport
+        ).aws();
+    }
+}
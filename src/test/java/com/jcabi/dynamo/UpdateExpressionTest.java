@@ -0,0 +1,205 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo;
+
+import java.util.Collections;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+/**
+ * Test case for {@link UpdateExpression}.
+ * @since 0.23
+ */
+final class UpdateExpressionTest {
+
+    @Test
+    void rendersUpdateExpression() {
+        MatcherAssert.assertThat(
+            "did not render update expression",
+            new UpdateExpression()
+                .add("cöunt", 1L)
+                .setIfAbsent(
+                    "dáte", AttributeValue.builder().s("2024").build()
+                )
+                .append(
+                    "lög",
+                    AttributeValue.builder().l(
+                        AttributeValue.builder().s("x").build()
+                    ).build()
+                )
+                .remove("öld")
+                .request("täble", UpdateExpressionTest.key())
+                .updateExpression(),
+            Matchers.equalTo(
+                String.join(
+                    " ",
+                    "SET #n1 = if_not_exists(#n1, :v1),",
+                    "#n2 = list_append(if_not_exists(#n2, :v2), :v3)",
+                    "ADD #n0 :v0 REMOVE #n3"
+                )
+            )
+        );
+    }
+
+    @Test
+    void combinesConditions() {
+        MatcherAssert.assertThat(
+            "did not combine conditions",
+            new UpdateExpression()
+                .set("stätus", AttributeValue.builder().s("done").build())
+                .where("stätus", Conditions.equalTo("new"))
+                .where(
+                    "#o = :owner",
+                    Collections.singletonMap("#o", "öwner"),
+                    Collections.singletonMap(
+                        ":owner", AttributeValue.builder().s("jeff").build()
+                    )
+                )
+                .request("täble", UpdateExpressionTest.key())
+                .conditionExpression(),
+            Matchers.equalTo(
+                "attribute_exists(#n1) AND #n0 = :v1 AND (#o = :owner)"
+            )
+        );
+    }
+
+    @Test
+    void returnsNothingWhenAsked() {
+        final UpdateItemRequest req = new UpdateExpression()
+            .add("hïts", 1L)
+            .returning(ReturnValue.NONE)
+            .request("täble", UpdateExpressionTest.key());
+        MatcherAssert.assertThat(
+            "did not ask for no return values",
+            req.returnValues(),
+            Matchers.equalTo(ReturnValue.NONE)
+        );
+    }
+
+    @Test
+    void rejectsReservedPlaceholders() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new UpdateExpression().where(
+                "#n0 = :x",
+                Collections.singletonMap("#n0", "a"),
+                Collections.emptyMap()
+            )
+        );
+    }
+
+    @Test
+    void appliesActionsLocally() {
+        final Map<String, AttributeValue> after = new UpdateExpression()
+            .add("hïts", 5L)
+            .setIfAbsent("nâme", AttributeValue.builder().s("new").build())
+            .remove("göne")
+            .apply(
+                new Attributes()
+                    .with("hïts", AttributeValue.builder().n("2").build())
+                    .with("nâme", "old")
+                    .with("göne", "x")
+            );
+        MatcherAssert.assertThat(
+            "did not apply actions locally",
+            after,
+            Matchers.allOf(
+                Matchers.hasEntry(
+                    "hïts", AttributeValue.builder().n("7").build()
+                ),
+                Matchers.hasEntry(
+                    "nâme", AttributeValue.builder().s("old").build()
+                ),
+                Matchers.not(Matchers.hasKey("göne"))
+            )
+        );
+    }
+
+    @Test
+    void evaluatesConditionExpressionLocally() {
+        final UpdateExpression expr = new UpdateExpression()
+            .add("hïts", 1L)
+            .where(
+                "#s = :open",
+                Collections.singletonMap("#s", "stätus"),
+                Collections.singletonMap(
+                    ":open", AttributeValue.builder().s("öpen").build()
+                )
+            );
+        MatcherAssert.assertThat(
+            "did not evaluate the condition expression",
+            expr.accepts(new Attributes().with("stätus", "clösed")),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Primary key of an item.
+     * @return Key
+     */
+    private static Attributes key() {
+        return new Attributes().with("ïd", "1");
+    }
+
+    @Test
+    void rejectsAddingNumberToString() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new UpdateExpression().add("cöunt", 1L).apply(
+                Collections.singletonMap(
+                    "cöunt", AttributeValue.builder().s("one").build()
+                )
+            )
+        );
+    }
+
+    @Test
+    void rejectsDeletingFromSetOfOtherType() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new UpdateExpression().delete(
+                "tägs", AttributeValue.builder().ns("1").build()
+            ).apply(
+                Collections.singletonMap(
+                    "tägs", AttributeValue.builder().ss("a", "b").build()
+                )
+            )
+        );
+    }
+
+    @Test
+    void deletesElementsFromBinarySet() {
+        final SdkBytes first = SdkBytes.fromUtf8String("fïrst");
+        final SdkBytes second = SdkBytes.fromUtf8String("sécond");
+        MatcherAssert.assertThat(
+            "did not delete elements from binary set",
+            new UpdateExpression().delete(
+                "blöbs", AttributeValue.builder().bs(first).build()
+            ).apply(
+                Collections.singletonMap(
+                    "blöbs", AttributeValue.builder().bs(first, second).build()
+                )
+            ).get("blöbs").bs(),
+            Matchers.contains(second)
+        );
+    }
+
+    @Test
+    void rejectsExpressionWithoutActions() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new UpdateExpression().request(
+                "tåble", new Attributes().with("id", "1")
+            )
+        );
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.buffer;
+
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.mock.H2Data;
+import com.jcabi.dynamo.mock.MkRegion;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeAction;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+
+/**
+ * Test case for {@link Coalescer}.
+ * @since 0.23
+ */
+final class CoalescerTest {
+
+    @Test
+    void sumsUpConsecutiveAdditions() throws Exception {
+        final Table table = CoalescerTest.table("sums");
+        try (Coalescer buffer = new Coalescer(1L, TimeUnit.HOURS, "id")) {
+            final Item item = buffer.item(
+                table.put(new Attributes().with("id", "a").with("hits", 0))
+            );
+            for (int idx = 0; idx < 5; ++idx) {
+                item.put("hits", CoalescerTest.update(AttributeAction.ADD, 2));
+            }
+            MatcherAssert.assertThat(
+                "should keep one item in the buffer",
+                buffer.size(),
+                Matchers.equalTo(1)
+            );
+            buffer.flush();
+            MatcherAssert.assertThat(
+                "should send the sum of all additions",
+                table.frame().where("id", "a").iterator().next()
+                    .get("hits").n(),
+                Matchers.equalTo("10")
+            );
+        }
+    }
+
+    @Test
+    void keepsLastPutOfAttribute() throws Exception {
+        final Table table = CoalescerTest.table("puts");
+        try (Coalescer buffer = new Coalescer(1L, TimeUnit.HOURS, "id")) {
+            final Item item = buffer.item(
+                table.put(new Attributes().with("id", "b").with("hits", 0))
+            );
+            item.put("hits", CoalescerTest.update(AttributeAction.ADD, 1));
+            item.put("hits", CoalescerTest.update(AttributeAction.PUT, 7));
+            item.put("hits", CoalescerTest.update(AttributeAction.ADD, 1));
+            buffer.flush();
+            MatcherAssert.assertThat(
+                "should add to the last put value",
+                table.frame().where("id", "b").iterator().next()
+                    .get("hits").n(),
+                Matchers.equalTo("8")
+            );
+        }
+    }
+
+    @Test
+    void coalescesSameKeyAcrossItems() throws Exception {
+        final Table table = CoalescerTest.table("keys");
+        table.put(new Attributes().with("id", "c").with("hits", 0));
+        table.put(new Attributes().with("id", "d").with("hits", 0));
+        try (Coalescer buffer = new Coalescer(1L, TimeUnit.HOURS, "id")) {
+            for (int idx = 0; idx < 3; ++idx) {
+                for (final Item item : table.frame()) {
+                    buffer.item(item).put(
+                        "hits", CoalescerTest.update(AttributeAction.ADD, 1)
+                    );
+                }
+            }
+            MatcherAssert.assertThat(
+                "should buffer one entry per primary key",
+                buffer.size(),
+                Matchers.equalTo(2)
+            );
+        }
+    }
+
+    @Test
+    void flushesOnClose() throws Exception {
+        final Table table = CoalescerTest.table("close");
+        final Coalescer buffer = new Coalescer(1L, TimeUnit.HOURS, "id");
+        buffer.item(
+            table.put(new Attributes().with("id", "e").with("hits", 0))
+        ).put("hits", CoalescerTest.update(AttributeAction.PUT, 3));
+        buffer.close();
+        MatcherAssert.assertThat(
+            "should flush on close",
+            table.frame().where("id", "e").iterator().next().get("hits").n(),
+            Matchers.equalTo("3")
+        );
+    }
+
+    @Test
+    void rejectsUpdatesAfterClose() throws Exception {
+        final Table table = CoalescerTest.table("closed");
+        final Coalescer buffer = new Coalescer(1L, TimeUnit.HOURS, "id");
+        buffer.close();
+        final Item item = buffer.item(
+            table.put(new Attributes().with("id", "f").with("hits", 0))
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> item.put("hits", CoalescerTest.update(AttributeAction.ADD, 1))
+        );
+    }
+
+    /**
+     * Make an update.
+     * @param action Action
+     * @param value Numeric value
+     * @return Update
+     */
+    private static AttributeValueUpdate update(final AttributeAction action,
+        final int value) {
+        return AttributeValueUpdate.builder()
+            .action(action)
+            .value(AttributeValue.builder().n(Integer.toString(value)).build())
+            .build();
+    }
+
+    /**
+     * Make a table.
+     * @param name Table name
+     * @return Table
+     * @throws Exception If fails
+     */
+    private static Table table(final String name) throws Exception {
+        return new MkRegion(
+            new H2Data().with(name, new String[]{"id"}, "hits")
+        ).table(name);
+    }
+}
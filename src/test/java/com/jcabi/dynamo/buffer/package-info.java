@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Write-behind buffering of frequent item updates, tests.
+ *
+ * @since 0.23
+ */
+package com.jcabi.dynamo.buffer;
@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.deadline;
+
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Conditions;
+import com.jcabi.dynamo.Credentials;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Valve;
+import com.jcabi.dynamo.mock.H2Data;
+import com.jcabi.dynamo.mock.MkRegion;
+import com.jcabi.dynamo.retry.ReValve;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+/**
+ * Test case for {@link Deadline}.
+ * @since 0.23
+ */
+final class DeadlineTest {
+
+    @Test
+    void capsRequestWithRemainingTime() {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(GetItemResponse.builder().build())
+            .when(aws).getItem(Mockito.any(GetItemRequest.class));
+        final Credentials creds = () -> aws;
+        new Deadline(10L, TimeUnit.SECONDS).credentials(creds).aws().getItem(
+            GetItemRequest.builder().tableName("täble").build()
+        );
+        final ArgumentCaptor<GetItemRequest> captor =
+            ArgumentCaptor.forClass(GetItemRequest.class);
+        Mockito.verify(aws).getItem(captor.capture());
+        final Duration timeout = captor.getValue().overrideConfiguration()
+            .flatMap(cfg -> cfg.apiCallTimeout())
+            .orElse(Duration.ZERO);
+        MatcherAssert.assertThat(
+            "should set the API call timeout from the remaining time",
+            timeout,
+            Matchers.allOf(
+                Matchers.greaterThan(Duration.ZERO),
+                Matchers.lessThanOrEqualTo(Duration.ofSeconds(10L))
+            )
+        );
+    }
+
+    @Test
+    void doesNotRetryAfterDeadline() throws Exception {
+        final Valve valve = Mockito.mock(Valve.class);
+        final long start = System.currentTimeMillis();
+        Assertions.assertThrows(
+            DeadlineExceededException.class,
+            () -> new ReValve(
+                new Deadline(0L, TimeUnit.SECONDS).valve(valve)
+            ).fetch(
+                Credentials.TEST, "täble", new Conditions(),
+                Collections.singleton("kéy")
+            )
+        );
+        Mockito.verifyNoInteractions(valve);
+        MatcherAssert.assertThat(
+            "should fail fast, without retries",
+            System.currentTimeMillis() - start,
+            Matchers.lessThan(2_000L)
+        );
+    }
+
+    @Test
+    void stopsIterationAfterDeadline() throws Exception {
+        final String name = "déadline";
+        final Table table = new MkRegion(
+            new H2Data().with(name, new String[]{"id"}, "val")
+        ).table(name);
+        table.put(new Attributes().with("id", "a").with("val", "x"));
+        Assertions.assertThrows(
+            DeadlineExceededException.class,
+            () -> new Deadline(0L, TimeUnit.SECONDS).table(table).frame()
+                .iterator().hasNext()
+        );
+    }
+
+    @Test
+    void iteratesWithinDeadline() throws Exception {
+        final String name = "wïthin";
+        final Table table = new MkRegion(
+            new H2Data().with(name, new String[]{"id"}, "val")
+        ).table(name);
+        table.put(new Attributes().with("id", "b").with("val", "y"));
+        MatcherAssert.assertThat(
+            "should iterate while there is time",
+            new Deadline(1L, TimeUnit.MINUTES).frame(table.frame())
+                .where("id", "b"),
+            Matchers.iterableWithSize(1)
+        );
+    }
+
+    @Test
+    void capsRequestsOfDefaultValve() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(ScanResponse.builder().build())
+            .when(aws).scan(Mockito.any(ScanRequest.class));
+        Mockito.doReturn(
+            DescribeTableResponse.builder().table(
+                TableDescription.builder().tableName("défault").build()
+            ).build()
+        ).when(aws).describeTable(Mockito.any(DescribeTableRequest.class));
+        final Credentials creds = () -> aws;
+        new Deadline(1L, TimeUnit.MINUTES).frame(
+            new Region.Simple(creds).table("défault").frame()
+        ).iterator().hasNext();
+        final ArgumentCaptor<ScanRequest> captor =
+            ArgumentCaptor.forClass(ScanRequest.class);
+        Mockito.verify(aws).scan(captor.capture());
+        MatcherAssert.assertThat(
+            "should set the API call timeout of the default valve",
+            captor.getValue().overrideConfiguration()
+                .flatMap(cfg -> cfg.apiCallTimeout()),
+            Matchers.not(Matchers.equalTo(Optional.empty()))
+        );
+    }
+
+    @Test
+    void keepsDeadlineInRegionOfTable() throws Exception {
+        final String name = "région";
+        final Table table = new MkRegion(
+            new H2Data().with(name, new String[]{"id"}, "val")
+        ).table(name);
+        Assertions.assertThrows(
+            DeadlineExceededException.class,
+            () -> new Deadline(0L, TimeUnit.SECONDS).table(table).region()
+                .table(name).put(new Attributes().with("id", "c"))
+        );
+    }
+}
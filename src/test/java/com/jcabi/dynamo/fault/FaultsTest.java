@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.fault;
+
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Credentials;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.PlannedValve;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.mock.MemData;
+import com.jcabi.dynamo.mock.MkRegion;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Test case for {@link Faults}.
+ * @since 0.23
+ */
+final class FaultsTest {
+
+    @Test
+    void throttlesPutsOfOneTable() throws Exception {
+        final String name = "orders";
+        final String key = "oid";
+        final Faults faults = new Faults(
+            new Fault("PutItem", name).withThrottling(1.0d)
+        );
+        final Table table = faults.region(
+            new MkRegion(new MemData().with(name, new String[] {key}))
+        ).table(name);
+        Assertions.assertThrows(
+            ProvisionedThroughputExceededException.class,
+            () -> table.put(new Attributes().with(key, "o-1"))
+        );
+        MatcherAssert.assertThat(
+            "should count the throttled request",
+            faults.throttled(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void injectsLatencyBeforeEveryPageOfFrame() throws Exception {
+        final String name = "events";
+        final String key = "eid";
+        final Region region = new MkRegion(
+            new MemData().with(name, new String[] {key})
+        );
+        for (int idx = 0; idx < 5; ++idx) {
+            region.table(name).put(new Attributes().with(key, idx));
+        }
+        final Table table = new Faults(
+            new Fault("Scan", name)
+                .withLatency(new Latency.Fixed(20L, TimeUnit.MILLISECONDS))
+                .withTruncation(2)
+        ).region(region).table(name);
+        final long start = System.nanoTime();
+        MatcherAssert.assertThat(
+            "should read all items",
+            table.frame(),
+            Matchers.iterableWithSize(5)
+        );
+        MatcherAssert.assertThat(
+            "should wait before each of three pages",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+            Matchers.greaterThanOrEqualTo(60L)
+        );
+    }
+
+    @Test
+    void readsPlannedFrameAsQueryOrScan() {
+        final String name = "visits";
+        final String key = "vid";
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(
+            DescribeTableResponse.builder().table(
+                TableDescription.builder().tableName(name).keySchema(
+                    KeySchemaElement.builder()
+                        .attributeName(key)
+                        .keyType(KeyType.HASH)
+                        .build()
+                ).build()
+            ).build()
+        ).when(aws).describeTable(Mockito.any(DescribeTableRequest.class));
+        Mockito.doReturn(ScanResponse.builder().build())
+            .when(aws).scan(Mockito.any(ScanRequest.class));
+        final Credentials creds = () -> aws;
+        final Frame frame = new Faults(
+            new Fault("Query", name).withThrottling(1.0d)
+        ).region(new Region.Simple(creds)).table(name).frame();
+        Assertions.assertThrows(
+            ProvisionedThroughputExceededException.class,
+            () -> frame.where(key, "v-1").through(new PlannedValve()).size(),
+            "should read by the hash key as a query"
+        );
+        MatcherAssert.assertThat(
+            "should read without the hash key as a scan",
+            frame.where("day", "monday").through(new PlannedValve())
+                .wrap(valve -> valve).isEmpty(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void truncatesPagesOfQueries() {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(QueryResponse.builder().build())
+            .when(aws).query(Mockito.any(QueryRequest.class));
+        final Credentials creds = () -> aws;
+        new Faults(new Fault("Query", Fault.ANY).withTruncation(3))
+            .credentials(creds).aws()
+            .query(QueryRequest.builder().tableName("t").limit(100).build());
+        final ArgumentCaptor<QueryRequest> captor =
+            ArgumentCaptor.forClass(QueryRequest.class);
+        Mockito.verify(aws).query(captor.capture());
+        MatcherAssert.assertThat(
+            "should ask for fewer items in a page",
+            captor.getValue().limit(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    @Test
+    void leavesItemsOfBatchUnprocessed() {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        final Credentials creds = () -> aws;
+        final String name = "carts";
+        final BatchWriteItemResponse rsp = new Faults(
+            new Fault("BatchWriteItem", name).withUnprocessed(1.0d)
+        ).credentials(creds).aws().batchWriteItem(
+            BatchWriteItemRequest.builder()
+                .requestItems(
+                    Collections.singletonMap(
+                        name,
+                        Collections.singletonList(
+                            WriteRequest.builder().putRequest(
+                                PutRequest.builder()
+                                    .item(new Attributes().with("cart", "c"))
+                                    .build()
+                            ).build()
+                        )
+                    )
+                )
+                .build()
+        );
+        Mockito.verifyNoInteractions(aws);
+        MatcherAssert.assertThat(
+            "should return the item as unprocessed, without sending it",
+            rsp.unprocessedItems().get(name),
+            Matchers.hasSize(1)
+        );
+    }
+}
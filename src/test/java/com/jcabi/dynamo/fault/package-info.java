@@ -0,0 +1,12 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Injection of latencies and failures, for load and resilience tests,
+ * tests.
+ *
+ * @since 0.23
+ */
+package com.jcabi.dynamo.fault;
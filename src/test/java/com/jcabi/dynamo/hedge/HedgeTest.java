@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.hedge;
+
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Item;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link Hedge}.
+ * @since 0.23
+ */
+final class HedgeTest {
+
+    @Test
+    void takesFasterOfTwoReads() throws Exception {
+        final Hedge hedge = HedgeTest.warm(
+            new Hedge(90.0d, 1.0d, 1L, TimeUnit.MILLISECONDS)
+        );
+        final AtomicInteger attempts = new AtomicInteger();
+        final long start = System.currentTimeMillis();
+        MatcherAssert.assertThat(
+            "should return the result of the hedge",
+            hedge.read(
+                () -> {
+                    if (attempts.getAndIncrement() == 0) {
+                        HedgeTest.sleep(10_000L);
+                        return "slow";
+                    }
+                    return "fast";
+                }
+            ),
+            Matchers.equalTo("fast")
+        );
+        MatcherAssert.assertThat(
+            "should not wait for the slow read",
+            System.currentTimeMillis() - start,
+            Matchers.lessThan(5_000L)
+        );
+    }
+
+    @Test
+    void doesNotHedgeBeyondShare() throws Exception {
+        final Hedge hedge = HedgeTest.warm(
+            new Hedge(50.0d, 0.0d, 1L, TimeUnit.MILLISECONDS)
+        );
+        final AtomicInteger attempts = new AtomicInteger();
+        hedge.read(
+            () -> {
+                attempts.incrementAndGet();
+                HedgeTest.sleep(100L);
+                return attempts.get();
+            }
+        );
+        MatcherAssert.assertThat(
+            "should not send a hedge when the share is zero",
+            attempts.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void doesNotReadLoadedAttributes() throws Exception {
+        final Item origin = Mockito.mock(Item.class);
+        Mockito.doReturn(new Attributes().with("name", "Jeff"))
+            .when(origin).loaded();
+        final Item item = new Hedge().item(origin);
+        MatcherAssert.assertThat(
+            "should return the loaded attribute",
+            item.get("name").s(),
+            Matchers.equalTo("Jeff")
+        );
+        MatcherAssert.assertThat(
+            "should know about the loaded attribute",
+            item.has("name"),
+            Matchers.is(true)
+        );
+        Mockito.verify(origin, Mockito.never()).get(Mockito.anyString());
+        Mockito.verify(origin, Mockito.never()).has(Mockito.anyString());
+    }
+
+    @Test
+    void rethrowsFailureOfBothReads() {
+        final Hedge hedge = new Hedge();
+        Assertions.assertThrows(
+            IOException.class,
+            () -> hedge.read(
+                () -> {
+                    throw new IOException("expected");
+                }
+            )
+        );
+    }
+
+    /**
+     * Warm up the hedge with fast reads.
+     * @param hedge The hedge
+     * @return The same hedge
+     * @throws IOException If fails
+     */
+    private static Hedge warm(final Hedge hedge) throws IOException {
+        for (int idx = 0; idx < 100; ++idx) {
+            hedge.read(() -> "warm");
+        }
+        return hedge;
+    }
+
+    /**
+     * Sleep.
+     * @param millis Milliseconds
+     * @throws IOException If interrupted
+     */
+    private static void sleep(final long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Hedged reads, which cut the tail latency, tests.
+ *
+ * @since 0.23
+ */
+package com.jcabi.dynamo.hedge;
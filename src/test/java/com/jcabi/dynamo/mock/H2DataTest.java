@@ -5,18 +5,30 @@
 package com.jcabi.dynamo.mock;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
 import com.jcabi.dynamo.AttributeUpdates;
 import com.jcabi.dynamo.Attributes;
 import com.jcabi.dynamo.Conditions;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
@@ -292,4 +304,504 @@ final class H2DataTest {
         );
     }
 
+    @Test
+    void keepsStatementsOfTablesApart() throws Exception {
+        final String key = "id";
+        final String attr = "color";
+        final MkData data = new H2Data()
+            .with("left", new String[] {key}, attr)
+            .with("right", new String[] {key}, attr);
+        for (int idx = 0; idx < 3; ++idx) {
+            data.put("left", new Attributes().with(key, idx).with(attr, "red"));
+            data.put(
+                "right", new Attributes().with(key, idx).with(attr, "blue")
+            );
+        }
+        data.delete("left", new Attributes().with(key, 0));
+        MatcherAssert.assertThat(
+            "should run statements of the same shape on their own tables",
+            Lists.newArrayList(
+                data.iterate(
+                    "right",
+                    new Conditions().with(attr, Conditions.equalTo("blue"))
+                )
+            ),
+            Matchers.hasSize(3)
+        );
+    }
+
+    @Test
+    void comparesDeclaredNumbersAsNumbers() throws Exception {
+        final String table = "scores";
+        final String key = "player";
+        final String attr = "points";
+        final MkData data = new H2Data().with(
+            table, new String[] {key}, String.format("%s:N", attr)
+        );
+        data.put(table, new Attributes().with(key, "a").with(attr, 9));
+        data.put(table, new Attributes().with(key, "b").with(attr, 10));
+        MatcherAssert.assertThat(
+            "should compare numbers as numbers, not as text",
+            Lists.newArrayList(
+                data.iterate(
+                    table,
+                    new Conditions().with(
+                        attr,
+                        Condition.builder()
+                            .attributeValueList(
+                                AttributeValue.builder().n("9").build()
+                            )
+                            .comparisonOperator(ComparisonOperator.GT)
+                            .build()
+                    )
+                )
+            ),
+            Matchers.contains(
+                Matchers.hasEntry(
+                    attr, AttributeValue.builder().n("10").build()
+                )
+            )
+        );
+    }
+
+    @Test
+    void readsValuesWithTheirTypes() throws Exception {
+        final String table = "profiles";
+        final String key = "uid";
+        final AttributeValue tags = AttributeValue.builder()
+            .ss("red", "blue").build();
+        final AttributeValue photo = AttributeValue.builder()
+            .b(SdkBytes.fromUtf8String("\u20ac")).build();
+        final AttributeValue address = AttributeValue.builder().m(
+            Collections.singletonMap(
+                "zip", AttributeValue.builder().n("10001").build()
+            )
+        ).build();
+        final MkData data = new H2Data().with(
+            table, new String[] {String.format("%s:N", key)},
+            "tags:SS", "photo:B", "address", "name"
+        );
+        data.put(
+            table,
+            new Attributes()
+                .with(key, 7)
+                .with("tags", tags)
+                .with("photo", photo)
+                .with("address", address)
+                .with("name", "123")
+        );
+        MatcherAssert.assertThat(
+            "should read every value with the type it was written with",
+            data.iterate(
+                table, new Conditions().with(key, Conditions.equalTo(7))
+            ).iterator().next(),
+            Matchers.allOf(
+                Matchers.hasEntry(key, AttributeValue.builder().n("7").build()),
+                Matchers.hasEntry("tags", tags),
+                Matchers.hasEntry("photo", photo),
+                Matchers.hasEntry("address", address),
+                Matchers.hasEntry(
+                    "name", AttributeValue.builder().s("123").build()
+                )
+            )
+        );
+    }
+
+
+    @Test
+    void readsManyRowsByPagesInOrder() throws Exception {
+        final String table = "readings";
+        final String key = "rid";
+        final String sensor = "sensor";
+        final String value = "value";
+        final H2Data data = new H2Data()
+            .with(table, new String[] {key}, sensor, value + ":N")
+            .withIndex(table, "values", sensor, value);
+        final int total = 700;
+        for (int idx = 0; idx < total; ++idx) {
+            data.put(
+                table,
+                new Attributes()
+                    .with(key, String.format("r%d", idx))
+                    .with(sensor, "s")
+                    .with(value, idx % 10)
+            );
+        }
+        final List<String> read = Lists.newArrayList(
+            Iterables.transform(
+                data.iterate(table, "values", new Conditions(), false),
+                item -> item.get(value).n()
+            )
+        );
+        MatcherAssert.assertThat(
+            "should read all rows, through pages, in descending order",
+            read,
+            Matchers.allOf(
+                Matchers.hasSize(total),
+                Matchers.equalTo(
+                    Lists.newArrayList(
+                        Ordering.natural().reverse().sortedCopy(read)
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void ordersUntypedNumericKeysByValue() throws Exception {
+        final String table = "ticks";
+        final String hash = "clock";
+        final String range = "tick";
+        final H2Data data = new H2Data().with(
+            table, new String[] {hash, range}
+        );
+        final int total = 300;
+        for (int idx = total - 1; idx >= 0; --idx) {
+            data.put(
+                table,
+                new Attributes().with(hash, "c").with(range, idx)
+            );
+        }
+        final List<Integer> read = Lists.newArrayList(
+            Iterables.transform(
+                data.iterate(
+                    table, "",
+                    new Conditions().with(hash, Conditions.equalTo("c")),
+                    true
+                ),
+                item -> Integer.valueOf(item.get(range).n())
+            )
+        );
+        MatcherAssert.assertThat(
+            "should read numbers of untyped key in numeric order",
+            read,
+            Matchers.allOf(
+                Matchers.hasSize(total),
+                Matchers.equalTo(Ordering.natural().sortedCopy(read))
+            )
+        );
+    }
+
+    @Test
+    void countsRowsWithoutReadingThem() throws Exception {
+        final String table = "tallies";
+        final String key = "tid";
+        final String attr = "size";
+        final MkData data = new H2Data().with(
+            table, new String[] {key}, attr + ":N"
+        );
+        for (int idx = 0; idx < 9; ++idx) {
+            data.put(table, new Attributes().with(key, idx).with(attr, idx));
+        }
+        MatcherAssert.assertThat(
+            "should count only rows, which match conditions",
+            data.count(
+                table, "",
+                new Conditions().with(
+                    attr,
+                    Condition.builder()
+                        .comparisonOperator(ComparisonOperator.GT)
+                        .attributeValueList(
+                            AttributeValue.builder().n("5").build()
+                        )
+                        .build()
+                )
+            ),
+            Matchers.equalTo(3)
+        );
+    }
+
+    @Test
+    void checksAllOperatorsInSql() throws Exception {
+        final String table = "parcels";
+        final String key = "pid";
+        final String weight = "weight";
+        final String label = "label";
+        final MkData data = new H2Data().with(
+            table, new String[] {key}, weight + ":N", label
+        );
+        data.put(
+            table,
+            new Attributes().with(key, "a").with(weight, 5)
+                .with(label, "fragile_glass")
+        );
+        data.put(
+            table,
+            new Attributes().with(key, "b").with(weight, 12)
+                .with(label, "fragile%box")
+        );
+        data.put(table, new Attributes().with(key, "c").with(weight, 40));
+        MatcherAssert.assertThat(
+            "should select by BETWEEN, BEGINS_WITH, IN and NE at once",
+            Lists.transform(
+                Lists.newArrayList(
+                    data.iterate(
+                        table,
+                        new Conditions()
+                            .with(
+                                weight,
+                                H2DataTest.condition(
+                                    ComparisonOperator.BETWEEN,
+                                    AttributeValue.builder().n("5").build(),
+                                    AttributeValue.builder().n("12").build()
+                                )
+                            )
+                            .with(
+                                label,
+                                H2DataTest.condition(
+                                    ComparisonOperator.BEGINS_WITH,
+                                    AttributeValue.builder()
+                                        .s("fragile_").build()
+                                )
+                            )
+                            .with(
+                                key,
+                                H2DataTest.condition(
+                                    ComparisonOperator.IN,
+                                    AttributeValue.builder().s("a").build(),
+                                    AttributeValue.builder().s("c").build()
+                                )
+                            )
+                    )
+                ),
+                item -> item.get(key).s()
+            ),
+            Matchers.contains("a")
+        );
+    }
+
+    @Test
+    void checksContainsInSetsAfterReading() throws Exception {
+        final String table = "posts";
+        final String key = "post";
+        final String tags = "tags";
+        final MkData data = new H2Data().with(
+            table, new String[] {key}, tags + ":SS"
+        );
+        data.put(
+            table,
+            new Attributes().with(key, "p1").with(
+                tags, AttributeValue.builder().ss("java", "h2").build()
+            )
+        );
+        data.put(
+            table,
+            new Attributes().with(key, "p2").with(
+                tags, AttributeValue.builder().ss("rust").build()
+            )
+        );
+        data.put(table, new Attributes().with(key, "p3"));
+        MatcherAssert.assertThat(
+            "should find items, which don't have the element in their sets",
+            data.count(
+                table, "",
+                new Conditions().with(
+                    tags,
+                    H2DataTest.condition(
+                        ComparisonOperator.NOT_CONTAINS,
+                        AttributeValue.builder().s("java").build()
+                    )
+                )
+            ),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void putsReadsAndDeletesInBatches() throws Exception {
+        final String table = "batches";
+        final String hash = "owner";
+        final String range = "seq";
+        final MkData data = new H2Data().with(
+            table, new String[] {hash, range + ":N"}, "payload"
+        );
+        final List<Attributes> items = new ArrayList<>(0);
+        for (int idx = 0; idx < 2500; ++idx) {
+            items.add(
+                new Attributes()
+                    .with(hash, String.format("o%d", idx % 3))
+                    .with(range, idx)
+                    .with("payload", "x")
+            );
+        }
+        data.putAll(table, items);
+        data.deleteAll(table, items.subList(0, 2000));
+        MatcherAssert.assertThat(
+            "should read only items, which are still there",
+            Lists.newArrayList(
+                data.getAll(
+                    table,
+                    Lists.transform(
+                        items.subList(1990, 2020),
+                        item -> item.only(Arrays.asList(hash, range))
+                    )
+                )
+            ),
+            Matchers.hasSize(20)
+        );
+    }
+
+    @Test
+    void readsInBatchesByKeysInAnyOrder() throws Exception {
+        final String table = "logins";
+        final String hash = "user";
+        final String range = "date";
+        final MkData data = new H2Data().with(
+            table, new String[] {hash, range}, "agent"
+        );
+        data.put(
+            table,
+            new Attributes().with(hash, "jeff").with(range, "2026-01-01")
+                .with("agent", "curl")
+        );
+        MatcherAssert.assertThat(
+            "should bind values of keys in the order of the table keys",
+            Lists.newArrayList(
+                data.getAll(
+                    table,
+                    Collections.singletonList(
+                        new Attributes()
+                            .with(hash, "jeff")
+                            .with(range, "2026-01-01")
+                    )
+                )
+            ),
+            Matchers.contains(
+                Matchers.hasEntry(
+                    "agent", AttributeValue.builder().s("curl").build()
+                )
+            )
+        );
+    }
+
+    @Test
+    void putsNothingIfBatchFails() throws Exception {
+        final String table = "atomic";
+        final String key = "aid";
+        final MkData data = new H2Data().with(table, new String[] {key});
+        Assertions.assertThrows(
+            IOException.class,
+            () -> data.putAll(
+                table,
+                Arrays.asList(
+                    new Attributes().with(key, "first"),
+                    new Attributes().with(key, "second"),
+                    new Attributes().with(key, "first")
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "should roll back the whole batch",
+            data.count(table, "", new Conditions()),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void addsColumnsOfUndeclaredAttributes() throws Exception {
+        final String table = "notes";
+        final String key = "nid";
+        final MkData data = new H2Data().with(table, new String[] {key});
+        data.put(table, new Attributes().with(key, "n1").with("text", "hi"));
+        data.update(
+            table, new Attributes().with(key, "n1"),
+            new AttributeUpdates().with("views", 3)
+        );
+        MatcherAssert.assertThat(
+            "should find nothing by attributes, which have no columns",
+            data.iterate(
+                table,
+                new Conditions().with("absent", Conditions.equalTo("x"))
+                    .with(key, Conditions.equalTo("n1"))
+            ),
+            Matchers.emptyIterable()
+        );
+        MatcherAssert.assertThat(
+            "should read attributes, which were not declared",
+            data.iterate(
+                table, new Conditions().with(key, Conditions.equalTo("n1"))
+            ).iterator().next(),
+            Matchers.allOf(
+                Matchers.hasEntry(
+                    "text", AttributeValue.builder().s("hi").build()
+                ),
+                Matchers.hasEntry(
+                    "views", AttributeValue.builder().n("3").build()
+                )
+            )
+        );
+    }
+
+    @Test
+    void closesConnectionsOnClose() throws Exception {
+        final String table = "sessions";
+        final String key = "sid";
+        final H2Data data = new H2Data().with(table, new String[] {key});
+        try (H2Data closed = data) {
+            closed.put(table, new Attributes().with(key, "s1"));
+        }
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> data.count(table, "", new Conditions()),
+            "should not give connections after close"
+        );
+    }
+
+    @Test
+    void refusesTablesWithoutKindsOfColumns(@TempDir final Path temp)
+        throws Exception {
+        final File file = temp.resolve("old.h2").toFile();
+        final String table = "legacy";
+        final String key = "lid";
+        try (H2Data data = new H2Data(file).with(table, new String[] {key})) {
+            data.put(table, new Attributes().with(key, "l1"));
+        }
+        try (Connection conn = DriverManager.getConnection(
+            String.format("jdbc:h2:file:%s", file.getAbsolutePath())
+        ); Statement stmt = conn.createStatement()) {
+            final List<String> columns = new ArrayList<>(1);
+            try (ResultSet rset = stmt.executeQuery(
+                // @checkstyle LineLength (1 line)
+                "SELECT TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'PUBLIC'"
+            )) {
+                while (rset.next()) {
+                    columns.add(
+                        String.format(
+                            "\"%s\".\"%s\"", rset.getString(1),
+                            rset.getString(2)
+                        )
+                    );
+                }
+            }
+            for (final String column : columns) {
+                stmt.execute(
+                    String.format("COMMENT ON COLUMN %s IS NULL", column)
+                );
+            }
+        }
+        try (H2Data data = new H2Data(file)) {
+            MatcherAssert.assertThat(
+                "should explain, why the old table is not readable",
+                Assertions.assertThrows(
+                    IOException.class,
+                    () -> data.count(table, "", new Conditions())
+                ).getMessage(),
+                Matchers.containsString("older version")
+            );
+        }
+    }
+
+    /**
+     * Make a condition.
+     * @param opr Operator
+     * @param values Values
+     * @return Condition
+     */
+    private static Condition condition(final ComparisonOperator opr,
+        final AttributeValue... values) {
+        return Condition.builder()
+            .comparisonOperator(opr)
+            .attributeValueList(values)
+            .build();
+    }
 }
@@ -0,0 +1,219 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.mock;
+
+import com.google.common.collect.Lists;
+import com.jcabi.dynamo.AttributeUpdates;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Conditions;
+import com.jcabi.dynamo.Table;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+/**
+ * Test case for {@link MemData}.
+ * @since 0.23
+ */
+final class MemDataTest {
+
+    @Test
+    void storesAndReadsNativeValues() throws Exception {
+        final String table = "users";
+        final String key = "user";
+        final String attr = "user.name";
+        final MkData data = new MemData().with(table, new String[] {key});
+        data.put(
+            table, new Attributes().with(key, 43).with(attr, "\u20ac text")
+        );
+        MatcherAssert.assertThat(
+            "should read the item as it was stored",
+            data.iterate(
+                table, new Conditions().with(key, Conditions.equalTo(43))
+            ).iterator().next(),
+            Matchers.allOf(
+                Matchers.hasEntry(
+                    key, AttributeValue.builder().n("43").build()
+                ),
+                Matchers.hasEntry(
+                    attr, AttributeValue.builder().s("\u20ac text").build()
+                )
+            )
+        );
+    }
+
+    @Test
+    void readsRangeOfPartitionInOrder() throws Exception {
+        final String table = "events";
+        final String hash = "device";
+        final String range = "moment";
+        final MkData data = new MemData().with(
+            table, new String[] {hash, range}
+        );
+        for (int idx = 12; idx > 0; --idx) {
+            data.put(table, new Attributes().with(hash, "a").with(range, idx));
+            data.put(table, new Attributes().with(hash, "b").with(range, idx));
+        }
+        MatcherAssert.assertThat(
+            "should read numeric range keys of one partition, in order",
+            Lists.transform(
+                Lists.newArrayList(
+                    data.iterate(
+                        table,
+                        new Conditions()
+                            .with(hash, Conditions.equalTo("a"))
+                            .with(
+                                range,
+                                Condition.builder()
+                                    .comparisonOperator(ComparisonOperator.GT)
+                                    .attributeValueList(
+                                        AttributeValue.builder().n("9").build()
+                                    )
+                                    .build()
+                            )
+                    )
+                ),
+                item -> item.get(range).n()
+            ),
+            Matchers.contains("10", "11", "12")
+        );
+    }
+
+    @Test
+    void replacesItemWithSameKeys() throws Exception {
+        final String table = "accounts";
+        final String key = "acct";
+        final String attr = "balance";
+        final MkData data = new MemData().with(table, new String[] {key});
+        data.put(table, new Attributes().with(key, "x").with(attr, 1));
+        data.put(table, new Attributes().with(key, "x").with(attr, 2));
+        MatcherAssert.assertThat(
+            "should keep only the last item",
+            Lists.newArrayList(data.iterate(table, new Conditions())),
+            Matchers.contains(
+                Matchers.hasEntry(attr, AttributeValue.builder().n("2").build())
+            )
+        );
+    }
+
+    @Test
+    void updatesAndDeletesItems() throws Exception {
+        final String table = "tests";
+        final String key = "tid";
+        final String attr = "descr";
+        final MkData data = new MemData().with(table, new String[] {key});
+        data.put(table, new Attributes().with(key, "a").with(attr, "first"));
+        data.put(table, new Attributes().with(key, "b").with(attr, "second"));
+        data.update(
+            table,
+            new Attributes().with(key, "a"),
+            new AttributeUpdates().with(attr, "updated")
+        );
+        data.update(
+            table,
+            new Attributes().with(key, "ghost"),
+            new AttributeUpdates().with(attr, "none")
+        );
+        data.delete(table, new Attributes().with(key, "b"));
+        MatcherAssert.assertThat(
+            "should update one item, delete another, and insert nothing",
+            Lists.newArrayList(data.iterate(table, new Conditions())),
+            Matchers.contains(
+                Matchers.hasEntry(
+                    attr, AttributeValue.builder().s("updated").build()
+                )
+            )
+        );
+    }
+
+    @Test
+    void rejectsUnknownTable() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new MemData().iterate("absent", new Conditions())
+        );
+    }
+
+    @Test
+    void worksThroughRegion() throws Exception {
+        final String name = "orders";
+        final String key = "oid";
+        final Table table = new MkRegion(
+            new MemData().with(name, new String[] {key})
+        ).table(name);
+        table.put(new Attributes().with(key, "o-1").with("total", 5));
+        table.put(new Attributes().with(key, "o-2").with("total", 7));
+        MatcherAssert.assertThat(
+            "should find the item by a non-key attribute",
+            table.frame()
+                .where("total", Conditions.equalTo(7))
+                .iterator().next().get(key).s(),
+            Matchers.equalTo("o-2")
+        );
+    }
+
+    @Test
+    void readsOnlyIndexedItemsInOrder() throws Exception {
+        final String table = "messages";
+        final String key = "mid";
+        final String thread = "thread";
+        final MemData data = new MemData()
+            .with(table, new String[] {key})
+            .withIndex(table, "threads", thread, key);
+        data.put(table, new Attributes().with(key, "c").with(thread, "t"));
+        data.put(table, new Attributes().with(key, "a").with(thread, "t"));
+        data.put(table, new Attributes().with(key, "b"));
+        MatcherAssert.assertThat(
+            "should read items with index keys only, in reverse order",
+            Lists.transform(
+                Lists.newArrayList(
+                    data.iterate(table, "threads", new Conditions(), false)
+                ),
+                item -> item.get(key).s()
+            ),
+            Matchers.contains("c", "a")
+        );
+    }
+
+    @Test
+    void readsAndDeletesManyByKeys() throws Exception {
+        final String table = "carts";
+        final String key = "cart";
+        final MkData data = new MemData().with(table, new String[] {key});
+        data.putAll(
+            table,
+            Arrays.asList(
+                new Attributes().with(key, "c1"),
+                new Attributes().with(key, "c2"),
+                new Attributes().with(key, "c3")
+            )
+        );
+        data.deleteAll(
+            table, Collections.singleton(new Attributes().with(key, "c2"))
+        );
+        MatcherAssert.assertThat(
+            "should read only items, which are still there",
+            Lists.newArrayList(
+                data.getAll(
+                    table,
+                    Arrays.asList(
+                        new Attributes().with(key, "c1"),
+                        new Attributes().with(key, "c2")
+                    )
+                )
+            ),
+            Matchers.contains(
+                Matchers.hasEntry(key, AttributeValue.builder().s("c1").build())
+            )
+        );
+    }
+}
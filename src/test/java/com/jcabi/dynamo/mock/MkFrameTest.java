@@ -6,16 +6,26 @@ package com.jcabi.dynamo.mock;
 
 import com.jcabi.dynamo.Attributes;
 import com.jcabi.dynamo.Credentials;
+import com.jcabi.dynamo.Cursor;
 import com.jcabi.dynamo.Dosage;
 import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.QueryValve;
 import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.ScanValve;
 import com.jcabi.dynamo.Table;
 import com.jcabi.dynamo.Valve;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
 
 /**
@@ -122,4 +132,201 @@ final class MkFrameTest {
             Matchers.is(false)
         );
     }
+
+    @Test
+    void runsActionForEachItemInParallel() throws Exception {
+        final String name = "\u00e9ach";
+        final String key = "k\u00e9y";
+        final Table table = new MkRegion(
+            new H2Data().with(name, new String[]{key})
+        ).table(name);
+        for (int idx = 0; idx < 10; ++idx) {
+            table.put(new Attributes().with(key, String.valueOf(idx)));
+        }
+        final AtomicInteger seen = new AtomicInteger();
+        table.frame().forEachParallel(item -> seen.incrementAndGet(), 3);
+        MatcherAssert.assertThat(
+            "does not run action for each item",
+            seen.get(),
+            Matchers.equalTo(10)
+        );
+    }
+
+    @Test
+    void limitsNumberOfItems() throws Exception {
+        final String name = "l\u00efmit";
+        final String key = "k\u00e9y";
+        final Table table = new MkRegion(
+            new H2Data().with(name, new String[]{key})
+        ).table(name);
+        for (int idx = 0; idx < 5; ++idx) {
+            table.put(new Attributes().with(key, String.valueOf(idx)));
+        }
+        MatcherAssert.assertThat(
+            "does not stop after the limit",
+            table.frame().limit(3).limit(4),
+            Matchers.iterableWithSize(3)
+        );
+    }
+
+    @Test
+    void readsIndexThroughQueryValveByPages() throws Exception {
+        final String name = "\u00efndex";
+        final String key = "k\u00e9y";
+        final String owner = "\u00f6wner";
+        final String stamp = "st\u00e4mp";
+        final String index = "by-owner";
+        final Table table = new MkRegion(
+            new H2Data()
+                .with(name, new String[]{key}, owner, stamp + ":N")
+                .withIndex(name, index, owner, stamp)
+        ).table(name);
+        for (int idx = 0; idx < 5; ++idx) {
+            table.put(
+                new Attributes()
+                    .with(key, String.format("k%d", idx))
+                    .with(owner, "jeff")
+                    .with(stamp, idx)
+            );
+        }
+        final Dosage first = table.frame()
+            .where(owner, "jeff")
+            .through(
+                new QueryValve()
+                    .withIndexName(index)
+                    .withScanIndexForward(false)
+                    .withLimit(2)
+            )
+            .page();
+        MatcherAssert.assertThat(
+            "does not read the index backward, by pages",
+            first.next().items(),
+            Matchers.contains(
+                Matchers.hasEntry(
+                    key, AttributeValue.builder().s("k2").build()
+                ),
+                Matchers.hasEntry(
+                    key, AttributeValue.builder().s("k1").build()
+                )
+            )
+        );
+    }
+
+    @Test
+    void startsQueryAfterCursorAndFiltersItems() throws Exception {
+        final String name = "visits";
+        final String key = "vid";
+        final String user = "user";
+        final String stamp = "stamp";
+        final String index = "by-user";
+        final Table table = new MkRegion(
+            new H2Data()
+                .with(name, new String[]{key}, user, stamp + ":N")
+                .withIndex(name, index, user, stamp)
+        ).table(name);
+        for (int idx = 0; idx < 5; ++idx) {
+            table.put(
+                new Attributes()
+                    .with(key, String.format("v%d", idx))
+                    .with(user, "ann")
+                    .with(stamp, idx)
+            );
+        }
+        final QueryValve valve = new QueryValve()
+            .withIndexName(index)
+            .withLimit(2);
+        final Frame frame = table.frame().where(user, "ann");
+        final List<String> keys = new ArrayList<>(2);
+        for (final Item item : frame.through(
+            valve
+                .withCursor(frame.through(valve).page().cursor())
+                .withQueryFilter(
+                    Collections.singletonMap(
+                        stamp,
+                        Condition.builder()
+                            .comparisonOperator(ComparisonOperator.NE)
+                            .attributeValueList(
+                                AttributeValue.builder().n("3").build()
+                            )
+                            .build()
+                    )
+                )
+        )) {
+            keys.add(item.get(key).s());
+        }
+        MatcherAssert.assertThat(
+            "does not start after the cursor, or ignores the query filter",
+            keys,
+            Matchers.contains("v2", "v4")
+        );
+    }
+
+    @Test
+    void startsScanAfterCursor() throws Exception {
+        final String name = "sc\u00e4ns";
+        final String key = "sid";
+        final Table table = new MkRegion(
+            new H2Data().with(name, new String[]{key})
+        ).table(name);
+        for (int idx = 0; idx < 5; ++idx) {
+            table.put(new Attributes().with(key, String.format("s%d", idx)));
+        }
+        final ScanValve valve = new ScanValve().withLimit(2);
+        final Frame frame = table.frame();
+        final List<String> keys = new ArrayList<>(3);
+        for (final Item item : frame.through(
+            valve.withCursor(frame.through(valve).page().cursor())
+        )) {
+            keys.add(item.get(key).s());
+        }
+        MatcherAssert.assertThat(
+            "does not start the scan after its cursor",
+            keys,
+            Matchers.contains("s2", "s3", "s4")
+        );
+    }
+
+    @Test
+    void startsAfterCursorOfDeletedItem() throws Exception {
+        final String name = "g\u00f6ne";
+        final String key = "gid";
+        final String owner = "owner";
+        final String stamp = "stamp";
+        final String index = "by-owner";
+        final Table table = new MkRegion(
+            new H2Data()
+                .with(name, new String[]{key}, owner, stamp + ":N")
+                .withIndex(name, index, owner, stamp)
+        ).table(name);
+        for (int idx = 0; idx < 6; ++idx) {
+            table.put(
+                new Attributes()
+                    .with(key, String.format("g%d", idx))
+                    .with(owner, "bob")
+                    .with(stamp, 5 - idx)
+            );
+        }
+        final QueryValve valve = new QueryValve()
+            .withIndexName(index)
+            .withLimit(2);
+        final Frame frame = table.frame().where(owner, "bob");
+        final Cursor cursor = frame.through(valve).page().cursor();
+        table.delete(
+            Collections.singletonMap(
+                key, AttributeValue.builder().s("g4").build()
+            )
+        );
+        MatcherAssert.assertThat(
+            "does not start right after the deleted item of the cursor",
+            frame.through(valve.withCursor(cursor)).page().items(),
+            Matchers.contains(
+                Matchers.hasEntry(
+                    key, AttributeValue.builder().s("g3").build()
+                ),
+                Matchers.hasEntry(
+                    key, AttributeValue.builder().s("g2").build()
+                )
+            )
+        );
+    }
 }
@@ -8,11 +8,14 @@ import com.jcabi.dynamo.Attributes;
 import com.jcabi.dynamo.Item;
 import com.jcabi.dynamo.Region;
 import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.UpdateExpression;
+import java.util.Map;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
 
 /**
  * Test case for {@link MkItem}.
@@ -93,4 +96,128 @@ final class MkItemTest {
             Matchers.equalTo("n\u00e9w")
         );
     }
+
+    @Test
+    void incrementsCounterWithUpdateExpression() throws Exception {
+        final String name = "c\u00f6unters";
+        final String key = "k\u00e9y";
+        final String hits = "h\u00efts";
+        final Table table = new MkRegion(
+            new H2Data().with(name, new String[]{key}, hits)
+        ).table(name);
+        table.put(new Attributes().with(key, "1").with(hits, 7));
+        final Item item = table.frame().iterator().next();
+        item.update(new UpdateExpression().add(hits, 3L));
+        MatcherAssert.assertThat(
+            "does not increment the counter",
+            item.get(hits).n(),
+            Matchers.equalTo("10")
+        );
+    }
+
+    @Test
+    void removesAttributeWithUpdateExpression() throws Exception {
+        final String name = "n\u00f6tes";
+        final String key = "k\u00e9y";
+        final String note = "n\u00f6te";
+        final Table table = new MkRegion(
+            new H2Data().with(name, new String[]{key}, note)
+        ).table(name);
+        table.put(new Attributes().with(key, "1").with(note, "draft"));
+        final Item item = table.frame().iterator().next();
+        item.update(new UpdateExpression().remove(note));
+        MatcherAssert.assertThat(
+            "does not remove the attribute",
+            item.has(note),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void returnsAllOldValues() throws Exception {
+        MatcherAssert.assertThat(
+            "does not return all old values",
+            MkItemTest.updated(ReturnValue.ALL_OLD),
+            Matchers.allOf(
+                Matchers.hasEntry("h\u00efts", MkItemTest.number(7)),
+                Matchers.hasKey("t\u00e4g")
+            )
+        );
+    }
+
+    @Test
+    void returnsAllNewValues() throws Exception {
+        MatcherAssert.assertThat(
+            "does not return all new values",
+            MkItemTest.updated(ReturnValue.ALL_NEW),
+            Matchers.allOf(
+                Matchers.hasEntry("h\u00efts", MkItemTest.number(10)),
+                Matchers.hasKey("t\u00e4g")
+            )
+        );
+    }
+
+    @Test
+    void returnsUpdatedOldValues() throws Exception {
+        MatcherAssert.assertThat(
+            "does not return only updated old values",
+            MkItemTest.updated(ReturnValue.UPDATED_OLD),
+            Matchers.allOf(
+                Matchers.hasEntry("h\u00efts", MkItemTest.number(7)),
+                Matchers.not(Matchers.hasKey("t\u00e4g"))
+            )
+        );
+    }
+
+    @Test
+    void returnsUpdatedNewValues() throws Exception {
+        MatcherAssert.assertThat(
+            "does not return only updated new values",
+            MkItemTest.updated(ReturnValue.UPDATED_NEW),
+            Matchers.allOf(
+                Matchers.hasEntry("h\u00efts", MkItemTest.number(10)),
+                Matchers.not(Matchers.hasKey("t\u00e4g"))
+            )
+        );
+    }
+
+    @Test
+    void returnsNothingWhenAsked() throws Exception {
+        MatcherAssert.assertThat(
+            "returns values",
+            MkItemTest.updated(ReturnValue.NONE).entrySet(),
+            Matchers.empty()
+        );
+    }
+
+    /**
+     * Increment a counter by three, in a new item.
+     * @param rtn What to return
+     * @return Values returned
+     * @throws Exception If fails
+     */
+    private static Map<String, AttributeValue> updated(final ReturnValue rtn)
+        throws Exception {
+        final String name = "r\u00e9turns";
+        final String key = "k\u00e9y";
+        final Table table = new MkRegion(
+            new MemData().with(name, new String[]{key})
+        ).table(name);
+        table.put(
+            new Attributes().with(key, "1")
+                .with("h\u00efts", 7).with("t\u00e4g", "x")
+        );
+        return table.frame().iterator().next().update(
+            new UpdateExpression().add("h\u00efts", 3L).returning(rtn)
+        );
+    }
+
+    /**
+     * Number value.
+     * @param num The number
+     * @return Value
+     */
+    private static AttributeValue number(final int num) {
+        return AttributeValue.builder().n(Integer.toString(num)).build();
+    }
 }
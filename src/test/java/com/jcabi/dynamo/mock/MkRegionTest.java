@@ -4,12 +4,18 @@
  */
 package com.jcabi.dynamo.mock;
 
+import com.jcabi.dynamo.AttributeUpdates;
 import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.CanceledTransactionException;
+import com.jcabi.dynamo.Conditions;
 import com.jcabi.dynamo.Item;
 import com.jcabi.dynamo.Region;
 import com.jcabi.dynamo.Table;
+import java.util.ArrayList;
+import java.util.List;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.dynamodb.model.AttributeAction;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -106,7 +112,7 @@ final class MkRegionTest {
         table.put(
             new Attributes()
                 .with(key, "32443")
-                .with(nattr, "150")
+                .with(nattr, 150)
         );
         MatcherAssert.assertThat(
             "should ends with '50'",
@@ -115,6 +121,27 @@ final class MkRegionTest {
         );
     }
 
+    @Test
+    void readsNumericStringAsString() throws Exception {
+        final String name = "people";
+        final String key = "id";
+        final String attr = "zip";
+        final Region region = new MkRegion(
+            new H2Data().with(name, new String[] {key}, attr)
+        );
+        final Table table = region.table(name);
+        table.put(
+            new Attributes()
+                .with(key, "32444")
+                .with(attr, "150")
+        );
+        MatcherAssert.assertThat(
+            "should read back the string, which looks like a number",
+            table.frame().iterator().next().get(attr),
+            Matchers.equalTo(AttributeValue.builder().s("150").build())
+        );
+    }
+
     @Test
     void storesAndReadsSingleAttribute() throws Exception {
         final String table = "ideas";
@@ -139,4 +166,89 @@ final class MkRegionTest {
         MatcherAssert.assertThat("should equal 2", item.get(attr).n(), Matchers.equalTo("2"));
     }
 
+    @Test
+    void commitsTransaction() throws Exception {
+        final String name = "wallets";
+        final String key = "owner";
+        final String attr = "balance";
+        final Region region = new MkRegion(
+            new MemData().with(name, new String[] {key})
+        );
+        final Table table = region.table(name);
+        table.put(new Attributes().with(key, "alice").with(attr, 10));
+        table.put(new Attributes().with(key, "bob").with(attr, 0));
+        final Item alice = table.frame().where(key, "alice")
+            .iterator().next();
+        final Item bob = table.frame().where(key, "bob").iterator().next();
+        region.transaction()
+            .update(alice, new AttributeUpdates().with(attr, 5))
+            .delete(bob)
+            .put(table, new Attributes().with(key, "carol").with(attr, 5))
+            .commit();
+        MatcherAssert.assertThat(
+            "should apply all operations",
+            table.frame(),
+            Matchers.iterableWithSize(2)
+        );
+        MatcherAssert.assertThat(
+            "should update the item",
+            table.frame().where(key, "alice").iterator().next()
+                .get(attr).n(),
+            Matchers.equalTo("5")
+        );
+    }
+
+    @Test
+    void cancelsTransactionWhenCheckFails() throws Exception {
+        final String name = "locks";
+        final String key = "lock";
+        final String attr = "holder";
+        final Region region = new MkRegion(
+            new MemData().with(name, new String[] {key})
+        );
+        final Table table = region.table(name);
+        table.put(new Attributes().with(key, "door").with(attr, "alice"));
+        final Item door = table.frame().iterator().next();
+        final CanceledTransactionException thrown = Assertions.assertThrows(
+            CanceledTransactionException.class,
+            () -> region.transaction()
+                .put(table, new Attributes().with(key, "window"))
+                .check(door, new Conditions().with(attr, "bob"))
+                .commit()
+        );
+        MatcherAssert.assertThat(
+            "should report the failed check",
+            thrown.code(1),
+            Matchers.equalTo("ConditionalCheckFailed")
+        );
+        MatcherAssert.assertThat(
+            "should apply nothing",
+            table.frame(),
+            Matchers.iterableWithSize(1)
+        );
+    }
+
+    @Test
+    void readsItemsTogether() throws Exception {
+        final String name = "books";
+        final String key = "isbn";
+        final String attr = "title";
+        final Region region = new MkRegion(
+            new MemData().with(name, new String[] {key})
+        );
+        final Table table = region.table(name);
+        table.put(new Attributes().with(key, "1").with(attr, "Dune"));
+        table.put(new Attributes().with(key, "2").with(attr, "Emma"));
+        final List<Item> items = new ArrayList<>(2);
+        for (final Item item : table.frame()) {
+            items.add(item);
+        }
+        table.put(new Attributes().with(key, "2").with(attr, "Ulysses"));
+        MatcherAssert.assertThat(
+            "should read the latest attributes",
+            region.readTogether(items).get(1).get(attr).s(),
+            Matchers.equalTo("Ulysses")
+        );
+    }
+
 }
@@ -0,0 +1,347 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.mock;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.jcabi.dynamo.AttributeUpdates;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Conditions;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.QueryValve;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.ScanValve;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.UpdateExpression;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.ExpectedAttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+
+/**
+ * Test case for {@link MkServer}.
+ * @since 0.23
+ */
+final class MkServerTest {
+
+    @Test
+    void storesAndReadsThroughRealClient() throws Exception {
+        final String name = "books";
+        final String key = "isbn";
+        final String attr = "title";
+        try (MkServer server = new MkServer(
+            new H2Data().with(name, new String[] {key}, attr)
+        )) {
+            final Table table = new Region.Simple(server.credentials())
+                .table(name);
+            table.put(new Attributes().with(key, "1").with(attr, "Walden"));
+            final Item item = table.put(
+                new Attributes().with(key, "2").with(attr, "Emma")
+            );
+            item.put(new AttributeUpdates().with(attr, "Persuasion"));
+            MatcherAssert.assertThat(
+                "should find the updated item by a filter",
+                table.frame()
+                    .where(attr, Conditions.equalTo("Persuasion"))
+                    .iterator().next().get(key).s(),
+                Matchers.equalTo("2")
+            );
+        }
+    }
+
+    @Test
+    void queriesTableCreatedByClient() throws Exception {
+        final String name = "logs";
+        final String hash = "host";
+        final String range = "time";
+        try (MkServer server = new MkServer(new MemData())) {
+            try (DynamoDbClient aws = server.credentials().aws()) {
+                aws.createTable(
+                    CreateTableRequest.builder()
+                        .tableName(name)
+                        .attributeDefinitions(
+                            AttributeDefinition.builder().attributeName(hash)
+                                .attributeType(ScalarAttributeType.S).build(),
+                            AttributeDefinition.builder().attributeName(range)
+                                .attributeType(ScalarAttributeType.N).build()
+                        )
+                        .keySchema(
+                            KeySchemaElement.builder().attributeName(hash)
+                                .keyType(KeyType.HASH).build(),
+                            KeySchemaElement.builder().attributeName(range)
+                                .keyType(KeyType.RANGE).build()
+                        )
+                        .build()
+                );
+            }
+            final Table table = new Region.Simple(server.credentials())
+                .table(name);
+            for (int idx = 0; idx < 7; ++idx) {
+                table.put(new Attributes().with(hash, "a").with(range, idx));
+            }
+            table.put(new Attributes().with(hash, "b").with(range, 1));
+            MatcherAssert.assertThat(
+                "should read one partition backwards, by pages",
+                Lists.transform(
+                    Lists.newArrayList(
+                        table.frame()
+                            .where(hash, "a")
+                            .through(
+                                new QueryValve()
+                                    .withLimit(2)
+                                    .withScanIndexForward(false)
+                            )
+                    ),
+                    item -> {
+                        try {
+                            return item.get(range).n();
+                        } catch (final IOException ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                    }
+                ),
+                Matchers.contains("6", "5", "4", "3", "2", "1", "0")
+            );
+        }
+    }
+
+    @Test
+    void readsInBatchesFromCompositeKeys() throws Exception {
+        final String name = "logins";
+        final String hash = "user";
+        final String range = "date";
+        try (MkServer server = new MkServer(
+            new H2Data().with(name, new String[] {hash, range}, "agent")
+        )) {
+            new Region.Simple(server.credentials()).table(name).put(
+                new Attributes().with(hash, "jeff").with(range, "2026-01-01")
+                    .with("agent", "curl")
+            );
+            try (DynamoDbClient aws = server.credentials().aws()) {
+                MatcherAssert.assertThat(
+                    "should find the item by its hash and range keys",
+                    aws.batchGetItem(
+                        BatchGetItemRequest.builder()
+                            .requestItems(
+                                Collections.singletonMap(
+                                    name,
+                                    KeysAndAttributes.builder()
+                                        .keys(
+                                            Collections.singletonList(
+                                                new Attributes()
+                                                    .with(hash, "jeff")
+                                                    .with(range, "2026-01-01")
+                                            )
+                                        )
+                                        .build()
+                                )
+                            )
+                            .build()
+                    ).responses().get(name),
+                    Matchers.contains(
+                        Matchers.hasEntry(
+                            "agent", AttributeValue.builder().s("curl").build()
+                        )
+                    )
+                );
+            }
+        }
+    }
+
+    @Test
+    void updatesThroughExpressionsInTableCreatedByClient() throws Exception {
+        final String name = "pages";
+        final String key = "url";
+        final String hits = "hits";
+        try (MkServer server = new MkServer(new H2Data())) {
+            try (DynamoDbClient aws = server.credentials().aws()) {
+                aws.createTable(
+                    CreateTableRequest.builder()
+                        .tableName(name)
+                        .attributeDefinitions(
+                            AttributeDefinition.builder().attributeName(key)
+                                .attributeType(ScalarAttributeType.S).build()
+                        )
+                        .keySchema(
+                            KeySchemaElement.builder().attributeName(key)
+                                .keyType(KeyType.HASH).build()
+                        )
+                        .build()
+                );
+            }
+            final Table table = new Region.Simple(server.credentials())
+                .table(name);
+            table.put(new Attributes().with(key, "/").with(hits, 1));
+            final Item item = table.put(
+                new Attributes().with(key, "/").with(hits, 2),
+                new Conditions().with(hits, Conditions.equalTo(1))
+            );
+            MatcherAssert.assertThat(
+                "should add to the counter, which was put under condition",
+                item.update(new UpdateExpression().add(hits, 3L)),
+                Matchers.hasEntry(hits, AttributeValue.builder().n("5").build())
+            );
+        }
+    }
+
+    @Test
+    void queriesByKeyConditionAndFilterExpressions() throws Exception {
+        final String name = "events";
+        final String hash = "host";
+        final String range = "time";
+        try (MkServer server = new MkServer(
+            new H2Data().with(name, new String[] {hash, range + ":N"}, "level")
+        )) {
+            final Table table = new Region.Simple(server.credentials())
+                .table(name);
+            for (int idx = 0; idx < 6; ++idx) {
+                table.put(
+                    new Attributes().with(hash, "a").with(range, idx)
+                        .with("level", idx % 2)
+                );
+            }
+            final AttributeValue host = AttributeValue.builder().s("a").build();
+            final AttributeValue one = AttributeValue.builder().n("1").build();
+            final AttributeValue four = AttributeValue.builder().n("4").build();
+            try (DynamoDbClient aws = server.credentials().aws()) {
+                MatcherAssert.assertThat(
+                    "should query by key conditions and filter the items",
+                    aws.query(
+                        QueryRequest.builder()
+                            .tableName(name)
+                            .keyConditionExpression(
+                                "#h = :h AND #t BETWEEN :from AND :till"
+                            )
+                            .filterExpression("#l = :one")
+                            .expressionAttributeNames(
+                                ImmutableMap.of(
+                                    "#h", hash, "#t", range, "#l", "level"
+                                )
+                            )
+                            .expressionAttributeValues(
+                                ImmutableMap.of(
+                                    ":h", host, ":from", one,
+                                    ":till", four, ":one", one
+                                )
+                            )
+                            .build()
+                    ).items(),
+                    Matchers.contains(
+                        Matchers.hasEntry(
+                            range, one
+                        ),
+                        Matchers.hasEntry(
+                            range, AttributeValue.builder().n("3").build()
+                        )
+                    )
+                );
+            }
+        }
+    }
+
+    @Test
+    void reportsErrorsAsDynamoDoes() throws Exception {
+        final String name = "orders";
+        final String key = "oid";
+        try (MkServer server = new MkServer(
+            new MemData().with(name, new String[] {key})
+        ); DynamoDbClient aws = server.credentials().aws()) {
+            final PutItemRequest put = PutItemRequest.builder()
+                .tableName(name)
+                .item(new Attributes().with(key, "o-1"))
+                .expected(
+                    Collections.singletonMap(
+                        key,
+                        ExpectedAttributeValue.builder().exists(false).build()
+                    )
+                )
+                .build();
+            aws.putItem(put);
+            Assertions.assertThrows(
+                ConditionalCheckFailedException.class,
+                () -> aws.putItem(put)
+            );
+            Assertions.assertThrows(
+                ResourceNotFoundException.class,
+                () -> aws.putItem(put.toBuilder().tableName("absent").build())
+            );
+        }
+    }
+
+    @Test
+    void scansAllItemsByPagesWhileUpdatingThem() throws Exception {
+        final String name = "p\u00e4ges";
+        final String key = "pid";
+        final String seen = "seen";
+        try (MkServer server = new MkServer(
+            new H2Data().with(name, new String[] {key}, seen)
+        )) {
+            final Table table = new Region.Simple(server.credentials())
+                .table(name);
+            for (int idx = 0; idx < 12; ++idx) {
+                table.put(
+                    new Attributes().with(key, String.format("p%02d", idx))
+                        .with(seen, "no")
+                );
+            }
+            int visited = 0;
+            for (final Item item
+                : table.frame().through(new ScanValve().withLimit(5))) {
+                item.put(new AttributeUpdates().with(seen, "yes"));
+                ++visited;
+            }
+            MatcherAssert.assertThat(
+                "should visit every item once, although they were updated",
+                visited,
+                Matchers.equalTo(12)
+            );
+        }
+    }
+
+    @Test
+    void removesAllItemsWhileScanningByPages() throws Exception {
+        final String name = "g\u00f6ne";
+        final String key = "gid";
+        try (MkServer server = new MkServer(
+            new H2Data().with(name, new String[] {key})
+        )) {
+            final Table table = new Region.Simple(server.credentials())
+                .table(name);
+            for (int idx = 0; idx < 12; ++idx) {
+                table.put(new Attributes().with(key, idx));
+            }
+            final Frame frame = table.frame()
+                .through(new ScanValve().withLimit(5));
+            final Iterator<Item> items = frame.iterator();
+            while (items.hasNext()) {
+                items.next();
+                items.remove();
+            }
+            MatcherAssert.assertThat(
+                "should remove all items, page after page",
+                frame,
+                Matchers.emptyIterable()
+            );
+        }
+    }
+}
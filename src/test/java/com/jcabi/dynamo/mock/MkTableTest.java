@@ -7,9 +7,13 @@ package com.jcabi.dynamo.mock;
 import com.jcabi.dynamo.Attributes;
 import com.jcabi.dynamo.Region;
 import com.jcabi.dynamo.Table;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 /**
  * Test case for {@link MkTable}.
@@ -92,4 +96,24 @@ final class MkTableTest {
             Matchers.emptyIterable()
         );
     }
+
+    @Test
+    void putsManyItemsInParallel() throws Exception {
+        final String name = "p\u00e4rallel";
+        final String key = "k\u00e9y";
+        final Table table = new MkRegion(
+            new H2Data().with(name, new String[]{key})
+        ).table(name);
+        final Collection<Map<String, AttributeValue>> items =
+            new ArrayList<>(0);
+        for (int idx = 0; idx < 20; ++idx) {
+            items.add(new Attributes().with(key, String.valueOf(idx)));
+        }
+        table.putAll(items, 4);
+        MatcherAssert.assertThat(
+            "does not put all items in parallel",
+            table.frame().size(),
+            Matchers.equalTo(items.size())
+        );
+    }
 }
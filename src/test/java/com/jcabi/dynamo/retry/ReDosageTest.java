@@ -4,6 +4,7 @@
  */
 package com.jcabi.dynamo.retry;
 
+import com.jcabi.dynamo.Cursor;
 import com.jcabi.dynamo.Dosage;
 import java.util.Collections;
 import java.util.List;
@@ -57,6 +58,11 @@ final class ReDosageTest {
                     public Dosage next() {
                         return new Dosage.Empty();
                     }
+
+                    @Override
+                    public Cursor cursor() {
+                        return Cursor.EMPTY;
+                    }
                 }
             ).next(),
             Matchers.instanceOf(ReDosage.class)
@@ -9,6 +9,8 @@ import com.jcabi.dynamo.Conditions;
 import com.jcabi.dynamo.Credentials;
 import com.jcabi.dynamo.Dosage;
 import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.QueryValve;
+import com.jcabi.dynamo.Region;
 import com.jcabi.dynamo.Valve;
 import com.jcabi.dynamo.mock.H2Data;
 import com.jcabi.dynamo.mock.MkRegion;
@@ -18,7 +20,17 @@ import java.util.Map;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 
 /**
  * Test case for {@link ReFrame}.
@@ -26,6 +38,36 @@ import software.amazon.awssdk.services.dynamodb.model.Condition;
  */
 final class ReFrameTest {
 
+    @Test
+    void shrinksLimitOfQueries() throws Exception {
+        final DynamoDbClient aws = Mockito.mock(DynamoDbClient.class);
+        Mockito.doReturn(QueryResponse.builder().build())
+            .when(aws).query(Mockito.any(QueryRequest.class));
+        Mockito.doReturn(
+            DescribeTableResponse.builder().table(
+                TableDescription.builder().tableName("shrïnk").keySchema(
+                    KeySchemaElement.builder().attributeName("id")
+                        .keyType(KeyType.HASH).build()
+                ).build()
+            ).build()
+        ).when(aws).describeTable(Mockito.any(DescribeTableRequest.class));
+        final Credentials creds = () -> aws;
+        new ReTable(new Region.Simple(creds).table("shrïnk")).frame()
+            .where("id", "1")
+            .through(new QueryValve())
+            .limit(2)
+            .iterator()
+            .hasNext();
+        final ArgumentCaptor<QueryRequest> captor =
+            ArgumentCaptor.forClass(QueryRequest.class);
+        Mockito.verify(aws).query(captor.capture());
+        MatcherAssert.assertThat(
+            "should shrink the limit of the query through retries",
+            captor.getValue().limit(),
+            Matchers.equalTo(2)
+        );
+    }
+
     @Test
     void delegatesWhereWithNameAndValue() throws Exception {
         MatcherAssert.assertThat(
@@ -5,12 +5,16 @@
 package com.jcabi.dynamo.retry;
 
 import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.CanceledTransactionException;
 import com.jcabi.dynamo.Region;
 import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.Transaction;
+import java.util.Collections;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 
 /**
  * Test case for {@link ReRegion}.
@@ -33,4 +37,21 @@ final class ReRegionTest {
         );
     }
 
+    @Test
+    void doesNotRetryCanceledTransactions() throws Exception {
+        final Transaction trn = Mockito.mock(Transaction.class);
+        Mockito.doThrow(
+            new CanceledTransactionException(
+                "canceled", Collections.emptyList(),
+                TransactionCanceledException.builder().build()
+            )
+        ).when(trn).commit();
+        final Region origin = Mockito.mock(Region.class);
+        Mockito.doReturn(trn).when(origin).transaction();
+        Assertions.assertThrows(
+            CanceledTransactionException.class,
+            () -> new ReRegion(origin).transaction().commit()
+        );
+        Mockito.verify(trn, Mockito.times(1)).commit();
+    }
 }
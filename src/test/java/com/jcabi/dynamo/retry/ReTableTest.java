@@ -5,8 +5,13 @@
 package com.jcabi.dynamo.retry;
 
 import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Conditions;
 import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.deadline.Deadline;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -28,4 +33,37 @@ final class ReTableTest {
             () -> retried.delete(new Attributes())
         );
     }
+
+    @Test
+    void capsPausesWithDeadline() throws Exception {
+        final Table table = Mockito.mock(Table.class);
+        Mockito.doThrow(new IOException("slow")).when(table)
+            .delete(new Attributes());
+        final long start = System.currentTimeMillis();
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new ReTable(
+                table, new Deadline(1L, TimeUnit.SECONDS)
+            ).delete(new Attributes())
+        );
+        MatcherAssert.assertThat(
+            "should not pause longer than the deadline",
+            System.currentTimeMillis() - start,
+            Matchers.lessThan(3_000L)
+        );
+        Mockito.verify(table, Mockito.times(3)).delete(new Attributes());
+    }
+
+    @Test
+    void doesNotRetryConditionalPutAfterFailure() throws Exception {
+        final Table table = Mockito.mock(Table.class);
+        Mockito.doThrow(new IOException("lost")).when(table)
+            .put(new Attributes(), new Conditions());
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new ReTable(table).put(new Attributes(), new Conditions())
+        );
+        Mockito.verify(table, Mockito.times(1))
+            .put(new Attributes(), new Conditions());
+    }
 }
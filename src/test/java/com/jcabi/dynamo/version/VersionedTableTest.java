@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.dynamo.version;
+
+import com.jcabi.dynamo.AttributeUpdates;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.Frame;
+import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Table;
+import com.jcabi.dynamo.mock.H2Data;
+import com.jcabi.dynamo.mock.MkRegion;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Test case for {@link VersionedTable}.
+ * @since 0.23
+ */
+final class VersionedTableTest {
+
+    @Test
+    void putsNewItemWithFirstVersion() throws Exception {
+        MatcherAssert.assertThat(
+            "does not start with version one",
+            VersionedTableTest.table("first")
+                .put(new Attributes().with("id", "a").with("val", "x"))
+                .get("version").n(),
+            Matchers.equalTo("1")
+        );
+    }
+
+    @Test
+    void incrementsVersionOnUpdate() throws Exception {
+        final Table table = VersionedTableTest.table("bump");
+        table.put(new Attributes().with("id", "b").with("val", "x"));
+        final Item item = table.frame().where("id", "b").iterator().next();
+        item.put(new AttributeUpdates().with("val", "y"));
+        MatcherAssert.assertThat(
+            "does not increment version",
+            table.frame().where("id", "b").iterator().next()
+                .get("version").n(),
+            Matchers.equalTo("2")
+        );
+    }
+
+    @Test
+    void rejectsUpdateOfStaleItem() throws Exception {
+        final Table table = VersionedTableTest.table("stale");
+        table.put(new Attributes().with("id", "c").with("val", "x"));
+        final Item first = table.frame().where("id", "c").iterator().next();
+        final Item second = table.frame().where("id", "c").iterator().next();
+        first.put(new AttributeUpdates().with("val", "y"));
+        Assertions.assertThrows(
+            VersionConflictException.class,
+            () -> second.put(new AttributeUpdates().with("val", "z"))
+        );
+    }
+
+    @Test
+    void rejectsPutOfStaleVersion() throws Exception {
+        final Table table = VersionedTableTest.table("replace");
+        table.put(new Attributes().with("id", "d").with("val", "x"));
+        table.put(
+            new Attributes().with("id", "d").with("val", "y")
+                .with("version", AttributeValue.builder().n("1").build())
+        );
+        Assertions.assertThrows(
+            VersionConflictException.class,
+            () -> table.put(
+                new Attributes().with("id", "d").with("val", "z")
+                    .with("version", AttributeValue.builder().n("1").build())
+            )
+        );
+    }
+
+    @Test
+    void rejectsExplicitVersionUpdate() throws Exception {
+        final Table table = VersionedTableTest.table("explicit");
+        final Item item = table.put(
+            new Attributes().with("id", "e").with("val", "x")
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> item.put(new AttributeUpdates().with("version", "7"))
+        );
+    }
+
+    @Test
+    void takesVersionOnlyFromLoadedAttributes() throws Exception {
+        final Item item = Mockito.mock(Item.class);
+        Mockito.doReturn(
+            new Attributes().with(
+                "version", AttributeValue.builder().n("4").build()
+            )
+        ).when(item).loaded();
+        final Frame frame = Mockito.mock(Frame.class);
+        Mockito.doReturn(Collections.singletonList(item).iterator())
+            .when(frame).iterator();
+        new VersionedFrame(frame, "version").iterator().next();
+        Mockito.verify(item, Mockito.never()).has(Mockito.anyString());
+        Mockito.verify(item, Mockito.never()).get(Mockito.anyString());
+    }
+
+    @Test
+    void rejectsVersionWhichIsNotNumber() {
+        final Item item = Mockito.mock(Item.class);
+        Mockito.doReturn(
+            new Attributes().with(
+                "version", AttributeValue.builder().s("v4").build()
+            )
+        ).when(item).loaded();
+        MatcherAssert.assertThat(
+            "does not name the version attribute",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> VersionedItem.of(item, "version")
+            ).getMessage(),
+            Matchers.containsString("\"version\"")
+        );
+    }
+
+    /**
+     * Make a versioned table.
+     * @param name Table name
+     * @return Table
+     * @throws Exception If fails
+     */
+    private static Table table(final String name) throws Exception {
+        return new VersionedTable(
+            new MkRegion(
+                new H2Data().with(name, new String[]{"id"}, "val", "version")
+            ).table(name)
+        );
+    }
+}
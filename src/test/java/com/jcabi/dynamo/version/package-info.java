@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Optimistic locking of items with a version attribute, tests.
+ *
+ * @since 0.23
+ */
+package com.jcabi.dynamo.version;